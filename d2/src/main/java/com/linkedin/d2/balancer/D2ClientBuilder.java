@@ -34,6 +34,8 @@ import com.linkedin.d2.balancer.simple.SslSessionValidatorFactory;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategyFactoryV3;
+import com.linkedin.d2.balancer.strategies.peakewma.PeakEwmaLoadBalancerStrategy;
+import com.linkedin.d2.balancer.strategies.peakewma.PeakEwmaLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.random.RandomLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategyFactory;
@@ -759,6 +761,8 @@ public class D2ClientBuilder
     loadBalancerStrategyFactories.putIfAbsent("degraderV2", degraderStrategyFactoryV3);
     loadBalancerStrategyFactories.putIfAbsent("degraderV3", degraderStrategyFactoryV3);
     loadBalancerStrategyFactories.putIfAbsent("degraderV2_1", degraderStrategyFactoryV3);
+    loadBalancerStrategyFactories.putIfAbsent(PeakEwmaLoadBalancerStrategy.PEAK_EWMA_STRATEGY_NAME,
+        new PeakEwmaLoadBalancerStrategyFactory());
 
     if (_config.enableRelativeLoadBalancer)
     {
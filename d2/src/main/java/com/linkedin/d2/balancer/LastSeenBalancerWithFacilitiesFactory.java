@@ -138,7 +138,8 @@ public class LastSeenBalancerWithFacilitiesFactory implements LoadBalancerWithFa
       // register jmx every time the object is created
       .addOnBuildListener(d2ClientJmxManager::setZkUriRegistry);
 
-    FileStore<UriProperties> fileStore = new FileStore<>(config.fsBasePath + File.separator + ZKFSUtil.URI_PATH, new UriPropertiesJsonSerializer());
+    FileStore<UriProperties> fileStore = new FileStore<>(config.fsBasePath + File.separator + ZKFSUtil.URI_PATH,
+      FileSystemDirectory.FILE_STORE_EXTENSION, new UriPropertiesJsonSerializer(), executorService);
     d2ClientJmxManager.setFsUriStore(fileStore);
 
     if (config.enableSaveUriDataOnDisk)
@@ -167,7 +168,8 @@ public class LastSeenBalancerWithFacilitiesFactory implements LoadBalancerWithFa
       // register jmx every time the object is created
       .addOnBuildListener(d2ClientJmxManager::setZkServiceRegistry);
 
-    FileStore<ServiceProperties> fileStore = new FileStore<>(FileSystemDirectory.getServiceDirectory(config.fsBasePath, config.d2ServicePath), new ServicePropertiesJsonSerializer());
+    FileStore<ServiceProperties> fileStore = new FileStore<>(FileSystemDirectory.getServiceDirectory(config.fsBasePath, config.d2ServicePath),
+      FileSystemDirectory.FILE_STORE_EXTENSION, new ServicePropertiesJsonSerializer(), executorService);
     d2ClientJmxManager.setFsServiceStore(fileStore);
 
     return new LastSeenZKStore<>(fileStore,
@@ -191,7 +193,8 @@ public class LastSeenBalancerWithFacilitiesFactory implements LoadBalancerWithFa
       // register jmx every time the object is created
       .addOnBuildListener(d2ClientJmxManager::setZkClusterRegistry);
 
-    FileStore<ClusterProperties> fileStore = new FileStore<>( FileSystemDirectory.getClusterDirectory(config.fsBasePath), new ClusterPropertiesJsonSerializer());
+    FileStore<ClusterProperties> fileStore = new FileStore<>(FileSystemDirectory.getClusterDirectory(config.fsBasePath),
+      FileSystemDirectory.FILE_STORE_EXTENSION, new ClusterPropertiesJsonSerializer(), executorService);
     d2ClientJmxManager.setFsClusterStore(fileStore);
 
     return new LastSeenZKStore<>(fileStore,
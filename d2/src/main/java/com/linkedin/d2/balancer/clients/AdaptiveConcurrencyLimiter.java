@@ -0,0 +1,238 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.clients;
+
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.degrader.CallCompletion;
+import com.linkedin.util.degrader.ErrorType;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Limits the number of in-flight requests to a host, adapting the limit to the round trip times of the requests.
+ * <p>
+ *
+ * The limit follows a gradient algorithm: a short term and a long term exponentially weighted moving average of the
+ * round trip time are kept. As long as the short term average does not exceed the long term one by more than the
+ * tolerance, the limit grows by the square root of itself on each sample. Once it does, i.e. requests queue up at the
+ * host, the limit shrinks in proportion to the inflation of the round trip time. The limit is not changed while less
+ * than half of it is in use, since the round trip times then say nothing about the capacity of the host.
+ * <p>
+ *
+ * A permit is acquired with {@link #tryAcquire()} before sending a request, and released once the
+ * {@link CallCompletion} returned by {@link #track(CallCompletion)} ends. Timeouts are sampled with their round trip
+ * time, other errors only release their permit.
+ */
+public class AdaptiveConcurrencyLimiter
+{
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+  public static final int DEFAULT_MIN_LIMIT = 1;
+  public static final int DEFAULT_MAX_LIMIT = 200;
+
+  private static final double SHORT_RTT_ALPHA = 0.2;
+  private static final double LONG_RTT_ALPHA = 0.01;
+  private static final double RTT_TOLERANCE = 1.5;
+  private static final double MIN_GRADIENT = 0.5;
+  private static final double LIMIT_SMOOTHING = 0.2;
+  // The long term average decays towards the short term one when the latter stays much lower, e.g. after the host
+  // has been slow for a long time, so that the limit can grow again.
+  private static final double LONG_RTT_DRIFT_RATIO = 2.0;
+  private static final double LONG_RTT_DRIFT_DECAY = 0.95;
+  private static final long MIN_RTT_MS = 1;
+
+  private final Clock _clock;
+  private final int _minLimit;
+  private final int _maxLimit;
+  private final AtomicInteger _inFlight = new AtomicInteger();
+  private final AtomicLong _rejectedCount = new AtomicLong();
+
+  private volatile double _limit;
+  // Guarded by this
+  private double _shortRtt = 0;
+  private double _longRtt = 0;
+
+  public AdaptiveConcurrencyLimiter(Clock clock)
+  {
+    this(clock, DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT);
+  }
+
+  public AdaptiveConcurrencyLimiter(Clock clock, int initialLimit, int minLimit, int maxLimit)
+  {
+    if (minLimit < 1 || maxLimit < minLimit)
+    {
+      throw new IllegalArgumentException("Invalid limits, min: " + minLimit + ", max: " + maxLimit);
+    }
+    _clock = clock;
+    _minLimit = minLimit;
+    _maxLimit = maxLimit;
+    _limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  /**
+   * Acquires a permit for a request if less requests than the limit are in flight.
+   *
+   * @return whether the permit has been acquired, in which case it must be released through
+   *         {@link #track(CallCompletion)}.
+   */
+  public boolean tryAcquire()
+  {
+    int limit = getLimit();
+    while (true)
+    {
+      int inFlight = _inFlight.get();
+      if (inFlight >= limit)
+      {
+        _rejectedCount.incrementAndGet();
+        return false;
+      }
+      if (_inFlight.compareAndSet(inFlight, inFlight + 1))
+      {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return a {@link CallCompletion} which delegates to the given one, and releases the permit acquired for the call
+   *         and samples its round trip time once the call ends. The round trip time ends when the call is recorded,
+   *         if it is.
+   */
+  public CallCompletion track(CallCompletion callCompletion)
+  {
+    return new LimitedCallCompletion(callCompletion, _clock.currentTimeMillis());
+  }
+
+  /**
+   * @return whether a request would be rejected if it was sent now.
+   */
+  public boolean isLimitReached()
+  {
+    return _inFlight.get() >= getLimit();
+  }
+
+  public int getLimit()
+  {
+    return (int) _limit;
+  }
+
+  public int getInFlight()
+  {
+    return _inFlight.get();
+  }
+
+  public long getRejectedCount()
+  {
+    return _rejectedCount.get();
+  }
+
+  private void release(long rtt, boolean sample)
+  {
+    int inFlight = _inFlight.getAndDecrement();
+    if (sample)
+    {
+      update(Math.max(rtt, MIN_RTT_MS), inFlight);
+    }
+  }
+
+  private synchronized void update(long rtt, int inFlight)
+  {
+    if (_longRtt == 0)
+    {
+      _shortRtt = rtt;
+      _longRtt = rtt;
+      return;
+    }
+    _shortRtt += SHORT_RTT_ALPHA * (rtt - _shortRtt);
+    _longRtt += LONG_RTT_ALPHA * (rtt - _longRtt);
+    if (_longRtt / _shortRtt > LONG_RTT_DRIFT_RATIO)
+    {
+      _longRtt *= LONG_RTT_DRIFT_DECAY;
+    }
+
+    double limit = _limit;
+    if (inFlight < limit / 2)
+    {
+      return;
+    }
+    double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * _longRtt / _shortRtt));
+    double newLimit = limit * gradient + Math.sqrt(limit);
+    newLimit = limit * (1 - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING;
+    _limit = Math.max(_minLimit, Math.min(_maxLimit, newLimit));
+  }
+
+  @Override
+  public String toString()
+  {
+    return "limit=" + getLimit() + ", inFlight=" + getInFlight() + ", rejected=" + getRejectedCount();
+  }
+
+  private class LimitedCallCompletion implements CallCompletion
+  {
+    private final CallCompletion _callCompletion;
+    private final long _startTime;
+    private final AtomicBoolean _done = new AtomicBoolean();
+    private volatile long _recordTime = -1;
+
+    LimitedCallCompletion(CallCompletion callCompletion, long startTime)
+    {
+      _callCompletion = callCompletion;
+      _startTime = startTime;
+    }
+
+    @Override
+    public void record()
+    {
+      if (_recordTime < 0)
+      {
+        _recordTime = _clock.currentTimeMillis();
+      }
+      _callCompletion.record();
+    }
+
+    @Override
+    public void endCall()
+    {
+      end(true);
+      _callCompletion.endCall();
+    }
+
+    @Override
+    public void endCallWithError()
+    {
+      end(false);
+      _callCompletion.endCallWithError();
+    }
+
+    @Override
+    public void endCallWithError(ErrorType errorType)
+    {
+      end(errorType == ErrorType.TIMEOUT_EXCEPTION);
+      _callCompletion.endCallWithError(errorType);
+    }
+
+    private void end(boolean sample)
+    {
+      if (_done.compareAndSet(false, true))
+      {
+        long endTime = _recordTime < 0 ? _clock.currentTimeMillis() : _recordTime;
+        release(endTime - _startTime, sample);
+      }
+    }
+  }
+}
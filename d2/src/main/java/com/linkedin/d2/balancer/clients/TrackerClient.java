@@ -90,4 +90,13 @@ public interface TrackerClient extends LoadBalancerClient
    * @return CallTracker.
    */
   CallTracker getCallTracker();
+
+  /**
+   * @return the limiter of the in-flight requests to the host, or null if they are not limited.
+   */
+  @Nullable
+  default AdaptiveConcurrencyLimiter getConcurrencyLimiter()
+  {
+    return null;
+  }
 }
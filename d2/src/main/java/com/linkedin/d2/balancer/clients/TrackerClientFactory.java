@@ -138,9 +138,27 @@ public class TrackerClientFactory
             transportClient, clock, true, doNotSlowStart, doNotLoadBalance);
     }
 
+    int maxConcurrencyLimit = getAdaptiveConcurrencyMaxLimit(serviceProperties);
+    if (maxConcurrencyLimit > 0 && trackerClient instanceof TrackerClientImpl)
+    {
+      ((TrackerClientImpl) trackerClient).setConcurrencyLimiter(new AdaptiveConcurrencyLimiter(clock,
+          Math.min(AdaptiveConcurrencyLimiter.DEFAULT_INITIAL_LIMIT, maxConcurrencyLimit),
+          AdaptiveConcurrencyLimiter.DEFAULT_MIN_LIMIT, maxConcurrencyLimit));
+    }
+
     return trackerClient;
   }
 
+  private static int getAdaptiveConcurrencyMaxLimit(ServiceProperties serviceProperties)
+  {
+    if (serviceProperties == null || serviceProperties.getLoadBalancerStrategyProperties() == null)
+    {
+      return 0;
+    }
+    return MapUtil.getWithDefault(serviceProperties.getLoadBalancerStrategyProperties(),
+        PropertyKeys.HTTP_LB_ADAPTIVE_CONCURRENCY_MAX_LIMIT, 0, Integer.class);
+  }
+
   private static DegraderTrackerClient createDegraderTrackerClient(URI uri,
                                                                    UriProperties uriProperties,
                                                                    ServiceProperties serviceProperties,
@@ -24,6 +24,7 @@ import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategy
 import com.linkedin.d2.balancer.util.LoadBalancerUtil;
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.RemoteInvocationException;
+import com.linkedin.r2.RetriableRequestException;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestException;
 import com.linkedin.r2.message.rest.RestRequest;
@@ -36,6 +37,7 @@ import com.linkedin.r2.message.stream.entitystream.Observer;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
 import com.linkedin.util.clock.Clock;
 import com.linkedin.util.degrader.CallCompletion;
 import com.linkedin.util.degrader.CallTracker;
@@ -82,6 +84,7 @@ public class TrackerClientImpl implements TrackerClient
   private boolean _doNotSlowStart;
 
   private volatile CallTracker.CallStats _latestCallStats;
+  private volatile AdaptiveConcurrencyLimiter _concurrencyLimiter;
 
   public TrackerClientImpl(URI uri, Map<Integer, PartitionData> partitionDataMap, TransportClient transportClient,
       Clock clock, long interval, Predicate<Integer> isErrorStatus)
@@ -148,7 +151,13 @@ public class TrackerClientImpl implements TrackerClient
                           Map<String, String> wireAttrs,
                           TransportCallback<RestResponse> callback)
   {
-    _transportClient.restRequest(request, requestContext, wireAttrs, new TrackerClientRestCallback(callback, _callTracker.startCall()));
+    CallCompletion callCompletion = startCall();
+    if (callCompletion == null)
+    {
+      callback.onResponse(TransportResponseImpl.error(concurrencyLimitReached()));
+      return;
+    }
+    _transportClient.restRequest(request, requestContext, wireAttrs, new TrackerClientRestCallback(callback, callCompletion));
   }
 
   @Override
@@ -157,7 +166,51 @@ public class TrackerClientImpl implements TrackerClient
                             Map<String, String> wireAttrs,
                             TransportCallback<StreamResponse> callback)
   {
-    _transportClient.streamRequest(request, requestContext, wireAttrs, new TrackerClientStreamCallback(callback, _callTracker.startCall()));
+    CallCompletion callCompletion = startCall();
+    if (callCompletion == null)
+    {
+      callback.onResponse(TransportResponseImpl.error(concurrencyLimitReached()));
+      return;
+    }
+    _transportClient.streamRequest(request, requestContext, wireAttrs, new TrackerClientStreamCallback(callback, callCompletion));
+  }
+
+  /**
+   * @return the completion of the started call, or null if the concurrency limit of the host has been reached, in
+   *         which case no call is started.
+   */
+  private CallCompletion startCall()
+  {
+    AdaptiveConcurrencyLimiter limiter = _concurrencyLimiter;
+    if (limiter == null)
+    {
+      return _callTracker.startCall();
+    }
+    if (!limiter.tryAcquire())
+    {
+      return null;
+    }
+    return limiter.track(_callTracker.startCall());
+  }
+
+  private RetriableRequestException concurrencyLimitReached()
+  {
+    // The request has not been sent, hence it can be retried on another host
+    return new RetriableRequestException("Concurrency limit of host " + _uri + " reached: " + _concurrencyLimiter);
+  }
+
+  @Override
+  public AdaptiveConcurrencyLimiter getConcurrencyLimiter()
+  {
+    return _concurrencyLimiter;
+  }
+
+  /**
+   * @param concurrencyLimiter limits the in-flight requests to the host, or null to not limit them.
+   */
+  public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter)
+  {
+    _concurrencyLimiter = concurrencyLimiter;
   }
 
   @Override
@@ -178,6 +178,14 @@ public class LoadBalancerStrategyPropertiesConverter
     {
       map.put(PropertyKeys.HTTP_LB_HIGH_EVENT_EMITTING_INTERVAL, config.getHighEmittingInterval().toString());
     }
+    if (config.hasPeakEwmaDecayTimeMs())
+    {
+      map.put(PropertyKeys.HTTP_LB_PEAK_EWMA_DECAY_TIME_MS, config.getPeakEwmaDecayTimeMs().toString());
+    }
+    if (config.hasAdaptiveConcurrencyMaxLimit())
+    {
+      map.put(PropertyKeys.HTTP_LB_ADAPTIVE_CONCURRENCY_MAX_LIMIT, config.getAdaptiveConcurrencyMaxLimit().toString());
+    }
     return map;
   }
 
@@ -324,6 +332,14 @@ public class LoadBalancerStrategyPropertiesConverter
     {
       config.setHighEmittingInterval(coerce(properties.get(PropertyKeys.HTTP_LB_HIGH_EVENT_EMITTING_INTERVAL), Integer.class));
     }
+    if (properties.containsKey(PropertyKeys.HTTP_LB_PEAK_EWMA_DECAY_TIME_MS))
+    {
+      config.setPeakEwmaDecayTimeMs(coerce(properties.get(PropertyKeys.HTTP_LB_PEAK_EWMA_DECAY_TIME_MS), Long.class));
+    }
+    if (properties.containsKey(PropertyKeys.HTTP_LB_ADAPTIVE_CONCURRENCY_MAX_LIMIT))
+    {
+      config.setAdaptiveConcurrencyMaxLimit(coerce(properties.get(PropertyKeys.HTTP_LB_ADAPTIVE_CONCURRENCY_MAX_LIMIT), Integer.class));
+    }
 
     return config;
   }
@@ -106,6 +106,8 @@ public class PropertyKeys
   public static final String HTTP_LB_ERROR_STATUS_REGEX = "http.loadBalancer.errorStatusRegex";
   public static final String HTTP_LB_LOW_EVENT_EMITTING_INTERVAL = "http.loadBalancer.lowEmittingInterval";
   public static final String HTTP_LB_HIGH_EVENT_EMITTING_INTERVAL = "http.loadBalancer.highEmittingInterval";
+  public static final String HTTP_LB_PEAK_EWMA_DECAY_TIME_MS = "http.loadBalancer.peakEwmaDecayTimeMs";
+  public static final String HTTP_LB_ADAPTIVE_CONCURRENCY_MAX_LIMIT = "http.loadBalancer.adaptiveConcurrencyMaxLimit";
 
   // Relative load balancer specific properties
   public static final String UP_STEP = getFieldName(D2RelativeStrategyProperties.fields().upStep());
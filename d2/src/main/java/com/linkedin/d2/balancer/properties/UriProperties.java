@@ -17,6 +17,7 @@
 package com.linkedin.d2.balancer.properties;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,6 +41,10 @@ public class UriProperties
 
   private long _version;
 
+  // The properties these ones have been derived from by UriPropertiesMerger, and the uris changed since then
+  private final WeakReference<UriProperties> _deltaBase;
+  private final Set<URI> _changedUris;
+
   public UriProperties(String clusterName, Map<URI, Map<Integer, PartitionData>> partitionDescriptions)
   {
     this(clusterName, partitionDescriptions, Collections.<URI, Map<String, Object>>emptyMap());
@@ -109,6 +114,31 @@ public class UriProperties
 
     _uriSpecificProperties = (uriSpecificProperties == null) ? Collections.<URI, Map<String, Object>>emptyMap() :
         Collections.unmodifiableMap(uriSpecificProperties);
+    _deltaBase = null;
+    _changedUris = null;
+  }
+
+  /**
+   * Creates properties from maps which are already unmodifiable all the way down.
+   *
+   * @param deltaBase the properties these ones are derived from, or null.
+   * @param changedUris the uris which have been added, updated or removed since deltaBase.
+   */
+  UriProperties(String clusterName,
+      Map<URI, Map<Integer, PartitionData>> partitionDesc,
+      Map<String, Map<Integer, Set<URI>>> urisBySchemeAndPartition,
+      Map<URI, Map<String, Object>> uriSpecificProperties,
+      long version,
+      UriProperties deltaBase,
+      Set<URI> changedUris)
+  {
+    _clusterName = clusterName;
+    _partitionDesc = partitionDesc;
+    _urisBySchemeAndPartition = urisBySchemeAndPartition;
+    _uriSpecificProperties = uriSpecificProperties;
+    _version = version;
+    _deltaBase = deltaBase == null ? null : new WeakReference<>(deltaBase);
+    _changedUris = changedUris;
   }
 
   public String getClusterName()
@@ -146,6 +176,18 @@ public class UriProperties
     return _uriSpecificProperties;
   }
 
+  /**
+   * Returns the uris whose partition data or specific properties have changed since the given properties, if these
+   * properties have been derived from them. The derivation is not serialized, hence it is only known in the process
+   * which merged these properties.
+   *
+   * @return the uris which have been added, updated or removed, or null if the change is not known.
+   */
+  public Set<URI> getChangedUrisSince(UriProperties previous)
+  {
+    return _deltaBase != null && previous != null && _deltaBase.get() == previous ? _changedUris : null;
+  }
+
   public Set<URI> getUriBySchemeAndPartition(String scheme, int partitionId)
   {
     Map<Integer, Set<URI>> schemeUris = _urisBySchemeAndPartition.get(scheme);
@@ -19,10 +19,16 @@ package com.linkedin.d2.balancer.properties;
 import com.linkedin.d2.discovery.stores.zk.ZooKeeperPropertyMerger;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,4 +91,221 @@ public class UriPropertiesMerger implements ZooKeeperPropertyMerger<UriPropertie
 
     return null;
   }
+
+  /**
+   * Returns a merge which only updates the uris of the children which change, and whose merged properties record
+   * these uris, see {@link UriProperties#getChangedUrisSince(UriProperties)}.
+   */
+  @Override
+  public IncrementalMerge<UriProperties> newIncrementalMerge(String propertyName)
+  {
+    return new IncrementalUriPropertiesMerge(propertyName);
+  }
+
+  /**
+   * Keeps the merged maps across changes. When several children announce the same uri, the one which has been put
+   * last provides its properties, and the previous one does again once it is removed.
+   * <p>
+   *
+   * Each merged property still copies the top level maps, which is cheap compared to merging all the children, but
+   * the uri sets of the partitions are only copied when they change.
+   */
+  private static class IncrementalUriPropertiesMerge implements IncrementalMerge<UriProperties>
+  {
+    private final String _clusterName;
+    private final Map<String, UriProperties> _children = new HashMap<>();
+    private final Map<String, Long> _childVersions = new HashMap<>();
+    // the children announcing each uri, in the order they have been put
+    private final Map<URI, List<String>> _uriOwners = new HashMap<>();
+
+    private final Map<URI, Map<Integer, PartitionData>> _partitionDesc = new HashMap<>();
+    private final Map<URI, Map<String, Object>> _uriSpecificProperties = new HashMap<>();
+    private final Map<String, Map<Integer, Set<URI>>> _urisBySchemeAndPartition = new HashMap<>();
+    private final Map<String, Integer> _uriCountsByScheme = new HashMap<>();
+    private final TreeMap<Long, Integer> _versionCounts = new TreeMap<>();
+
+    // changes since _mergedProperty
+    private final Set<URI> _changedUris = new HashSet<>();
+    private final Map<String, Set<Integer>> _changedPartitions = new HashMap<>();
+    private boolean _changed = true;
+    private UriProperties _mergedProperty = null;
+    private Map<String, Map<Integer, Set<URI>>> _mergedUrisBySchemeAndPartition = Collections.emptyMap();
+
+    IncrementalUriPropertiesMerge(String clusterName)
+    {
+      _clusterName = clusterName;
+    }
+
+    @Override
+    public void put(String child, UriProperties property)
+    {
+      final Set<URI> uris = new HashSet<>(property.Uris());
+      final UriProperties previous = _children.put(child, property);
+      if (previous != null)
+      {
+        removeOwner(child, previous);
+        uris.addAll(previous.Uris());
+      }
+      for (URI uri : property.Uris())
+      {
+        _uriOwners.computeIfAbsent(uri, k -> new ArrayList<>(1)).add(child);
+      }
+      _versionCounts.merge(property.getVersion(), 1, Integer::sum);
+      _childVersions.put(child, property.getVersion());
+      _changed = true;
+      uris.forEach(this::updateUri);
+    }
+
+    @Override
+    public void remove(String child)
+    {
+      final UriProperties previous = _children.remove(child);
+      if (previous != null)
+      {
+        removeOwner(child, previous);
+        _changed = true;
+        previous.Uris().forEach(this::updateUri);
+      }
+    }
+
+    private void removeOwner(String child, UriProperties property)
+    {
+      for (URI uri : property.Uris())
+      {
+        final List<String> owners = _uriOwners.get(uri);
+        if (owners != null)
+        {
+          owners.remove(child);
+        }
+      }
+      final long version = _childVersions.remove(child);
+      _versionCounts.computeIfPresent(version, (v, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Sets the properties of a uri to those of its last owner.
+     */
+    private void updateUri(URI uri)
+    {
+      final List<String> owners = _uriOwners.get(uri);
+      final Map<Integer, PartitionData> partitions;
+      final Map<String, Object> specificProperties;
+      if (owners == null || owners.isEmpty())
+      {
+        _uriOwners.remove(uri);
+        partitions = null;
+        specificProperties = null;
+      }
+      else
+      {
+        final UriProperties owner = _children.get(owners.get(owners.size() - 1));
+        partitions = owner.getPartitionDataMap(uri);
+        specificProperties = owner.getUriSpecificProperties().get(uri);
+      }
+
+      final Map<Integer, PartitionData> oldPartitions =
+          partitions == null ? _partitionDesc.remove(uri) : _partitionDesc.put(uri, partitions);
+      final Map<String, Object> oldSpecificProperties = specificProperties == null
+          ? _uriSpecificProperties.remove(uri) : _uriSpecificProperties.put(uri, specificProperties);
+      if (Objects.equals(oldPartitions, partitions) && Objects.equals(oldSpecificProperties, specificProperties))
+      {
+        return;
+      }
+      _changedUris.add(uri);
+      if (Objects.equals(oldPartitions, partitions))
+      {
+        return;
+      }
+
+      final String scheme = uri.getScheme();
+      if (oldPartitions == null)
+      {
+        _uriCountsByScheme.merge(scheme, 1, Integer::sum);
+      }
+      else if (partitions == null)
+      {
+        _uriCountsByScheme.computeIfPresent(scheme, (k, count) -> count > 1 ? count - 1 : null);
+      }
+      final Map<Integer, Set<URI>> schemeUris = _urisBySchemeAndPartition.computeIfAbsent(scheme, k -> new HashMap<>());
+      final Set<Integer> changedPartitions = _changedPartitions.computeIfAbsent(scheme, k -> new HashSet<>());
+      if (oldPartitions != null)
+      {
+        for (Integer partitionId : oldPartitions.keySet())
+        {
+          if (partitions == null || !partitions.containsKey(partitionId))
+          {
+            final Set<URI> partitionUris = schemeUris.get(partitionId);
+            partitionUris.remove(uri);
+            if (partitionUris.isEmpty())
+            {
+              schemeUris.remove(partitionId);
+            }
+            changedPartitions.add(partitionId);
+          }
+        }
+      }
+      if (partitions != null)
+      {
+        for (Integer partitionId : partitions.keySet())
+        {
+          if (oldPartitions == null || !oldPartitions.containsKey(partitionId))
+          {
+            schemeUris.computeIfAbsent(partitionId, k -> new HashSet<>()).add(uri);
+            changedPartitions.add(partitionId);
+          }
+        }
+      }
+    }
+
+    @Override
+    public UriProperties getMergedProperty()
+    {
+      if (!_changed)
+      {
+        return _mergedProperty;
+      }
+
+      final Map<String, Map<Integer, Set<URI>>> urisBySchemeAndPartition = new HashMap<>(_mergedUrisBySchemeAndPartition);
+      for (Map.Entry<String, Set<Integer>> entry : _changedPartitions.entrySet())
+      {
+        final String scheme = entry.getKey();
+        if (!_uriCountsByScheme.containsKey(scheme))
+        {
+          urisBySchemeAndPartition.remove(scheme);
+          _urisBySchemeAndPartition.remove(scheme);
+          continue;
+        }
+        final Map<Integer, Set<URI>> schemeUris = _urisBySchemeAndPartition.get(scheme);
+        final Map<Integer, Set<URI>> mergedSchemeUris = new HashMap<>(
+            urisBySchemeAndPartition.getOrDefault(scheme, Collections.emptyMap()));
+        for (Integer partitionId : entry.getValue())
+        {
+          final Set<URI> partitionUris = schemeUris.get(partitionId);
+          if (partitionUris == null)
+          {
+            mergedSchemeUris.remove(partitionId);
+          }
+          else
+          {
+            mergedSchemeUris.put(partitionId, Collections.unmodifiableSet(new HashSet<>(partitionUris)));
+          }
+        }
+        urisBySchemeAndPartition.put(scheme, Collections.unmodifiableMap(mergedSchemeUris));
+      }
+
+      _mergedUrisBySchemeAndPartition = Collections.unmodifiableMap(urisBySchemeAndPartition);
+      final long version = _versionCounts.isEmpty() ? -1 : Long.max(-1, _versionCounts.lastKey());
+      _mergedProperty = new UriProperties(_clusterName,
+          Collections.unmodifiableMap(new HashMap<>(_partitionDesc)),
+          _mergedUrisBySchemeAndPartition,
+          Collections.unmodifiableMap(new HashMap<>(_uriSpecificProperties)),
+          version,
+          _mergedProperty,
+          Collections.unmodifiableSet(new HashSet<>(_changedUris)));
+      _changedUris.clear();
+      _changedPartitions.clear();
+      _changed = false;
+      return _mergedProperty;
+    }
+  }
 }
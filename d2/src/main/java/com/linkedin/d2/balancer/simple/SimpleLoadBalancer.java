@@ -31,6 +31,7 @@ import com.linkedin.d2.balancer.LoadBalancerState.NullStateListenerCallback;
 import com.linkedin.d2.balancer.LoadBalancerStateItem;
 import com.linkedin.d2.balancer.ServiceUnavailableException;
 import com.linkedin.d2.balancer.WarmUpService;
+import com.linkedin.d2.balancer.clients.AdaptiveConcurrencyLimiter;
 import com.linkedin.d2.balancer.clients.RewriteLoadBalancerClient;
 import com.linkedin.d2.balancer.clients.TrackerClient;
 import com.linkedin.d2.balancer.clusterfailout.FailoutConfig;
@@ -93,6 +94,8 @@ public class SimpleLoadBalancer implements LoadBalancer, HashRingProvider, Clien
   private static final Logger     _log =
                                            LoggerFactory.getLogger(SimpleLoadBalancer.class);
   private static final String     D2_SCHEME_NAME = "d2";
+  // Maximum number of other hosts picked when the host picked by the strategy has reached its concurrency limit
+  private static final int        MAX_CONCURRENCY_LIMITED_REPICKS = 2;
 
   private final LoadBalancerState _state;
   private final Stats _serviceUnavailableStats;
@@ -1165,6 +1168,11 @@ public class SimpleLoadBalancer implements LoadBalancer, HashRingProvider, Clien
       trackerClient =
           strategy.getTrackerClient(request, requestContext, uriItem.getVersion(), partitionId, clientsToLoadBalance,
               subsetItem.shouldForceUpdate());
+      if (targetHost == null)
+      {
+        trackerClient = avoidConcurrencyLimitedClient(trackerClient, strategy, request, requestContext,
+            uriItem.getVersion(), partitionId, clientsToLoadBalance);
+      }
 
       debug(_log,
             "load balancer strategy for ",
@@ -1202,6 +1210,41 @@ public class SimpleLoadBalancer implements LoadBalancer, HashRingProvider, Clien
     return trackerClient;
   }
 
+  /**
+   * Picks another host if the given one has reached its concurrency limit, excluding the limited hosts, since a
+   * request sent to such a host fails fast. The given host is kept if no other host is available, in which case the
+   * request can still be retried on another host.
+   */
+  private static TrackerClient avoidConcurrencyLimitedClient(TrackerClient trackerClient, LoadBalancerStrategy strategy,
+      Request request, RequestContext requestContext, long clusterGenerationId, int partitionId,
+      Map<URI, TrackerClient> clientsToLoadBalance)
+  {
+    TrackerClient chosenClient = trackerClient;
+    for (int i = 0; i < MAX_CONCURRENCY_LIMITED_REPICKS && isConcurrencyLimited(chosenClient); i++)
+    {
+      debug(_log, "concurrency limit reached for ", chosenClient.getUri(), ", picking another host");
+      LoadBalancerStrategy.ExcludedHostHints.addRequestContextExcludedHost(requestContext, chosenClient.getUri());
+      TrackerClient otherClient = strategy.getTrackerClient(request, requestContext, clusterGenerationId, partitionId,
+          clientsToLoadBalance, false);
+      if (otherClient == null)
+      {
+        break;
+      }
+      chosenClient = otherClient;
+    }
+    return chosenClient;
+  }
+
+  private static boolean isConcurrencyLimited(@Nullable TrackerClient trackerClient)
+  {
+    if (trackerClient == null)
+    {
+      return false;
+    }
+    AdaptiveConcurrencyLimiter limiter = trackerClient.getConcurrencyLimiter();
+    return limiter != null && limiter.isLimitReached();
+  }
+
   private void die(String serviceName, String message) throws ServiceUnavailableException
   {
     _serviceUnavailableStats.inc();
@@ -25,6 +25,7 @@ import com.linkedin.d2.discovery.event.PropertyEventBus;
 import com.linkedin.util.RateLimitedLogger;
 import com.linkedin.util.clock.SystemClock;
 import java.net.URI;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
@@ -59,6 +60,7 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
   @Override
   protected void handlePut(final String cluster, final UriProperties uriProperties)
   {
+    Set<URI> changedUris = null;
     // add tracker clients for uris that we aren't already tracking
     if (uriProperties != null)
     {
@@ -66,7 +68,10 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
 
       Optional<UriProperties> currentUriProperties = Optional.ofNullable(
           _simpleLoadBalancerState.getUriProperties(clusterName)).map(LoadBalancerStateItem::getProperty);
-      if (currentUriProperties.isPresent() && currentUriProperties.get().equals(uriProperties))
+      // The uris which have changed, if the new properties have been merged incrementally from the current ones
+      changedUris = uriProperties.getChangedUrisSince(currentUriProperties.orElse(null));
+      if (changedUris != null ? changedUris.isEmpty()
+          : currentUriProperties.isPresent() && currentUriProperties.get().equals(uriProperties))
       {
         _log.debug("For cluster: {}, received duplicate uri properties: {}", clusterName, uriProperties);
         return;
@@ -88,8 +93,12 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
             _simpleLoadBalancerState.getTrackerClients().put(serviceName, trackerClients);
           }
 
-          for (URI uri : uriProperties.Uris())
+          for (URI uri : getUrisToUpdate(uriProperties, currentUriProperties.orElse(null), changedUris, trackerClients))
           {
+            if (!uriProperties.Uris().contains(uri))
+            {
+              continue;
+            }
             Map<Integer, PartitionData> partitionDataMap = uriProperties.getPartitionDataMap(uri);
             TrackerClient client = trackerClients.get(uri);
 
@@ -144,21 +153,15 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
           Map<URI, TrackerClient> trackerClients = _simpleLoadBalancerState.getTrackerClients().get(serviceName);
           if (trackerClients != null)
           {
-            for (Iterator<URI> it = trackerClients.keySet().iterator(); it.hasNext(); )
+            if (changedUris != null)
             {
-              URI uri = it.next();
-
-              if (!uriProperties.Uris().contains(uri))
-              {
-                TrackerClient client = trackerClients.remove(uri);
-
-                debug(_log, "removing dead tracker client: ", client);
-
-                for (SimpleLoadBalancerState.SimpleLoadBalancerStateListener listener : _simpleLoadBalancerState.getListeners())
-                {
-                  listener.onClientRemoved(serviceName, client);
-                }
-              }
+              removeDeadTrackerClients(serviceName, uriProperties, changedUris, trackerClients);
+            }
+            // The tracker clients are out of sync with the uris if some were left over by a previous update, in which
+            // case all of them are checked
+            if (changedUris == null || trackerClients.size() != uriProperties.Uris().size())
+            {
+              removeDeadTrackerClients(serviceName, uriProperties, trackerClients.keySet(), trackerClients);
             }
           }
         }
@@ -173,6 +176,45 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
     }
   }
 
+  /**
+   * Returns the uris whose tracker clients may need to be updated, which are only the changed ones if they are known and
+   * the tracker clients of all the current uris have been built.
+   */
+  private static Collection<URI> getUrisToUpdate(UriProperties uriProperties, UriProperties currentUriProperties,
+      Set<URI> changedUris, Map<URI, TrackerClient> trackerClients)
+  {
+    if (changedUris == null || currentUriProperties == null
+        || trackerClients.size() != currentUriProperties.Uris().size())
+    {
+      return uriProperties.Uris();
+    }
+    return changedUris;
+  }
+
+  /**
+   * Removes the tracker clients of the given uris which are not in the uri properties anymore.
+   */
+  private void removeDeadTrackerClients(String serviceName, UriProperties uriProperties, Collection<URI> uris,
+      Map<URI, TrackerClient> trackerClients)
+  {
+    for (Iterator<URI> it = uris.iterator(); it.hasNext(); )
+    {
+      URI uri = it.next();
+
+      if (!uriProperties.Uris().contains(uri) && trackerClients.containsKey(uri))
+      {
+        TrackerClient client = trackerClients.remove(uri);
+
+        debug(_log, "removing dead tracker client: ", client);
+
+        for (SimpleLoadBalancerState.SimpleLoadBalancerStateListener listener : _simpleLoadBalancerState.getListeners())
+        {
+          listener.onClientRemoved(serviceName, client);
+        }
+      }
+    }
+  }
+
   @Override
   protected void handleRemove(final String cluster)
   {
@@ -24,12 +24,19 @@ import java.util.Map;
 /**
  * A ring factory generates {@link MPConsistentHashRing}s.
  *
+ * Each ring is derived from the previous one with {@link MPConsistentHashRing#withPoints(Map)}, so that only the
+ * hosts added since are hashed.
+ *
+ * Note: MPConsistentHashRingFactory is not thread safe. It is currently protected by partition lock
+ *       from the caller. Make sure to have proper protection if it is used in other environment.
+ *
  * @author Ang Xu
  */
 public class MPConsistentHashRingFactory<T> implements RingFactory<T>
 {
   private final int _numProbes;
   private final int _pointsPerHost;
+  private MPConsistentHashRing<T> _lastRing;
 
   public MPConsistentHashRingFactory(int numProbes, int pointsPerHost)
   {
@@ -40,6 +47,10 @@ public class MPConsistentHashRingFactory<T> implements RingFactory<T>
   @Override
   public Ring<T> createRing(Map<T, Integer> points)
   {
-    return new MPConsistentHashRing<>(points, _numProbes, _pointsPerHost);
+    MPConsistentHashRing<T> ring = _lastRing == null
+        ? new MPConsistentHashRing<>(points, _numProbes, _pointsPerHost)
+        : _lastRing.withPoints(points);
+    _lastRing = ring;
+    return ring;
   }
 }
@@ -27,9 +27,12 @@ import java.nio.charset.Charset;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +46,10 @@ import org.slf4j.LoggerFactory;
  *    points for each update unless more Points are needed.
  * 2. Avoid re-invoking MD5 (or other expensive hashing mechanisms) for the point generation.
  *
+ * The factory also keeps the sorted points of the last ring it created. The points of the next ring are
+ * merged from them and the points of the URIs whose number of points changed, instead of sorting all the
+ * points again.
+ *
  * Note: DegraderRingFactory is not thread safe. It is currently protected by partition lock
  *       from the caller. Make sure to have proper protection if it is used in other environment.
  */
@@ -52,6 +59,8 @@ public class PointBasedConsistentHashRingFactory<T> implements RingFactory<T>
   private static final Logger _log = LoggerFactory.getLogger(PointBasedConsistentHashRingFactory.class);
 
   final private Map<T, List<Point<T>>> _ringPoints; // map from object t --> list of points for this object
+  private Map<T, Integer> _lastPointsMap; // points map of the last ring
+  private List<Point<T>> _lastRingPoints; // sorted points of the last ring
   private final MessageDigest _md;
   private final double _hashRingPointCleanUpRate;
   // threshold to clean up old factory points. See clearPoints function
@@ -84,20 +93,92 @@ public class PointBasedConsistentHashRingFactory<T> implements RingFactory<T>
   @Override
   public Ring<T> createRing(Map<T, Integer> points)
   {
-    List<Point<T>> newRingPoints = new ArrayList<>();
-    clearPoints(points.size());
+    List<Point<T>> newRingPoints;
+    // The points of the last ring cannot be updated once the points they are made of have been purged
+    if (clearPoints(points.size()) || _lastRingPoints == null)
+    {
+      newRingPoints = new ArrayList<>();
+      for (Map.Entry<T, Integer> entry : points.entrySet())
+      {
+        T t = entry.getKey();
+        int numDesiredPoints = entry.getValue();
+        List<Point<T>> tPoints = getPointList(t, numDesiredPoints);
+
+        // Only copy the number of desired points
+        newRingPoints.addAll(tPoints.subList(0, numDesiredPoints));
+      }
+      Collections.sort(newRingPoints);
+    }
+    else
+    {
+      newRingPoints = updateRingPoints(points);
+    }
+    _lastPointsMap = new HashMap<>(points);
+    _lastRingPoints = newRingPoints;
+
+    _log.debug("Creating new hash ring with the following points {}", newRingPoints);
+    return ConsistentHashRing.fromSortedPoints(newRingPoints);
+  }
+
+  /**
+   * Merge the sorted points of the last ring with the points of the URIs whose number of points changed.
+   * The points are only hashed and sorted for those URIs.
+   *
+   * @param points the new points map
+   * @return the sorted points of the new ring
+   */
+  private List<Point<T>> updateRingPoints(Map<T, Integer> points)
+  {
+    // The points of a URI are reused across rings, hence the points to remove can be matched by identity
+    Set<Point<T>> removedPoints = Collections.newSetFromMap(new IdentityHashMap<>());
+    List<Point<T>> addedPoints = new ArrayList<>();
+    for (Map.Entry<T, Integer> entry : _lastPointsMap.entrySet())
+    {
+      // A URI added with no points has no points generated
+      if (!points.containsKey(entry.getKey()) && entry.getValue() > 0)
+      {
+        removedPoints.addAll(_ringPoints.get(entry.getKey()).subList(0, entry.getValue()));
+      }
+    }
     for (Map.Entry<T, Integer> entry : points.entrySet())
     {
       T t = entry.getKey();
       int numDesiredPoints = entry.getValue();
-      List<Point<T>> tPoints = getPointList(t, numDesiredPoints);
-
-      // Only copy the number of desired points
-      newRingPoints.addAll(tPoints.subList(0, numDesiredPoints));
+      Integer lastNumPoints = _lastPointsMap.get(t);
+      int numLastPoints = lastNumPoints == null ? 0 : lastNumPoints;
+      if (numDesiredPoints > numLastPoints)
+      {
+        addedPoints.addAll(getPointList(t, numDesiredPoints).subList(numLastPoints, numDesiredPoints));
+      }
+      else if (numDesiredPoints < numLastPoints)
+      {
+        removedPoints.addAll(_ringPoints.get(t).subList(numDesiredPoints, numLastPoints));
+      }
+    }
+    if (addedPoints.isEmpty() && removedPoints.isEmpty())
+    {
+      // Rings do not modify their points, hence they can be shared
+      return _lastRingPoints;
     }
 
-    _log.debug("Creating new hash ring with the following points {}", newRingPoints);
-    return new ConsistentHashRing<>(newRingPoints);
+    Collections.sort(addedPoints);
+    List<Point<T>> newRingPoints =
+        new ArrayList<>(_lastRingPoints.size() - removedPoints.size() + addedPoints.size());
+    int addedIndex = 0;
+    for (Point<T> point : _lastRingPoints)
+    {
+      if (removedPoints.contains(point))
+      {
+        continue;
+      }
+      for (; addedIndex < addedPoints.size() && addedPoints.get(addedIndex).compareTo(point) < 0; addedIndex++)
+      {
+        newRingPoints.add(addedPoints.get(addedIndex));
+      }
+      newRingPoints.add(point);
+    }
+    newRingPoints.addAll(addedPoints.subList(addedIndex, addedPoints.size()));
+    return newRingPoints;
   }
 
   public Map<T, List<Point<T>>> getPointsMap()
@@ -122,15 +203,18 @@ public class PointBasedConsistentHashRingFactory<T> implements RingFactory<T>
    * time on clean up when the total host number is small.
    *
    * @param size the size of new URI list
+   * @return whether the points have been purged
    */
-  private void clearPoints(int size)
+  private boolean clearPoints(int size)
   {
     int unusedEntries = _ringPoints.size() - size;
     int unusedEntryThreshold = (int)(_ringPoints.size() * _hashRingPointCleanUpRate);
     if (unusedEntries > Math.max(unusedEntryThreshold, POINTS_CLEANUP_MIN_UNUSED_ENTRY))
     {
       _ringPoints.clear();
+      return true;
     }
+    return false;
   }
 
   /**
@@ -0,0 +1,131 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.strategies.peakewma;
+
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.degrader.CallTracker;
+
+
+/**
+ * Load of a host, computed as the peak exponentially weighted moving average (peak EWMA) of the latency of its calls
+ * times the number of its outstanding calls plus one.
+ * <p>
+ *
+ * A latency above the average replaces it right away, while a latency below it is averaged in with a weight which
+ * decays with the time since the previous call. Hence the load of a host which slows down rises with its first slow
+ * call, while that of a host which recovers falls within about the decay time. The average also decays towards zero
+ * while the host does not complete any call, so that a host which has been avoided is eventually tried again.
+ * <p>
+ *
+ * The latency is updated on each call end by the {@link CallTracker} of the host.
+ */
+class PeakEwmaLoad implements CallTracker.CallEndListener
+{
+  /**
+   * Load of a host which has outstanding calls but has not completed any call yet, hence whose latency is unknown.
+   */
+  static final double UNKNOWN_LATENCY_LOAD = Double.MAX_VALUE / 2;
+
+  // Latencies are floored to keep the number of outstanding calls relevant for hosts which respond within 1ms
+  private static final double MIN_LATENCY_MS = 1.0;
+  // Factor of the average latency a failed call counts as
+  static final double ERROR_LATENCY_FACTOR = 2.0;
+
+  private final CallTracker _callTracker;
+  private final Clock _clock;
+  private final double _decayTimeMs;
+
+  private boolean _hasLatency = false;
+  private double _latency = 0.0;
+  private long _lastUpdateTime;
+
+  PeakEwmaLoad(CallTracker callTracker, Clock clock, long decayTimeMs)
+  {
+    _callTracker = callTracker;
+    _clock = clock;
+    _decayTimeMs = decayTimeMs;
+    _lastUpdateTime = clock.currentTimeMillis();
+  }
+
+  void start()
+  {
+    _callTracker.addCallEndListener(this);
+  }
+
+  void stop()
+  {
+    _callTracker.removeCallEndListener(this);
+  }
+
+  /**
+   * A failed call counts as a call with a latency of at least twice the average, so that a host which fails fast does
+   * not attract the traffic. The penalty is bounded by the decay time, so that a few errors do not keep a fast host
+   * away for longer than slow calls would.
+   */
+  @Override
+  public synchronized void onCallEnd(long duration, boolean hasError)
+  {
+    long currentTime = _clock.currentTimeMillis();
+    double latency = Math.max(duration, 0);
+    if (hasError)
+    {
+      latency = Math.max(latency, Math.min(Math.max(_latency, MIN_LATENCY_MS) * ERROR_LATENCY_FACTOR, _decayTimeMs));
+    }
+    if (latency > _latency)
+    {
+      _latency = latency;
+    }
+    else
+    {
+      double weight = getWeight(currentTime);
+      _latency = _latency * weight + latency * (1 - weight);
+    }
+    _hasLatency = true;
+    _lastUpdateTime = Math.max(currentTime, _lastUpdateTime);
+  }
+
+  /**
+   * @return the load of the host, the lower the better.
+   */
+  double getLoad()
+  {
+    int outstandingCalls = Math.max(_callTracker.getCurrentConcurrency(), 0);
+    double latency;
+    synchronized (this)
+    {
+      if (!_hasLatency)
+      {
+        return outstandingCalls == 0 ? 0.0 : UNKNOWN_LATENCY_LOAD;
+      }
+      latency = _latency * getWeight(_clock.currentTimeMillis());
+    }
+    return Math.max(latency, MIN_LATENCY_MS) * (outstandingCalls + 1);
+  }
+
+  /**
+   * @return the peak EWMA latency of the host in milliseconds, without decay since the last call end.
+   */
+  synchronized double getLatency()
+  {
+    return _latency;
+  }
+
+  private double getWeight(long currentTime)
+  {
+    return Math.exp(-Math.max(currentTime - _lastUpdateTime, 0) / _decayTimeMs);
+  }
+}
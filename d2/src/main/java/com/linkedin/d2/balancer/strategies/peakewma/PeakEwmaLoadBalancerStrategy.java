@@ -0,0 +1,250 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.strategies.peakewma;
+
+import com.linkedin.d2.balancer.KeyMapper;
+import com.linkedin.d2.balancer.clients.TrackerClient;
+import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
+import com.linkedin.d2.balancer.util.hashing.HashFunction;
+import com.linkedin.d2.balancer.util.hashing.RandomHash;
+import com.linkedin.d2.balancer.util.hashing.Ring;
+import com.linkedin.r2.message.Request;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.util.clock.Clock;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * This strategy picks two random hosts and routes the request to the one with the lower {@link PeakEwmaLoad}, i.e.
+ * peak EWMA latency times outstanding calls (power of two choices).
+ * <p>
+ *
+ * The load of each host is updated on each call end, hence the strategy reacts to a slow host within its next calls
+ * instead of at the next periodic state update of the degrader and relative strategies. It does not need a hash ring
+ * nor any lock shared by the requests, but it does not support sticky routing.
+ */
+public class PeakEwmaLoadBalancerStrategy implements LoadBalancerStrategy
+{
+  private static final Logger LOG = LoggerFactory.getLogger(PeakEwmaLoadBalancerStrategy.class);
+  public static final String PEAK_EWMA_STRATEGY_NAME = "peakEwma";
+
+  private final Clock _clock;
+  private final long _decayTimeMs;
+  private final ConcurrentMap<Integer, PartitionState> _partitionStates = new ConcurrentHashMap<>();
+
+  public PeakEwmaLoadBalancerStrategy(Clock clock, long decayTimeMs)
+  {
+    _clock = clock;
+    _decayTimeMs = decayTimeMs;
+  }
+
+  @Override
+  public String getName()
+  {
+    return PEAK_EWMA_STRATEGY_NAME;
+  }
+
+  @Nullable
+  @Override
+  public TrackerClient getTrackerClient(Request request,
+                                        RequestContext requestContext,
+                                        long clusterGenerationId,
+                                        int partitionId,
+                                        Map<URI, TrackerClient> trackerClients)
+  {
+    if (trackerClients == null || trackerClients.isEmpty())
+    {
+      LOG.warn("getTrackerClient called with null/empty trackerClients, so returning null");
+      return null;
+    }
+
+    TrackerClient trackerClient;
+    URI targetHostUri = KeyMapper.TargetHostHints.getRequestContextTargetHost(requestContext);
+    if (targetHostUri != null)
+    {
+      trackerClient = trackerClients.get(targetHostUri);
+      if (trackerClient == null)
+      {
+        LOG.warn("No client found for {}. Target host specified is no longer part of cluster", targetHostUri);
+      }
+    }
+    else
+    {
+      trackerClient = getPartitionState(partitionId, clusterGenerationId, trackerClients)
+          .choose(ExcludedHostHints.getRequestContextExcludedHosts(requestContext));
+    }
+
+    if (trackerClient != null)
+    {
+      ExcludedHostHints.addRequestContextExcludedHost(requestContext, trackerClient.getUri());
+    }
+    return trackerClient;
+  }
+
+  /**
+   * The strategy does not use a hash ring, hence it does not support sticky routing.
+   */
+  @Nonnull
+  @Override
+  public Ring<URI> getRing(long clusterGenerationId, int partitionId, Map<URI, TrackerClient> trackerClients)
+  {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public HashFunction<Request> getHashFunction()
+  {
+    return new RandomHash();
+  }
+
+  @Override
+  public void shutdown()
+  {
+    for (PartitionState partitionState : _partitionStates.values())
+    {
+      partitionState._loads.values().forEach(PeakEwmaLoad::stop);
+    }
+    _partitionStates.clear();
+  }
+
+  /**
+   * Gets the state of the partition, which is only rebuilt when the hosts of the partition change.
+   */
+  private PartitionState getPartitionState(int partitionId, long clusterGenerationId,
+      Map<URI, TrackerClient> trackerClients)
+  {
+    PartitionState partitionState = _partitionStates.get(partitionId);
+    if (partitionState != null && !partitionState.isStale(clusterGenerationId, trackerClients))
+    {
+      return partitionState;
+    }
+    return _partitionStates.compute(partitionId, (id, oldState) ->
+    {
+      if (oldState != null && !oldState.isStale(clusterGenerationId, trackerClients))
+      {
+        return oldState;
+      }
+      return new PartitionState(clusterGenerationId, trackerClients, oldState);
+    });
+  }
+
+  long getDecayTimeMs()
+  {
+    return _decayTimeMs;
+  }
+
+  PeakEwmaLoad getLoad(int partitionId, TrackerClient trackerClient)
+  {
+    PartitionState partitionState = _partitionStates.get(partitionId);
+    return partitionState == null ? null : partitionState._loads.get(trackerClient);
+  }
+
+  /**
+   * Immutable snapshot of the hosts of a partition and their loads.
+   */
+  private class PartitionState
+  {
+    private final long _clusterGenerationId;
+    private final TrackerClient[] _trackerClients;
+    private final PeakEwmaLoad[] _loadArray;
+    private final Map<TrackerClient, PeakEwmaLoad> _loads;
+
+    PartitionState(long clusterGenerationId, Map<URI, TrackerClient> trackerClients, PartitionState oldState)
+    {
+      _clusterGenerationId = clusterGenerationId;
+      _trackerClients = trackerClients.values().toArray(new TrackerClient[0]);
+      _loadArray = new PeakEwmaLoad[_trackerClients.length];
+      _loads = new IdentityHashMap<>(_trackerClients.length);
+
+      // The loads of the hosts which are still in the partition are kept
+      Map<TrackerClient, PeakEwmaLoad> oldLoads =
+          oldState == null ? new IdentityHashMap<>() : new IdentityHashMap<>(oldState._loads);
+      for (int i = 0; i < _trackerClients.length; i++)
+      {
+        PeakEwmaLoad load = oldLoads.remove(_trackerClients[i]);
+        if (load == null)
+        {
+          load = new PeakEwmaLoad(_trackerClients[i].getCallTracker(), _clock, _decayTimeMs);
+          load.start();
+        }
+        _loadArray[i] = load;
+        _loads.put(_trackerClients[i], load);
+      }
+      oldLoads.values().forEach(PeakEwmaLoad::stop);
+    }
+
+    boolean isStale(long clusterGenerationId, Map<URI, TrackerClient> trackerClients)
+    {
+      return _clusterGenerationId != clusterGenerationId || _trackerClients.length != trackerClients.size();
+    }
+
+    @Nullable
+    TrackerClient choose(@Nullable Set<URI> excludedUris)
+    {
+      if (excludedUris == null || excludedUris.isEmpty())
+      {
+        return choose(_trackerClients.length, i -> i);
+      }
+
+      List<Integer> candidates = new ArrayList<>(_trackerClients.length);
+      for (int i = 0; i < _trackerClients.length; i++)
+      {
+        if (!excludedUris.contains(_trackerClients[i].getUri()))
+        {
+          candidates.add(i);
+        }
+      }
+      return candidates.isEmpty() ? null : choose(candidates.size(), candidates::get);
+    }
+
+    /**
+     * Picks two distinct random candidates, and returns the host of the one with the lower load.
+     */
+    private TrackerClient choose(int candidateCount, IntUnaryOperator candidateIndexes)
+    {
+      if (candidateCount == 1)
+      {
+        return _trackerClients[candidateIndexes.applyAsInt(0)];
+      }
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int first = random.nextInt(candidateCount);
+      int second = random.nextInt(candidateCount - 1);
+      if (second >= first)
+      {
+        second++;
+      }
+      int firstIndex = candidateIndexes.applyAsInt(first);
+      int secondIndex = candidateIndexes.applyAsInt(second);
+      return _loadArray[firstIndex].getLoad() <= _loadArray[secondIndex].getLoad()
+          ? _trackerClients[firstIndex]
+          : _trackerClients[secondIndex];
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.strategies.peakewma;
+
+import com.linkedin.common.util.MapUtil;
+import com.linkedin.d2.balancer.properties.PropertyKeys;
+import com.linkedin.d2.balancer.properties.ServiceProperties;
+import com.linkedin.d2.balancer.strategies.LoadBalancerStrategyFactory;
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SystemClock;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Load balancer factory for {@link PeakEwmaLoadBalancerStrategy}.
+ */
+public class PeakEwmaLoadBalancerStrategyFactory implements LoadBalancerStrategyFactory<PeakEwmaLoadBalancerStrategy>
+{
+  private static final Logger LOG = LoggerFactory.getLogger(PeakEwmaLoadBalancerStrategyFactory.class);
+
+  public static final long DEFAULT_DECAY_TIME_MS = 10000L;
+
+  private final Clock _clock;
+
+  public PeakEwmaLoadBalancerStrategyFactory()
+  {
+    this(SystemClock.instance());
+  }
+
+  public PeakEwmaLoadBalancerStrategyFactory(Clock clock)
+  {
+    _clock = clock;
+  }
+
+  @Override
+  public PeakEwmaLoadBalancerStrategy newLoadBalancer(ServiceProperties serviceProperties)
+  {
+    long decayTimeMs = DEFAULT_DECAY_TIME_MS;
+    Map<String, Object> loadBalancerStrategyProperties = serviceProperties.getLoadBalancerStrategyProperties();
+    if (loadBalancerStrategyProperties != null)
+    {
+      decayTimeMs = MapUtil.getWithDefault(loadBalancerStrategyProperties, PropertyKeys.HTTP_LB_PEAK_EWMA_DECAY_TIME_MS,
+          DEFAULT_DECAY_TIME_MS, Long.class);
+    }
+    if (decayTimeMs <= 0)
+    {
+      LOG.warn("Invalid peak EWMA decay time {} for service {}, using {}", decayTimeMs,
+          serviceProperties.getServiceName(), DEFAULT_DECAY_TIME_MS);
+      decayTimeMs = DEFAULT_DECAY_TIME_MS;
+    }
+
+    LOG.debug("Created a peak EWMA load balancer strategy for service {}", serviceProperties.getServiceName());
+    return new PeakEwmaLoadBalancerStrategy(_clock, decayTimeMs);
+  }
+}
@@ -63,6 +63,11 @@ public class ConsistentHashRing<T> implements Ring<T>
    *
    */
   public ConsistentHashRing(List<Point<T>> points)
+  {
+    this(points, true);
+  }
+
+  private ConsistentHashRing(List<Point<T>> points, boolean sort)
   {
     _md = null;   // not used
     _points = points;
@@ -72,12 +77,28 @@ public class ConsistentHashRing<T> implements Ring<T>
       throw new RuntimeException("Building consistent hash ring without points");
     }
 
-    // Sort the points
-    Collections.sort(points);
+    if (sort)
+    {
+      // Sort the points
+      Collections.sort(points);
+    }
 
     debug(_log, "Initializing consistent hash ring with {} items: ", points.size());
   }
 
+  /**
+   * Create a consistent hash ring with points which are already sorted, e.g. when they have been merged from the
+   * points of a previous ring and those of the objects which changed since.
+   * @param sortedPoints Point list sorted by hash;
+   *
+   * Note: ConsistentHashRing takes over the ownership for points and assume no
+   *       changes to the list from outside.
+   */
+  public static <T> ConsistentHashRing<T> fromSortedPoints(List<Point<T>> sortedPoints)
+  {
+    return new ConsistentHashRing<>(sortedPoints, false);
+  }
+
   // Next two constructors and add() function are only used by DegraderLoadBalancerStrategy V2 and V2_1,
   // which are obsoleted already. When those strategies are removed, this three functions should be removed too.
   public ConsistentHashRing(Map<T, Integer> pointMap)
@@ -19,6 +19,7 @@ package com.linkedin.d2.balancer.util.hashing;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -71,6 +72,7 @@ public class MPConsistentHashRing<T> implements Ring<T>
   private final List<T> _hosts;
   private final LongHashFunction[] _hashFunctions;
   private final int _numProbes;
+  private final int _pointsPerHost;
 
   /**
    * Creates a multi-probe consistent hash ring with DEFAULT_NUM_PROBES (21).
@@ -90,27 +92,18 @@ public class MPConsistentHashRing<T> implements Ring<T>
    */
   public MPConsistentHashRing(Map<T, Integer> pointsMap, int numProbes, int pointsPerHost)
   {
-    _buckets = new ArrayList<>(pointsMap.size());
+    _buckets = new ArrayList<>(pointsMap.size() * Math.max(pointsPerHost, 1));
     _hosts = new ArrayList<>(pointsMap.size());
     for (Map.Entry<T, Integer> entry : pointsMap.entrySet())
     {
       // ignore items whose point is equal to zero
       if (entry.getValue() > 0)
       {
-        byte[] bytesToHash = entry.getKey().toString().getBytes(UTF8);
-        long hash = HASH_FUNCTION_0.hashBytes(bytesToHash) & MASK;
-        _buckets.add(new Bucket(entry.getKey(), hash, entry.getValue()));
-        _hosts.add(entry.getKey());
-
-        long hashOfHash = hash;
-        int duplicate = pointsPerHost - 1;
-        while (duplicate-- > 0) {
-          hashOfHash = HASH_FUNCTION_0.hashLong(hashOfHash) & MASK;
-          _buckets.add(new Bucket(entry.getKey(), hashOfHash, entry.getValue()));
-        }
+        addBuckets(entry.getKey(), entry.getValue(), pointsPerHost);
       }
     }
     _numProbes = numProbes;
+    _pointsPerHost = pointsPerHost;
     _hashFunctions = new LongHashFunction[_numProbes];
     for (int i = 0; i < _numProbes; i++)
     {
@@ -118,6 +111,81 @@ public class MPConsistentHashRing<T> implements Ring<T>
     }
   }
 
+  private MPConsistentHashRing(int numHosts, MPConsistentHashRing<T> previous)
+  {
+    _buckets = new ArrayList<>(numHosts * Math.max(previous._pointsPerHost, 1));
+    _hosts = new ArrayList<>(numHosts);
+    _numProbes = previous._numProbes;
+    _pointsPerHost = previous._pointsPerHost;
+    _hashFunctions = previous._hashFunctions;
+  }
+
+  /**
+   * Creates a multi-probe consistent hash ring with the given points map and the number of probes and points per host
+   * of this ring. The buckets of this ring are reused for the objects whose points did not change, and their hashes
+   * for the objects whose points changed, so that only the objects which are not in this ring are hashed. This ring
+   * is not modified.
+   *
+   * @param pointsMap A map between object to store in the ring and its points.
+   * @return the new ring.
+   */
+  public MPConsistentHashRing<T> withPoints(Map<T, Integer> pointsMap)
+  {
+    Map<T, Integer> hostIndexes = new HashMap<>(_hosts.size() * 4 / 3 + 1);
+    for (int i = 0; i < _hosts.size(); i++)
+    {
+      hostIndexes.put(_hosts.get(i), i);
+    }
+
+    int bucketsPerHost = Math.max(_pointsPerHost, 1);
+    MPConsistentHashRing<T> ring = new MPConsistentHashRing<>(pointsMap.size(), this);
+    for (Map.Entry<T, Integer> entry : pointsMap.entrySet())
+    {
+      // ignore items whose point is equal to zero
+      if (entry.getValue() <= 0)
+      {
+        continue;
+      }
+      Integer hostIndex = hostIndexes.get(entry.getKey());
+      if (hostIndex == null)
+      {
+        ring.addBuckets(entry.getKey(), entry.getValue(), _pointsPerHost);
+        continue;
+      }
+
+      // The buckets of each host are contiguous and in the same number for all hosts
+      List<Bucket> buckets = _buckets.subList(hostIndex * bucketsPerHost, (hostIndex + 1) * bucketsPerHost);
+      if (buckets.get(0).getPoints() == entry.getValue())
+      {
+        ring._buckets.addAll(buckets);
+      }
+      else
+      {
+        for (Bucket bucket : buckets)
+        {
+          ring._buckets.add(new Bucket(entry.getKey(), bucket.getHash(), entry.getValue()));
+        }
+      }
+      ring._hosts.add(entry.getKey());
+    }
+    return ring;
+  }
+
+  private void addBuckets(T t, int points, int pointsPerHost)
+  {
+    byte[] bytesToHash = t.toString().getBytes(UTF8);
+    long hash = HASH_FUNCTION_0.hashBytes(bytesToHash) & MASK;
+    _buckets.add(new Bucket(t, hash, points));
+    _hosts.add(t);
+
+    long hashOfHash = hash;
+    int duplicate = pointsPerHost - 1;
+    while (duplicate-- > 0) {
+      hashOfHash = HASH_FUNCTION_0.hashLong(hashOfHash) & MASK;
+      _buckets.add(new Bucket(t, hashOfHash, points));
+    }
+  }
+
   @Override
   public T get(int key)
   {
@@ -451,13 +451,13 @@ public class ZKFSTogglingLoadBalancerFactoryImpl implements ZKFSLoadBalancer.Tog
     zkUriRegistry.setDualReadStateManager(_dualReadStateManager);
     _d2ClientJmxManager.setZkUriRegistry(zkUriRegistry);
 
-    FileStore<ClusterProperties> fsClusterStore = createFileStore(FileSystemDirectory.getClusterDirectory(_fsd2DirPath), new ClusterPropertiesJsonSerializer());
+    FileStore<ClusterProperties> fsClusterStore = createFileStoreWithSnapshot(FileSystemDirectory.getClusterDirectory(_fsd2DirPath), new ClusterPropertiesJsonSerializer(), executorService);
     _d2ClientJmxManager.setFsClusterStore(fsClusterStore);
 
-    FileStore<ServiceProperties> fsServiceStore = createFileStore(FileSystemDirectory.getServiceDirectory(_fsd2DirPath, _d2ServicePath), new ServicePropertiesJsonSerializer());
+    FileStore<ServiceProperties> fsServiceStore = createFileStoreWithSnapshot(FileSystemDirectory.getServiceDirectory(_fsd2DirPath, _d2ServicePath), new ServicePropertiesJsonSerializer(), executorService);
     _d2ClientJmxManager.setFsServiceStore(fsServiceStore);
 
-    FileStore<UriProperties> fsUriStore = createFileStore(_fsd2DirPath + File.separator + "uris", new UriPropertiesJsonSerializer());
+    FileStore<UriProperties> fsUriStore = createFileStoreWithSnapshot(_fsd2DirPath + File.separator + "uris", new UriPropertiesJsonSerializer(), executorService);
     _d2ClientJmxManager.setFsUriStore(fsUriStore);
 
     PropertyEventBus<ClusterProperties> clusterBus = new PropertyEventBusImpl<>(executorService);
@@ -531,6 +531,14 @@ public class ZKFSTogglingLoadBalancerFactoryImpl implements ZKFSLoadBalancer.Tog
     return new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION, serializer);
   }
 
+  private <T> FileStore<T> createFileStoreWithSnapshot(String path, PropertySerializer<T> serializer,
+                                                       ScheduledExecutorService executorService)
+  {
+    FileStore<T> fileStore = createFileStore(path, serializer);
+    fileStore.setSnapshotExecutor(executorService);
+    return fileStore;
+  }
+
   public interface ComponentFactory
   {
     TogglingLoadBalancer createBalancer(SimpleLoadBalancer balancer,
@@ -19,11 +19,15 @@ package com.linkedin.d2.discovery.stores.file;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.util.None;
 import com.linkedin.d2.balancer.util.FileSystemDirectory;
+import com.linkedin.d2.balancer.util.JacksonUtil;
+import com.linkedin.d2.discovery.PropertyBuilder;
 import com.linkedin.d2.discovery.PropertySerializationException;
 import com.linkedin.d2.discovery.PropertySerializer;
 import com.linkedin.d2.discovery.event.PropertyEventSubscriber;
 import com.linkedin.d2.discovery.stores.PropertyStore;
 import com.linkedin.d2.discovery.util.Stats;
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SystemClock;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -33,6 +37,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.annotation.Nullable;
@@ -49,11 +61,25 @@ import static com.linkedin.d2.discovery.util.LogUtil.warn;
  *
  * It has implements a global (non-per-prop) fair read-write lock to access the database,
  * allowing multiple reads at the same time.
+ *
+ * If an executor is given for snapshots, the store also keeps a binary snapshot of all the props in a single file,
+ * see {@link FileStoreSnapshot}. The snapshot is loaded in one pass on {@link #start()}, and the props it contains are
+ * then served from memory by {@link #get(String)}, instead of being read and parsed one by one. The snapshot is
+ * deleted once a prop is changed, and written again once no prop has been changed for
+ * {@link #DEFAULT_SNAPSHOT_DELAY_MS}, but no later than {@link #MAX_SNAPSHOT_DELAY_MS} after the first change, or on
+ * shutdown. The snapshot is written by a thread shared by all the stores, without holding the lock of the store. The
+ * JSON files remain the source of truth: the props missing from the snapshot, or whose file has been changed since
+ * the snapshot was written, are read from their file.
  */
 public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T>
 {
   private static final Logger         _log = LoggerFactory.getLogger(FileStore.class);
   private static final String         TMP_FILE_PREFIX = "d2-";
+  public static final long            DEFAULT_SNAPSHOT_DELAY_MS = 60000;
+  public static final long            MAX_SNAPSHOT_DELAY_MS = 300000;
+  // Reads the files and writes the snapshots of all the stores, so that the executors of the stores are not held
+  private static final ExecutorService SNAPSHOT_WRITER = Executors.newFixedThreadPool(1,
+      FileStore::createSnapshotWriterThread);
 
   private final String _fsPath;
   private final String _fsFileExtension;
@@ -66,12 +92,40 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
   private final Lock r = rwl.readLock();
   private final Lock w = rwl.writeLock();
 
+  // The props loaded from the snapshot which have not been served by get yet
+  private final Map<String, T> _snapshotValues = new ConcurrentHashMap<>();
+  private volatile ScheduledExecutorService _snapshotExecutor;
+  private final Clock _clock;
+  // Guarded by w
+  private boolean _snapshotUpToDate;
+  private long _snapshotGeneration;
+  // Time of the first change since the snapshot was last written, or -1
+  private long _snapshotStaleSince = -1;
+  private boolean _snapshotWriteQueued;
+  private ScheduledFuture<?> _snapshotFuture;
+
   public FileStore(String fsPath, PropertySerializer<T> serializer)
   {
     this(fsPath, FileSystemDirectory.FILE_STORE_EXTENSION, serializer);
   }
 
   public FileStore(String fsPath, String fsFileExtension, PropertySerializer<T> serializer)
+  {
+    this(fsPath, fsFileExtension, serializer, null);
+  }
+
+  /**
+   * @param snapshotExecutor executor which schedules writing the snapshot of the store, or null to not keep a
+   *                         snapshot.
+   */
+  public FileStore(String fsPath, String fsFileExtension, PropertySerializer<T> serializer,
+      @Nullable ScheduledExecutorService snapshotExecutor)
+  {
+    this(fsPath, fsFileExtension, serializer, snapshotExecutor, SystemClock.instance());
+  }
+
+  FileStore(String fsPath, String fsFileExtension, PropertySerializer<T> serializer,
+      @Nullable ScheduledExecutorService snapshotExecutor, Clock clock)
   {
     _getStats = new Stats(60000);
     _putStats = new Stats(60000);
@@ -79,6 +133,8 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     _fsPath = fsPath;
     _fsFileExtension = fsFileExtension;
     _serializer = serializer;
+    _snapshotExecutor = snapshotExecutor;
+    _clock = clock;
 
     File file = new File(_fsPath);
 
@@ -89,6 +145,7 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
         error(_log, "unable to create file path: " + _fsPath);
       }
     }
+    _snapshotUpToDate = getSnapshotFile().exists();
   }
 
   @Override
@@ -114,6 +171,10 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
       {
         return file.mkdirs();
       }
+      if (isSnapshotEnabled())
+      {
+        loadSnapshot();
+      }
     }
     finally
     {
@@ -122,9 +183,248 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     return true;
   }
 
+  /**
+   * Keeps a snapshot of the store, like when an executor is given for snapshots to the constructor. Must be invoked
+   * before the store is started.
+   *
+   * @param snapshotExecutor executor which schedules writing the snapshot of the store.
+   */
+  public void setSnapshotExecutor(ScheduledExecutorService snapshotExecutor)
+  {
+    w.lock();
+    try
+    {
+      _snapshotExecutor = snapshotExecutor;
+    }
+    finally
+    {
+      w.unlock();
+    }
+  }
+
+  private boolean isSnapshotEnabled()
+  {
+    return _snapshotExecutor != null;
+  }
+
+  private File getSnapshotFile()
+  {
+    return new File(_fsPath, FileStoreSnapshot.SNAPSHOT_FILE_NAME);
+  }
+
+  private void loadSnapshot()
+  {
+    File snapshotFile = getSnapshotFile();
+    if (!snapshotFile.exists())
+    {
+      return;
+    }
+
+    Map<String, FileStoreSnapshot.Entry> entries;
+    try
+    {
+      entries = FileStoreSnapshot.read(snapshotFile);
+    }
+    catch (IOException e)
+    {
+      warn(_log, "unable to read snapshot, falling back to the files: ", snapshotFile, ", error: ", e);
+      return;
+    }
+
+    for (String propertyName : FileSystemDirectory.getFileListWithoutExtension(_fsPath, _fsFileExtension))
+    {
+      FileStoreSnapshot.Entry entry = entries.get(propertyName);
+      if (entry == null || !entry.matches(getFile(propertyName)))
+      {
+        continue;
+      }
+      try
+      {
+        T property = fromSnapshotValue(entry.decode());
+        if (property != null)
+        {
+          _snapshotValues.put(propertyName, property);
+        }
+      }
+      catch (Exception e)
+      {
+        warn(_log, "unable to load property ", propertyName, " from snapshot, falling back to its file, error: ", e);
+      }
+    }
+    info(_log, "loaded ", _snapshotValues.size(), " properties from snapshot: ", snapshotFile);
+  }
+
+  @SuppressWarnings("unchecked")
+  private T fromSnapshotValue(Map<String, Object> value) throws IOException, PropertySerializationException
+  {
+    if (_serializer instanceof PropertyBuilder)
+    {
+      return ((PropertyBuilder<T>) _serializer).fromMap(value);
+    }
+    return _serializer.fromBytes(JacksonUtil.getObjectMapper().writeValueAsBytes(value));
+  }
+
+  /**
+   * Writes the snapshot of all the props in the store, unless it is up to date. Does nothing if the store does not
+   * keep a snapshot.
+   *
+   * @return whether the snapshot is up to date.
+   */
+  public boolean writeSnapshot()
+  {
+    if (!isSnapshotEnabled())
+    {
+      return false;
+    }
+
+    long generation;
+    Map<String, File> files = new TreeMap<>();
+    w.lock();
+    try
+    {
+      if (_snapshotFuture != null)
+      {
+        _snapshotFuture.cancel(false);
+        _snapshotFuture = null;
+      }
+      _snapshotWriteQueued = false;
+      if (_snapshotUpToDate)
+      {
+        return true;
+      }
+
+      generation = _snapshotGeneration;
+      _snapshotStaleSince = -1;
+      for (String propertyName : FileSystemDirectory.getFileListWithoutExtension(_fsPath, _fsFileExtension))
+      {
+        files.put(propertyName, getFile(propertyName));
+      }
+    }
+    finally
+    {
+      w.unlock();
+    }
+
+    // The files are read without holding the lock. If a prop is changed meanwhile, the snapshot is discarded, since
+    // the change may keep the length and the last modified time of the file, and writing it again has been scheduled
+    // by the change.
+    File tmpFile;
+    try
+    {
+      tmpFile = writeSnapshotTmpFile(files);
+    }
+    catch (IOException e)
+    {
+      warn(_log, "unable to write snapshot: ", getSnapshotFile(), ", error: ", e);
+      return false;
+    }
+
+    w.lock();
+    try
+    {
+      if (!_snapshotUpToDate && generation == _snapshotGeneration)
+      {
+        FileStoreSnapshot.replace(tmpFile, getSnapshotFile());
+        _snapshotUpToDate = true;
+      }
+      return _snapshotUpToDate;
+    }
+    catch (IOException e)
+    {
+      warn(_log, "unable to write snapshot: ", getSnapshotFile(), ", error: ", e);
+      return false;
+    }
+    finally
+    {
+      w.unlock();
+      FileStoreSnapshot.deleteTmpFile(tmpFile);
+    }
+  }
+
+  // Overridden by tests to change props while the snapshot is written
+  File writeSnapshotTmpFile(Map<String, File> files) throws IOException
+  {
+    return FileStoreSnapshot.writeTmpFile(getSnapshotFile(), files);
+  }
+
+  private static Thread createSnapshotWriterThread(Runnable runnable)
+  {
+    Thread thread = new Thread(runnable, "D2 FileStore Snapshot");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private void queueSnapshotWrite()
+  {
+    w.lock();
+    try
+    {
+      _snapshotFuture = null;
+      _snapshotWriteQueued = true;
+    }
+    finally
+    {
+      w.unlock();
+    }
+    SNAPSHOT_WRITER.execute(this::writeSnapshot);
+  }
+
+  /**
+   * Deletes the snapshot, which no longer reflects the given prop, and schedules writing it again. Must be invoked
+   * before changing the file of the prop, and with the write lock held.
+   */
+  private void invalidateSnapshot(String listenTo)
+  {
+    _snapshotValues.remove(listenTo);
+    if (!isSnapshotEnabled())
+    {
+      return;
+    }
+
+    _snapshotGeneration++;
+    if (_snapshotUpToDate)
+    {
+      File snapshotFile = getSnapshotFile();
+      if (snapshotFile.exists() && !snapshotFile.delete())
+      {
+        warn(_log, "unable to delete snapshot: ", snapshotFile);
+        return;
+      }
+      _snapshotUpToDate = false;
+    }
+
+    long now = _clock.currentTimeMillis();
+    if (_snapshotStaleSince < 0)
+    {
+      _snapshotStaleSince = now;
+    }
+    if (_snapshotWriteQueued)
+    {
+      // the queued write has not read the files yet
+      return;
+    }
+
+    if (_snapshotFuture != null)
+    {
+      _snapshotFuture.cancel(false);
+    }
+    // Changes postpone the write, so that the files are read once per burst of changes, but not indefinitely
+    long delay = Math.max(0, Math.min(DEFAULT_SNAPSHOT_DELAY_MS, _snapshotStaleSince + MAX_SNAPSHOT_DELAY_MS - now));
+    try
+    {
+      _snapshotFuture = _snapshotExecutor.schedule(this::queueSnapshotWrite, delay, TimeUnit.MILLISECONDS);
+    }
+    catch (RejectedExecutionException e)
+    {
+      _snapshotFuture = null;
+      warn(_log, "unable to schedule writing snapshot: ", getSnapshotFile());
+    }
+  }
+
   /**
    * @return The deserialized property or null if the file does not exist or
-   *         there was an error deserializing the property.
+   *         there was an error deserializing the property. A property loaded from the
+   *         snapshot is returned only once, after which it is read from its file.
    */
   @Nullable
   @Override
@@ -135,6 +435,12 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     {
       _getStats.inc();
 
+      T snapshotValue = _snapshotValues.remove(listenTo);
+      if (snapshotValue != null)
+      {
+        return snapshotValue;
+      }
+
       File file = getFile(listenTo);
 
       if (file.exists())
@@ -190,7 +496,11 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
       Map<String, T> result = new HashMap<>();
       for (String propertyName : propertyNames)
       {
-        T property = get(propertyName);
+        T property = _snapshotValues.get(propertyName);
+        if (property == null)
+        {
+          property = get(propertyName);
+        }
         if (property != null)
         {
           result.put(propertyName, property);
@@ -204,6 +514,22 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     }
   }
 
+  /**
+   * @return The names of all the properties, without reading them.
+   */
+  public List<String> getPropertyNames()
+  {
+    r.lock();
+    try
+    {
+      return FileSystemDirectory.getFileListWithoutExtension(_fsPath, _fsFileExtension);
+    }
+    finally
+    {
+      r.unlock();
+    }
+  }
+
   @Override
   public void put(String listenTo, T discoveryProperties)
   {
@@ -217,6 +543,7 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
       else
       {
         _putStats.inc();
+        invalidateSnapshot(listenTo);
 
         File file = getFile(listenTo);
         try
@@ -251,6 +578,7 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     try
     {
       _removeStats.inc();
+      invalidateSnapshot(listenTo);
 
       File file = getFile(listenTo);
 
@@ -274,6 +602,9 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     w.lock();
     try
     {
+      _snapshotValues.clear();
+      _snapshotUpToDate = false;
+      _snapshotGeneration++;
       return FileStore.removeDirectory(_fsPath);
     }
     finally
@@ -331,6 +662,7 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
   {
     info(_log, "shutting down");
 
+    writeSnapshot();
     shutdown.onSuccess(None.none());
   }
 
@@ -0,0 +1,284 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.discovery.stores.file;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.linkedin.d2.balancer.util.JacksonUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.linkedin.d2.discovery.util.LogUtil.warn;
+
+
+/**
+ * Binary snapshot of the properties of a {@link FileStore}, which are read in one pass from a single memory-mapped
+ * file instead of reading and parsing one JSON file per property.
+ * <p>
+ *
+ * The layout of the file is, with big endian numbers:
+ * <pre>
+ *   header: magic (int), version (int), entry count (int), CRC32 of the index and the values (long)
+ *   index:  for each entry, name length (short), name (UTF-8), length of the JSON file (long),
+ *           last modified time of the JSON file (long), value offset from the start of the values (int),
+ *           value length (int)
+ *   values: the JSON of the properties encoded in Smile, the binary JSON format of Jackson
+ * </pre>
+ *
+ * The entries record the length and the last modified time of the JSON files they were written from, so that a
+ * property whose file has been changed since, e.g. by another process, is read from its file instead.
+ */
+final class FileStoreSnapshot
+{
+  private static final Logger _log = LoggerFactory.getLogger(FileStoreSnapshot.class);
+
+  static final String SNAPSHOT_FILE_NAME = "d2-snapshot.bin";
+  static final int MAGIC = 0x44325353; // "D2SS"
+  static final int VERSION = 1;
+
+  private static final int HEADER_SIZE = 20;
+  private static final String TMP_FILE_PREFIX = "d2-snapshot-";
+  private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+
+  private FileStoreSnapshot()
+  {
+  }
+
+  /**
+   * An entry of the snapshot, whose value is backed by the memory-mapped file.
+   */
+  static final class Entry
+  {
+    private final long _fileLength;
+    private final long _fileLastModified;
+    private final ByteBuffer _value;
+
+    private Entry(long fileLength, long fileLastModified, ByteBuffer value)
+    {
+      _fileLength = fileLength;
+      _fileLastModified = fileLastModified;
+      _value = value;
+    }
+
+    /**
+     * @return whether the JSON file of the property has not changed since the entry was written.
+     */
+    boolean matches(File file)
+    {
+      return file.length() == _fileLength && file.lastModified() == _fileLastModified;
+    }
+
+    /**
+     * @return the JSON of the property, as decoded by Jackson.
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, Object> decode() throws IOException
+    {
+      return SMILE_MAPPER.readValue(new ByteBufferBackedInputStream(_value.duplicate()), Map.class);
+    }
+  }
+
+  /**
+   * Reads the index of the snapshot. The values are decoded only by {@link Entry#decode()}.
+   *
+   * @return the entries by property name.
+   * @throws IOException if the file cannot be read, or is not a valid snapshot of the current version.
+   */
+  static Map<String, Entry> read(File snapshotFile) throws IOException
+  {
+    try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ))
+    {
+      long size = channel.size();
+      if (size < HEADER_SIZE || size > Integer.MAX_VALUE)
+      {
+        throw new IOException("Invalid snapshot size: " + size);
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+      if (buffer.getInt() != MAGIC)
+      {
+        throw new IOException("Not a snapshot file: " + snapshotFile);
+      }
+      int version = buffer.getInt();
+      if (version != VERSION)
+      {
+        throw new IOException("Unsupported snapshot version: " + version);
+      }
+      int count = buffer.getInt();
+      long checksum = buffer.getLong();
+      CRC32 crc = new CRC32();
+      crc.update(buffer.duplicate());
+      if (crc.getValue() != checksum)
+      {
+        throw new IOException("Corrupted snapshot file: " + snapshotFile);
+      }
+
+      String[] names = new String[count];
+      long[] fileLengths = new long[count];
+      long[] fileLastModifiedTimes = new long[count];
+      int[] offsets = new int[count];
+      int[] lengths = new int[count];
+      for (int i = 0; i < count; i++)
+      {
+        byte[] name = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(name);
+        names[i] = new String(name, StandardCharsets.UTF_8);
+        fileLengths[i] = buffer.getLong();
+        fileLastModifiedTimes[i] = buffer.getLong();
+        offsets[i] = buffer.getInt();
+        lengths[i] = buffer.getInt();
+      }
+
+      ByteBuffer values = buffer.slice();
+      Map<String, Entry> entries = new HashMap<>(count * 4 / 3 + 1);
+      for (int i = 0; i < count; i++)
+      {
+        if (offsets[i] < 0 || lengths[i] < 0 || offsets[i] > values.limit() - lengths[i])
+        {
+          throw new IOException("Invalid snapshot entry: " + names[i]);
+        }
+        ByteBuffer value = values.duplicate();
+        value.position(offsets[i]);
+        value.limit(offsets[i] + lengths[i]);
+        entries.put(names[i], new Entry(fileLengths[i], fileLastModifiedTimes[i], value.slice()));
+      }
+      return entries;
+    }
+    catch (RuntimeException e)
+    {
+      // e.g. a BufferUnderflowException for a truncated index
+      throw new IOException("Invalid snapshot file: " + snapshotFile, e);
+    }
+  }
+
+  /**
+   * Writes the snapshot of the given JSON files to a temporary file next to the snapshot, which then replaces the
+   * snapshot with {@link #replace(File, File)}. The files which cannot be read or are not JSON are left out of the
+   * snapshot.
+   *
+   * @param propertyFiles the JSON files by property name.
+   * @return the temporary file.
+   */
+  static File writeTmpFile(File snapshotFile, Map<String, File> propertyFiles) throws IOException
+  {
+    ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+    DataOutputStream index = new DataOutputStream(indexBytes);
+    ByteArrayOutputStream values = new ByteArrayOutputStream();
+    int count = 0;
+
+    for (Map.Entry<String, File> propertyFile : propertyFiles.entrySet())
+    {
+      File file = propertyFile.getValue();
+      byte[] name = propertyFile.getKey().getBytes(StandardCharsets.UTF_8);
+      byte[] value;
+      // Read the metadata first, so that a change of the file while it is read is detected on load
+      long fileLength = file.length();
+      long fileLastModified = file.lastModified();
+      try
+      {
+        JsonNode json = JacksonUtil.getObjectMapper().readTree(Files.readAllBytes(file.toPath()));
+        value = SMILE_MAPPER.writeValueAsBytes(json);
+      }
+      catch (IOException e)
+      {
+        warn(_log, "leaving file out of snapshot: ", file, ", error: ", e);
+        continue;
+      }
+      if (name.length > 0xFFFF)
+      {
+        warn(_log, "leaving file with too long name out of snapshot: ", file);
+        continue;
+      }
+
+      index.writeShort(name.length);
+      index.write(name);
+      index.writeLong(fileLength);
+      index.writeLong(fileLastModified);
+      index.writeInt(values.size());
+      index.writeInt(value.length);
+      values.write(value);
+      count++;
+    }
+    index.flush();
+
+    CRC32 crc = new CRC32();
+    crc.update(indexBytes.toByteArray());
+    crc.update(values.toByteArray());
+
+    File directory = snapshotFile.getAbsoluteFile().getParentFile();
+    File tmpFile = File.createTempFile(TMP_FILE_PREFIX, ".tmp", directory);
+    try (OutputStream outputStream = new FileOutputStream(tmpFile))
+    {
+      DataOutputStream output = new DataOutputStream(outputStream);
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeInt(count);
+      output.writeLong(crc.getValue());
+      indexBytes.writeTo(output);
+      values.writeTo(output);
+      output.flush();
+    }
+    catch (IOException e)
+    {
+      deleteTmpFile(tmpFile);
+      throw e;
+    }
+    return tmpFile;
+  }
+
+  /**
+   * Replaces the snapshot atomically with the given temporary file.
+   */
+  static void replace(File tmpFile, File snapshotFile) throws IOException
+  {
+    Files.move(tmpFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Deletes the given temporary file, if it has not replaced the snapshot.
+   */
+  static void deleteTmpFile(File tmpFile)
+  {
+    try
+    {
+      Files.deleteIfExists(tmpFile.toPath());
+    }
+    catch (IOException e)
+    {
+      warn(_log, "unable to delete temporary snapshot file: ", tmpFile, ", error: ", e);
+    }
+  }
+}
@@ -216,7 +216,8 @@ public class LastSeenZKStore<T> implements PropertyEventPublisher<T>
         }, "This message will never be used, even in case of timeout, no exception should be passed up");
 
     // make warmup requests through requests throttler
-    List<String> fileListWithoutExtension = new ArrayList<>(_fsStore.getAll().keySet());
+    // the properties are read by startPublishing, which is invoked by the throttler
+    List<String> fileListWithoutExtension = new ArrayList<>(_fsStore.getPropertyNames());
     PropertyEventBusRequestsThrottler<T> throttler =
         new PropertyEventBusRequestsThrottler<>(_zkToFsBus, _zkBusUpdaterSubscriber, fileListWithoutExtension,
             _concurrentRequests, true);
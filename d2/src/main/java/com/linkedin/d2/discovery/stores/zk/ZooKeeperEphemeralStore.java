@@ -707,6 +707,8 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
   {
     // map from child to its data
     private final Map<String, T> _childrenMap = new HashMap<>();
+    // merge of the data of _childrenMap, which is updated with the children that change
+    private ZooKeeperPropertyMerger.IncrementalMerge<T> _childrenMerge;
 
     // property that is being watched
     private final String _prop;
@@ -725,6 +727,7 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
     {
       _prop = prop;
       _propPath = getPath(prop);
+      _childrenMerge = _merger.newIncrementalMerge(prop);
     }
 
     @Override
@@ -832,7 +835,8 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
             emitSDStatusUpdateReceiptEvents(result, true);
           }
           _childrenMap.putAll(result);
-          T mergedProperty = _merger.merge(property, _childrenMap.values());
+          result.forEach(_childrenMerge::put);
+          T mergedProperty = _childrenMerge.getMergedProperty();
           reportDualReadData(property, mergedProperty);
 
           if (_fileStore != null)
@@ -862,6 +866,7 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
         if (_czxid != 0)
         {
           _childrenMap.clear();
+          _childrenMerge = _merger.newIncrementalMerge(_prop);
           if (_ephemeralNodesFilePath != null)
           {
             // The file structure for each children saved is: myBasePath/nodeWatchedProp/zkNodeId123/ephemeral-2
@@ -879,7 +884,9 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
           _fileStore = new FileStore<>(_ephemeralNodesFilePath + File.separator + _prop + File.separator
             + _czxid, FileSystemDirectory.FILE_STORE_EXTENSION, _serializer);
           _fileStore.start();
-          _childrenMap.putAll(_fileStore.getAll());
+          Map<String, T> savedChildren = _fileStore.getAll();
+          _childrenMap.putAll(savedChildren);
+          savedChildren.forEach(_childrenMerge::put);
         }
       }
     }
@@ -903,6 +910,7 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
       }
 
       oldChildren.forEach(_childrenMap::remove);
+      oldChildren.forEach(_childrenMerge::remove);
       if (_fileStore != null)
       {
         oldChildren.forEach(_fileStore::remove);
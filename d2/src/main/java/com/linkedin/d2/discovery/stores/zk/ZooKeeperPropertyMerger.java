@@ -17,6 +17,7 @@
 package com.linkedin.d2.discovery.stores.zk;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -33,4 +34,80 @@ public interface ZooKeeperPropertyMerger<T>
    * unmerge should return the String key of the propertiesToMerge containing the value to delete
    */
   String unmerge(String propertyName, T toDelete, Map<String, T> propertiesToMerge);
+
+  /**
+   * Returns a merge of the properties of the children of a node which is updated child by child, so that a merger
+   * which supports it can merge a change of a few children without merging all of them again. By default, all the
+   * children are merged again whenever the merged property is requested after a change.
+   */
+  default IncrementalMerge<T> newIncrementalMerge(String propertyName)
+  {
+    return new FullMerge<>(this, propertyName);
+  }
+
+  /**
+   * Merges the properties of children as they are put and removed. Not thread safe.
+   */
+  interface IncrementalMerge<T>
+  {
+    /**
+     * Adds or replaces the property of a child.
+     */
+    void put(String child, T property);
+
+    /**
+     * Removes the property of a child, if any.
+     */
+    void remove(String child);
+
+    /**
+     * @return the merge of the properties of the current children.
+     */
+    T getMergedProperty();
+  }
+
+  /**
+   * An {@link IncrementalMerge} which merges all the children again after any change.
+   */
+  class FullMerge<T> implements IncrementalMerge<T>
+  {
+    private final ZooKeeperPropertyMerger<T> _merger;
+    private final String _propertyName;
+    private final Map<String, T> _children = new HashMap<>();
+    private T _mergedProperty = null;
+    private boolean _changed = true;
+
+    public FullMerge(ZooKeeperPropertyMerger<T> merger, String propertyName)
+    {
+      _merger = merger;
+      _propertyName = propertyName;
+    }
+
+    @Override
+    public void put(String child, T property)
+    {
+      _children.put(child, property);
+      _changed = true;
+    }
+
+    @Override
+    public void remove(String child)
+    {
+      if (_children.remove(child) != null)
+      {
+        _changed = true;
+      }
+    }
+
+    @Override
+    public T getMergedProperty()
+    {
+      if (_changed)
+      {
+        _mergedProperty = _merger.merge(_propertyName, _children.values());
+        _changed = false;
+      }
+      return _mergedProperty;
+    }
+  }
 }
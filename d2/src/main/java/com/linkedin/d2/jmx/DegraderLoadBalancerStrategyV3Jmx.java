@@ -165,4 +165,11 @@ public class DegraderLoadBalancerStrategyV3Jmx implements DegraderLoadBalancerSt
 
     return avgLatency == 0 ? 0 : nthLatency / avgLatency;
   }
+
+  @Override
+  public String getConcurrencyLimits(int partitionId)
+  {
+    return RelativeLoadBalancerStrategyJmx.getConcurrencyLimits(
+        _strategy.getState().getPartitionState(partitionId).getTrackerClients());
+  }
 }
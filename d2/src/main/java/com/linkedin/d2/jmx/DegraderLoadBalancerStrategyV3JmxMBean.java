@@ -103,4 +103,12 @@ public interface DegraderLoadBalancerStrategyV3JmxMBean
    * @return the relative ratio between nth percentile latency and average cluster latency
    */
   double getNthPercentileLatencyRelativeFactor(double pct);
+
+  /**
+   *
+   * @param partitionId
+   * @return the adaptive concurrency limit, in-flight requests and rejected requests of the hosts whose concurrency
+   * is limited, by URI
+   */
+  String getConcurrencyLimits(int partitionId);
 }
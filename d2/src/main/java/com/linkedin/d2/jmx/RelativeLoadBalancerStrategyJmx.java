@@ -16,16 +16,21 @@
 
 package com.linkedin.d2.jmx;
 
+import com.linkedin.d2.balancer.clients.AdaptiveConcurrencyLimiter;
 import com.linkedin.d2.balancer.clients.TrackerClient;
 import com.linkedin.d2.balancer.strategies.LoadBalancerQuarantine;
+import com.linkedin.d2.balancer.strategies.relative.PartitionState;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.relative.StateUpdater;
 import com.linkedin.d2.balancer.strategies.relative.TrackerClientState;
 import com.linkedin.util.degrader.CallTracker;
 import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 
@@ -214,6 +219,31 @@ public class RelativeLoadBalancerStrategyJmx implements RelativeLoadBalancerStra
         .sum();
   }
 
+  @Override
+  public String getConcurrencyLimits(int partitionId)
+  {
+    PartitionState partitionState = _strategy.getPartitionState(partitionId);
+    if (partitionState == null)
+    {
+      return Collections.emptyMap().toString();
+    }
+    return getConcurrencyLimits(partitionState.getTrackerClientStateMap().keySet());
+  }
+
+  static String getConcurrencyLimits(Collection<? extends TrackerClient> trackerClients)
+  {
+    Map<URI, String> concurrencyLimits = new TreeMap<>();
+    for (TrackerClient trackerClient : trackerClients)
+    {
+      AdaptiveConcurrencyLimiter limiter = trackerClient.getConcurrencyLimiter();
+      if (limiter != null)
+      {
+        concurrencyLimits.put(trackerClient.getUri(), limiter.toString());
+      }
+    }
+    return concurrencyLimits.toString();
+  }
+
   static boolean hasTraffic(TrackerClient trackerClient)
   {
     CallTracker.CallStats stats = trackerClient.getCallTracker().getCallStats();
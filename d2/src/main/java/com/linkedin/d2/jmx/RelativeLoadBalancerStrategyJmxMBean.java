@@ -79,4 +79,11 @@ public interface RelativeLoadBalancerStrategyJmxMBean
    * @return number of total points in hash ring
    */
   int getTotalPointsInHashRing();
+
+  /**
+   *
+   * @return the adaptive concurrency limit, in-flight requests and rejected requests of the hosts whose concurrency
+   * is limited, by URI
+   */
+  String getConcurrencyLimits(int partitionId);
 }
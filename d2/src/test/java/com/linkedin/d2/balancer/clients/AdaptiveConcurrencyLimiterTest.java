@@ -0,0 +1,202 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.clients;
+
+import com.linkedin.util.clock.SettableClock;
+import com.linkedin.util.degrader.CallCompletion;
+import com.linkedin.util.degrader.ErrorType;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests {@link AdaptiveConcurrencyLimiter}.
+ */
+public class AdaptiveConcurrencyLimiterTest
+{
+  private static final CallCompletion NO_OP_COMPLETION = new CallCompletion()
+  {
+    @Override
+    public void record()
+    {
+    }
+
+    @Override
+    public void endCall()
+    {
+    }
+
+    @Override
+    public void endCallWithError()
+    {
+    }
+
+    @Override
+    public void endCallWithError(ErrorType errorType)
+    {
+    }
+  };
+
+  @Test
+  public void testRejectBeyondLimit()
+  {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new SettableClock(), 2, 1, 10);
+
+    Assert.assertTrue(limiter.tryAcquire());
+    CallCompletion callCompletion = limiter.track(NO_OP_COMPLETION);
+    Assert.assertTrue(limiter.tryAcquire());
+    limiter.track(NO_OP_COMPLETION);
+    Assert.assertTrue(limiter.isLimitReached());
+    Assert.assertFalse(limiter.tryAcquire());
+    Assert.assertEquals(limiter.getInFlight(), 2);
+    Assert.assertEquals(limiter.getRejectedCount(), 1);
+
+    callCompletion.endCallWithError();
+    // The permit is released only once
+    callCompletion.endCall();
+    Assert.assertEquals(limiter.getInFlight(), 1);
+    Assert.assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  public void testLimitGrowsWithStableLatency()
+  {
+    SettableClock clock = new SettableClock();
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(clock, 10, 1, 100);
+
+    for (int i = 0; i < 20; i++)
+    {
+      runSaturatedRound(limiter, clock, 10);
+    }
+    Assert.assertTrue(limiter.getLimit() > 10, "Limit: " + limiter.getLimit());
+    Assert.assertTrue(limiter.getLimit() <= 100, "Limit: " + limiter.getLimit());
+  }
+
+  @Test
+  public void testLimitShrinksWithLatencyInflation()
+  {
+    SettableClock clock = new SettableClock();
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(clock, 50, 1, 50);
+
+    for (int i = 0; i < 10; i++)
+    {
+      runSaturatedRound(limiter, clock, 10);
+    }
+    Assert.assertEquals(limiter.getLimit(), 50);
+
+    for (int i = 0; i < 3; i++)
+    {
+      runSaturatedRound(limiter, clock, 100);
+    }
+    Assert.assertTrue(limiter.getLimit() < 25, "Limit: " + limiter.getLimit());
+
+    // The limit grows back once the higher latency is the new normal
+    for (int i = 0; i < 20; i++)
+    {
+      runSaturatedRound(limiter, clock, 100);
+    }
+    Assert.assertEquals(limiter.getLimit(), 50);
+  }
+
+  @Test
+  public void testLimitUnchangedWhenNotSaturated()
+  {
+    SettableClock clock = new SettableClock();
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(clock, 20, 1, 100);
+
+    for (int i = 0; i < 100; i++)
+    {
+      Assert.assertTrue(limiter.tryAcquire());
+      CallCompletion callCompletion = limiter.track(NO_OP_COMPLETION);
+      clock.addDuration(i % 2 == 0 ? 10 : 1000);
+      callCompletion.endCall();
+    }
+    Assert.assertEquals(limiter.getLimit(), 20);
+  }
+
+  @Test
+  public void testRecordedTimeIsRoundTripTime()
+  {
+    SettableClock clock = new SettableClock();
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(clock, 10, 1, 10);
+
+    for (int i = 0; i < 10; i++)
+    {
+      runSaturatedRound(limiter, clock, 10);
+    }
+    // Streaming the responses takes long, but their headers are received as fast as before
+    for (int i = 0; i < 10; i++)
+    {
+      List<CallCompletion> callCompletions = acquireAll(limiter);
+      clock.addDuration(10);
+      callCompletions.forEach(CallCompletion::record);
+      clock.addDuration(1000);
+      callCompletions.forEach(CallCompletion::endCall);
+    }
+    Assert.assertEquals(limiter.getLimit(), 10);
+  }
+
+  @Test
+  public void testOnlyTimeoutsSampled()
+  {
+    SettableClock clock = new SettableClock();
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(clock, 50, 1, 50);
+
+    for (int i = 0; i < 10; i++)
+    {
+      runSaturatedRound(limiter, clock, 10);
+    }
+    for (int i = 0; i < 10; i++)
+    {
+      List<CallCompletion> callCompletions = acquireAll(limiter);
+      clock.addDuration(1000);
+      callCompletions.forEach(callCompletion -> callCompletion.endCallWithError(ErrorType.SERVER_ERROR));
+    }
+    Assert.assertEquals(limiter.getLimit(), 50);
+    Assert.assertEquals(limiter.getInFlight(), 0);
+
+    for (int i = 0; i < 3; i++)
+    {
+      List<CallCompletion> callCompletions = acquireAll(limiter);
+      clock.addDuration(1000);
+      callCompletions.forEach(callCompletion -> callCompletion.endCallWithError(ErrorType.TIMEOUT_EXCEPTION));
+    }
+    Assert.assertTrue(limiter.getLimit() < 25, "Limit: " + limiter.getLimit());
+  }
+
+  /**
+   * Sends as many calls as the limit allows, which all take the given latency.
+   */
+  private static void runSaturatedRound(AdaptiveConcurrencyLimiter limiter, SettableClock clock, long latency)
+  {
+    List<CallCompletion> callCompletions = acquireAll(limiter);
+    clock.addDuration(latency);
+    callCompletions.forEach(CallCompletion::endCall);
+  }
+
+  private static List<CallCompletion> acquireAll(AdaptiveConcurrencyLimiter limiter)
+  {
+    List<CallCompletion> callCompletions = new ArrayList<>();
+    while (limiter.tryAcquire())
+    {
+      callCompletions.add(limiter.track(NO_OP_COMPLETION));
+    }
+    return callCompletions;
+  }
+}
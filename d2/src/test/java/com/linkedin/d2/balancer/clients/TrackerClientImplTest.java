@@ -1,8 +1,23 @@
 package com.linkedin.d2.balancer.clients;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.RetriableRequestException;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.transport.common.bridge.client.TransportClient;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import com.linkedin.util.clock.SettableClock;
 import com.linkedin.util.clock.SystemClock;
 
 import org.junit.Assert;
@@ -28,4 +43,46 @@ public class TrackerClientImplTest
 
     Assert.assertEquals(_trackerClient.doNotLoadBalance(), doNotLoadBalance);
   }
+
+  @Test
+  public void testConcurrencyLimitReached()
+  {
+    List<TransportCallback<RestResponse>> callbacks = new ArrayList<>();
+    TransportClient transportClient = new TransportClient()
+    {
+      @Override
+      public void restRequest(RestRequest request, RequestContext requestContext,
+          Map<String, String> wireAttrs, TransportCallback<RestResponse> callback)
+      {
+        callbacks.add(callback);
+      }
+
+      @Override
+      public void shutdown(Callback<None> callback)
+      {
+      }
+    };
+    SettableClock clock = new SettableClock();
+    _trackerClient = new TrackerClientImpl(URI.create("uri"), new HashMap<>(), transportClient, clock, 1000, (test) -> false);
+    _trackerClient.setConcurrencyLimiter(new AdaptiveConcurrencyLimiter(clock, 1, 1, 1));
+
+    DegraderTrackerClientTest.TestTransportCallback<RestResponse> callback1 = new DegraderTrackerClientTest.TestTransportCallback<>();
+    _trackerClient.restRequest(new RestRequestBuilder(URI.create("uri")).build(), new RequestContext(), new HashMap<>(), callback1);
+    Assert.assertEquals(callbacks.size(), 1);
+
+    // The second request fails fast without being sent, nor tracked
+    DegraderTrackerClientTest.TestTransportCallback<RestResponse> callback2 = new DegraderTrackerClientTest.TestTransportCallback<>();
+    _trackerClient.restRequest(new RestRequestBuilder(URI.create("uri")).build(), new RequestContext(), new HashMap<>(), callback2);
+    Assert.assertEquals(callbacks.size(), 1);
+    Assert.assertTrue(callback2.response.getError() instanceof RetriableRequestException);
+    Assert.assertEquals(_trackerClient.getCallTracker().getCurrentConcurrency(), 1);
+    Assert.assertEquals(_trackerClient.getConcurrencyLimiter().getRejectedCount(), 1);
+
+    callbacks.get(0).onResponse(TransportResponseImpl.success(new RestResponseBuilder().build()));
+    Assert.assertFalse(callback1.response.hasError());
+    Assert.assertEquals(_trackerClient.getConcurrencyLimiter().getInFlight(), 0);
+
+    _trackerClient.restRequest(new RestRequestBuilder(URI.create("uri")).build(), new RequestContext(), new HashMap<>(), callback2);
+    Assert.assertEquals(callbacks.size(), 2);
+  }
 }
@@ -0,0 +1,117 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.properties;
+
+import com.linkedin.d2.discovery.stores.zk.ZooKeeperPropertyMerger.IncrementalMerge;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class UriPropertiesMergerTest
+{
+  private static final String CLUSTER_NAME = "testCluster";
+
+  private final UriPropertiesMerger _merger = new UriPropertiesMerger();
+
+  @Test
+  public void testIncrementalMergeChangedUris()
+  {
+    IncrementalMerge<UriProperties> merge = _merger.newIncrementalMerge(CLUSTER_NAME);
+    merge.put("child1", newUriProperties("http://host1:1234", 0, 1));
+    merge.put("child2", newUriProperties("http://host2:1234", 0));
+    UriProperties first = merge.getMergedProperty();
+    Assert.assertEquals(first.Uris().size(), 2);
+    Assert.assertEquals(first.getUriBySchemeAndPartition("http", 1), Collections.singleton(URI.create("http://host1:1234")));
+    Assert.assertSame(merge.getMergedProperty(), first);
+
+    merge.remove("child2");
+    merge.put("child3", newUriProperties("http://host3:1234", 0));
+    UriProperties second = merge.getMergedProperty();
+    Assert.assertEquals(second.getChangedUrisSince(first),
+        new HashSet<>(Arrays.asList(URI.create("http://host2:1234"), URI.create("http://host3:1234"))));
+    Assert.assertNull(second.getChangedUrisSince(second));
+    Assert.assertNull(first.getChangedUrisSince(null));
+  }
+
+  @Test
+  public void testDuplicateUri()
+  {
+    IncrementalMerge<UriProperties> merge = _merger.newIncrementalMerge(CLUSTER_NAME);
+    merge.put("child1", newUriProperties("http://host1:1234", 0));
+    merge.put("child2", newUriProperties("http://host1:1234", 1));
+    Assert.assertEquals(merge.getMergedProperty().getUriBySchemeAndPartition("http", 1).size(), 1);
+    Assert.assertNull(merge.getMergedProperty().getUriBySchemeAndPartition("http", 0));
+
+    // The uri is still announced by the first child
+    merge.remove("child2");
+    Assert.assertEquals(merge.getMergedProperty().getUriBySchemeAndPartition("http", 0).size(), 1);
+    Assert.assertNull(merge.getMergedProperty().getUriBySchemeAndPartition("http", 1));
+
+    merge.remove("child1");
+    Assert.assertTrue(merge.getMergedProperty().Uris().isEmpty());
+    Assert.assertEquals(merge.getMergedProperty(), _merger.merge(CLUSTER_NAME, Collections.emptyList()));
+  }
+
+  @Test
+  public void testIncrementalMergeEqualsFullMerge()
+  {
+    Random random = new Random(1);
+    IncrementalMerge<UriProperties> merge = _merger.newIncrementalMerge(CLUSTER_NAME);
+    Map<String, UriProperties> children = new HashMap<>();
+    for (int i = 0; i < 1000; i++)
+    {
+      String child = "child" + random.nextInt(50);
+      if (random.nextInt(3) == 0)
+      {
+        merge.remove(child);
+        children.remove(child);
+      }
+      else
+      {
+        // Distinct children announce distinct uris, so that the full merge does not depend on the iteration order
+        String scheme = random.nextBoolean() ? "http" : "https";
+        UriProperties property = newUriProperties(scheme + "://" + child + ":1234", random.nextInt(3), random.nextInt(3));
+        merge.put(child, property);
+        children.put(child, property);
+      }
+      if (random.nextInt(5) == 0)
+      {
+        Assert.assertEquals(merge.getMergedProperty(), _merger.merge(CLUSTER_NAME, children.values()));
+      }
+    }
+    Assert.assertEquals(merge.getMergedProperty(), _merger.merge(CLUSTER_NAME, children.values()));
+  }
+
+  private static UriProperties newUriProperties(String uri, int... partitionIds)
+  {
+    Map<Integer, PartitionData> partitions = new HashMap<>();
+    for (int partitionId : partitionIds)
+    {
+      partitions.put(partitionId, new PartitionData(1d));
+    }
+    Map<URI, Map<String, Object>> uriSpecificProperties = new HashMap<>();
+    uriSpecificProperties.put(URI.create(uri), Collections.singletonMap("key", partitionIds.length));
+    return new UriProperties(CLUSTER_NAME, Collections.singletonMap(URI.create(uri), partitions), uriSpecificProperties);
+  }
+}
@@ -27,6 +27,7 @@ import com.linkedin.d2.balancer.LoadBalancerStateItem;
 import com.linkedin.d2.balancer.LoadBalancerTestState;
 import com.linkedin.d2.balancer.PartitionedLoadBalancerTestState;
 import com.linkedin.d2.balancer.ServiceUnavailableException;
+import com.linkedin.d2.balancer.clients.AdaptiveConcurrencyLimiter;
 import com.linkedin.d2.balancer.clients.DegraderTrackerClient;
 import com.linkedin.d2.balancer.clients.RewriteClient;
 import com.linkedin.d2.balancer.clients.RewriteLoadBalancerClient;
@@ -951,6 +952,109 @@ public class SimpleLoadBalancerTest
     }
   }
 
+  /**
+   * Tests getClient() when the host picked by the strategy has reached its adaptive concurrency limit.
+   */
+  @Test
+  public void testGetClientWithConcurrencyLimitedHost() throws Exception
+  {
+    Map<String, LoadBalancerStrategyFactory<? extends LoadBalancerStrategy>> loadBalancerStrategyFactories =
+        new HashMap<>();
+    Map<String, TransportClientFactory> clientFactories = new HashMap<>();
+    List<String> prioritizedSchemes = new ArrayList<>();
+
+    MockStore<ServiceProperties> serviceRegistry = new MockStore<>();
+    MockStore<ClusterProperties> clusterRegistry = new MockStore<>();
+    MockStore<UriProperties> uriRegistry = new MockStore<>();
+
+    ScheduledExecutorService executorService = new SynchronousExecutorService();
+
+    loadBalancerStrategyFactories.put("degrader", new DegraderLoadBalancerStrategyFactoryV3());
+    clientFactories.put(PropertyKeys.HTTP_SCHEME, new DoNothingClientFactory());
+
+    SimpleLoadBalancerState state =
+        new SimpleLoadBalancerState(executorService,
+            uriRegistry,
+            clusterRegistry,
+            serviceRegistry,
+            clientFactories,
+            loadBalancerStrategyFactories);
+
+    SimpleLoadBalancer loadBalancer =
+      new SimpleLoadBalancer(state, 5, TimeUnit.SECONDS, _d2Executor);
+
+    FutureCallback<None> balancerCallback = new FutureCallback<>();
+    loadBalancer.start(balancerCallback);
+    balancerCallback.get();
+
+    URI uri1Limited = URI.create("http://test.qd.com:1234");
+    URI uri2Usable = URI.create("http://test.qd.com:5678");
+    Map<Integer, PartitionData> partitionData = new HashMap<>(1);
+    partitionData.put(DEFAULT_PARTITION_ID, new PartitionData(1d));
+    Map<URI, Map<Integer, PartitionData>> uriData = new HashMap<>(2);
+    uriData.put(uri1Limited, partitionData);
+    uriData.put(uri2Usable, partitionData);
+
+    prioritizedSchemes.add(PropertyKeys.HTTP_SCHEME);
+
+    clusterRegistry.put("cluster-1", new ClusterProperties("cluster-1"));
+
+    // a limit of one in-flight request per host
+    serviceRegistry.put("foo", new ServiceProperties("foo",
+        "cluster-1",
+        "/foo", Collections.singletonList("degrader"),
+        Collections.<String,Object>singletonMap(PropertyKeys.HTTP_LB_ADAPTIVE_CONCURRENCY_MAX_LIMIT, "1"),
+        null,
+        null,
+        prioritizedSchemes,
+        null));
+    uriRegistry.put("cluster-1", new UriProperties("cluster-1", uriData));
+
+    URIRequest uriRequest = new URIRequest("d2://foo/52");
+    // listens to the service, which creates the tracker clients
+    loadBalancer.getClient(uriRequest, new RequestContext());
+
+    AdaptiveConcurrencyLimiter limiter1 = state.getClient("foo", uri1Limited).getConcurrencyLimiter();
+    AdaptiveConcurrencyLimiter limiter2 = state.getClient("foo", uri2Usable).getConcurrencyLimiter();
+    Assert.assertNotNull(limiter1);
+    Assert.assertNotNull(limiter2);
+    Assert.assertTrue(limiter1.tryAcquire());
+    Assert.assertTrue(limiter1.isLimitReached());
+
+    // the strategy picks hosts at random, the limited host is never returned, and is excluded from retries when it
+    // was picked first
+    URI expectedUri = URI.create("http://test.qd.com:5678/foo");
+    int repicks = 0;
+    for (int i = 0; i < 100; ++i)
+    {
+      RequestContext requestContext = new RequestContext();
+      RewriteLoadBalancerClient client =
+          (RewriteLoadBalancerClient) loadBalancer.getClient(uriRequest, requestContext);
+      Assert.assertEquals(client.getUri(), expectedUri);
+      Set<URI> excludedHosts = LoadBalancerStrategy.ExcludedHostHints.getRequestContextExcludedHosts(requestContext);
+      Assert.assertTrue(excludedHosts.contains(uri2Usable));
+      if (excludedHosts.contains(uri1Limited))
+      {
+        repicks++;
+      }
+    }
+    Assert.assertTrue(repicks > 0);
+
+    // when every host is limited, the request still gets a host, and every host is excluded from retries
+    Assert.assertTrue(limiter2.tryAcquire());
+    RequestContext allLimitedContext = new RequestContext();
+    Assert.assertNotNull(loadBalancer.getClient(uriRequest, allLimitedContext));
+    Assert.assertEquals(LoadBalancerStrategy.ExcludedHostHints.getRequestContextExcludedHosts(allLimitedContext),
+        new HashSet<>(Arrays.asList(uri1Limited, uri2Usable)));
+
+    // a request with a target host hint is not re-routed
+    RequestContext targetHostContext = new RequestContext();
+    KeyMapper.TargetHostHints.setRequestContextTargetHost(targetHostContext, uri1Limited);
+    RewriteLoadBalancerClient targetHostClient =
+        (RewriteLoadBalancerClient) loadBalancer.getClient(uriRequest, targetHostContext);
+    Assert.assertEquals(targetHostClient.getUri(), URI.create("http://test.qd.com:1234/foo"));
+  }
+
   /**
    * This tests getClient(). When TargetHints and scheme does not match, throw ServiceUnavailableException
    */
@@ -0,0 +1,159 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.simple;
+
+import com.linkedin.d2.balancer.LoadBalancerStateItem;
+import com.linkedin.d2.balancer.clients.TrackerClient;
+import com.linkedin.d2.balancer.properties.PartitionData;
+import com.linkedin.d2.balancer.properties.UriProperties;
+import com.linkedin.d2.balancer.properties.UriPropertiesMerger;
+import com.linkedin.d2.discovery.event.PropertyEventBus;
+import com.linkedin.d2.discovery.stores.zk.ZooKeeperPropertyMerger.IncrementalMerge;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Test the behavior of {@link UriLoadBalancerSubscriber}
+ */
+public class UriLoadBalancerSubscriberTest
+{
+  private static final String CLUSTER_NAME = "testCluster";
+  private static final String SERVICE_NAME = "testService";
+  private static final URI URI_1 = URI.create("http://host1:1234");
+  private static final URI URI_2 = URI.create("http://host2:1234");
+  private static final URI URI_3 = URI.create("http://host3:1234");
+
+  private static final class UriLoadBalancerSubscriberFixture
+  {
+    @Mock
+    SimpleLoadBalancerState _simpleLoadBalancerState;
+    @Mock
+    PropertyEventBus<UriProperties> _eventBus;
+
+    Map<String, LoadBalancerStateItem<UriProperties>> _uriProperties = new HashMap<>();
+    Map<String, Map<URI, TrackerClient>> _trackerClients = new HashMap<>();
+
+    UriLoadBalancerSubscriberFixture()
+    {
+      MockitoAnnotations.initMocks(this);
+      when(_simpleLoadBalancerState.getVersionAccess()).thenReturn(new AtomicLong(0));
+      when(_simpleLoadBalancerState.getListeners()).thenReturn(Collections.emptyList());
+      when(_simpleLoadBalancerState.getServicesPerCluster()).thenReturn(
+          Collections.singletonMap(CLUSTER_NAME, Collections.singleton(SERVICE_NAME)));
+      when(_simpleLoadBalancerState.getTrackerClients()).thenReturn(_trackerClients);
+      when(_simpleLoadBalancerState.getUriProperties()).thenReturn(_uriProperties);
+      when(_simpleLoadBalancerState.getUriProperties(CLUSTER_NAME)).thenAnswer(
+          invocation -> _uriProperties.get(CLUSTER_NAME));
+      when(_simpleLoadBalancerState.buildTrackerClient(any(URI.class), any(UriProperties.class), eq(SERVICE_NAME)))
+          .thenAnswer(invocation ->
+          {
+            URI uri = (URI) invocation.getArguments()[0];
+            UriProperties uriProperties = (UriProperties) invocation.getArguments()[1];
+            TrackerClient client = mock(TrackerClient.class);
+            when(client.getUri()).thenReturn(uri);
+            when(client.getPartitionDataMap()).thenReturn(uriProperties.getPartitionDataMap(uri));
+            return client;
+          });
+    }
+
+    UriLoadBalancerSubscriber getSubscriber()
+    {
+      return new UriLoadBalancerSubscriber(_eventBus, _simpleLoadBalancerState);
+    }
+
+    Map<URI, TrackerClient> getTrackerClients()
+    {
+      return _trackerClients.get(SERVICE_NAME);
+    }
+  }
+
+  @Test
+  public void testIncrementalUpdates()
+  {
+    UriLoadBalancerSubscriberFixture fixture = new UriLoadBalancerSubscriberFixture();
+    UriLoadBalancerSubscriber subscriber = fixture.getSubscriber();
+    IncrementalMerge<UriProperties> merge = new UriPropertiesMerger().newIncrementalMerge(CLUSTER_NAME);
+
+    merge.put("child1", newUriProperties(URI_1, 1d));
+    merge.put("child2", newUriProperties(URI_2, 1d));
+    subscriber.handlePut(CLUSTER_NAME, merge.getMergedProperty());
+    Assert.assertEquals(fixture.getTrackerClients().keySet(), new HashSet<>(Arrays.asList(URI_1, URI_2)));
+    TrackerClient client1 = fixture.getTrackerClients().get(URI_1);
+    TrackerClient client2 = fixture.getTrackerClients().get(URI_2);
+
+    // Add: only the tracker client of the added uri is built
+    merge.put("child3", newUriProperties(URI_3, 1d));
+    subscriber.handlePut(CLUSTER_NAME, merge.getMergedProperty());
+    Assert.assertEquals(fixture.getTrackerClients().keySet(), new HashSet<>(Arrays.asList(URI_1, URI_2, URI_3)));
+    verify(fixture._simpleLoadBalancerState, times(1)).buildTrackerClient(eq(URI_1), any(UriProperties.class),
+        eq(SERVICE_NAME));
+
+    // Reweight: the tracker client of the uri is rebuilt with its new partition data
+    merge.put("child1", newUriProperties(URI_1, 2d));
+    subscriber.handlePut(CLUSTER_NAME, merge.getMergedProperty());
+    Assert.assertNotSame(fixture.getTrackerClients().get(URI_1), client1);
+    Assert.assertEquals(fixture.getTrackerClients().get(URI_1).getPartitionDataMap(),
+        merge.getMergedProperty().getPartitionDataMap(URI_1));
+    Assert.assertSame(fixture.getTrackerClients().get(URI_2), client2);
+
+    // Remove
+    merge.remove("child2");
+    subscriber.handlePut(CLUSTER_NAME, merge.getMergedProperty());
+    Assert.assertEquals(fixture.getTrackerClients().keySet(), new HashSet<>(Arrays.asList(URI_1, URI_3)));
+    verify(fixture._simpleLoadBalancerState, times(1)).buildTrackerClient(eq(URI_2), any(UriProperties.class),
+        eq(SERVICE_NAME));
+  }
+
+  @Test
+  public void testOutOfSyncTrackerClientsFallBackToFullUpdate()
+  {
+    UriLoadBalancerSubscriberFixture fixture = new UriLoadBalancerSubscriberFixture();
+    UriLoadBalancerSubscriber subscriber = fixture.getSubscriber();
+    IncrementalMerge<UriProperties> merge = new UriPropertiesMerger().newIncrementalMerge(CLUSTER_NAME);
+
+    merge.put("child1", newUriProperties(URI_1, 1d));
+    merge.put("child2", newUriProperties(URI_2, 1d));
+    subscriber.handlePut(CLUSTER_NAME, merge.getMergedProperty());
+
+    // A tracker client left over for a uri which is not announced anymore
+    fixture.getTrackerClients().put(URI.create("http://stale:1234"), mock(TrackerClient.class));
+
+    merge.put("child3", newUriProperties(URI_3, 1d));
+    subscriber.handlePut(CLUSTER_NAME, merge.getMergedProperty());
+    Assert.assertEquals(fixture.getTrackerClients().keySet(), new HashSet<>(Arrays.asList(URI_1, URI_2, URI_3)));
+  }
+
+  private static UriProperties newUriProperties(URI uri, double weight)
+  {
+    return new UriProperties(CLUSTER_NAME,
+        Collections.singletonMap(uri, Collections.singletonMap(0, new PartitionData(weight))));
+  }
+}
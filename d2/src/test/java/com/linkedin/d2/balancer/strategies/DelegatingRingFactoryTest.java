@@ -175,6 +175,35 @@ public class DelegatingRingFactoryTest
     }
   }
 
+  @Test(groups = { "small", "back-end" })
+  public void testIncrementalRingUpdates()
+  {
+    Random random = new Random(12345);
+    Map<String, Integer> pointsMp = buildPointsMap(20);
+
+    PointBasedConsistentHashRingFactory<String> ringFactory = new PointBasedConsistentHashRingFactory<>(new DegraderLoadBalancerStrategyConfig(1L));
+    ringFactory.createRing(pointsMp);
+
+    for (int i = 0; i < 50; ++i) {
+      // remove, add and reweight a few hosts
+      pointsMp.remove("http://test.linkedin.com:" + 1000 + random.nextInt(25));
+      pointsMp.put("http://test.linkedin.com:" + 1000 + random.nextInt(25), random.nextInt(200));
+      pointsMp.put("http://test.linkedin.com:" + 1000 + random.nextInt(25), random.nextInt(200));
+
+      ConsistentHashRing<String> ring = (ConsistentHashRing<String>) ringFactory.createRing(pointsMp);
+      ConsistentHashRing<String> expectedRing =
+          (ConsistentHashRing<String>) new PointBasedConsistentHashRingFactory<String>(new DegraderLoadBalancerStrategyConfig(1L)).createRing(pointsMp);
+      assertEquals(ring.getPoints(), expectedRing.getPoints());
+    }
+
+    // A host added with no points, then removed
+    pointsMp.put("http://test.linkedin.com:2000", 0);
+    ConsistentHashRing<String> ring = (ConsistentHashRing<String>) ringFactory.createRing(pointsMp);
+    pointsMp.remove("http://test.linkedin.com:2000");
+    ConsistentHashRing<String> ringAfterRemoval = (ConsistentHashRing<String>) ringFactory.createRing(pointsMp);
+    assertEquals(ringAfterRemoval.getPoints(), ring.getPoints());
+  }
+
   @Test(groups = { "small", "back-end" })
   public void testFactoryWithNoneHashConfig() {
     RingFactory<String> factory = new DelegatingRingFactory<>(configBuilder(null, null));
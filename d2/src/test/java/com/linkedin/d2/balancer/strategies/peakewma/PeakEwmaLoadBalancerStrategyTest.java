@@ -0,0 +1,213 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.strategies.peakewma;
+
+import com.linkedin.d2.balancer.KeyMapper;
+import com.linkedin.d2.balancer.clients.TrackerClient;
+import com.linkedin.d2.balancer.clients.TrackerClientImpl;
+import com.linkedin.d2.balancer.properties.PartitionData;
+import com.linkedin.d2.balancer.properties.PropertyKeys;
+import com.linkedin.d2.balancer.properties.ServiceProperties;
+import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
+import com.linkedin.d2.balancer.util.partitions.DefaultPartitionAccessor;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.util.clock.SettableClock;
+import com.linkedin.util.degrader.CallCompletion;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class PeakEwmaLoadBalancerStrategyTest
+{
+  private static final int PARTITION_ID = DefaultPartitionAccessor.DEFAULT_PARTITION_ID;
+  private static final long DECAY_TIME_MS = 1000L;
+
+  private final SettableClock _clock = new SettableClock();
+
+  @Test
+  public void testPeakEwmaLatency()
+  {
+    TrackerClient trackerClient = createTrackerClient("http://host1/test");
+    PeakEwmaLoad load = new PeakEwmaLoad(trackerClient.getCallTracker(), _clock, DECAY_TIME_MS);
+    load.start();
+
+    Assert.assertEquals(load.getLoad(), 0.0);
+    CallCompletion completion = trackerClient.getCallTracker().startCall();
+    // The latency is unknown until the first call ends
+    Assert.assertEquals(load.getLoad(), PeakEwmaLoad.UNKNOWN_LATENCY_LOAD);
+    _clock.addDuration(10);
+    completion.endCall();
+    Assert.assertEquals(load.getLatency(), 10.0);
+
+    // A peak replaces the average right away
+    call(trackerClient, 100);
+    Assert.assertEquals(load.getLatency(), 100.0);
+
+    // Lower latencies are averaged in with a weight which decays with the time since the previous call
+    call(trackerClient, 10);
+    Assert.assertEquals(load.getLatency(), 10 + 90 * Math.exp(-10.0 / DECAY_TIME_MS), 0.001);
+    double latency = load.getLatency();
+    Assert.assertEquals(load.getLoad(), latency, 0.001);
+
+    // The load grows with the outstanding calls, and decays while no call ends
+    trackerClient.getCallTracker().startCall();
+    Assert.assertEquals(load.getLoad(), latency * 2, 0.001);
+    _clock.addDuration(DECAY_TIME_MS);
+    Assert.assertEquals(load.getLoad(), latency * 2 * Math.exp(-1), 0.001);
+
+    // A failed call counts as a slower call, up to the decay time
+    trackerClient.getCallTracker().startCall().endCallWithError();
+    Assert.assertEquals(load.getLatency(), latency * PeakEwmaLoad.ERROR_LATENCY_FACTOR, 0.001);
+    for (int i = 0; i < 10; i++)
+    {
+      trackerClient.getCallTracker().startCall().endCallWithError();
+    }
+    Assert.assertEquals(load.getLatency(), (double) DECAY_TIME_MS);
+
+    load.stop();
+    call(trackerClient, 2 * DECAY_TIME_MS);
+    Assert.assertEquals(load.getLatency(), (double) DECAY_TIME_MS);
+  }
+
+  @Test
+  public void testAvoidSlowHost()
+  {
+    PeakEwmaLoadBalancerStrategy strategy = new PeakEwmaLoadBalancerStrategy(_clock, DECAY_TIME_MS);
+    TrackerClient fastClient = createTrackerClient("http://host1/test");
+    TrackerClient slowClient = createTrackerClient("http://host2/test");
+    Map<URI, TrackerClient> trackerClients = createTrackerClientMap(fastClient, slowClient);
+
+    // Both hosts are tried once their latency is known
+    Assert.assertNotNull(strategy.getTrackerClient(null, new RequestContext(), 0, PARTITION_ID, trackerClients));
+    call(fastClient, 5);
+    call(slowClient, 500);
+
+    for (int i = 0; i < 100; i++)
+    {
+      Assert.assertEquals(strategy.getTrackerClient(null, new RequestContext(), 0, PARTITION_ID, trackerClients),
+          fastClient);
+    }
+
+    // The slow host is preferred once the fast one has too many outstanding calls
+    for (int i = 0; i < 200; i++)
+    {
+      fastClient.getCallTracker().startCall();
+    }
+    Assert.assertEquals(strategy.getTrackerClient(null, new RequestContext(), 0, PARTITION_ID, trackerClients),
+        slowClient);
+  }
+
+  @Test
+  public void testExcludedAndTargetHosts()
+  {
+    PeakEwmaLoadBalancerStrategy strategy = new PeakEwmaLoadBalancerStrategy(_clock, DECAY_TIME_MS);
+    TrackerClient fastClient = createTrackerClient("http://host1/test");
+    TrackerClient slowClient = createTrackerClient("http://host2/test");
+    Map<URI, TrackerClient> trackerClients = createTrackerClientMap(fastClient, slowClient);
+    strategy.getTrackerClient(null, new RequestContext(), 0, PARTITION_ID, trackerClients);
+    call(fastClient, 5);
+    call(slowClient, 500);
+
+    // The chosen host is excluded from the retries of the request
+    RequestContext requestContext = new RequestContext();
+    Assert.assertEquals(strategy.getTrackerClient(null, requestContext, 0, PARTITION_ID, trackerClients), fastClient);
+    Assert.assertEquals(strategy.getTrackerClient(null, requestContext, 0, PARTITION_ID, trackerClients), slowClient);
+    Assert.assertNull(strategy.getTrackerClient(null, requestContext, 0, PARTITION_ID, trackerClients));
+
+    requestContext = new RequestContext();
+    KeyMapper.TargetHostHints.setRequestContextTargetHost(requestContext, slowClient.getUri());
+    Assert.assertEquals(strategy.getTrackerClient(null, requestContext, 0, PARTITION_ID, trackerClients), slowClient);
+    Assert.assertEquals(LoadBalancerStrategy.ExcludedHostHints.getRequestContextExcludedHosts(requestContext),
+        Collections.singleton(slowClient.getUri()));
+  }
+
+  @Test
+  public void testHostChanges()
+  {
+    PeakEwmaLoadBalancerStrategy strategy = new PeakEwmaLoadBalancerStrategy(_clock, DECAY_TIME_MS);
+    TrackerClient client1 = createTrackerClient("http://host1/test");
+    TrackerClient client2 = createTrackerClient("http://host2/test");
+    TrackerClient client3 = createTrackerClient("http://host3/test");
+
+    strategy.getTrackerClient(null, new RequestContext(), 0, PARTITION_ID, createTrackerClientMap(client1, client2));
+    PeakEwmaLoad load1 = strategy.getLoad(PARTITION_ID, client1);
+    PeakEwmaLoad load2 = strategy.getLoad(PARTITION_ID, client2);
+    Assert.assertNotNull(load1);
+    Assert.assertNotNull(load2);
+
+    // The loads of the remaining hosts are kept, and the removed hosts are no longer tracked
+    strategy.getTrackerClient(null, new RequestContext(), 1, PARTITION_ID, createTrackerClientMap(client1, client3));
+    Assert.assertSame(strategy.getLoad(PARTITION_ID, client1), load1);
+    Assert.assertNull(strategy.getLoad(PARTITION_ID, client2));
+    Assert.assertNotNull(strategy.getLoad(PARTITION_ID, client3));
+    call(client2, 100);
+    Assert.assertEquals(load2.getLatency(), 0.0);
+
+    strategy.shutdown();
+    call(client1, 100);
+    Assert.assertEquals(load1.getLatency(), 0.0);
+  }
+
+  @Test
+  public void testFactory()
+  {
+    PeakEwmaLoadBalancerStrategyFactory factory = new PeakEwmaLoadBalancerStrategyFactory(_clock);
+    Assert.assertEquals(factory.newLoadBalancer(createServiceProperties(null)).getDecayTimeMs(),
+        PeakEwmaLoadBalancerStrategyFactory.DEFAULT_DECAY_TIME_MS);
+    Assert.assertEquals(factory.newLoadBalancer(createServiceProperties("500")).getDecayTimeMs(), 500L);
+    Assert.assertEquals(factory.newLoadBalancer(createServiceProperties("-1")).getDecayTimeMs(),
+        PeakEwmaLoadBalancerStrategyFactory.DEFAULT_DECAY_TIME_MS);
+  }
+
+  private static ServiceProperties createServiceProperties(String decayTimeMs)
+  {
+    Map<String, Object> loadBalancerStrategyProperties = new HashMap<>();
+    if (decayTimeMs != null)
+    {
+      loadBalancerStrategyProperties.put(PropertyKeys.HTTP_LB_PEAK_EWMA_DECAY_TIME_MS, decayTimeMs);
+    }
+    return new ServiceProperties("service", "cluster", "/service",
+        Collections.singletonList(PeakEwmaLoadBalancerStrategy.PEAK_EWMA_STRATEGY_NAME), loadBalancerStrategyProperties);
+  }
+
+  private void call(TrackerClient trackerClient, long duration)
+  {
+    CallCompletion completion = trackerClient.getCallTracker().startCall();
+    _clock.addDuration(duration);
+    completion.endCall();
+  }
+
+  private TrackerClient createTrackerClient(String uri)
+  {
+    return new TrackerClientImpl(URI.create(uri), Collections.singletonMap(PARTITION_ID, new PartitionData(1d)),
+        null, _clock, 5000L, status -> status >= 500);
+  }
+
+  private static Map<URI, TrackerClient> createTrackerClientMap(TrackerClient... trackerClients)
+  {
+    Map<URI, TrackerClient> trackerClientMap = new HashMap<>();
+    for (TrackerClient trackerClient : trackerClients)
+    {
+      trackerClientMap.put(trackerClient.getUri(), trackerClient);
+    }
+    return trackerClientMap;
+  }
+}
@@ -140,6 +140,34 @@ public class MPConsistentHashTest
     Assert.assertTrue(pointsMap.isEmpty());
   }
 
+  @Test
+  public void testWithPoints()
+  {
+    Random random = new Random(12345);
+    Map<Integer, Integer> pointsMap = new HashMap<>();
+    for (int i = 0; i < 20; i++)
+    {
+      pointsMap.put(i, 100);
+    }
+    MPConsistentHashRing<Integer> hashRing = new MPConsistentHashRing<>(pointsMap, 21, 5);
+
+    for (int round = 0; round < 20; round++)
+    {
+      // remove, add and reweight a few hosts
+      pointsMap.remove(random.nextInt(30));
+      pointsMap.put(random.nextInt(30), 1 + random.nextInt(100));
+      pointsMap.put(random.nextInt(30), random.nextInt(100));
+
+      hashRing = hashRing.withPoints(pointsMap);
+      MPConsistentHashRing<Integer> expectedRing = new MPConsistentHashRing<>(pointsMap, 21, 5);
+      Assert.assertEquals(hashRing.toString(), expectedRing.toString());
+      for (int key = 0; key < 1000; key++)
+      {
+        Assert.assertEquals(hashRing.get(key), expectedRing.get(key));
+      }
+    }
+  }
+
 
   private Map<Integer, Integer> getDistribution(int numHosts, int pointsPerHost)
   {
@@ -16,15 +16,28 @@
 
 package com.linkedin.d2.discovery.stores.file;
 
+import com.linkedin.common.callback.FutureCallback;
 import com.linkedin.d2.balancer.util.FileSystemDirectory;
+import com.linkedin.d2.balancer.util.JacksonUtil;
+import com.linkedin.d2.discovery.PropertyBuilder;
 import com.linkedin.d2.discovery.PropertySerializationException;
 import com.linkedin.d2.discovery.PropertySerializer;
 import com.linkedin.d2.discovery.stores.PropertyStore;
 import com.linkedin.d2.discovery.stores.PropertyStoreException;
 import com.linkedin.d2.discovery.stores.PropertyStoreTest;
 import com.linkedin.d2.discovery.stores.PropertyStringSerializer;
+import com.linkedin.test.util.AssertionMethods;
+import com.linkedin.test.util.ClockedExecutor;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import org.testng.Assert;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -34,6 +47,13 @@ import static org.testng.Assert.fail;
 
 public class FileStoreTest extends PropertyStoreTest
 {
+  private final ScheduledExecutorService _executor = Executors.newSingleThreadScheduledExecutor();
+
+  @AfterClass
+  public void stopExecutor()
+  {
+    _executor.shutdownNow();
+  }
 
   @Override
   public PropertyStore<String> getStore()
@@ -88,6 +108,232 @@ public class FileStoreTest extends PropertyStoreTest
     Assert.assertEquals(fileStore.getAll(), Collections.emptyMap(), "Expected empty map since all files were not deserialized properly.");
   }
 
+  @Test
+  public void testSnapshot() throws IOException
+  {
+    String path = createTempDirectory("file-store-test").toString();
+    FileStore<Map<String, Object>> fileStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        new MapSerializer(), _executor);
+    Assert.assertTrue(fileStore.start());
+    fileStore.put("service1", newProperty("service1", 1));
+    fileStore.put("service2", newProperty("service2", 2));
+    fileStore.put("service3", newProperty("service3", 3));
+    Assert.assertTrue(fileStore.writeSnapshot());
+    Assert.assertTrue(new File(path, FileStoreSnapshot.SNAPSHOT_FILE_NAME).exists());
+
+    // Properties changed by another process are read from their file
+    Files.write(new File(path, "service2" + FileSystemDirectory.FILE_STORE_EXTENSION).toPath(),
+        JacksonUtil.getObjectMapper().writeValueAsBytes(newProperty("service2", 20000)));
+    Files.delete(new File(path, "service3" + FileSystemDirectory.FILE_STORE_EXTENSION).toPath());
+
+    MapSerializer serializer = new MapSerializer();
+    FileStore<Map<String, Object>> restartedStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        serializer, _executor);
+    Assert.assertTrue(restartedStore.start());
+    Assert.assertEquals(serializer._fromMapCount, 1);
+    Assert.assertEquals(restartedStore.getPropertyNames().size(), 2);
+    Assert.assertEquals(restartedStore.get("service1"), newProperty("service1", 1));
+    Assert.assertEquals(restartedStore.get("service2"), newProperty("service2", 20000));
+    Assert.assertNull(restartedStore.get("service3"));
+    Assert.assertEquals(serializer._fromBytesCount, 1);
+
+    // Loaded properties are served from the snapshot only once
+    Assert.assertEquals(restartedStore.get("service1"), newProperty("service1", 1));
+    Assert.assertEquals(serializer._fromBytesCount, 2);
+  }
+
+  @Test
+  public void testSnapshotExecutorSetAfterCreation() throws IOException
+  {
+    String path = createTempDirectory("file-store-test").toString();
+    FileStore<Map<String, Object>> fileStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        new MapSerializer());
+    fileStore.put("service1", newProperty("service1", 1));
+    Assert.assertFalse(fileStore.writeSnapshot());
+
+    fileStore.setSnapshotExecutor(_executor);
+    Assert.assertTrue(fileStore.writeSnapshot());
+    Assert.assertTrue(new File(path, FileStoreSnapshot.SNAPSHOT_FILE_NAME).exists());
+  }
+
+  @Test
+  public void testSnapshotDeletedOnChange() throws IOException
+  {
+    String path = createTempDirectory("file-store-test").toString();
+    FileStore<Map<String, Object>> fileStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        new MapSerializer(), _executor);
+    fileStore.put("service1", newProperty("service1", 1));
+    Assert.assertTrue(fileStore.writeSnapshot());
+
+    fileStore.put("service1", newProperty("service1", 2));
+    Assert.assertFalse(new File(path, FileStoreSnapshot.SNAPSHOT_FILE_NAME).exists());
+
+    MapSerializer serializer = new MapSerializer();
+    FileStore<Map<String, Object>> restartedStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        serializer, _executor);
+    Assert.assertTrue(restartedStore.start());
+    Assert.assertEquals(restartedStore.get("service1"), newProperty("service1", 2));
+    Assert.assertEquals(serializer._fromMapCount, 0);
+
+    // The snapshot is written again on shutdown
+    fileStore.shutdown(new FutureCallback<>());
+    Assert.assertTrue(new File(path, FileStoreSnapshot.SNAPSHOT_FILE_NAME).exists());
+  }
+
+  @Test
+  public void testInvalidSnapshot() throws IOException
+  {
+    String path = createTempDirectory("file-store-test").toString();
+    FileStore<Map<String, Object>> fileStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        new MapSerializer(), _executor);
+    fileStore.put("service1", newProperty("service1", 1));
+    Assert.assertTrue(fileStore.writeSnapshot());
+
+    File snapshotFile = new File(path, FileStoreSnapshot.SNAPSHOT_FILE_NAME);
+    byte[] snapshot = Files.readAllBytes(snapshotFile.toPath());
+    snapshot[snapshot.length - 1]++;
+    Files.write(snapshotFile.toPath(), snapshot);
+
+    MapSerializer serializer = new MapSerializer();
+    FileStore<Map<String, Object>> restartedStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        serializer, _executor);
+    Assert.assertTrue(restartedStore.start());
+    Assert.assertEquals(restartedStore.get("service1"), newProperty("service1", 1));
+    Assert.assertEquals(serializer._fromMapCount, 0);
+    Assert.assertEquals(serializer._fromBytesCount, 1);
+
+    Files.write(snapshotFile.toPath(), "not a snapshot".getBytes(StandardCharsets.UTF_8));
+    restartedStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION, serializer, _executor);
+    Assert.assertTrue(restartedStore.start());
+    Assert.assertEquals(restartedStore.get("service1"), newProperty("service1", 1));
+    Assert.assertEquals(serializer._fromMapCount, 0);
+  }
+
+  @Test
+  public void testSnapshotDiscardedOnConcurrentChange() throws IOException
+  {
+    String path = createTempDirectory("file-store-test").toString();
+    FileStore<Map<String, Object>> fileStore = new FileStore<Map<String, Object>>(path,
+        FileSystemDirectory.FILE_STORE_EXTENSION, new MapSerializer(), _executor)
+    {
+      private boolean _changed = false;
+
+      @Override
+      File writeSnapshotTmpFile(Map<String, File> files) throws IOException
+      {
+        File tmpFile = super.writeSnapshotTmpFile(files);
+        if (!_changed)
+        {
+          // The file keeps its length, and likely its last modified time
+          _changed = true;
+          put("service1", newProperty("service1", 2));
+        }
+        return tmpFile;
+      }
+    };
+    fileStore.put("service1", newProperty("service1", 1));
+    Assert.assertFalse(fileStore.writeSnapshot());
+    File snapshotFile = new File(path, FileStoreSnapshot.SNAPSHOT_FILE_NAME);
+    Assert.assertFalse(snapshotFile.exists());
+    Assert.assertEquals(snapshotFile.getParentFile().list((dir, name) -> name.endsWith(".tmp")).length, 0);
+
+    MapSerializer serializer = new MapSerializer();
+    FileStore<Map<String, Object>> restartedStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        serializer, _executor);
+    Assert.assertTrue(restartedStore.start());
+    Assert.assertEquals(restartedStore.get("service1"), newProperty("service1", 2));
+
+    // The next write is not discarded
+    Assert.assertTrue(fileStore.writeSnapshot());
+    Assert.assertTrue(snapshotFile.exists());
+  }
+
+  @Test
+  public void testSnapshotWriteDelay() throws Exception
+  {
+    String path = createTempDirectory("file-store-test").toString();
+    ClockedExecutor executor = new ClockedExecutor();
+    FileStore<Map<String, Object>> fileStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        new MapSerializer(), executor, executor);
+    File snapshotFile = new File(path, FileStoreSnapshot.SNAPSHOT_FILE_NAME);
+
+    // Changes postpone the write
+    long changeInterval = FileStore.DEFAULT_SNAPSHOT_DELAY_MS / 2;
+    int changeCount = 0;
+    while ((changeCount + 1) * changeInterval < FileStore.MAX_SNAPSHOT_DELAY_MS)
+    {
+      fileStore.put("service1", newProperty("service1", changeCount++));
+      executor.runFor(changeInterval);
+    }
+    Assert.assertFalse(snapshotFile.exists());
+
+    // But no later than the max delay after the first change
+    fileStore.put("service1", newProperty("service1", changeCount));
+    executor.runFor(changeInterval);
+    AssertionMethods.assertWithTimeout(5000, () -> Assert.assertTrue(snapshotFile.exists()));
+
+    MapSerializer serializer = new MapSerializer();
+    FileStore<Map<String, Object>> restartedStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        serializer, _executor);
+    Assert.assertTrue(restartedStore.start());
+    Assert.assertEquals(restartedStore.get("service1"), newProperty("service1", changeCount));
+    Assert.assertEquals(serializer._fromMapCount, 1);
+  }
+
+  private static Map<String, Object> newProperty(String name, int weight)
+  {
+    Map<String, Object> property = new HashMap<>();
+    property.put("name", name);
+    property.put("weight", weight);
+    property.put("uris", Collections.singletonList("http://" + name + ":1234/"));
+    return property;
+  }
+
+  /**
+   * JSON serializer of maps, which counts how they are deserialized.
+   */
+  private static class MapSerializer implements PropertySerializer<Map<String, Object>>,
+                                                PropertyBuilder<Map<String, Object>>
+  {
+    private int _fromBytesCount = 0;
+    private int _fromMapCount = 0;
+
+    @Override
+    public byte[] toBytes(Map<String, Object> property)
+    {
+      try
+      {
+        return JacksonUtil.getObjectMapper().writeValueAsBytes(property);
+      }
+      catch (IOException e)
+      {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> fromBytes(byte[] bytes) throws PropertySerializationException
+    {
+      _fromBytesCount++;
+      try
+      {
+        return JacksonUtil.getObjectMapper().readValue(bytes, HashMap.class);
+      }
+      catch (IOException e)
+      {
+        throw new PropertySerializationException(e);
+      }
+    }
+
+    @Override
+    public Map<String, Object> fromMap(Map<String, Object> map)
+    {
+      _fromMapCount++;
+      return map;
+    }
+  }
+
   /**
    * Test serializer that throws when deserializing.
    *
@@ -1635,6 +1635,12 @@ public final class ByteString
           | ((buffer[_currentArrayOffset++] & 0xffL) << 56));
     }
 
+    @Override
+    public int getPosition()
+    {
+      return _byteArrays._accumulatedLens[_currentIndex] + _currentArrayOffset - _currentSegment.getOffset();
+    }
+
     @Override
     public byte readRawByte() throws IOException
     {
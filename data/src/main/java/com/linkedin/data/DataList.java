@@ -17,6 +17,7 @@
 package com.linkedin.data;
 
 import com.linkedin.data.collections.CheckedList;
+import com.linkedin.data.collections.DeferredContents;
 import com.linkedin.data.collections.ListChecker;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -81,6 +82,18 @@ public final class DataList extends CheckedList<Object> implements DataComplex
     super(initialCapacity, _checker);
   }
 
+  /**
+   * Construct a {@link DataList} whose elements are loaded from the specified {@link DeferredContents}
+   * the first time the {@link DataList} is accessed, typically to decode its elements on demand.
+   *
+   * @param contents provides the elements of the {@link DataList}.
+   * @param initialCapacity provides the initial capacity of the {@link DataList}.
+   */
+  public DataList(DeferredContents<List<Object>> contents, int initialCapacity)
+  {
+    super(contents, initialCapacity, _checker);
+  }
+
   @Override
   public Object get(int index)
   {
@@ -17,7 +17,10 @@
 package com.linkedin.data;
 
 import com.linkedin.data.collections.CheckedMap;
+import com.linkedin.data.collections.CompactHashMap;
+import com.linkedin.data.collections.DeferredContents;
 import com.linkedin.data.collections.MapChecker;
+import com.linkedin.data.collections.PositionalMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -51,6 +54,19 @@ import java.util.Map;
  *
  * Since {@link DataMap} extends {@link CheckedMap}, copying of the {@link DataMap} is lazy and may be
  * delayed until the {@link DataMap} is about to be modified.
+ * <p>
+ *
+ * A {@link DataMap} may be backed by a {@link CompactHashMap} instead of a {@link HashMap} to reduce
+ * per-entry memory overhead, either for individual instances via {@link #DataMap(int, boolean)}, or for all
+ * instances by setting the {@value #COMPACT_STORAGE_PROPERTY} system property to {@code true}.
+ * <p>
+ *
+ * A {@link DataMap} holding a record may instead be bound to the record's schema via {@link #DataMap(PositionalMap.Layout)}
+ * with {@link com.linkedin.data.schema.RecordDataSchema#getFieldLayout()}. Values of fields of the record are then stored
+ * in an array indexed by the field position, and unknown fields in an overflow map. If the
+ * {@value #SCHEMA_BOUND_STORAGE_PROPERTY} system property is set to {@code true}, the {@link DataMap}s created by
+ * generated {@link com.linkedin.data.template.RecordTemplate}s and by decoders reading records of a known schema
+ * are bound to the schema automatically. {@link DataMap}s supplied by callers keep their storage.
  *
  * @author slim
  */
@@ -65,12 +81,35 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
 
   public static final String ERROR_KEY = reservedConstant("ERROR");
 
+  /**
+   * System property that, when set to {@code true}, makes every {@link DataMap} use compact storage.
+   */
+  public static final String COMPACT_STORAGE_PROPERTY = "com.linkedin.data.DataMap.compactStorage";
+
+  private static final boolean COMPACT_STORAGE_ENABLED = Boolean.getBoolean(COMPACT_STORAGE_PROPERTY);
+
+  /**
+   * System property that, when set to {@code true}, makes record templates bind the {@link DataMap}s they create to
+   * their schema.
+   */
+  public static final String SCHEMA_BOUND_STORAGE_PROPERTY = "com.linkedin.data.DataMap.schemaBoundStorage";
+
+  private static final boolean SCHEMA_BOUND_STORAGE_ENABLED = Boolean.getBoolean(SCHEMA_BOUND_STORAGE_PROPERTY);
+
+  /**
+   * @return true if the {@value #SCHEMA_BOUND_STORAGE_PROPERTY} system property is set to {@code true}.
+   */
+  public static boolean isSchemaBoundStorageEnabled()
+  {
+    return SCHEMA_BOUND_STORAGE_ENABLED;
+  }
+
   /**
    * Constructs an empty {@link DataMap}.
    */
   public DataMap()
   {
-    super(_checker);
+    super(_checker, COMPACT_STORAGE_ENABLED);
   }
 
   /**
@@ -80,7 +119,7 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
    */
   public DataMap(Map<? extends String, ? extends Object> map)
   {
-    super(map, _checker);
+    super(map, _checker, COMPACT_STORAGE_ENABLED);
   }
 
   /**
@@ -93,12 +132,28 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
    */
   public DataMap(int initialCapacity)
   {
-    super(initialCapacity, _checker);
+    super(initialCapacity, _checker, COMPACT_STORAGE_ENABLED);
+  }
+
+  /**
+   * Constructs a {@link DataMap} with the specified initial capacity, optionally
+   * backed by a {@link CompactHashMap} regardless of the {@value #COMPACT_STORAGE_PROPERTY}
+   * system property.
+   *
+   * @param initialCapacity provides the initial capacity of the {@link DataMap}.
+   * @param compactStorage if true, the {@link DataMap} is backed by a {@link CompactHashMap}.
+   *
+   * @see CheckedMap#CheckedMap(int, MapChecker, boolean)
+   */
+  public DataMap(int initialCapacity, boolean compactStorage)
+  {
+    super(initialCapacity, _checker, compactStorage || COMPACT_STORAGE_ENABLED);
   }
 
   /**
    * Constructs a {@link DataMap} with the specified initial capacity and
-   * load factor.
+   * load factor. The load factor is ignored if compact storage is enabled via the
+   * {@value #COMPACT_STORAGE_PROPERTY} system property.
    *
    * @param initialCapacity provides the initial capacity of the {@link DataMap}.
    * @param loadFactor provides the load factor of the {@link DataMap}.
@@ -107,7 +162,35 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
    */
   public DataMap(int initialCapacity, float loadFactor)
   {
-    super(initialCapacity, loadFactor, _checker);
+    super(initialCapacity, loadFactor, _checker, COMPACT_STORAGE_ENABLED);
+  }
+
+  /**
+   * Constructs a {@link DataMap} whose entries are loaded from the specified {@link DeferredContents}
+   * the first time the {@link DataMap} is accessed, typically to decode its entries on demand.
+   *
+   * @param contents provides the entries of the {@link DataMap}.
+   * @param initialCapacity provides the initial capacity of the {@link DataMap}.
+   * @param compactStorage if true, the {@link DataMap} is backed by a {@link CompactHashMap}.
+   *
+   * @see CheckedMap#CheckedMap(DeferredContents, int, MapChecker, boolean)
+   */
+  public DataMap(DeferredContents<Map<String, Object>> contents, int initialCapacity, boolean compactStorage)
+  {
+    super(contents, initialCapacity, _checker, compactStorage || COMPACT_STORAGE_ENABLED);
+  }
+
+  /**
+   * Constructs an empty {@link DataMap} with positional storage, typically bound to a record schema
+   * via {@link com.linkedin.data.schema.RecordDataSchema#getFieldLayout()}.
+   *
+   * @param layout provides the positions of the fields of the record.
+   *
+   * @see PositionalMap
+   */
+  public DataMap(PositionalMap.Layout<String> layout)
+  {
+    super(layout, _checker);
   }
 
   @Override
@@ -130,6 +213,13 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
     return super.get(key);
   }
 
+  @Override
+  public Object getAt(int position, Object key)
+  {
+    instrumentAccess(key);
+    return super.getAt(position, key);
+  }
+
   @Override
   public boolean containsKey(Object key)
   {
@@ -29,6 +29,8 @@ import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.DataMapBuilder;
 import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.util.AdaptiveSizePredictor;
+import com.linkedin.util.ByteArrayPool;
 import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -72,6 +74,10 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
 
   private boolean _sortKeys;
 
+  private boolean _compactDataMaps;
+
+  private final AdaptiveSizePredictor _sizePredictor = new AdaptiveSizePredictor();
+
   protected AbstractJacksonDataCodec(JsonFactory factory)
   {
     _factory = factory;
@@ -82,6 +88,20 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
     _sortKeys = sortKeys;
   }
 
+  boolean isSortKeys()
+  {
+    return _sortKeys;
+  }
+
+  /**
+   * If set to true, parsed {@link DataMap}s are backed by a {@link com.linkedin.data.collections.CompactHashMap}
+   * instead of a {@link java.util.HashMap}.
+   */
+  public void setCompactDataMaps(boolean compactDataMaps)
+  {
+    _compactDataMaps = compactDataMaps;
+  }
+
   @Override
   public byte[] mapToBytes(DataMap map) throws IOException
   {
@@ -96,9 +116,17 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
 
   protected byte[] objectToBytes(Object object) throws IOException
   {
-    FastByteArrayOutputStream out = new FastByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
-    writeObject(object, createJsonGenerator(out));
-    return out.toByteArray();
+    FastByteArrayOutputStream out = new FastByteArrayOutputStream(_sizePredictor.predict(), ByteArrayPool.shared());
+    try
+    {
+      writeObject(object, createJsonGenerator(out));
+      _sizePredictor.record(out.size());
+      return out.toByteArray();
+    }
+    finally
+    {
+      out.recycle();
+    }
   }
 
   @Override
@@ -175,7 +203,7 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
   {
     try
     {
-      return new Parser().parse(jsonParser, expectType);
+      return new Parser(false, _compactDataMaps).parse(jsonParser, expectType);
     }
     finally
     {
@@ -201,7 +229,7 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
   {
     try
     {
-      return new Parser(true).parse(jsonParser, mesg, locationMap);
+      return new Parser(true, _compactDataMaps).parse(jsonParser, mesg, locationMap);
     }
     finally
     {
@@ -247,6 +275,21 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
     Data.traverse(object, callback);
   }
 
+  /**
+   * Parses the Data object starting at the current token of the {@link JsonParser}, the same way the codec
+   * parses values nested in a {@link DataMap}.
+   *
+   * @return the parsed Data object, or null if the codec would record an error for the value or a value nested
+   *         in it, such as a big integer or a repeated field.
+   */
+  static Object parseValue(JsonParser jsonParser, JsonToken token) throws IOException
+  {
+    Parser parser = new Parser(false, false);
+    parser._parser = jsonParser;
+    Object value = parser.parse(token);
+    return parser._errorBuilder == null ? value : null;
+  }
+
   public static class JacksonTraverseCallback implements Data.TraverseCallback
   {
     protected final JsonGenerator _generator;
@@ -403,17 +446,14 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
     private StringBuilder _errorBuilder = null;
     private JsonParser _parser = null;
     private boolean _debug = false;
+    private final boolean _compactDataMaps;
     private Deque<Object> _nameStack = null;
     private Map<Object, DataLocation> _locationMap = null;
 
-    Parser()
-    {
-      this(false);
-    }
-
-    Parser(boolean debug)
+    Parser(boolean debug, boolean compactDataMaps)
     {
       _debug = debug;
+      _compactDataMaps = compactDataMaps;
     }
 
     /**
@@ -659,7 +699,7 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
      */
     private DataMap parseDataMapRecursive(int dataMapSize) throws IOException {
       if (_parser.nextToken() == JsonToken.END_OBJECT) {
-        return new DataMap(DataMapBuilder.getOptimumHashMapCapacityFromSize(dataMapSize));
+        return new DataMap(DataMapBuilder.getOptimumHashMapCapacityFromSize(dataMapSize), _compactDataMaps);
       // prevent stack from getting too deep
       } else if (dataMapSize >= MAX_DATA_MAP_RECURSION_SIZE) {
         return parseDataMapIterative();
@@ -688,7 +728,7 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
      * this should only be called from parseDataMapRecursive; it assumes the current token is a Map-Key.
      */
     private DataMap parseDataMapIterative() throws IOException {
-      DataMap map = new DataMap();
+      DataMap map = _compactDataMaps ? new DataMap(0, true) : new DataMap();
       addToMap(map);
       while (_parser.nextToken() != JsonToken.END_OBJECT)
       {
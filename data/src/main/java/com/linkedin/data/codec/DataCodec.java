@@ -20,6 +20,7 @@ package com.linkedin.data.codec;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.util.AdaptiveSizePredictor;
 import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
@@ -69,6 +70,23 @@ public interface DataCodec
     return outputStream.toUnsafeByteString();
   }
 
+  /**
+   * Serialize a {@link DataMap} to a {@link ByteString}, allocating the output buffer with the size predicted by the
+   * given predictor and recording the size of the output in it.
+   *
+   * @param map to serialize.
+   * @param sizePredictor predictor of the size of the output, e.g. shared by the responses of a resource method.
+   * @return the output serialized from the {@link DataMap}.
+   * @throws IOException if there is a serialization error.
+   */
+  default ByteString mapToByteString(DataMap map, AdaptiveSizePredictor sizePredictor) throws IOException
+  {
+    FastByteArrayOutputStream outputStream = new FastByteArrayOutputStream(sizePredictor.predict());
+    writeMap(map, outputStream);
+    sizePredictor.record(outputStream.size());
+    return outputStream.toUnsafeByteString();
+  }
+
   /**
    * Serialize a {@link DataList} to a {@link ByteString}
    *
@@ -161,6 +179,26 @@ public interface DataCodec
     return readList(in.asInputStream());
   }
 
+  /**
+   * Returns a {@link DataMap} from data consumed from the given {@link ByteString}, decoding nested maps and lists
+   * lazily, i.e. only when they are first accessed. The returned {@link DataMap} references the given
+   * {@link ByteString} until all nested maps and lists have been accessed, and must not be accessed concurrently
+   * before it is fully decoded, e.g. by {@link DataMap#makeReadOnly()}.
+   * <p>
+   *
+   * Errors in the encoding of nested maps and lists may only be detected when they are accessed, in which case
+   * the access fails with an {@link java.io.UncheckedIOException}. Codecs that do not support lazy decoding
+   * decode the whole {@link DataMap} eagerly, which is the default.
+   *
+   * @param in the {@link ByteString} from which to read.
+   * @return a {@link DataMap} representation of read from the {@link ByteString}.
+   * @throws IOException if there is an error during de-serialization.
+   */
+  default DataMap readMapLazily(ByteString in) throws IOException
+  {
+    return readMap(in);
+  }
+
   /**
    * Close the given closeable, silently swallowing any {@link IOException} that arises as a result of
    * invoking {@link Closeable#close()}.
@@ -0,0 +1,342 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.DataMapBuilder;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.util.AdaptiveSizePredictor;
+import com.linkedin.util.ByteArrayPool;
+import com.linkedin.util.FastByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+
+
+/**
+ * Base class of the JSON serializers generated for record templates.
+ * <p>
+ *
+ * A generated serializer reads and writes the fields of its record directly with the types declared by the
+ * schema, and recurses into the generated serializers of nested records, instead of dispatching on the type
+ * of every value like {@link JacksonDataCodec}. Values that do not have the declared type, and fields that
+ * are not declared by the schema, are handled the same way as {@link JacksonDataCodec} handles them, and the
+ * fields are written in the iteration order of the map, so the output of a serializer is identical to the
+ * output of a codec for which {@link #isEquivalentTo(DataCodec)} returns true.
+ * <p>
+ *
+ * JSON for which the codec records errors on the map, such as repeated fields or numbers that are not
+ * representable, is read again by {@link JacksonDataCodec}, so the parsed maps and their errors are identical too.
+ * <p>
+ *
+ * Serializers are generated by the data template generator next to the record template class, with the
+ * {@link #SERIALIZER_CLASS_SUFFIX} appended to the name of the template class. Use
+ * {@link #forTemplateClass(Class)} to obtain the serializer of a record template class, if it was generated.
+ */
+public abstract class JacksonRecordSerializer
+{
+  /**
+   * Suffix appended to the name of a record template class to form the name of its serializer class.
+   */
+  public static final String SERIALIZER_CLASS_SUFFIX = "JsonSerializer";
+
+  /**
+   * Name of the static field holding the singleton instance of a generated serializer.
+   */
+  public static final String INSTANCE_FIELD_NAME = "INSTANCE";
+
+  private static final ClassValue<JacksonRecordSerializer> SERIALIZERS = new ClassValue<JacksonRecordSerializer>()
+  {
+    @Override
+    protected JacksonRecordSerializer computeValue(Class<?> templateClass)
+    {
+      try
+      {
+        Class<?> serializerClass =
+            Class.forName(templateClass.getName() + SERIALIZER_CLASS_SUFFIX, true, templateClass.getClassLoader());
+        if (!JacksonRecordSerializer.class.isAssignableFrom(serializerClass))
+        {
+          return null;
+        }
+        Field instance = serializerClass.getField(INSTANCE_FIELD_NAME);
+        return (JacksonRecordSerializer) instance.get(null);
+      }
+      catch (ClassNotFoundException | NoSuchFieldException | IllegalAccessException e)
+      {
+        return null;
+      }
+    }
+  };
+
+  // Reads the JSON for which errors are recorded.
+  private static final JacksonDataCodec CODEC = new JacksonDataCodec();
+
+  private final AdaptiveSizePredictor _sizePredictor = new AdaptiveSizePredictor();
+
+  /**
+   * Returns the generated serializer of a record template class. Lookups are cached per class.
+   *
+   * @param templateClass the record template class.
+   * @return the serializer, or null if no serializer was generated for the class.
+   */
+  public static JacksonRecordSerializer forTemplateClass(Class<?> templateClass)
+  {
+    return SERIALIZERS.get(templateClass);
+  }
+
+  /**
+   * Returns whether serializers read and write the same JSON as a codec, which is the case for a plain
+   * {@link JacksonDataCodec} sharing the default JSON factory and writing UTF-8 without pretty printing or
+   * sorting keys.
+   *
+   * @param codec the codec.
+   * @return true if serializers can be used in place of the codec.
+   */
+  public static boolean isEquivalentTo(DataCodec codec)
+  {
+    if (codec == null || codec.getClass() != JacksonDataCodec.class)
+    {
+      return false;
+    }
+    JacksonDataCodec jacksonCodec = (JacksonDataCodec) codec;
+    return jacksonCodec._factory == AbstractJacksonDataCodec.JSON_FACTORY
+        && jacksonCodec._prettyPrinter == null && !jacksonCodec.isSortKeys()
+        && jacksonCodec._jsonEncoding == JsonEncoding.UTF8;
+  }
+
+  /**
+   * Writes the fields of a record as a JSON object.
+   *
+   * @param map the data of the record.
+   * @param generator the generator to write to.
+   */
+  public abstract void writeRecord(DataMap map, JsonGenerator generator) throws IOException;
+
+  /**
+   * Reads a record from a JSON object. The current token of the parser must be the start of the object,
+   * and is the end of the object when this method returns.
+   *
+   * @param parser the parser to read from.
+   * @return the data of the record.
+   * @throws DataDecodingException if the JSON has errors that {@link JacksonDataCodec} records on the map, in
+   *                               which case it must be read by the codec.
+   */
+  public abstract DataMap readRecord(JsonParser parser) throws IOException;
+
+  /**
+   * Serializes a record to JSON bytes, equivalent to {@link JacksonDataCodec#mapToBytes(DataMap)}.
+   */
+  public byte[] mapToBytes(DataMap map) throws IOException
+  {
+    FastByteArrayOutputStream out = new FastByteArrayOutputStream(_sizePredictor.predict(), ByteArrayPool.shared());
+    try
+    {
+      try (JsonGenerator generator = AbstractJacksonDataCodec.JSON_FACTORY.createGenerator(out))
+      {
+        writeRecord(map, generator);
+      }
+      _sizePredictor.record(out.size());
+      return out.toByteArray();
+    }
+    finally
+    {
+      out.recycle();
+    }
+  }
+
+  /**
+   * Deserializes a record from JSON bytes, equivalent to {@link JacksonDataCodec#bytesToMap(byte[])}.
+   */
+  public DataMap bytesToMap(byte[] input) throws IOException
+  {
+    try
+    {
+      return read(AbstractJacksonDataCodec.JSON_FACTORY.createParser(input));
+    }
+    catch (CodecFallbackException e)
+    {
+      return CODEC.bytesToMap(input);
+    }
+  }
+
+  /**
+   * Deserializes a record from JSON bytes, equivalent to {@link JacksonDataCodec#readMap(ByteString)}.
+   */
+  public DataMap readMap(ByteString input) throws IOException
+  {
+    try
+    {
+      return read(AbstractJacksonDataCodec.JSON_FACTORY.createParser(input.asInputStream()));
+    }
+    catch (CodecFallbackException e)
+    {
+      return CODEC.readMap(input);
+    }
+  }
+
+  private DataMap read(JsonParser parser) throws IOException
+  {
+    try
+    {
+      if (parser.nextToken() != JsonToken.START_OBJECT)
+      {
+        throw new DataDecodingException("Object must start with start object token.");
+      }
+      return readRecord(parser);
+    }
+    finally
+    {
+      DataCodec.closeQuietly(parser);
+    }
+  }
+
+  /**
+   * Writes any Data object the same way {@link JacksonDataCodec} does.
+   */
+  protected static void writeValue(Object value, JsonGenerator generator) throws IOException
+  {
+    Data.traverse(value, new AbstractJacksonDataCodec.JacksonTraverseCallback(generator));
+  }
+
+  /**
+   * Reads any Data object starting at the current token the same way {@link JacksonDataCodec} does.
+   *
+   * @throws DataDecodingException if the codec would record an error for the value.
+   */
+  protected static Object readValue(JsonParser parser, JsonToken token) throws IOException
+  {
+    Object value = AbstractJacksonDataCodec.parseValue(parser, token);
+    if (value == null)
+    {
+      throw new CodecFallbackException();
+    }
+    return value;
+  }
+
+  /**
+   * Reads a value declared as an int.
+   */
+  protected static Object readInt(JsonParser parser, JsonToken token) throws IOException
+  {
+    if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT)
+    {
+      return parser.getIntValue();
+    }
+    return readValue(parser, token);
+  }
+
+  /**
+   * Reads a value declared as a string or an enum.
+   */
+  protected static Object readString(JsonParser parser, JsonToken token) throws IOException
+  {
+    if (token == JsonToken.VALUE_STRING)
+    {
+      return parser.getText();
+    }
+    return readValue(parser, token);
+  }
+
+  /**
+   * Reads a value declared as a boolean.
+   */
+  protected static Object readBoolean(JsonParser parser, JsonToken token) throws IOException
+  {
+    if (token == JsonToken.VALUE_TRUE)
+    {
+      return Boolean.TRUE;
+    }
+    if (token == JsonToken.VALUE_FALSE)
+    {
+      return Boolean.FALSE;
+    }
+    return readValue(parser, token);
+  }
+
+  /**
+   * Reads a value declared as a record that has a generated serializer.
+   */
+  protected static Object readNestedRecord(JsonParser parser, JsonToken token, JacksonRecordSerializer serializer)
+      throws IOException
+  {
+    if (token == JsonToken.START_OBJECT)
+    {
+      return serializer.readRecord(parser);
+    }
+    return readValue(parser, token);
+  }
+
+  /**
+   * Creates the map for a record with the given number of declared fields.
+   */
+  protected static DataMap newRecordMap(int fieldCount)
+  {
+    return new DataMap(DataMapBuilder.getOptimumHashMapCapacityFromSize(fieldCount));
+  }
+
+  /**
+   * Creates the map for a record of the given schema, bound to the schema if
+   * {@link DataMap#isSchemaBoundStorageEnabled()}.
+   */
+  protected static DataMap newRecordMap(RecordDataSchema schema)
+  {
+    if (DataMap.isSchemaBoundStorageEnabled())
+    {
+      return new DataMap(schema.getFieldLayout());
+    }
+    return newRecordMap(schema.getFields().size());
+  }
+
+  /**
+   * Puts a parsed value into the map of a record.
+   *
+   * @throws DataDecodingException if the field is repeated, which the codec records as an error.
+   */
+  protected static void putField(DataMap map, String name, Object value) throws DataDecodingException
+  {
+    if (CheckedUtil.putWithoutChecking(map, name, value) != null)
+    {
+      throw new CodecFallbackException();
+    }
+  }
+
+  /**
+   * Signals that the JSON being read has errors that {@link JacksonDataCodec} records on the map. It is thrown
+   * for malformed input only, so it does not fill in its stack trace.
+   */
+  static final class CodecFallbackException extends DataDecodingException
+  {
+    private static final long serialVersionUID = 1L;
+
+    CodecFallbackException()
+    {
+      super("JSON must be read by the codec to record its errors.");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace()
+    {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,398 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataComplex;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.DataMapBuilder;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.util.ArgumentUtil;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Encodes a {@link DataMap} with large top level lists or maps, e.g. the elements of a collection response or
+ * the results of a batch response, by encoding chunks of their elements in parallel and concatenating the
+ * encoded chunks without copying them.
+ * <p>
+ *
+ * Only the top level values of the {@link DataMap} that are lists or maps with at least the threshold number of
+ * elements are split into chunks, everything else is encoded serially. The calling thread encodes chunks as well,
+ * so encoding makes progress even if the executor is saturated or rejects tasks.
+ * <p>
+ *
+ * The output decodes to the same {@link DataMap} as the output of the codec. Parallel encoding is supported for
+ * {@link JacksonDataCodec} with UTF-8 output and without pretty printing or sorted keys, and for
+ * {@link ProtobufDataCodec}, since their encoding of a list or map is the concatenation of the encoding of its
+ * elements. Other codecs always encode serially, see {@link #supports(DataCodec)}.
+ */
+public class ParallelDataEncoder
+{
+  public static final int DEFAULT_CHUNK_SIZE = 128;
+
+  private final Executor _executor;
+  private final int _threshold;
+  private final int _chunkSize;
+  private final int _parallelism;
+
+  /**
+   * @param executor the executor running the chunk encoding tasks.
+   * @param threshold the minimum number of elements of a top level list or map to encode it in parallel.
+   */
+  public ParallelDataEncoder(Executor executor, int threshold)
+  {
+    this(executor, threshold, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param executor the executor running the chunk encoding tasks.
+   * @param threshold the minimum number of elements of a top level list or map to encode it in parallel.
+   * @param chunkSize the number of elements encoded by a single task.
+   * @param parallelism the maximum number of threads encoding a single {@link DataMap}, including the calling thread.
+   */
+  public ParallelDataEncoder(Executor executor, int threshold, int chunkSize, int parallelism)
+  {
+    ArgumentUtil.notNull(executor, "executor");
+    ArgumentUtil.checkArgument(threshold > 0, "threshold");
+    ArgumentUtil.checkArgument(chunkSize > 0, "chunkSize");
+    ArgumentUtil.checkArgument(parallelism > 0, "parallelism");
+    _executor = executor;
+    _threshold = threshold;
+    _chunkSize = chunkSize;
+    _parallelism = parallelism;
+  }
+
+  public int getThreshold()
+  {
+    return _threshold;
+  }
+
+  /**
+   * @return true if the given codec can encode in parallel.
+   */
+  public static boolean supports(DataCodec codec)
+  {
+    return Framing.forCodec(codec) != null;
+  }
+
+  /**
+   * Encodes the given {@link DataMap} with the given codec, in parallel if the codec is supported and the
+   * {@link DataMap} has large enough top level lists or maps.
+   */
+  public ByteString encode(DataMap map, DataCodec codec) throws IOException
+  {
+    final Framing framing = Framing.forCodec(codec);
+    if (framing == null || _parallelism == 1)
+    {
+      return codec.mapToByteString(map);
+    }
+
+    final DataMap serial = new DataMap(DataMapBuilder.getOptimumHashMapCapacityFromSize(map.size()));
+    final List<Map.Entry<String, Object>> parallel = new ArrayList<>();
+    for (Map.Entry<String, Object> entry : map.entrySet())
+    {
+      final Object value = entry.getValue();
+      if ((value instanceof DataList && ((DataList) value).size() >= _threshold)
+          || (value instanceof DataMap && ((DataMap) value).size() >= _threshold))
+      {
+        parallel.add(entry);
+      }
+      else
+      {
+        CheckedUtil.putWithoutChecking(serial, entry.getKey(), value);
+      }
+    }
+    if (parallel.isEmpty())
+    {
+      return codec.mapToByteString(map);
+    }
+
+    final List<DataComplex> chunks = new ArrayList<>();
+    for (Map.Entry<String, Object> entry : parallel)
+    {
+      addChunks((DataComplex) entry.getValue(), chunks);
+    }
+    final ByteString[] encodedChunks = encodeChunks(chunks, codec);
+
+    final ByteString.Builder builder = new ByteString.Builder();
+    builder.append(framing.header(true, map.size()));
+    int chunkIndex = 0;
+    for (int i = 0; i < parallel.size(); i++)
+    {
+      if (i > 0)
+      {
+        builder.append(framing.separator());
+      }
+      final String key = parallel.get(i).getKey();
+      final DataComplex value = (DataComplex) parallel.get(i).getValue();
+      final boolean isMap = value instanceof DataMap;
+      builder.append(keyPrefix(framing, codec, key, isMap));
+
+      builder.append(framing.header(isMap, isMap ? ((DataMap) value).size() : ((DataList) value).size()));
+      final int chunkCount = chunkCount(value);
+      for (int c = 0; c < chunkCount; c++, chunkIndex++)
+      {
+        if (c > 0)
+        {
+          builder.append(framing.separator());
+        }
+        final DataComplex chunk = chunks.get(chunkIndex);
+        builder.append(framing.elements(encodedChunks[chunkIndex], isMap, size(chunk)));
+      }
+      builder.append(framing.footer(isMap));
+    }
+    if (!serial.isEmpty())
+    {
+      builder.append(framing.separator());
+      builder.append(framing.elements(codec.mapToByteString(serial), true, serial.size()));
+    }
+    builder.append(framing.footer(true));
+    return builder.build();
+  }
+
+  private int chunkCount(DataComplex value)
+  {
+    return (size(value) + _chunkSize - 1) / _chunkSize;
+  }
+
+  private static int size(DataComplex value)
+  {
+    return value instanceof DataMap ? ((DataMap) value).size() : ((DataList) value).size();
+  }
+
+  private void addChunks(DataComplex value, List<DataComplex> chunks)
+  {
+    if (value instanceof DataList)
+    {
+      final DataList list = (DataList) value;
+      for (int from = 0; from < list.size(); from += _chunkSize)
+      {
+        final int to = Math.min(list.size(), from + _chunkSize);
+        final DataList chunk = new DataList(to - from);
+        for (int i = from; i < to; i++)
+        {
+          CheckedUtil.addWithoutChecking(chunk, list.get(i));
+        }
+        chunks.add(chunk);
+      }
+    }
+    else
+    {
+      final Iterator<Map.Entry<String, Object>> it = ((DataMap) value).entrySet().iterator();
+      while (it.hasNext())
+      {
+        final DataMap chunk = new DataMap(DataMapBuilder.getOptimumHashMapCapacityFromSize(_chunkSize));
+        for (int i = 0; i < _chunkSize && it.hasNext(); i++)
+        {
+          final Map.Entry<String, Object> entry = it.next();
+          CheckedUtil.putWithoutChecking(chunk, entry.getKey(), entry.getValue());
+        }
+        chunks.add(chunk);
+      }
+    }
+  }
+
+  private ByteString[] encodeChunks(List<DataComplex> chunks, DataCodec codec) throws IOException
+  {
+    final int count = chunks.size();
+    final ByteString[] results = new ByteString[count];
+    final AtomicInteger next = new AtomicInteger();
+    final CountDownLatch done = new CountDownLatch(count);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final Runnable worker = () ->
+    {
+      int index;
+      while ((index = next.getAndIncrement()) < count)
+      {
+        try
+        {
+          final DataComplex chunk = chunks.get(index);
+          results[index] = chunk instanceof DataMap
+              ? codec.mapToByteString((DataMap) chunk)
+              : codec.listToByteString((DataList) chunk);
+        }
+        catch (Throwable e)
+        {
+          failure.compareAndSet(null, e);
+        }
+        finally
+        {
+          done.countDown();
+        }
+      }
+    };
+
+    final int helpers = Math.min(count, _parallelism) - 1;
+    for (int i = 0; i < helpers; i++)
+    {
+      try
+      {
+        _executor.execute(worker);
+      }
+      catch (RejectedExecutionException e)
+      {
+        // The calling thread encodes the remaining chunks.
+        break;
+      }
+    }
+    worker.run();
+
+    try
+    {
+      done.await();
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while encoding in parallel");
+    }
+
+    final Throwable e = failure.get();
+    if (e instanceof IOException)
+    {
+      throw (IOException) e;
+    }
+    if (e instanceof RuntimeException)
+    {
+      throw (RuntimeException) e;
+    }
+    if (e instanceof Error)
+    {
+      throw (Error) e;
+    }
+    return results;
+  }
+
+  /**
+   * Returns the encoding of a map entry key, up to the start of its value.
+   */
+  private static ByteString keyPrefix(Framing framing, DataCodec codec, String key, boolean isMap) throws IOException
+  {
+    final DataMap entry = new DataMap(Collections.singletonMap(key, isMap ? new DataMap() : new DataList()));
+    final ByteString entryBytes = framing.elements(codec.mapToByteString(entry), true, 1);
+    final int emptyValueLength = framing.header(isMap, 0).length() + framing.footer(isMap).length();
+    return entryBytes.slice(0, entryBytes.length() - emptyValueLength);
+  }
+
+  /**
+   * The bytes surrounding the elements of a list or map in the encoding of a codec.
+   */
+  private abstract static class Framing
+  {
+    private static final Framing JSON = new Framing()
+    {
+      private final ByteString _mapStart = ByteString.copy(new byte[] { '{' });
+      private final ByteString _mapEnd = ByteString.copy(new byte[] { '}' });
+      private final ByteString _listStart = ByteString.copy(new byte[] { '[' });
+      private final ByteString _listEnd = ByteString.copy(new byte[] { ']' });
+      private final ByteString _separator = ByteString.copy(new byte[] { ',' });
+
+      @Override
+      ByteString header(boolean isMap, int size)
+      {
+        return isMap ? _mapStart : _listStart;
+      }
+
+      @Override
+      ByteString footer(boolean isMap)
+      {
+        return isMap ? _mapEnd : _listEnd;
+      }
+
+      @Override
+      ByteString separator()
+      {
+        return _separator;
+      }
+    };
+
+    private static final Framing PROTOBUF = new Framing()
+    {
+      @Override
+      ByteString header(boolean isMap, int size)
+      {
+        final byte[] bytes = new byte[6];
+        bytes[0] = isMap ? ProtobufDataCodec.MAP_ORDINAL : ProtobufDataCodec.LIST_ORDINAL;
+        int length = 1;
+        int value = size;
+        while ((value & ~0x7F) != 0)
+        {
+          bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+          value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+        return ByteString.unsafeWrap(bytes, 0, length);
+      }
+
+      @Override
+      ByteString footer(boolean isMap)
+      {
+        return ByteString.empty();
+      }
+
+      @Override
+      ByteString separator()
+      {
+        return ByteString.empty();
+      }
+    };
+
+    static Framing forCodec(DataCodec codec)
+    {
+      if (codec.getClass() == JacksonDataCodec.class)
+      {
+        final JacksonDataCodec jacksonCodec = (JacksonDataCodec) codec;
+        return jacksonCodec._prettyPrinter == null && !jacksonCodec.isSortKeys()
+            && jacksonCodec._jsonEncoding == JsonEncoding.UTF8 ? JSON : null;
+      }
+      if (codec.getClass() == ProtobufDataCodec.class)
+      {
+        return PROTOBUF;
+      }
+      return null;
+    }
+
+    abstract ByteString header(boolean isMap, int size);
+
+    abstract ByteString footer(boolean isMap);
+
+    abstract ByteString separator();
+
+    /**
+     * Strips the header and footer from the encoding of a list or map with the given number of elements.
+     */
+    ByteString elements(ByteString encoded, boolean isMap, int size)
+    {
+      final int headerLength = header(isMap, size).length();
+      return encoded.slice(headerLength, encoded.length() - headerLength - footer(isMap).length());
+    }
+  }
+}
@@ -76,17 +76,27 @@ public class ProtobufCodecOptions
    */
   private final int _protoWriterBufferSize;
 
+  /**
+   * If true, then decoded {@link com.linkedin.data.DataMap}s are backed by a
+   * {@link com.linkedin.data.collections.CompactHashMap} instead of a {@link java.util.HashMap}.
+   *
+   * <p>Disabled by default.</p>
+   */
+  private final boolean _enableCompactDataMaps;
+
   private ProtobufCodecOptions(SymbolTable symbolTable,
                                boolean enableASCIIOnlyStrings,
                                boolean enableFixedLengthFloatDoubles,
                                boolean tolerateInvalidSurrogatePairs,
-                               int protoWriterBufferSize)
+                               int protoWriterBufferSize,
+                               boolean enableCompactDataMaps)
   {
     _symbolTable = symbolTable == null ? EmptySymbolTable.SHARED : symbolTable;
     _enableASCIIOnlyStrings = enableASCIIOnlyStrings;
     _enableFixedLengthFloatDoubles = enableFixedLengthFloatDoubles;
     _shouldTolerateInvalidSurrogatePairs = tolerateInvalidSurrogatePairs;
     _protoWriterBufferSize = protoWriterBufferSize;
+    _enableCompactDataMaps = enableCompactDataMaps;
   }
 
   /**
@@ -130,6 +140,14 @@ public class ProtobufCodecOptions
     return _protoWriterBufferSize;
   }
 
+  /**
+   * @return True if decoded {@link com.linkedin.data.DataMap}s should use compact storage.
+   */
+  public boolean shouldEnableCompactDataMaps()
+  {
+    return _enableCompactDataMaps;
+  }
+
   /**
    * Builder to incrementally build options.
    */
@@ -180,6 +198,14 @@ public class ProtobufCodecOptions
      */
     private int _protoWriterBufferSize;
 
+    /**
+     * If true, then decoded {@link com.linkedin.data.DataMap}s are backed by a
+     * {@link com.linkedin.data.collections.CompactHashMap} instead of a {@link java.util.HashMap}.
+     *
+     * <p>Disabled by default.</p>
+     */
+    private boolean _enableCompactDataMaps;
+
     public Builder()
     {
       _symbolTable = null;
@@ -187,6 +213,7 @@ public class ProtobufCodecOptions
       _enableFixedLengthFloatDoubles = false;
       _shouldTolerateInvalidSurrogatePairs = true;
       _protoWriterBufferSize = DEFAULT_BUFFER_SIZE;
+      _enableCompactDataMaps = false;
     }
 
     /**
@@ -245,6 +272,16 @@ public class ProtobufCodecOptions
       return this;
     }
 
+    /**
+     * If set to true, then decoded {@link com.linkedin.data.DataMap}s are backed by a
+     * {@link com.linkedin.data.collections.CompactHashMap} instead of a {@link java.util.HashMap}.
+     */
+    public Builder setEnableCompactDataMaps(boolean enableCompactDataMaps)
+    {
+      this._enableCompactDataMaps = enableCompactDataMaps;
+      return this;
+    }
+
     /**
      * Build an options instance.
      */
@@ -254,7 +291,8 @@ public class ProtobufCodecOptions
           _enableASCIIOnlyStrings,
           _enableFixedLengthFloatDoubles,
           _shouldTolerateInvalidSurrogatePairs,
-          _protoWriterBufferSize);
+          _protoWriterBufferSize,
+          _enableCompactDataMaps);
     }
   }
 }
@@ -26,10 +26,15 @@ import com.linkedin.data.codec.symbol.SymbolTable;
 import com.linkedin.data.collections.CheckedUtil;
 import com.linkedin.data.protobuf.ProtoReader;
 import com.linkedin.data.protobuf.ProtoWriter;
+import com.linkedin.util.AdaptiveSizePredictor;
+import com.linkedin.util.ByteArrayPool;
 import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 
@@ -83,6 +88,8 @@ public class ProtobufDataCodec implements DataCodec
 
   protected final ProtobufCodecOptions _options;
 
+  private final AdaptiveSizePredictor _sizePredictor;
+
   public ProtobufDataCodec()
   {
     this(new ProtobufCodecOptions.Builder().build());
@@ -124,22 +131,42 @@ public class ProtobufDataCodec implements DataCodec
     _options = options;
     _symbolTable = options.getSymbolTable();
     _supportsASCIIOnlyStrings = options.shouldEnableASCIIOnlyStrings();
+    // Like the streams written to by writeMap and writeList, byte arrays start with the configured buffer size.
+    int bufferSize = options.getProtoWriterBufferSize();
+    _sizePredictor = new AdaptiveSizePredictor(Math.min(AdaptiveSizePredictor.DEFAULT_MINIMUM, bufferSize), bufferSize,
+        Math.max(AdaptiveSizePredictor.DEFAULT_MAXIMUM, bufferSize));
   }
 
   @Override
   public byte[] mapToBytes(DataMap map) throws IOException
   {
-    FastByteArrayOutputStream baos = new FastByteArrayOutputStream(_options.getProtoWriterBufferSize());
-    writeMap(map, baos);
-    return baos.toByteArray();
+    FastByteArrayOutputStream baos = new FastByteArrayOutputStream(_sizePredictor.predict(), ByteArrayPool.shared());
+    try
+    {
+      writeMap(map, baos);
+      _sizePredictor.record(baos.size());
+      return baos.toByteArray();
+    }
+    finally
+    {
+      baos.recycle();
+    }
   }
 
   @Override
   public byte[] listToBytes(DataList list) throws IOException
   {
-    FastByteArrayOutputStream baos = new FastByteArrayOutputStream(_options.getProtoWriterBufferSize());
-    writeList(list, baos);
-    return baos.toByteArray();
+    FastByteArrayOutputStream baos = new FastByteArrayOutputStream(_sizePredictor.predict(), ByteArrayPool.shared());
+    try
+    {
+      writeList(list, baos);
+      _sizePredictor.record(baos.size());
+      return baos.toByteArray();
+    }
+    finally
+    {
+      baos.recycle();
+    }
   }
 
   @Override
@@ -210,6 +237,35 @@ public class ProtobufDataCodec implements DataCodec
     return (DataList) readValue(in.asProtoReader(), this::isList);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   *
+   * The entries of the top level map are decoded eagerly. Nested maps and lists are only skipped, without
+   * allocating anything, and keep a slice of the input that is decoded the same way the first time they are
+   * accessed. Values with custom ordinals are decoded with {@link #readUnknownValue(byte, ProtoReader)} even
+   * when skipped, since their length is not known to this codec.
+   */
+  @Override
+  public DataMap readMapLazily(ByteString in) throws IOException
+  {
+    ProtoReader reader = in.asProtoReader();
+    byte ordinal = reader.readRawByte();
+    if (!isMap(ordinal))
+    {
+      throw new DataDecodingException("Unable to find expected ordinal. Read: " + ordinal);
+    }
+    int size = reader.readInt32();
+    DataMap dataMap = new DataMap(DataMapBuilder.getOptimumHashMapCapacityFromSize(size),
+        _options.shouldEnableCompactDataMaps());
+    for (int i = 0; i < size; i++)
+    {
+      CheckedUtil.putWithoutChecking(dataMap, (String) readValue(reader, this::isString), readLazyValue(reader, in));
+    }
+
+    return dataMap;
+  }
+
   /**
    * @deprecated Override {@link #createTraverseCallback(ProtoWriter)} instead. This method
    * is no longer invoked by this class.
@@ -246,7 +302,8 @@ public class ProtobufDataCodec implements DataCodec
   protected final DataMap readMap(ProtoReader reader) throws IOException
   {
     int size = reader.readInt32();
-    DataMap dataMap = new DataMap(DataMapBuilder.getOptimumHashMapCapacityFromSize(size));
+    DataMap dataMap = new DataMap(DataMapBuilder.getOptimumHashMapCapacityFromSize(size),
+        _options.shouldEnableCompactDataMaps());
     for (int i = 0; i < size; i++)
     {
       CheckedUtil.putWithoutChecking(dataMap, (String) readValue(reader, this::isString), readValue(reader, null));
@@ -284,6 +341,11 @@ public class ProtobufDataCodec implements DataCodec
       throw new DataDecodingException("Unable to find expected ordinal. Read: " + ordinal);
     }
 
+    return readValue(ordinal, reader);
+  }
+
+  private Object readValue(byte ordinal, ProtoReader reader) throws IOException
+  {
     switch (ordinal)
     {
       case MAP_ORDINAL: return readMap(reader);
@@ -306,6 +368,121 @@ public class ProtobufDataCodec implements DataCodec
     return readUnknownValue(ordinal, reader);
   }
 
+  /**
+   * Reads a value, deferring the decoding of non-empty maps and lists to their first access.
+   *
+   * @param reader the reader positioned at the ordinal of the value.
+   * @param source the bytes read by the reader, nested maps and lists keep a slice of them.
+   */
+  private Object readLazyValue(ProtoReader reader, ByteString source) throws IOException
+  {
+    byte ordinal = reader.readRawByte();
+    if (ordinal != MAP_ORDINAL && ordinal != LIST_ORDINAL)
+    {
+      return readValue(ordinal, reader);
+    }
+
+    final int size = reader.readInt32();
+    final int start = reader.getPosition();
+    for (int i = 0; i < (ordinal == MAP_ORDINAL ? 2 * size : size); i++)
+    {
+      skipValue(reader);
+    }
+    final ByteString slice = source.slice(start, reader.getPosition() - start);
+
+    if (ordinal == MAP_ORDINAL)
+    {
+      return new DataMap(target -> loadMap(slice, size, target), DataMapBuilder.getOptimumHashMapCapacityFromSize(size),
+          _options.shouldEnableCompactDataMaps());
+    }
+    return new DataList(target -> loadList(slice, size, target), size);
+  }
+
+  private void loadMap(ByteString bytes, int size, Map<String, Object> target)
+  {
+    try
+    {
+      ProtoReader reader = bytes.asProtoReader();
+      for (int i = 0; i < size; i++)
+      {
+        target.put((String) readValue(reader, this::isString), readLazyValue(reader, bytes));
+      }
+    }
+    catch (IOException e)
+    {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void loadList(ByteString bytes, int size, List<Object> target)
+  {
+    try
+    {
+      ProtoReader reader = bytes.asProtoReader();
+      for (int i = 0; i < size; i++)
+      {
+        target.add(readLazyValue(reader, bytes));
+      }
+    }
+    catch (IOException e)
+    {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Skips a value without decoding it.
+   */
+  private void skipValue(ProtoReader reader) throws IOException
+  {
+    byte ordinal = reader.readRawByte();
+    switch (ordinal)
+    {
+      case MAP_ORDINAL:
+      {
+        int size = reader.readInt32();
+        for (int i = 0; i < 2 * size; i++)
+        {
+          skipValue(reader);
+        }
+        return;
+      }
+      case LIST_ORDINAL:
+      {
+        int size = reader.readInt32();
+        for (int i = 0; i < size; i++)
+        {
+          skipValue(reader);
+        }
+        return;
+      }
+      case ASCII_STRING_LITERAL_ORDINAL:
+      case STRING_LITERAL_ORDINAL:
+      case RAW_BYTES_ORDINAL:
+        reader.skipRawBytes(reader.readInt32());
+        return;
+      case STRING_REFERENCE_ORDINAL:
+      case INTEGER_ORDINAL:
+      case LONG_ORDINAL:
+      case FLOAT_ORDINAL:
+      case DOUBLE_ORDINAL:
+        reader.readInt64();
+        return;
+      case FIXED_FLOAT_ORDINAL:
+        reader.readFixedInt32();
+        return;
+      case FIXED_DOUBLE_ORDINAL:
+        reader.readFixedInt64();
+        return;
+      case BOOLEAN_TRUE_ORDINAL:
+      case BOOLEAN_FALSE_ORDINAL:
+      case NULL_ORDINAL:
+        return;
+      default:
+        readUnknownValue(ordinal, reader);
+    }
+  }
+
   protected boolean isString(byte ordinal)
   {
     return ordinal == STRING_LITERAL_ORDINAL
@@ -22,11 +22,27 @@ import com.linkedin.data.DataComplex;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.element.DataElement;
+import com.linkedin.data.element.MutableDataElement;
+import com.linkedin.data.it.Predicate;
 import com.linkedin.data.parser.NonBlockingDataParser;
+import com.linkedin.data.schema.ArrayDataSchema;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.MapDataSchema;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.schema.UnionDataSchema;
+import com.linkedin.data.schema.validation.IncrementalValidation;
+import com.linkedin.data.schema.validation.ValidateDataAgainstSchema;
+import com.linkedin.data.schema.validation.ValidationOptions;
+import com.linkedin.data.schema.validation.ValidationResult;
+import com.linkedin.data.schema.validator.Validator;
 import com.linkedin.entitystream.ReadHandle;
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Deque;
+import java.util.List;
 import java.util.EnumSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -78,6 +94,32 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
 
   protected EnumSet<NonBlockingDataParser.Token> _expectedTokens;
 
+  // Projection state, only used if a projection is set.
+  private ProjectionEvaluator _projection;
+  private List<Object> _maskStack;
+  // Mask of the children of the current complex object: the mask of a map, or the mask of the items of a list.
+  private Object _childMask;
+  // Mask of the value of the current field.
+  private Object _valueMask;
+  private boolean _skipValue;
+  // Depth of the complex values being skipped, and whether each of them is a list.
+  private int _skipDepth;
+  private BitSet _skippedLists;
+
+  // Schema state, only used if a schema or a validation is set.
+  private DataSchema _schema;
+  private boolean _bindRecords;
+  private List<DataSchema> _schemaStack;
+  // Schema of the current complex object.
+  private DataSchema _currSchema;
+
+  // Validation state, only used if a validation is set.
+  private IncrementalValidation _validation;
+  private List<MutableDataElement> _elementStack;
+  // Elements of the current complex object and of its simple values.
+  private MutableDataElement _currElement;
+  private MutableDataElement _currChildElement;
+
   protected AbstractDataDecoder(EnumSet<NonBlockingDataParser.Token> expectedFirstTokens)
   {
     _completable = new CompletableFuture<>();
@@ -92,6 +134,83 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
     this(START_TOKENS);
   }
 
+  /**
+   * Sets a projection to apply while decoding. The values excluded by the projection are skipped by the decoder
+   * instead of being built. This must be called before the decoder starts reading.
+   * <p>
+   *
+   * Only the values that are certainly excluded are skipped, e.g. array ranges are not applied. The decoded data
+   * still has to be filtered with the projection to get its exact result.
+   *
+   * @param projection the data map of a {@code com.linkedin.data.transform.filter.request.MaskTree}, or null to
+   *                   decode all values.
+   */
+  public void setProjection(DataMap projection)
+  {
+    if (projection == null)
+    {
+      _projection = null;
+      return;
+    }
+    _projection = new ProjectionEvaluator(projection);
+    _maskStack = new ArrayList<>();
+    _skippedLists = new BitSet();
+  }
+
+  /**
+   * Validates the data against a schema while decoding, instead of validating the decoded data with
+   * {@link ValidateDataAgainstSchema}, which traverses it again. The decoded data is the fixed data, and the
+   * validation result is available from {@link #getValidationResult()}. This must be called before the decoder
+   * starts reading.
+   * <p>
+   *
+   * If a projection is set with {@link #setProjection(DataMap)}, the required fields it excludes are treated as
+   * optional, since they are skipped.
+   *
+   * @see IncrementalValidation
+   * @param schema the schema of the decoded data.
+   * @param options the validation options, Avro union mode is not supported.
+   * @param validator an optional custom validator, which must not depend on the values of parent elements.
+   */
+  public void setValidation(DataSchema schema, ValidationOptions options, Validator validator)
+  {
+    final ValidationOptions decodingOptions = new ValidationOptions(options);
+    final Predicate treatOptional = options.getTreatOptional();
+    decodingOptions.setTreatOptional(element -> treatOptional.evaluate(element)
+        || (_projection != null && _projection.isExcluded(element.path())));
+    _validation = ValidateDataAgainstSchema.startIncrementalValidation(decodingOptions, validator);
+    trackSchema(schema);
+    _elementStack = new ArrayList<>();
+  }
+
+  /**
+   * Binds the decoded records to their schema: the map of a record is created with positional storage using the
+   * field layout of its schema, see {@link DataMap#DataMap(com.linkedin.data.collections.PositionalMap.Layout)}.
+   * This must be called before the decoder starts reading.
+   *
+   * @param schema the schema of the decoded data.
+   */
+  public void setSchema(DataSchema schema)
+  {
+    trackSchema(schema);
+    _bindRecords = true;
+  }
+
+  private void trackSchema(DataSchema schema)
+  {
+    _schema = schema;
+    _schemaStack = new ArrayList<>();
+  }
+
+  /**
+   * @return the result of the validation set with {@link #setValidation(DataSchema, ValidationOptions, Validator)},
+   *         complete once the decoding has completed, or null if there is no validation.
+   */
+  public ValidationResult getValidationResult()
+  {
+    return _validation == null ? null : _validation.getResult();
+  }
+
   @Override
   public void onInit(ReadHandle rh)
   {
@@ -155,14 +274,25 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
       NonBlockingDataParser.Token token;
       while ((token = _parser.nextToken()) != EOF_INPUT)
       {
+        if (_skipDepth > 0 && token != NOT_AVAILABLE)
+        {
+          skipToken(token);
+          continue;
+        }
         validate(token);
+        if (_projection != null && token != NOT_AVAILABLE
+            && (_skipValue || (_isCurrList && _childMask == ProjectionEvaluator.EXCLUDED && token != END_ARRAY)))
+        {
+          skipValue(token);
+          continue;
+        }
         switch (token)
         {
           case START_OBJECT:
-            push(createDataObject(_parser), false);
+            startComplex(false);
             break;
           case START_ARRAY:
-            push(createDataList(_parser), true);
+            startComplex(true);
             break;
           case END_OBJECT:
           case END_ARRAY:
@@ -173,6 +303,15 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
             {
               _currField = _parser.getString();
               _expectedTokens = VALUE;
+              if (_projection != null)
+              {
+                _valueMask = _projection.getFieldMask((DataMap) _childMask, _currField);
+                if (_valueMask == ProjectionEvaluator.EXCLUDED)
+                {
+                  _currField = null;
+                  _skipValue = true;
+                }
+              }
             }
             else
             {
@@ -240,8 +379,43 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
     }
   }
 
+  private void startComplex(boolean isList)
+  {
+    if (_schemaStack == null)
+    {
+      push(isList ? createDataList(_parser) : createDataObject(_parser), isList);
+      return;
+    }
+
+    final DataSchema schema = _stack.isEmpty() ? _schema : childSchema(currentChildName());
+    final DataComplex dataComplex;
+    if (isList)
+    {
+      dataComplex = createDataList(_parser);
+    }
+    else if (_bindRecords && schema != null && schema.getDereferencedType() == DataSchema.Type.RECORD)
+    {
+      dataComplex = new DataMap(((RecordDataSchema) schema.getDereferencedDataSchema()).getFieldLayout());
+    }
+    else
+    {
+      dataComplex = createDataObject(_parser);
+    }
+    if (_validation != null)
+    {
+      pushElement(dataComplex, schema);
+    }
+    _schemaStack.add(_currSchema);
+    _currSchema = schema;
+    push(dataComplex, isList);
+  }
+
   private void push(DataComplex dataComplex, boolean isList)
   {
+    if (_projection != null)
+    {
+      pushMask(isList);
+    }
     if (!(_isCurrList || _stack.isEmpty()))
     {
       _currFieldStack.push(_currField);
@@ -260,6 +434,18 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
 
     DataComplex tmp = _stack.pop();
     tmp = postProcessDataComplex(tmp);
+    if (_projection != null)
+    {
+      _childMask = _maskStack.remove(_maskStack.size() - 1);
+    }
+    if (_validation != null)
+    {
+      tmp = (DataComplex) popElement(tmp);
+    }
+    if (_schemaStack != null)
+    {
+      _currSchema = _schemaStack.remove(_schemaStack.size() - 1);
+    }
     if (_stack.isEmpty())
     {
       _result = (T) tmp;
@@ -278,6 +464,145 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
     }
   }
 
+  private void pushMask(boolean isList)
+  {
+    final Object mask = _stack.isEmpty() ? _projection.getMask() : (_isCurrList ? _childMask : _valueMask);
+    _maskStack.add(_childMask);
+    _childMask = (isList && mask != null) ? _projection.getItemMask((DataMap) mask) : mask;
+    _valueMask = null;
+  }
+
+  private void pushElement(DataComplex dataComplex, DataSchema schema)
+  {
+    final MutableDataElement element;
+    if (_stack.isEmpty())
+    {
+      element = new MutableDataElement(dataComplex, DataElement.ROOT_NAME, schema, null);
+    }
+    else
+    {
+      element = new MutableDataElement(dataComplex, currentChildName(), schema, _currElement);
+      _elementStack.add(_currElement);
+      _elementStack.add(_currChildElement);
+    }
+    _currElement = element;
+    _currChildElement = new MutableDataElement(element);
+  }
+
+  /**
+   * Validates a decoded complex object, and restores the elements of its parent.
+   */
+  private Object popElement(DataComplex dataComplex)
+  {
+    _currElement.setValue(dataComplex);
+    final Object validated = _validation.validateValue(_currElement);
+    if (!_elementStack.isEmpty())
+    {
+      _currChildElement = _elementStack.remove(_elementStack.size() - 1);
+      _currElement = _elementStack.remove(_elementStack.size() - 1);
+    }
+    return validated;
+  }
+
+  /**
+   * Validates a simple value of the current complex object, and returns the value to add to it.
+   */
+  private Object validateSimpleValue(Object value)
+  {
+    final Object name = currentChildName();
+    _currChildElement.setValueNameSchema(value, name, childSchema(name));
+    return _validation.validateValue(_currChildElement);
+  }
+
+  private Object currentChildName()
+  {
+    return _isCurrList ? (Object) ((DataList) _stack.peek()).size() : _currField;
+  }
+
+  /**
+   * Returns the schema of a child of the current complex object, like
+   * {@link com.linkedin.data.it.ObjectIterator} does.
+   */
+  private DataSchema childSchema(Object name)
+  {
+    if (_currSchema == null)
+    {
+      return null;
+    }
+    final DataSchema dereferencedSchema = _currSchema.getDereferencedDataSchema();
+    if (_isCurrList)
+    {
+      return dereferencedSchema.getType() == DataSchema.Type.ARRAY
+          ? ((ArrayDataSchema) dereferencedSchema).getItems() : null;
+    }
+    switch (dereferencedSchema.getType())
+    {
+      case RECORD:
+        final RecordDataSchema.Field field = ((RecordDataSchema) dereferencedSchema).getField((String) name);
+        return field == null ? null : field.getType();
+      case UNION:
+        return ((UnionDataSchema) dereferencedSchema).getTypeByMemberKey((String) name);
+      case MAP:
+        return ((MapDataSchema) dereferencedSchema).getValues();
+      default:
+        // The object is reported as not backed by the right type.
+        return null;
+    }
+  }
+
+  /**
+   * Skips the value starting with the given token, which is excluded by the projection.
+   */
+  private void skipValue(NonBlockingDataParser.Token token)
+  {
+    _skipValue = false;
+    if (token == START_OBJECT || token == START_ARRAY)
+    {
+      enterSkippedValue(token == START_ARRAY);
+    }
+    else
+    {
+      updateExpected();
+    }
+  }
+
+  /**
+   * Skips a token of a complex value excluded by the projection. Only the nesting of the value is tracked, because
+   * the parser relies on {@link #isCurrList()} to end complex values.
+   */
+  private void skipToken(NonBlockingDataParser.Token token)
+  {
+    switch (token)
+    {
+      case START_OBJECT:
+      case START_ARRAY:
+        enterSkippedValue(token == START_ARRAY);
+        break;
+      case END_OBJECT:
+      case END_ARRAY:
+        _skipDepth--;
+        if (_skipDepth > 0)
+        {
+          _isCurrList = _skippedLists.get(_skipDepth - 1);
+        }
+        else
+        {
+          _isCurrList = _stack.peek() instanceof DataList;
+          updateExpected();
+        }
+        break;
+      default:
+        // Field names and simple values of skipped values are dropped.
+    }
+  }
+
+  private void enterSkippedValue(boolean isList)
+  {
+    _skippedLists.set(_skipDepth, isList);
+    _skipDepth++;
+    _isCurrList = isList;
+  }
+
   /**
    * Method invoked to do any post processing on complex object/list after its completely parsed and popped from stack
    */
@@ -293,6 +618,10 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
   {
     if (!_stack.isEmpty())
     {
+      if (_validation != null && !(value instanceof DataComplex))
+      {
+        value = validateSimpleValue(value);
+      }
       DataComplex currItem = _stack.peek();
       if (_isCurrList)
       {
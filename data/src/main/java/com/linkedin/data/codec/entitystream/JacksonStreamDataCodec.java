@@ -51,16 +51,42 @@ public class JacksonStreamDataCodec implements StreamDataCodec
 
   @Override
   public CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream)
+  {
+    return decodeMap(entityStream, new StreamDecodingOptions());
+  }
+
+  @Override
+  public CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, DataMap projection)
+  {
+    return decodeMap(entityStream, new StreamDecodingOptions().setProjection(projection));
+  }
+
+  @Override
+  public CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, StreamDecodingOptions options)
   {
     JacksonJsonDataMapDecoder decoder = new JacksonJsonDataMapDecoder(_jsonFactory);
+    options.configure(decoder);
     entityStream.setReader(decoder);
     return decoder.getResult();
   }
 
   @Override
   public CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream)
+  {
+    return decodeList(entityStream, new StreamDecodingOptions());
+  }
+
+  @Override
+  public CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream, DataMap projection)
+  {
+    return decodeList(entityStream, new StreamDecodingOptions().setProjection(projection));
+  }
+
+  @Override
+  public CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream, StreamDecodingOptions options)
   {
     JacksonJsonDataListDecoder decoder = new JacksonJsonDataListDecoder(_jsonFactory);
+    options.configure(decoder);
     entityStream.setReader(decoder);
     return decoder.getResult();
   }
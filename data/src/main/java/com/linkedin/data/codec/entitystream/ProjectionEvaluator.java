@@ -0,0 +1,223 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.linkedin.data.codec.entitystream;
+
+import com.linkedin.data.DataMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Evaluates a projection mask, in the format of the data map of a
+ * {@code com.linkedin.data.transform.filter.request.MaskTree}, while a data object is decoded, to tell which values
+ * are excluded by the projection so that decoders can skip them without building them.
+ * <p>
+ *
+ * The evaluation follows the semantics of {@code com.linkedin.data.transform.filter.Filter}, but is conservative:
+ * a value is only excluded if the filter would remove it. Masks that can not be evaluated from the field names
+ * alone, like array ranges or field masks composed with a wildcard mask, include the values. The decoded data still
+ * has to be filtered to get the exact projection.
+ */
+final class ProjectionEvaluator
+{
+  /**
+   * Mask of a value excluded by the projection.
+   */
+  static final Object EXCLUDED = new Object();
+
+  // Constants of com.linkedin.data.transform.filter.FilterConstants, which is not available in this module.
+  private static final String WILDCARD = "$*";
+  private static final String START = "$start";
+  private static final String COUNT = "$count";
+  private static final Integer POSITIVE = 1;
+  private static final Integer NEGATIVE = 0;
+
+  /**
+   * Same as com.linkedin.data.transform.filter.NodeMode.
+   */
+  private enum NodeMode
+  {
+    HIDE_HIGH,
+    SHOW_HIGH,
+    HIDE_LOW,
+    SHOW_LOW
+  }
+
+  private final DataMap _mask;
+  private final Map<DataMap, NodeMode> _defaultNodeModes = new IdentityHashMap<>();
+
+  ProjectionEvaluator(DataMap mask)
+  {
+    _mask = mask;
+  }
+
+  /**
+   * @return the mask of the root data object.
+   */
+  DataMap getMask()
+  {
+    return _mask;
+  }
+
+  /**
+   * Returns the mask of a field of a data map.
+   *
+   * @param mapMask the mask of the data map, or null if the data map is not filtered.
+   * @param field the name of the field.
+   * @return {@link #EXCLUDED} if the field is excluded, the mask of its value if the value is filtered, or null if
+   *         the value is not filtered.
+   */
+  Object getFieldMask(DataMap mapMask, String field)
+  {
+    if (mapMask == null)
+    {
+      return null;
+    }
+
+    final Object fieldMask = mapMask.get(field.indexOf('$') < 0 ? field : field.replace("$", "$$"));
+    if (fieldMask instanceof Integer)
+    {
+      return NEGATIVE.equals(fieldMask) ? EXCLUDED : null;
+    }
+
+    final Object wildcard = mapMask.get(WILDCARD);
+    final NodeMode defaultMode = getDefaultNodeMode(mapMask);
+    if (fieldMask == null)
+    {
+      if (defaultMode == NodeMode.HIDE_HIGH)
+      {
+        return EXCLUDED;
+      }
+      final DataMap complexWildcard = wildcard instanceof DataMap ? (DataMap) wildcard : null;
+      if (defaultMode == NodeMode.HIDE_LOW
+          && (complexWildcard == null || getDefaultNodeMode(complexWildcard) != NodeMode.HIDE_LOW))
+      {
+        return EXCLUDED;
+      }
+      return complexWildcard;
+    }
+
+    // The filter composes the field mask with the wildcard mask, which is not worth doing while decoding.
+    if (fieldMask instanceof DataMap && wildcard == null)
+    {
+      final DataMap childMask = (DataMap) fieldMask;
+      if (defaultMode == NodeMode.HIDE_LOW)
+      {
+        final NodeMode childMode = getDefaultNodeMode(childMask);
+        if (childMode == NodeMode.SHOW_LOW || childMode == NodeMode.HIDE_HIGH)
+        {
+          return EXCLUDED;
+        }
+      }
+      return childMask;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the mask of the items of a data list.
+   *
+   * @param listMask the mask of the data list.
+   * @return {@link #EXCLUDED} if all items are excluded, the mask of the items if they are filtered, or null if they
+   *         are not filtered.
+   */
+  Object getItemMask(DataMap listMask)
+  {
+    final Object wildcard = listMask.get(WILDCARD);
+    if (NEGATIVE.equals(wildcard))
+    {
+      return EXCLUDED;
+    }
+    return wildcard instanceof DataMap ? wildcard : null;
+  }
+
+  /**
+   * Tells whether the value at a path of the root data object is excluded by the projection, whether it is present
+   * or not.
+   *
+   * @param path the path of the value, made of field names and list indexes.
+   * @return true if the value, or one of its ancestors, is excluded.
+   */
+  boolean isExcluded(Object[] path)
+  {
+    Object mask = _mask;
+    for (Object component : path)
+    {
+      if (mask == null)
+      {
+        return false;
+      }
+      mask = component instanceof Integer ? getItemMask((DataMap) mask) : getFieldMask((DataMap) mask, component.toString());
+      if (mask == EXCLUDED)
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Same as com.linkedin.data.transform.filter.DefaultNodeModeCalculator#getDefaultNodeMode(DataMap).
+   */
+  private NodeMode getDefaultNodeMode(DataMap mask)
+  {
+    NodeMode defaultMode = _defaultNodeModes.get(mask);
+    if (defaultMode == null)
+    {
+      final Object wildcard = mask.get(WILDCARD);
+      if (NEGATIVE.equals(wildcard))
+      {
+        defaultMode = NodeMode.HIDE_HIGH;
+      }
+      else if (isMarkedAsMergedWith1(wildcard))
+      {
+        defaultMode = NodeMode.SHOW_HIGH;
+      }
+      else
+      {
+        // Array ranges and positive masks of the children hide the fields that are not selected.
+        defaultMode = NodeMode.SHOW_LOW;
+        for (Map.Entry<String, Object> entry : mask.entrySet())
+        {
+          final Object value = entry.getValue();
+          if (entry.getKey().equals(START) || entry.getKey().equals(COUNT) || POSITIVE.equals(value))
+          {
+            defaultMode = NodeMode.HIDE_LOW;
+            break;
+          }
+          if (value instanceof DataMap)
+          {
+            final NodeMode childMode = getDefaultNodeMode((DataMap) value);
+            if (childMode == NodeMode.HIDE_LOW || childMode == NodeMode.SHOW_HIGH)
+            {
+              defaultMode = NodeMode.HIDE_LOW;
+              break;
+            }
+          }
+        }
+      }
+      _defaultNodeModes.put(mask, defaultMode);
+    }
+    return defaultMode;
+  }
+
+  private static boolean isMarkedAsMergedWith1(Object mask)
+  {
+    return mask != null
+        && (POSITIVE.equals(mask) || (mask instanceof DataMap && isMarkedAsMergedWith1(((DataMap) mask).get(WILDCARD))));
+  }
+}
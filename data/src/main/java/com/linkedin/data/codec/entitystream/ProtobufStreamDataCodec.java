@@ -49,18 +49,44 @@ public class ProtobufStreamDataCodec implements StreamDataCodec
 
   @Override
   public CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream)
+  {
+    return decodeMap(entityStream, new StreamDecodingOptions());
+  }
+
+  @Override
+  public CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, DataMap projection)
+  {
+    return decodeMap(entityStream, new StreamDecodingOptions().setProjection(projection));
+  }
+
+  @Override
+  public CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, StreamDecodingOptions options)
   {
     ProtobufDataDecoder<DataMap> decoder =
         new ProtobufDataDecoder<>(_options.getSymbolTable(), AbstractDataDecoder.START_OBJECT_TOKEN);
+    options.configure(decoder);
     entityStream.setReader(decoder);
     return decoder.getResult();
   }
 
   @Override
   public CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream)
+  {
+    return decodeList(entityStream, new StreamDecodingOptions());
+  }
+
+  @Override
+  public CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream, DataMap projection)
+  {
+    return decodeList(entityStream, new StreamDecodingOptions().setProjection(projection));
+  }
+
+  @Override
+  public CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream, StreamDecodingOptions options)
   {
     ProtobufDataDecoder<DataList> decoder =
         new ProtobufDataDecoder<>(_options.getSymbolTable(), AbstractDataDecoder.START_ARRAY_TOKEN);
+    options.configure(decoder);
     entityStream.setReader(decoder);
     return decoder.getResult();
   }
@@ -45,6 +45,46 @@ public interface StreamDataCodec
    */
   CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream);
 
+  /**
+   * Decodes a <code>DataMap</code> from the <code>EntityStream</code>, skipping the values excluded by the given
+   * projection if the codec supports it. The result still has to be filtered with the projection.
+   *
+   * @param projection the data map of a {@code com.linkedin.data.transform.filter.request.MaskTree}.
+   */
+  default CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, DataMap projection)
+  {
+    return decodeMap(entityStream);
+  }
+
+  /**
+   * Decodes a <code>DataList</code> from the <code>EntityStream</code>, skipping the values excluded by the given
+   * projection if the codec supports it. The result still has to be filtered with the projection.
+   *
+   * @param projection the data map of a {@code com.linkedin.data.transform.filter.request.MaskTree}.
+   */
+  default CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream, DataMap projection)
+  {
+    return decodeList(entityStream);
+  }
+
+  /**
+   * Decodes a <code>DataMap</code> from the <code>EntityStream</code> with the given options, of which the codec
+   * ignores the ones it does not support.
+   */
+  default CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, StreamDecodingOptions options)
+  {
+    return decodeMap(entityStream, options.getProjection());
+  }
+
+  /**
+   * Decodes a <code>DataList</code> from the <code>EntityStream</code> with the given options, of which the codec
+   * ignores the ones it does not support.
+   */
+  default CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream, StreamDecodingOptions options)
+  {
+    return decodeList(entityStream, options.getProjection());
+  }
+
   /**
    * Encodes a <code>DataMap</code> to an <code>EntityStream</code>.
    */
@@ -0,0 +1,124 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec.entitystream;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.validation.ValidationOptions;
+import com.linkedin.data.schema.validation.ValidationResult;
+import com.linkedin.data.schema.validator.Validator;
+
+
+/**
+ * Options of the decoding of a {@link StreamDataCodec}. Options that a codec does not support are ignored. Options
+ * with a validation must only be used for one decoding.
+ */
+public class StreamDecodingOptions
+{
+  private DataMap _projection;
+  private DataSchema _schema;
+  private DataSchema _validationSchema;
+  private ValidationOptions _validationOptions;
+  private Validator _validator;
+  private AbstractDataDecoder<?> _validatingDecoder;
+
+  /**
+   * @return the projection to apply while decoding, or null.
+   */
+  public DataMap getProjection()
+  {
+    return _projection;
+  }
+
+  /**
+   * Sets a projection to apply while decoding, see {@link AbstractDataDecoder#setProjection(DataMap)}. The decoded
+   * data still has to be filtered with the projection.
+   *
+   * @param projection the data map of a {@code com.linkedin.data.transform.filter.request.MaskTree}, or null.
+   * @return these options.
+   */
+  public StreamDecodingOptions setProjection(DataMap projection)
+  {
+    _projection = projection;
+    return this;
+  }
+
+  /**
+   * @return the schema of the decoded data, or null.
+   */
+  public DataSchema getSchema()
+  {
+    return _schema;
+  }
+
+  /**
+   * Sets the schema of the decoded data. If {@link DataMap#isSchemaBoundStorageEnabled()}, the maps of records are
+   * bound to the schema of their record, see {@link AbstractDataDecoder#setSchema(DataSchema)}.
+   *
+   * @param schema the schema of the decoded data, or null.
+   * @return these options.
+   */
+  public StreamDecodingOptions setSchema(DataSchema schema)
+  {
+    _schema = schema;
+    return this;
+  }
+
+  /**
+   * Validates the decoded data while decoding, see
+   * {@link AbstractDataDecoder#setValidation(DataSchema, ValidationOptions, Validator)}. Codecs that do not support it
+   * leave {@link #getValidationResult()} null, and the decoded data has to be validated as usual.
+   *
+   * @param schema the schema of the decoded data.
+   * @param options the validation options, Avro union mode is not supported.
+   * @param validator an optional custom validator, which must not depend on the values of parent elements.
+   * @return these options.
+   */
+  public StreamDecodingOptions setValidation(DataSchema schema, ValidationOptions options, Validator validator)
+  {
+    _validationSchema = schema;
+    _validationOptions = options;
+    _validator = validator;
+    return this;
+  }
+
+  /**
+   * @return the result of the validation set with {@link #setValidation(DataSchema, ValidationOptions, Validator)},
+   *         complete once the decoding has completed, or null if the data was not validated while decoded.
+   */
+  public ValidationResult getValidationResult()
+  {
+    return _validatingDecoder == null ? null : _validatingDecoder.getValidationResult();
+  }
+
+  /**
+   * Applies these options to a decoder before it starts reading.
+   */
+  void configure(AbstractDataDecoder<?> decoder)
+  {
+    decoder.setProjection(_projection);
+    if (_validationSchema != null)
+    {
+      decoder.setValidation(_validationSchema, _validationOptions, _validator);
+      _validatingDecoder = decoder;
+    }
+    if (_schema != null && DataMap.isSchemaBoundStorageEnabled())
+    {
+      decoder.setSchema(_schema);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec.symbol;
+
+import com.linkedin.util.ArgumentUtil;
+
+
+/**
+ * A {@link SymbolTable} that records the symbol ID lookups made by encoders on a {@link SymbolUsageProfiler}, and
+ * delegates everything to another symbol table.
+ */
+public class ProfilingSymbolTable implements SymbolTable
+{
+  private final SymbolTable _symbolTable;
+  private final SymbolUsageProfiler _profiler;
+
+  public ProfilingSymbolTable(SymbolTable symbolTable, SymbolUsageProfiler profiler)
+  {
+    _symbolTable = ArgumentUtil.ensureNotNull(symbolTable, "symbolTable");
+    _profiler = ArgumentUtil.ensureNotNull(profiler, "profiler");
+  }
+
+  @Override
+  public int getSymbolId(String symbolName)
+  {
+    int symbolId = _symbolTable.getSymbolId(symbolName);
+    if (symbolId == UNKNOWN_SYMBOL_ID)
+    {
+      _profiler.recordMiss(symbolName);
+    }
+    else
+    {
+      _profiler.recordHit(symbolName, symbolId);
+    }
+    return symbolId;
+  }
+
+  @Override
+  public String getSymbolName(int symbolId)
+  {
+    return _symbolTable.getSymbolName(symbolId);
+  }
+
+  @Override
+  public String getName()
+  {
+    return _symbolTable.getName();
+  }
+
+  @Override
+  public int size()
+  {
+    return _symbolTable.size();
+  }
+
+  /**
+   * @return the symbol table this table delegates to.
+   */
+  public SymbolTable getSymbolTable()
+  {
+    return _symbolTable;
+  }
+}
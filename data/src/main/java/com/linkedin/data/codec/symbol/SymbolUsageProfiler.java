@@ -0,0 +1,176 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec.symbol;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+
+/**
+ * Profiles the symbol lookups made while encoding, to learn frequently encoded map keys and string values that are
+ * missing from a symbol table, and to measure how effective the symbol table is.
+ * <p>
+ *
+ * Missed strings are counted as candidate symbols. The number of distinct candidates is bounded, once the bound is
+ * reached only the existing candidates are counted until {@link #takeFrequentSymbols(int, int)} is called.
+ * <p>
+ *
+ * The hit rate and the bytes saved can be monitored by registering the profiler on an MBean server, see
+ * {@link SymbolUsageProfilerMBean}.
+ * <p>
+ *
+ * This class is thread-safe.
+ */
+public class SymbolUsageProfiler implements SymbolUsageProfilerMBean
+{
+  public static final int DEFAULT_MAX_CANDIDATES = 10000;
+  public static final int DEFAULT_MAX_SYMBOL_LENGTH = 256;
+
+  private final int _maxCandidates;
+  private final int _maxSymbolLength;
+  private final Map<String, LongAdder> _candidates = new ConcurrentHashMap<>();
+
+  private final LongAdder _lookups = new LongAdder();
+  private final LongAdder _hits = new LongAdder();
+  private final LongAdder _bytesSaved = new LongAdder();
+
+  public SymbolUsageProfiler()
+  {
+    this(DEFAULT_MAX_CANDIDATES, DEFAULT_MAX_SYMBOL_LENGTH);
+  }
+
+  /**
+   * @param maxCandidates the maximum number of distinct candidate symbols tracked at a time.
+   * @param maxSymbolLength the maximum length of a candidate symbol, longer strings are never learned.
+   */
+  public SymbolUsageProfiler(int maxCandidates, int maxSymbolLength)
+  {
+    _maxCandidates = maxCandidates;
+    _maxSymbolLength = maxSymbolLength;
+  }
+
+  /**
+   * Records a lookup of a symbol found in the symbol table.
+   */
+  public void recordHit(String symbol, int symbolId)
+  {
+    _lookups.increment();
+    _hits.increment();
+    // A string literal is encoded as its length followed by its bytes, a reference as the symbol ID. Both are
+    // preceded by a one byte ordinal. The byte length of the symbol is estimated from its character count.
+    _bytesSaved.add(varIntSize(symbol.length()) + symbol.length() - varIntSize(symbolId));
+  }
+
+  /**
+   * Records a lookup of a string missing from the symbol table.
+   */
+  public void recordMiss(String string)
+  {
+    _lookups.increment();
+    if (string.length() > _maxSymbolLength)
+    {
+      return;
+    }
+    LongAdder count = _candidates.get(string);
+    if (count == null)
+    {
+      if (_candidates.size() >= _maxCandidates)
+      {
+        return;
+      }
+      count = _candidates.computeIfAbsent(string, key -> new LongAdder());
+    }
+    count.increment();
+  }
+
+  /**
+   * Returns the most frequently missed strings, and resets the candidates.
+   *
+   * @param minOccurrences the minimum number of misses of a string to return it.
+   * @param maxSymbols the maximum number of strings to return.
+   * @return the strings, most frequent first.
+   */
+  public List<String> takeFrequentSymbols(int minOccurrences, int maxSymbols)
+  {
+    List<Map.Entry<String, Long>> counts = new ArrayList<>(_candidates.size());
+    for (Map.Entry<String, LongAdder> entry : _candidates.entrySet())
+    {
+      long count = entry.getValue().sum();
+      if (count >= minOccurrences)
+      {
+        counts.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), count));
+      }
+    }
+    _candidates.clear();
+
+    return counts.stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+        .limit(maxSymbols)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return the number of distinct candidate symbols currently tracked.
+   */
+  @Override
+  public int getCandidateCount()
+  {
+    return _candidates.size();
+  }
+
+  @Override
+  public long getLookupCount()
+  {
+    return _lookups.sum();
+  }
+
+  @Override
+  public long getHitCount()
+  {
+    return _hits.sum();
+  }
+
+  /**
+   * @return the fraction of lookups that found the symbol in the symbol table, or 0 if there was no lookup.
+   */
+  @Override
+  public double getHitRate()
+  {
+    long lookups = _lookups.sum();
+    return lookups == 0 ? 0 : (double) _hits.sum() / lookups;
+  }
+
+  /**
+   * @return the estimated number of bytes saved by encoding symbol references instead of string literals.
+   */
+  @Override
+  public long getBytesSaved()
+  {
+    return _bytesSaved.sum();
+  }
+
+  private static int varIntSize(int value)
+  {
+    return value < (1 << 7) ? 1 : value < (1 << 14) ? 2 : value < (1 << 21) ? 3 : value < (1 << 28) ? 4 : 5;
+  }
+}
@@ -36,6 +36,10 @@ import java.util.function.Consumer;
  * with this {@link CheckedList}.
  * <p>
  *
+ * The elements of a {@link CheckedList} may also be deferred, i.e. loaded from a
+ * {@link DeferredContents} the first time the list is accessed.
+ * <p>
+ *
  * A {@link CheckedList} may be marked read-only to disable mutations,
  * and to avoid unintentional changes. It may also be invalidated to
  * release its reference and decrease the reference count on the underlying
@@ -116,12 +120,27 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
     _list = new InternalList<>(initialCapacity);
   }
 
+  /**
+   * Construct a new list with the specified initial capacity and {@link ListChecker},
+   * whose elements are loaded from the specified {@link DeferredContents} the first time
+   * the list is accessed. The loaded elements are not checked.
+   *
+   * @param contents provides the elements of the list.
+   * @param initialCapacity provides the initial capacity.
+   * @param checker provides the {@link ListChecker}.
+   */
+  protected CheckedList(DeferredContents<List<E>> contents, int initialCapacity, ListChecker<E> checker)
+  {
+    this(initialCapacity, checker);
+    _deferred = contents;
+  }
+
   @Override
   public boolean add(E e)
   {
     check(e);
     checkMutability();
-    return _list.add(e);
+    return list().add(e);
   }
 
   @Override
@@ -129,7 +148,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     check(element);
     checkMutability();
-    _list.add(index, element);
+    list().add(index, element);
   }
 
   @Override
@@ -137,7 +156,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     checkAll(c);
     checkMutability();
-    return _list.addAll(c);
+    return list().addAll(c);
   }
 
   @Override
@@ -145,20 +164,21 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     checkAll(c);
     checkMutability();
-    return _list.addAll(index, c);
+    return list().addAll(index, c);
   }
 
   @Override
   public void clear()
   {
     checkMutability();
-    _list.clear();
+    list().clear();
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public CheckedList<E> clone() throws CloneNotSupportedException
   {
+    loadDeferred();
     CheckedList<E> o = (CheckedList<E>) super.clone();
     o._list = (InternalList<E>) _list.clone();
     o._readOnly = false;
@@ -168,84 +188,84 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   @Override
   public boolean contains(Object o)
   {
-    return _list.contains(o);
+    return list().contains(o);
   }
 
   @Override
   public boolean containsAll(Collection<?> c)
   {
-    return _list.containsAll(c);
+    return list().containsAll(c);
   }
 
   @Override
   public boolean equals(Object object)
   {
-    return _list.equals(object);
+    return list().equals(object);
   }
 
   @Override
   public E get(int index)
   {
-    return _list.get(index);
+    return list().get(index);
   }
 
   @Override
   public int hashCode()
   {
-    return _list.hashCode();
+    return list().hashCode();
   }
 
   @Override
   public int indexOf(Object o)
   {
-    return _list.indexOf(o);
+    return list().indexOf(o);
   }
 
   @Override
   public boolean isEmpty()
   {
-    return _list.isEmpty();
+    return list().isEmpty();
   }
 
   @Override
   public int lastIndexOf(Object o)
   {
-    return _list.lastIndexOf(o);
+    return list().lastIndexOf(o);
   }
 
   @Override
   public E remove(int index)
   {
     checkMutability();
-    return _list.remove(index);
+    return list().remove(index);
   }
 
   @Override
   public boolean remove(Object o)
   {
     checkMutability();
-    return _list.remove(o);
+    return list().remove(o);
   }
 
   @Override
   public boolean removeAll(Collection<?> c)
   {
     checkMutability();
-    return _list.removeAll(c);
+    return list().removeAll(c);
   }
 
   @Override
   public boolean retainAll(Collection<?> c)
   {
     checkMutability();
-    return _list.retainAll(c);
+    return list().retainAll(c);
   }
 
   @Override
   public void removeRange(int fromIndex, int toIndex)
   {
     checkMutability();
-    _list.removeRange(fromIndex, toIndex);
+    list().removeRange(fromIndex, toIndex);
   }
 
   @Override
@@ -253,37 +273,37 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     check(element);
     checkMutability();
-    return _list.set(index, element);
+    return list().set(index, element);
   }
 
   @Override
   public int size()
   {
-    return _list.size();
+    return list().size();
   }
 
   @Override
   public void forEach(Consumer<? super E> action)
   {
-    _list.forEach(action);
+    list().forEach(action);
   }
 
   @Override
   public Object[] toArray()
   {
-    return _list.toArray();
+    return list().toArray();
   }
 
   @Override
   public <T> T[] toArray(T[] a)
   {
-    return _list.toArray(a);
+    return list().toArray(a);
   }
 
   @Override
   public String toString()
   {
-    return _list.toString();
+    return list().toString();
   }
 
   @Override
@@ -302,6 +322,15 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   public void invalidate()
   {
     _list = null;
+    _deferred = null;
+  }
+
+  /**
+   * @return true if the elements of the list have not been loaded from its {@link DeferredContents} yet.
+   */
+  public final boolean isDeferred()
+  {
+    return _deferred != null;
   }
 
   /**
@@ -316,7 +345,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected boolean addWithoutChecking(E element)
   {
     checkMutability();
-    return _list.add(element);
+    return list().add(element);
   }
 
   /**
@@ -332,7 +361,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected void addWithoutChecking(int index, E element)
   {
     checkMutability();
-    _list.add(index, element);
+    list().add(index, element);
   }
 
   /**
@@ -347,7 +376,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected E setWithoutChecking(int index, E element)
   {
     checkMutability();
-    return _list.set(index, element);
+    return list().set(index, element);
   }
 
   boolean addWithAssertChecking(E element)
@@ -415,9 +444,47 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
    */
   protected final List<E> getObject()
   {
+    return list();
+  }
+
+  private InternalList<E> list()
+  {
+    if (_deferred != null)
+    {
+      loadDeferred();
+    }
     return _list;
   }
 
+  private void loadDeferred()
+  {
+    DeferredContents<List<E>> deferred = _deferred;
+    if (deferred == null)
+    {
+      return;
+    }
+    // Readers may share a list that is not mutated, so the contents are loaded once under the lock of the
+    // contents, and published to readers that find the contents loaded by the volatile write of _deferred.
+    synchronized (deferred)
+    {
+      if (_deferred != deferred || _list == null)
+      {
+        return;
+      }
+      try
+      {
+        deferred.load(_list);
+        _deferred = null;
+      }
+      catch (RuntimeException e)
+      {
+        // Leave the list empty, so that every access fails the same way instead of exposing partial contents.
+        _list.clear();
+        throw e;
+      }
+    }
+  }
+
   @SuppressWarnings("serial")
   private static class InternalList<E> extends ArrayList<E>
   {
@@ -442,4 +509,5 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected ListChecker<E> _checker;
   private boolean _readOnly = false;
   private InternalList<E> _list;
+  private volatile DeferredContents<List<E>> _deferred;
 }
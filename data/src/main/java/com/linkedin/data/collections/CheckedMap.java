@@ -39,14 +39,20 @@ import java.util.function.Predicate;
  * keys and values being stored into the {@link CheckedMap}.
  * <p>
  *
- * The underlying map implementation is {@link HashMap}. It delegates
- * map operations to the underlying {@link HashMap} associated
+ * The underlying map implementation is {@link HashMap}, {@link CompactHashMap}
+ * if the map is constructed with compact storage, or {@link PositionalMap} if the map
+ * uses positional storage. It delegates
+ * map operations to the underlying map associated
  * with this {@link CheckedMap}.
  * <P>
  *
+ * The entries of a {@link CheckedMap} may also be deferred, i.e. loaded from a
+ * {@link DeferredContents} the first time the map is accessed.
+ * <p>
+ *
  * A {@link CheckedMap} may be marked read-only to disable mutations,
  * and to avoid unintentional changes. It may also be invalidated
- * to release its reference the underlying {@link HashMap}.
+ * to release its reference the underlying map.
  * <p>
  *
  * The {@link #entrySet}, {@link #keySet} and {@link #values}
@@ -161,6 +167,108 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
     _map = new HashMap<>(initialCapacity, loadFactor);
   }
 
+  /**
+   * Construct an empty map with the specified {@link MapChecker}, optionally backed by
+   * a {@link CompactHashMap} instead of a {@link HashMap}.
+   *
+   * @param checker provides the {@link MapChecker}.
+   * @param compactStorage if true, the underlying map is a {@link CompactHashMap}.
+   */
+  protected CheckedMap(MapChecker<K,V> checker, boolean compactStorage)
+  {
+    _checker = checker;
+    _map = compactStorage ? new CompactHashMap<>() : new HashMap<>();
+  }
+
+  /**
+   * Construct a map with the initial entries provided by the specified map
+   * and specified {@link MapChecker}, optionally backed by a {@link CompactHashMap}
+   * instead of a {@link HashMap}.
+   *
+   * @param map provides the initial entries of the new map.
+   * @param checker provides the {@link MapChecker}.
+   * @param compactStorage if true, the underlying map is a {@link CompactHashMap}.
+   */
+  protected CheckedMap(Map<? extends K,? extends V> map, MapChecker<K,V> checker, boolean compactStorage)
+  {
+    _checker = checker;
+    checkAll(map);
+    _map = compactStorage ? new CompactHashMap<>(map) : new HashMap<>(map);
+  }
+
+  /**
+   * Construct a map with the specified initial capacity and {@link MapChecker},
+   * optionally backed by a {@link CompactHashMap} instead of a {@link HashMap}.
+   * <p>
+   *
+   * The initial capacity is interpreted as for {@link HashMap} with the default load factor,
+   * i.e. a compact map is sized to hold as many entries as a {@link HashMap} of that capacity
+   * can hold without resizing.
+   *
+   * @param initialCapacity provides the initial capacity.
+   * @param checker provides the {@link MapChecker}.
+   * @param compactStorage if true, the underlying map is a {@link CompactHashMap}.
+   */
+  protected CheckedMap(int initialCapacity, MapChecker<K,V> checker, boolean compactStorage)
+  {
+    _checker = checker;
+    _map = compactStorage ? new CompactHashMap<>((int) (initialCapacity * 0.75f)) : new HashMap<>(initialCapacity);
+  }
+
+  /**
+   * Construct a map with the specified initial capacity, load factor and {@link MapChecker},
+   * optionally backed by a {@link CompactHashMap} instead of a {@link HashMap}. The load factor
+   * only applies to a {@link HashMap}.
+   *
+   * @param initialCapacity provides the initial capacity.
+   * @param loadFactor provides the load factor.
+   * @param checker provides the {@link MapChecker}.
+   * @param compactStorage if true, the underlying map is a {@link CompactHashMap}.
+   *
+   * @see #CheckedMap(int, MapChecker, boolean)
+   */
+  protected CheckedMap(int initialCapacity, float loadFactor, MapChecker<K,V> checker, boolean compactStorage)
+  {
+    _checker = checker;
+    _map = compactStorage
+        ? new CompactHashMap<>((int) (initialCapacity * 0.75f))
+        : new HashMap<>(initialCapacity, loadFactor);
+  }
+
+  /**
+   * Construct a map with the specified initial capacity and {@link MapChecker}, whose entries
+   * are loaded from the specified {@link DeferredContents} the first time the map is accessed.
+   * The loaded entries are not checked.
+   *
+   * @param contents provides the entries of the map.
+   * @param initialCapacity provides the initial capacity.
+   * @param checker provides the {@link MapChecker}.
+   * @param compactStorage if true, the underlying map is a {@link CompactHashMap}.
+   *
+   * @see #CheckedMap(int, MapChecker, boolean)
+   */
+  protected CheckedMap(DeferredContents<Map<K,V>> contents, int initialCapacity, MapChecker<K,V> checker,
+      boolean compactStorage)
+  {
+    this(initialCapacity, checker, compactStorage);
+    _deferred = contents;
+  }
+
+  /**
+   * Construct an empty map with positional storage using the specified layout
+   * and {@link MapChecker}.
+   *
+   * @param layout provides the positions of well-known keys.
+   * @param checker provides the {@link MapChecker}.
+   *
+   * @see PositionalMap
+   */
+  protected CheckedMap(PositionalMap.Layout<K> layout, MapChecker<K,V> checker)
+  {
+    _checker = checker;
+    _map = new PositionalMap<>(layout);
+  }
+
   @Override
   public void clear()
   {
@@ -170,7 +278,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
     {
       keys = new HashSet<>(keySet());
     }
-    _map.clear();
+    map().clear();
     if (keys != null)
     {
       notifyChangeListenersOnClear(keys);
@@ -181,8 +289,20 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   @SuppressWarnings("unchecked")
   public CheckedMap<K,V> clone() throws CloneNotSupportedException
   {
+    loadDeferred();
     CheckedMap<K,V> o = (CheckedMap<K,V>) super.clone();
-    o._map = (HashMap<K,V>) _map.clone();
+    if (_map instanceof CompactHashMap)
+    {
+      o._map = ((CompactHashMap<K,V>) _map).clone();
+    }
+    else if (_map instanceof PositionalMap)
+    {
+      o._map = ((PositionalMap<K,V>) _map).clone();
+    }
+    else
+    {
+      o._map = (HashMap<K,V>) ((HashMap<K,V>) _map).clone();
+    }
     o._readOnly = false;
     o._changeListenerHead = null;
     o._changeListenerReferenceQueue = null;
@@ -192,13 +312,13 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   @Override
   public boolean containsKey(Object key)
   {
-    return _map.containsKey(key);
+    return map().containsKey(key);
   }
 
   @Override
   public boolean containsValue(Object value)
   {
-    return _map.containsValue(value);
+    return map().containsValue(value);
   }
 
   /**
@@ -209,31 +329,31 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   @Override
   public Set<java.util.Map.Entry<K, V>> entrySet()
   {
-    return Collections.unmodifiableMap(_map).entrySet();
+    return Collections.unmodifiableMap(map()).entrySet();
   }
 
   @Override
   public boolean equals(Object object)
   {
-    return _map.equals(object);
+    return map().equals(object);
   }
 
   @Override
   public V get(Object key)
   {
-    return _map.get(key);
+    return map().get(key);
   }
 
   @Override
   public int hashCode()
   {
-    return _map.hashCode();
+    return map().hashCode();
   }
 
   @Override
   public boolean isEmpty()
   {
-    return _map.isEmpty();
+    return map().isEmpty();
   }
 
   /**
@@ -244,7 +364,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   @Override
   public Set<K> keySet()
   {
-    return Collections.unmodifiableSet(_map.keySet());
+    return Collections.unmodifiableSet(map().keySet());
   }
 
   @Override
@@ -252,7 +372,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   {
     checkKeyValue(key, value);
     checkMutability();
-    V oldValue = _map.put(key, value);
+    V oldValue = map().put(key, value);
     notifyChangeListenersOnPut(key, value);
     return oldValue;
   }
@@ -262,7 +382,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   {
     checkAll(m);
     checkMutability();
-    _map.putAll(m);
+    map().putAll(m);
     notifyChangeListenersOnPutAll(m);
   }
 
@@ -271,7 +391,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   public V remove(Object key)
   {
     checkMutability();
-    V oldValue = _map.remove(key);
+    V oldValue = map().remove(key);
 
     if (!(oldValue == null || oldValue == Data.NULL))
     {
@@ -284,13 +404,13 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   @Override
   public String toString()
   {
-    return _map.toString();
+    return map().toString();
   }
 
   @Override
   public void forEach(BiConsumer<? super K, ? super V> action)
   {
-    _map.forEach(action);
+    map().forEach(action);
   }
 
   /**
@@ -303,13 +423,13 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   public boolean removeIf(Predicate<? super Entry<K, V>> filter)
   {
     checkMutability();
-    return _map.entrySet().removeIf(filter);
+    return map().entrySet().removeIf(filter);
   }
 
   @Override
   public int size()
   {
-    return _map.size();
+    return map().size();
   }
 
   /**
@@ -320,7 +440,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   @Override
   public Collection<V> values()
   {
-    return Collections.unmodifiableCollection(_map.values());
+    return Collections.unmodifiableCollection(map().values());
   }
 
   @Override
@@ -335,10 +455,87 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
     _readOnly = true;
   }
 
+  /**
+   * @return true if the underlying map is a {@link CompactHashMap}.
+   */
+  public final boolean isCompactStorage()
+  {
+    return _map instanceof CompactHashMap;
+  }
+
+  /**
+   * @return true if the underlying map is a {@link PositionalMap}.
+   */
+  public final boolean isPositionalStorage()
+  {
+    return _map instanceof PositionalMap;
+  }
+
+  /**
+   * @return the layout of the underlying {@link PositionalMap}, or null if the map does not use positional storage.
+   */
+  @SuppressWarnings("unchecked")
+  public final PositionalMap.Layout<K> getPositionalLayout()
+  {
+    return _map instanceof PositionalMap ? ((PositionalMap<K,V>) _map).getLayout() : null;
+  }
+
+  /**
+   * Returns the value of a key given its position in the layout of this map, see {@link #getPositionalLayout()}.
+   * The map is only accessed by position if it still uses positional storage, otherwise by key.
+   *
+   * @param position provides the position of the key in the layout, or -1 if the key is not in the layout.
+   * @param key provides the key, which must be at the specified position of the layout.
+   * @return the value of the key, or null if not present.
+   */
+  @SuppressWarnings("unchecked")
+  public V getAt(int position, Object key)
+  {
+    Map<K,V> map = map();
+    if (position >= 0 && map instanceof PositionalMap)
+    {
+      return ((PositionalMap<K,V>) map).getAt(position);
+    }
+    return map.get(key);
+  }
+
+  /**
+   * Switch an empty map to positional storage using the specified layout.
+   * <p>
+   *
+   * This has no effect if the map is not empty, is read-only, or already uses positional storage,
+   * so it is always safe to call on a map that may be shared.
+   *
+   * @param layout provides the positions of well-known keys.
+   * @return true if the map now uses positional storage with the specified layout.
+   */
+  public final boolean usePositionalStorage(PositionalMap.Layout<K> layout)
+  {
+    if (_map instanceof PositionalMap)
+    {
+      return ((PositionalMap<K,V>) _map).getLayout() == layout;
+    }
+    if (_readOnly || _map == null || !map().isEmpty())
+    {
+      return false;
+    }
+    _map = new PositionalMap<>(layout);
+    return true;
+  }
+
   @Override
   public void invalidate()
   {
     _map = null;
+    _deferred = null;
+  }
+
+  /**
+   * @return true if the entries of the map have not been loaded from its {@link DeferredContents} yet.
+   */
+  public final boolean isDeferred()
+  {
+    return _deferred != null;
   }
 
   private final void checkMutability()
@@ -413,7 +610,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   protected V putWithoutChecking(K key, V value)
   {
     checkMutability();
-    V oldValue = _map.put(key, value);
+    V oldValue = map().put(key, value);
     notifyChangeListenersOnPut(key, value);
     return oldValue;
   }
@@ -439,7 +636,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   {
     checkMutability();
     assert(assertCheckKeyValue(key, value)) : "Check is failed";
-    return _map.put(key, value);
+    return map().put(key, value);
   }
 
   /**
@@ -450,7 +647,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   protected void putAllWithoutChecking(Map<? extends K, ? extends V> src)
   {
     checkMutability();
-    _map.putAll(src);
+    map().putAll(src);
     notifyChangeListenersOnPutAll(src);
   }
 
@@ -467,9 +664,47 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
    */
   protected final Map<K,V> getObject()
   {
+    return map();
+  }
+
+  private Map<K,V> map()
+  {
+    if (_deferred != null)
+    {
+      loadDeferred();
+    }
     return _map;
   }
 
+  private void loadDeferred()
+  {
+    DeferredContents<Map<K,V>> deferred = _deferred;
+    if (deferred == null)
+    {
+      return;
+    }
+    // Readers may share a map that is not mutated, so the contents are loaded once under the lock of the
+    // contents, and published to readers that find the contents loaded by the volatile write of _deferred.
+    synchronized (deferred)
+    {
+      if (_deferred != deferred || _map == null)
+      {
+        return;
+      }
+      try
+      {
+        deferred.load(_map);
+        _deferred = null;
+      }
+      catch (RuntimeException e)
+      {
+        // Leave the map empty, so that every access fails the same way instead of exposing partial contents.
+        _map.clear();
+        throw e;
+      }
+    }
+  }
+
   private boolean assertCheckKeyValue(K key, V value)
   {
     try
@@ -597,7 +832,8 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   // Reference queue holds any change listener weak references finalized by GC. It being non-empty is a signal
   // to purge change listeners of stale entries.
   private ReferenceQueue<ChangeListener<K, V>> _changeListenerReferenceQueue;
-  private HashMap<K,V> _map;
+  private Map<K,V> _map;
+  private volatile DeferredContents<Map<K,V>> _deferred;
 
   /**
    * A singly-linked list node that holds weak references to objects.
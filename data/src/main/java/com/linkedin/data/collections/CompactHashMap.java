@@ -0,0 +1,571 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+
+/**
+ * A memory compact {@link Map} implementation used as an alternative backing store for {@link CheckedMap}.
+ * <p>
+ *
+ * Keys and values are stored interleaved in a single object array, so there is no per-entry node
+ * allocation as there is with {@link java.util.HashMap}. While the map holds at most
+ * {@link #LINEAR_SCAN_THRESHOLD} entries, entries are packed at the start of the array and lookups
+ * are a linear scan, which is faster than hashing for the small records that dominate typical payloads.
+ * Larger maps switch to open addressing with linear probing. Removed slots are marked with a tombstone
+ * so that removal through an iterator never moves entries that have not been visited yet.
+ * <p>
+ *
+ * Iteration order is unspecified and differs from {@link java.util.HashMap}. Null keys and values are supported.
+ * This class is not thread-safe.
+ */
+public final class CompactHashMap<K, V> extends AbstractMap<K, V> implements Cloneable
+{
+  /**
+   * Maximum number of entries held in the linear scan layout before switching to open addressing.
+   */
+  public static final int LINEAR_SCAN_THRESHOLD = 8;
+
+  private static final int MIN_HASHED_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 29;
+  private static final Object[] EMPTY_TABLE = {};
+  private static final Object NULL_KEY = new Object();
+  private static final Object REMOVED = new Object();
+
+  /**
+   * Construct an empty map.
+   */
+  public CompactHashMap()
+  {
+    _table = EMPTY_TABLE;
+  }
+
+  /**
+   * Construct an empty map sized to hold the specified number of entries without resizing.
+   *
+   * @param expectedSize provides the number of entries expected to be stored.
+   */
+  public CompactHashMap(int expectedSize)
+  {
+    if (expectedSize < 0)
+    {
+      throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+    }
+    if (expectedSize == 0)
+    {
+      _table = EMPTY_TABLE;
+    }
+    else if (expectedSize <= LINEAR_SCAN_THRESHOLD)
+    {
+      _table = new Object[expectedSize * 2];
+    }
+    else
+    {
+      _hashed = true;
+      _table = new Object[hashedCapacityFor(expectedSize) * 2];
+    }
+  }
+
+  /**
+   * Construct a map with the entries of the specified map.
+   *
+   * @param map provides the initial entries of the new map.
+   */
+  public CompactHashMap(Map<? extends K, ? extends V> map)
+  {
+    this(map.size());
+    putAll(map);
+  }
+
+  @Override
+  public int size()
+  {
+    return _size;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return _size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    return indexOf(maskNull(key)) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value)
+  {
+    final Object[] table = _table;
+    for (int i = 0; i < table.length; i += 2)
+    {
+      Object k = table[i];
+      if (k != null && k != REMOVED && Objects.equals(table[i + 1], value))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key)
+  {
+    int index = indexOf(maskNull(key));
+    return index < 0 ? null : (V) _table[index + 1];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(K key, V value)
+  {
+    Object k = maskNull(key);
+    int index = indexOf(k);
+    if (index >= 0)
+    {
+      Object oldValue = _table[index + 1];
+      _table[index + 1] = value;
+      return (V) oldValue;
+    }
+
+    ensureCapacity(_size + 1);
+    if (_hashed)
+    {
+      if (insertHashed(_table, k, value))
+      {
+        _tombstones--;
+      }
+    }
+    else
+    {
+      int slot = _size * 2;
+      _table[slot] = k;
+      _table[slot + 1] = value;
+    }
+    _size++;
+    _modCount++;
+    return null;
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> map)
+  {
+    ensureCapacity(_size + map.size());
+    for (Map.Entry<? extends K, ? extends V> e : map.entrySet())
+    {
+      put(e.getKey(), e.getValue());
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(Object key)
+  {
+    int index = indexOf(maskNull(key));
+    if (index < 0)
+    {
+      return null;
+    }
+    Object oldValue = _table[index + 1];
+    removeAt(index);
+    return (V) oldValue;
+  }
+
+  @Override
+  public void clear()
+  {
+    if (_size > 0 || _tombstones > 0)
+    {
+      Arrays.fill(_table, null);
+      _size = 0;
+      _tombstones = 0;
+      _modCount++;
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<? super K, ? super V> action)
+  {
+    final Object[] table = _table;
+    final int expectedModCount = _modCount;
+    for (int i = 0; i < table.length; i += 2)
+    {
+      Object k = table[i];
+      if (k != null && k != REMOVED)
+      {
+        action.accept((K) unmaskNull(k), (V) table[i + 1]);
+      }
+    }
+    if (expectedModCount != _modCount)
+    {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet()
+  {
+    Set<Map.Entry<K, V>> entrySet = _entrySet;
+    if (entrySet == null)
+    {
+      entrySet = new EntrySet();
+      _entrySet = entrySet;
+    }
+    return entrySet;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public CompactHashMap<K, V> clone()
+  {
+    try
+    {
+      CompactHashMap<K, V> o = (CompactHashMap<K, V>) super.clone();
+      o._table = _table.length == 0 ? EMPTY_TABLE : _table.clone();
+      o._entrySet = null;
+      o._modCount = 0;
+      return o;
+    }
+    catch (CloneNotSupportedException e)
+    {
+      throw new AssertionError(e);
+    }
+  }
+
+  /**
+   * @return true if this map has switched from the linear scan layout to open addressing.
+   */
+  boolean isHashed()
+  {
+    return _hashed;
+  }
+
+  private int indexOf(Object key)
+  {
+    final Object[] table = _table;
+    if (!_hashed)
+    {
+      final int end = _size * 2;
+      // Identity comparison first since keys are commonly interned field names.
+      for (int i = 0; i < end; i += 2)
+      {
+        if (table[i] == key)
+        {
+          return i;
+        }
+      }
+      for (int i = 0; i < end; i += 2)
+      {
+        if (table[i].equals(key))
+        {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    final int mask = (table.length >> 1) - 1;
+    int slot = hash(key) & mask;
+    while (true)
+    {
+      Object k = table[slot * 2];
+      if (k == null)
+      {
+        return -1;
+      }
+      if (k == key || (k != REMOVED && k.equals(key)))
+      {
+        return slot * 2;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private void removeAt(int index)
+  {
+    if (_hashed)
+    {
+      _table[index] = REMOVED;
+      _table[index + 1] = null;
+      _tombstones++;
+    }
+    else
+    {
+      // Keep the entries packed by moving the last entry into the vacated slot.
+      int last = (_size - 1) * 2;
+      _table[index] = _table[last];
+      _table[index + 1] = _table[last + 1];
+      _table[last] = null;
+      _table[last + 1] = null;
+    }
+    _size--;
+    _modCount++;
+  }
+
+  private void ensureCapacity(int size)
+  {
+    if (!_hashed)
+    {
+      if (size * 2 <= _table.length)
+      {
+        return;
+      }
+      if (size <= LINEAR_SCAN_THRESHOLD)
+      {
+        int newLength = Math.min(Math.max(_table.length * 2, 4), LINEAR_SCAN_THRESHOLD * 2);
+        _table = Arrays.copyOf(_table, Math.max(newLength, size * 2));
+        return;
+      }
+      rehash(hashedCapacityFor(size));
+      return;
+    }
+
+    // Keep the load factor, including tombstones, at or below 3/4.
+    int capacity = _table.length >> 1;
+    if ((size + _tombstones) * 4L > capacity * 3L)
+    {
+      rehash(Math.max(capacity, hashedCapacityFor(size)));
+    }
+  }
+
+  private void rehash(int capacity)
+  {
+    final Object[] oldTable = _table;
+    final boolean wasHashed = _hashed;
+    final Object[] newTable = new Object[capacity * 2];
+    final int end = wasHashed ? oldTable.length : _size * 2;
+    _hashed = true;
+    for (int i = 0; i < end; i += 2)
+    {
+      Object k = oldTable[i];
+      if (k != null && k != REMOVED)
+      {
+        insertHashed(newTable, k, oldTable[i + 1]);
+      }
+    }
+    _table = newTable;
+    _tombstones = 0;
+  }
+
+  /**
+   * Insert a key known to be absent into the first free slot of its probe sequence.
+   *
+   * @return true if a tombstone was reused.
+   */
+  private static boolean insertHashed(Object[] table, Object key, Object value)
+  {
+    final int mask = (table.length >> 1) - 1;
+    int slot = hash(key) & mask;
+    while (table[slot * 2] != null && table[slot * 2] != REMOVED)
+    {
+      slot = (slot + 1) & mask;
+    }
+    boolean reused = table[slot * 2] == REMOVED;
+    table[slot * 2] = key;
+    table[slot * 2 + 1] = value;
+    return reused;
+  }
+
+  private static int hashedCapacityFor(int size)
+  {
+    int capacity = MIN_HASHED_CAPACITY;
+    while (capacity * 3L < size * 4L)
+    {
+      if (capacity >= MAX_CAPACITY)
+      {
+        throw new IllegalStateException("Map is too large: " + size);
+      }
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static int hash(Object key)
+  {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private static Object maskNull(Object key)
+  {
+    return key == null ? NULL_KEY : key;
+  }
+
+  private static Object unmaskNull(Object key)
+  {
+    return key == NULL_KEY ? null : key;
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<K, V>>
+  {
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator()
+    {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size()
+    {
+      return _size;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+      if (!(o instanceof Map.Entry))
+      {
+        return false;
+      }
+      Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      int index = indexOf(maskNull(e.getKey()));
+      return index >= 0 && Objects.equals(_table[index + 1], e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+      if (!contains(o))
+      {
+        return false;
+      }
+      removeAt(indexOf(maskNull(((Map.Entry<?, ?>) o).getKey())));
+      return true;
+    }
+
+    @Override
+    public void clear()
+    {
+      CompactHashMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<K, V>>
+  {
+    private int _next = advance(0);
+    private int _last = -1;
+    private int _expectedModCount = _modCount;
+
+    @Override
+    public boolean hasNext()
+    {
+      return _next < _table.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map.Entry<K, V> next()
+    {
+      checkForComodification();
+      if (_next >= _table.length)
+      {
+        throw new NoSuchElementException();
+      }
+      _last = _next;
+      _next = advance(_next + 2);
+      return new Entry((K) unmaskNull(_table[_last]), (V) _table[_last + 1], _last);
+    }
+
+    @Override
+    public void remove()
+    {
+      if (_last < 0)
+      {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      boolean wasHashed = _hashed;
+      removeAt(_last);
+      if (!wasHashed)
+      {
+        // The last entry was moved into the removed slot, so it has to be visited next.
+        _next = advance(_last);
+      }
+      _last = -1;
+      _expectedModCount = _modCount;
+    }
+
+    private int advance(int index)
+    {
+      final Object[] table = _table;
+      final int end = _hashed ? table.length : _size * 2;
+      while (index < end)
+      {
+        Object k = table[index];
+        if (k != null && k != REMOVED)
+        {
+          return index;
+        }
+        index += 2;
+      }
+      return table.length;
+    }
+
+    private void checkForComodification()
+    {
+      if (_expectedModCount != _modCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  private final class Entry extends AbstractMap.SimpleEntry<K, V>
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final int _index;
+
+    Entry(K key, V value, int index)
+    {
+      super(key, value);
+      _index = index;
+    }
+
+    @Override
+    public V setValue(V value)
+    {
+      // Write through only while the slot still holds this entry's key.
+      if (_index < _table.length && _table[_index] == maskNull(getKey()))
+      {
+        _table[_index + 1] = value;
+      }
+      return super.setValue(value);
+    }
+  }
+
+  private Object[] _table;
+  private int _size;
+  private int _tombstones;
+  private boolean _hashed;
+  private int _modCount;
+  private transient Set<Map.Entry<K, V>> _entrySet;
+}
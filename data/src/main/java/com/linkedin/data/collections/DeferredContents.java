@@ -0,0 +1,42 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+
+/**
+ * Provides the contents of a {@link CheckedMap} or {@link CheckedList} when it is first accessed,
+ * e.g. to decode the contents of a {@link com.linkedin.data.DataMap} on demand.
+ * <p>
+ *
+ * Loading happens at most once, under the lock of the {@link DeferredContents}, so deferred maps and
+ * lists may be read concurrently like maps and lists that are not deferred.
+ *
+ * @param <C> the type of the underlying collection.
+ */
+@FunctionalInterface
+public interface DeferredContents<C>
+{
+  /**
+   * Adds the contents to the underlying collection, which is empty when this method is invoked.
+   * The contents are added without checking, so they must be valid for the collection.
+   *
+   * @param target the underlying collection.
+   * @throws RuntimeException if the contents cannot be loaded, the exception is propagated to the caller
+   *                          accessing the collection.
+   */
+  void load(C target);
+}
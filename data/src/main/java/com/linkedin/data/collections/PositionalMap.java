@@ -0,0 +1,519 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+
+/**
+ * A {@link Map} whose well-known keys are assigned fixed positions by a shared {@link Layout}.
+ * <p>
+ *
+ * Values of keys in the layout are stored in an array indexed by the key's position, so
+ * the keys themselves are not stored per instance. Keys outside of the layout are stored in an
+ * overflow {@link CompactHashMap} that is only allocated when needed. This is used as the
+ * backing store of a {@link CheckedMap} bound to a record schema, where the layout is the
+ * list of field names of the record.
+ * <p>
+ *
+ * Entries of keys in the layout are iterated in layout order, followed by the overflow entries.
+ * Null values are supported, null keys are only supported in the overflow map.
+ * This class is not thread-safe.
+ */
+public final class PositionalMap<K, V> extends AbstractMap<K, V> implements Cloneable
+{
+  private static final Object NULL_VALUE = new Object();
+
+  /**
+   * Construct an empty map with the specified layout.
+   *
+   * @param layout provides the positions of well-known keys.
+   */
+  public PositionalMap(Layout<K> layout)
+  {
+    _layout = layout;
+    _values = new Object[layout.size()];
+  }
+
+  /**
+   * @return the layout of this map.
+   */
+  public Layout<K> getLayout()
+  {
+    return _layout;
+  }
+
+  /**
+   * Returns the value at the specified position of the layout.
+   *
+   * @param position provides the position of the key in the layout.
+   * @return the value of the key at the position, or null if not present.
+   */
+  @SuppressWarnings("unchecked")
+  public V getAt(int position)
+  {
+    return (V) unmaskNull(_values[position]);
+  }
+
+  @Override
+  public int size()
+  {
+    return _positionalSize + (_overflow == null ? 0 : _overflow.size());
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    int position = _layout.indexOf(key);
+    if (position >= 0)
+    {
+      return _values[position] != null;
+    }
+    return _overflow != null && _overflow.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value)
+  {
+    Object masked = maskNull(value);
+    for (Object v : _values)
+    {
+      if (v != null && v.equals(masked))
+      {
+        return true;
+      }
+    }
+    return _overflow != null && _overflow.containsValue(value);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key)
+  {
+    int position = _layout.indexOf(key);
+    if (position >= 0)
+    {
+      return (V) unmaskNull(_values[position]);
+    }
+    return _overflow == null ? null : _overflow.get(key);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(K key, V value)
+  {
+    int position = _layout.indexOf(key);
+    if (position >= 0)
+    {
+      Object oldValue = _values[position];
+      _values[position] = maskNull(value);
+      if (oldValue == null)
+      {
+        _positionalSize++;
+        _modCount++;
+      }
+      return (V) unmaskNull(oldValue);
+    }
+
+    if (_overflow == null)
+    {
+      _overflow = new CompactHashMap<>();
+    }
+    int size = _overflow.size();
+    V oldValue = _overflow.put(key, value);
+    if (size != _overflow.size())
+    {
+      _modCount++;
+    }
+    return oldValue;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(Object key)
+  {
+    int position = _layout.indexOf(key);
+    if (position >= 0)
+    {
+      Object oldValue = _values[position];
+      if (oldValue != null)
+      {
+        removeAt(position);
+      }
+      return (V) unmaskNull(oldValue);
+    }
+
+    if (_overflow == null || !_overflow.containsKey(key))
+    {
+      return null;
+    }
+    _modCount++;
+    return _overflow.remove(key);
+  }
+
+  @Override
+  public void clear()
+  {
+    Arrays.fill(_values, null);
+    _positionalSize = 0;
+    _overflow = null;
+    _modCount++;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<? super K, ? super V> action)
+  {
+    final int expectedModCount = _modCount;
+    for (int i = 0; i < _values.length; i++)
+    {
+      Object v = _values[i];
+      if (v != null)
+      {
+        action.accept(_layout.keyAt(i), (V) unmaskNull(v));
+      }
+    }
+    if (_overflow != null)
+    {
+      _overflow.forEach(action);
+    }
+    if (expectedModCount != _modCount)
+    {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet()
+  {
+    Set<Map.Entry<K, V>> entrySet = _entrySet;
+    if (entrySet == null)
+    {
+      entrySet = new EntrySet();
+      _entrySet = entrySet;
+    }
+    return entrySet;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public PositionalMap<K, V> clone()
+  {
+    try
+    {
+      PositionalMap<K, V> o = (PositionalMap<K, V>) super.clone();
+      o._values = _values.clone();
+      o._overflow = _overflow == null ? null : _overflow.clone();
+      o._entrySet = null;
+      o._modCount = 0;
+      return o;
+    }
+    catch (CloneNotSupportedException e)
+    {
+      throw new AssertionError(e);
+    }
+  }
+
+  private void removeAt(int position)
+  {
+    _values[position] = null;
+    _positionalSize--;
+    _modCount++;
+  }
+
+  private static Object maskNull(Object value)
+  {
+    return value == null ? NULL_VALUE : value;
+  }
+
+  private static Object unmaskNull(Object value)
+  {
+    return value == NULL_VALUE ? null : value;
+  }
+
+  /**
+   * Immutable assignment of positions to a fixed list of keys, meant to be shared by all
+   * {@link PositionalMap}s with the same well-known keys.
+   */
+  public static final class Layout<K>
+  {
+    /**
+     * Construct a layout that assigns each key its index in the list.
+     *
+     * @param keys provides the keys in position order.
+     * @throws IllegalArgumentException if a key is null or is present more than once.
+     */
+    public Layout(List<? extends K> keys)
+    {
+      _keys = Collections.unmodifiableList(keys);
+      int capacity = 4;
+      while (capacity < keys.size() * 2)
+      {
+        capacity <<= 1;
+      }
+      _mask = capacity - 1;
+      _slotKeys = new Object[capacity];
+      _slotPositions = new int[capacity];
+      for (int position = 0; position < keys.size(); position++)
+      {
+        K key = keys.get(position);
+        if (key == null)
+        {
+          throw new IllegalArgumentException("Layout keys must not be null");
+        }
+        int slot = hash(key) & _mask;
+        while (_slotKeys[slot] != null)
+        {
+          if (_slotKeys[slot].equals(key))
+          {
+            throw new IllegalArgumentException("Key \"" + key + "\" is present more than once");
+          }
+          slot = (slot + 1) & _mask;
+        }
+        _slotKeys[slot] = key;
+        _slotPositions[slot] = position;
+      }
+    }
+
+    /**
+     * @return the number of keys in this layout.
+     */
+    public int size()
+    {
+      return _keys.size();
+    }
+
+    /**
+     * @param position provides the position of the key.
+     * @return the key at the specified position.
+     */
+    public K keyAt(int position)
+    {
+      return _keys.get(position);
+    }
+
+    /**
+     * Returns the position of a key.
+     *
+     * @param key to obtain the position for.
+     * @return the position of the key, or -1 if the key is not in this layout.
+     */
+    public int indexOf(Object key)
+    {
+      if (key == null)
+      {
+        return -1;
+      }
+      int slot = hash(key) & _mask;
+      Object k;
+      while ((k = _slotKeys[slot]) != null)
+      {
+        // Identity comparison succeeds for field names obtained from the same schema.
+        if (k == key || k.equals(key))
+        {
+          return _slotPositions[slot];
+        }
+        slot = (slot + 1) & _mask;
+      }
+      return -1;
+    }
+
+    private static int hash(Object key)
+    {
+      int h = key.hashCode();
+      return h ^ (h >>> 16);
+    }
+
+    private final List<K> _keys;
+    private final Object[] _slotKeys;
+    private final int[] _slotPositions;
+    private final int _mask;
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<K, V>>
+  {
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator()
+    {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size()
+    {
+      return PositionalMap.this.size();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+      if (!(o instanceof Map.Entry))
+      {
+        return false;
+      }
+      Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      return containsKey(e.getKey()) && Objects.equals(get(e.getKey()), e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+      if (!contains(o))
+      {
+        return false;
+      }
+      PositionalMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+      return true;
+    }
+
+    @Override
+    public void clear()
+    {
+      PositionalMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<K, V>>
+  {
+    private int _next = advance(0);
+    private int _last = -1;
+    private Iterator<Map.Entry<K, V>> _overflowIterator;
+    private boolean _lastFromOverflow;
+    private int _expectedModCount = _modCount;
+
+    @Override
+    public boolean hasNext()
+    {
+      if (_next < _values.length)
+      {
+        return true;
+      }
+      if (_overflowIterator == null && _overflow != null)
+      {
+        _overflowIterator = _overflow.entrySet().iterator();
+      }
+      return _overflowIterator != null && _overflowIterator.hasNext();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map.Entry<K, V> next()
+    {
+      checkForComodification();
+      if (!hasNext())
+      {
+        throw new NoSuchElementException();
+      }
+      if (_next < _values.length)
+      {
+        _last = _next;
+        _lastFromOverflow = false;
+        _next = advance(_next + 1);
+        return new Entry(_layout.keyAt(_last), (V) unmaskNull(_values[_last]), _last);
+      }
+      _last = -1;
+      _lastFromOverflow = true;
+      return _overflowIterator.next();
+    }
+
+    @Override
+    public void remove()
+    {
+      checkForComodification();
+      if (_lastFromOverflow)
+      {
+        _overflowIterator.remove();
+        _lastFromOverflow = false;
+        _modCount++;
+      }
+      else if (_last >= 0)
+      {
+        removeAt(_last);
+        _last = -1;
+      }
+      else
+      {
+        throw new IllegalStateException();
+      }
+      _expectedModCount = _modCount;
+    }
+
+    private int advance(int position)
+    {
+      while (position < _values.length && _values[position] == null)
+      {
+        position++;
+      }
+      return position;
+    }
+
+    private void checkForComodification()
+    {
+      if (_expectedModCount != _modCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  private final class Entry extends AbstractMap.SimpleEntry<K, V>
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final int _position;
+
+    Entry(K key, V value, int position)
+    {
+      super(key, value);
+      _position = position;
+    }
+
+    @Override
+    public V setValue(V value)
+    {
+      if (_values[_position] != null)
+      {
+        _values[_position] = maskNull(value);
+      }
+      return super.setValue(value);
+    }
+  }
+
+  private final Layout<K> _layout;
+  private Object[] _values;
+  private int _positionalSize;
+  private CompactHashMap<K, V> _overflow;
+  private int _modCount;
+  private transient Set<Map.Entry<K, V>> _entrySet;
+}
@@ -16,9 +16,12 @@
 
 package com.linkedin.data.schema;
 
+import com.linkedin.data.collections.PositionalMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -112,6 +115,7 @@ public final class RecordDataSchema extends NamedDataSchema
         ok = false;
       }
       _name = name;
+      _layoutPosition = null;
       _hasError |= !ok;
       return ok;
     }
@@ -394,6 +398,25 @@ public final class RecordDataSchema extends NamedDataSchema
       return (Field) super.clone();
     }
 
+    /**
+     * Returns the position of this field in a layout, see {@link RecordDataSchema#getFieldLayout()}.
+     * The position is cached for the last layout it was obtained for, so that fields of a record template
+     * are accessed by position without looking up their name.
+     *
+     * @param layout provides the positions of the fields of a record.
+     * @return the position of this field in the layout, or -1 if the field is not in the layout.
+     */
+    public int getPosition(PositionalMap.Layout<String> layout)
+    {
+      LayoutPosition layoutPosition = _layoutPosition;
+      if (layoutPosition == null || layoutPosition._layout != layout)
+      {
+        layoutPosition = new LayoutPosition(layout, layout.indexOf(_name));
+        _layoutPosition = layoutPosition;
+      }
+      return layoutPosition._position;
+    }
+
     /**
      * Return whether the input string is a valid field name.
      *
@@ -417,11 +440,27 @@ public final class RecordDataSchema extends NamedDataSchema
     private Map<String, Object> _properties = _emptyProperties;
     private Map<String, Object> _resolvedProperties = new HashMap<>(0);
     private boolean _declaredInline = false;
+    private volatile LayoutPosition _layoutPosition;
 
     static private final Map<String, Object> _emptyProperties = Collections.emptyMap();
     static private final List<String> _emptyAliases = Collections.emptyList();
   }
 
+  /**
+   * Position of a field in a layout, replaced as a whole so that it can be cached without synchronization.
+   */
+  private static final class LayoutPosition
+  {
+    private LayoutPosition(PositionalMap.Layout<String> layout, int position)
+    {
+      _layout = layout;
+      _position = position;
+    }
+
+    private final PositionalMap.Layout<String> _layout;
+    private final int _position;
+  }
+
   public static enum RecordType
   {
     RECORD,
@@ -476,6 +515,32 @@ public final class RecordDataSchema extends NamedDataSchema
     return (i == null ? -1 : i);
   }
 
+  /**
+   * Returns the layout that assigns each field name its position in {@link #getFields()}, used to
+   * create {@link com.linkedin.data.DataMap}s with positional storage for this record.
+   *
+   * @return the field layout of this record.
+   */
+  public PositionalMap.Layout<String> getFieldLayout()
+  {
+    PositionalMap.Layout<String> layout = _fieldLayout;
+    if (layout == null)
+    {
+      // Duplicate field names are reported by setFields, only keep the first occurrence here.
+      LinkedHashSet<String> names = new LinkedHashSet<>();
+      for (Field field : _fields)
+      {
+        if (field.getName() != null)
+        {
+          names.add(field.getName());
+        }
+      }
+      layout = new PositionalMap.Layout<>(new ArrayList<>(names));
+      _fieldLayout = layout;
+    }
+    return layout;
+  }
+
   /**
    * Returns whether the fieldName is a member of the record.
    *
@@ -548,6 +613,7 @@ public final class RecordDataSchema extends NamedDataSchema
       index++;
     }
     _fieldNameToIndexMap = Collections.unmodifiableMap(map);
+    _fieldLayout = null;
     if (ok == false)
     {
       setHasError();
@@ -704,6 +770,7 @@ public final class RecordDataSchema extends NamedDataSchema
   private List<NamedDataSchema> _include = _emptyNamedSchemas;
   private List<Field> _fields = _emptyFields;
   private Map<String, Integer> _fieldNameToIndexMap = _emptyFieldNameToIndexMap;
+  private volatile PositionalMap.Layout<String> _fieldLayout;
   private final RecordType _recordType;
   private Set<NamedDataSchema> _includesDeclaredInline = _emptyIncludesDeclaredInline;
   private boolean _fieldsBeforeIncludes = false;
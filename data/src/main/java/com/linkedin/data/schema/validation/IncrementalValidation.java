@@ -0,0 +1,54 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.schema.validation;
+
+import com.linkedin.data.element.DataElement;
+
+
+/**
+ * Validates data against its schema while the data is built, e.g. by a decoder, so that it does not have to be
+ * traversed again once built.
+ * <p>
+ *
+ * The data must be validated in post order: every value is validated after all its children, and before it is added
+ * to its parent. The validation produces the same {@link ValidationResult} as {@link ValidateDataAgainstSchema} on
+ * the built data, except for the order of the messages. Instead of being set on the parent, fixed values are returned
+ * to the caller, hence the parent of a validated value may be incomplete, and of any type. Custom
+ * {@link com.linkedin.data.schema.validator.Validator}s must not depend on the values of parent elements. Unrecognized
+ * fields to trim are removed from their parent once the root has been validated.
+ * <p>
+ *
+ * Use {@link ValidateDataAgainstSchema#startIncrementalValidation(ValidationOptions,
+ * com.linkedin.data.schema.validator.Validator)} to create an instance.
+ */
+public interface IncrementalValidation
+{
+  /**
+   * Validates a value whose children, if any, have been validated.
+   *
+   * @param element the element of the value, whose schema is the schema of the value, or null if the value is not
+   *                described by the schema of its parent. The root element must have no parent, and the element of
+   *                a complex value must be the same instance as the parent element of its children.
+   * @return the value to add to the parent, which is the fixed value if the value has been fixed.
+   */
+  Object validateValue(DataElement element);
+
+  /**
+   * @return the result of the validation, complete once the root element has been validated.
+   */
+  ValidationResult getResult();
+}
@@ -117,8 +117,25 @@ public final class ValidateDataAgainstSchema
     return state;
   }
 
-  private static class State implements ValidationResult
+  /**
+   * Starts the validation of data that is validated while it is built, see {@link IncrementalValidation}.
+   *
+   * @throws IllegalArgumentException if the options enable Avro union mode, which can only be validated recursively.
+   */
+  public static IncrementalValidation startIncrementalValidation(ValidationOptions options, Validator validator)
   {
+    if (options.isAvroUnionMode())
+    {
+      throw new IllegalArgumentException("Avro union mode can not be validated incrementally");
+    }
+    return new State(options, validator, true);
+  }
+
+  private static class State implements ValidationResult, IncrementalValidation
+  {
+    private final boolean _incremental;
+    // Unrecognized fields to trim whose parent has not been validated yet, in incremental validation.
+    private List<PendingTrim> _pendingTrims = new ArrayList<>(0);
     private boolean _recursive;
     private final ValidationOptions _options;
     private final Validator _validator;
@@ -130,10 +147,16 @@ public final class ValidateDataAgainstSchema
     private List<FieldToTrim> _toTrim = new ArrayList<>(0);
 
     private State(ValidationOptions options, Validator validator)
+    {
+      this(options, validator, false);
+    }
+
+    private State(ValidationOptions options, Validator validator, boolean incremental)
     {
       _options = options;
       _validator = validator;
       _context = (validator == null ? null : new Context());
+      _incremental = incremental;
     }
 
     protected void validate(DataElement element)
@@ -202,6 +225,49 @@ public final class ValidateDataAgainstSchema
       }
     }
 
+    @Override
+    public Object validateValue(DataElement element)
+    {
+      // Same as a step of validateIterative, the data is validated in post order.
+      Object value = element.getValue();
+      DataSchema schema = element.getSchema();
+      if (schema != null)
+      {
+        value = validate(element, schema, value);
+      }
+      else if (_options.getUnrecognizedFieldMode() != UnrecognizedFieldMode.IGNORE)
+      {
+        DataElement parentElement = element.getParent();
+        if (parentElement != null && parentElement.getSchema() != null)
+        {
+          handleUnrecognizedField(element);
+        }
+      }
+
+      // The parent of pending fields to trim is now built, they are trimmed at the end like in validate(DataElement).
+      while (!_pendingTrims.isEmpty() && _pendingTrims.get(_pendingTrims.size() - 1)._parentElement == element)
+      {
+        PendingTrim pendingTrim = _pendingTrims.remove(_pendingTrims.size() - 1);
+        _toTrim.add(new FieldToTrim((DataMap) value, pendingTrim._fieldName));
+      }
+
+      if (element.getParent() == null)
+      {
+        _fixed = value;
+        for (FieldToTrim fieldToTrim : _toTrim)
+        {
+          fieldToTrim.trim();
+        }
+      }
+      return value;
+    }
+
+    @Override
+    public ValidationResult getResult()
+    {
+      return this;
+    }
+
     protected Object validate(DataElement element, DataSchema schema, Object object)
     {
       Object fixed;
@@ -270,6 +336,10 @@ public final class ValidateDataAgainstSchema
       {
         _fixed = fixed;
       }
+      else if (_incremental)
+      {
+        // The fixed value is returned by validateValue to be added to the parent.
+      }
       else
       {
         Object parent = parentElement.getValue();
@@ -360,8 +430,33 @@ public final class ValidateDataAgainstSchema
       private String _fieldName;
     }
 
+    /**
+     * Holds the element of a {@link com.linkedin.data.DataMap} field to trim before the DataMap is built.
+     */
+    private static class PendingTrim
+    {
+      private PendingTrim(DataElement parentElement, String fieldName)
+      {
+        _parentElement = parentElement;
+        _fieldName = fieldName;
+      }
+
+      private final DataElement _parentElement;
+      private final String _fieldName;
+    }
+
     private void trimUnrecognizedField(DataElement element)
     {
+      if (_incremental)
+      {
+        // The parent is not built yet, the field is trimmed once the parent has been validated.
+        Object name = element.getName();
+        if (name instanceof String)
+        {
+          _pendingTrims.add(new PendingTrim(element.getParent(), (String) name));
+        }
+        return;
+      }
       DataElement parentElement = element.getParent();
       Object parent = parentElement.getValue();
       if (parent != null)
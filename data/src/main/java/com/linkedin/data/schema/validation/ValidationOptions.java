@@ -106,6 +106,23 @@ public final class ValidationOptions
     _unrecognizedFieldMode = unrecognizedFieldMode;
   }
 
+  /**
+   * Copy constructor.
+   *
+   * @param other the options to copy.
+   */
+  public ValidationOptions(ValidationOptions other)
+  {
+    _coercionMode = other._coercionMode;
+    _requiredMode = other._requiredMode;
+    _unrecognizedFieldMode = other._unrecognizedFieldMode;
+    _avroUnionMode = other._avroUnionMode;
+    _fixBase64EncodedFixedValues = other._fixBase64EncodedFixedValues;
+    _validatorParameters = other._validatorParameters == NO_VALIDATOR_PARAMETERS
+        ? NO_VALIDATOR_PARAMETERS : new HashMap<>(other._validatorParameters);
+    _treatOptional = other._treatOptional;
+  }
+
   /**
    * Set the coercion mode.
    *
@@ -20,6 +20,7 @@ package com.linkedin.data.template;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.collections.CheckedMap;
 import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.PositionalMap;
 import com.linkedin.data.schema.RecordDataSchema;
 
 
@@ -60,6 +61,30 @@ public abstract class RecordTemplate implements DataTemplate<DataMap>
     _initialCacheCapacity = initialCacheCapacity;
   }
 
+  /**
+   * Creates the map of a new record, bound to the schema of the record if
+   * {@link DataMap#isSchemaBoundStorageEnabled()}. Used by the no-argument constructors of generated templates,
+   * so that maps supplied by callers keep their storage.
+   *
+   * @param schema the schema of the record.
+   * @return an empty map.
+   */
+  protected static DataMap newDataMap(RecordDataSchema schema)
+  {
+    return DataMap.isSchemaBoundStorageEnabled() ? new DataMap(schema.getFieldLayout()) : new DataMap();
+  }
+
+  /**
+   * Same as {@link #newDataMap(RecordDataSchema)}, with the initial capacity and load factor of the map if it is
+   * not bound to the schema.
+   */
+  protected static DataMap newDataMap(RecordDataSchema schema, int initialCapacity, float loadFactor)
+  {
+    return DataMap.isSchemaBoundStorageEnabled()
+        ? new DataMap(schema.getFieldLayout())
+        : new DataMap(initialCapacity, loadFactor);
+  }
+
   @Override
   public RecordDataSchema schema()
   {
@@ -502,7 +527,8 @@ public abstract class RecordTemplate implements DataTemplate<DataMap>
       throws RequiredFieldNotPresentException
   {
     String fieldName = field.getName();
-    Object found = _map.get(fieldName);
+    PositionalMap.Layout<String> layout = _map.getPositionalLayout();
+    Object found = layout == null ? _map.get(fieldName) : _map.getAt(field.getPosition(layout), fieldName);
     if (found == null && mode != GetMode.NULL)
     {
       found = field.getDefault();
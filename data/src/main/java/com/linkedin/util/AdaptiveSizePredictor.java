@@ -0,0 +1,105 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.util;
+
+/**
+ * Predicts the size of the next output of a recurring operation, e.g. the encoding of the responses of a resource
+ * method, from the sizes of its recent outputs, so that buffers can be allocated with the right capacity upfront.
+ * <p>
+ *
+ * The prediction is a power of two. It grows to fit an output larger than the prediction immediately, and shrinks
+ * by half only after two consecutive outputs that would have fit in half of the prediction, so that occasional
+ * small outputs do not cause buffers to grow again on the next large output.
+ * <p>
+ *
+ * This class is thread-safe. Concurrent updates may be lost, which only affects the accuracy of the prediction.
+ */
+public class AdaptiveSizePredictor
+{
+  public static final int DEFAULT_MINIMUM = 256;
+  public static final int DEFAULT_INITIAL = 4096;
+  public static final int DEFAULT_MAXIMUM = 1024 * 1024;
+
+  private final int _minimum;
+  private final int _maximum;
+  private volatile int _prediction;
+  private volatile boolean _shrinkNext;
+
+  public AdaptiveSizePredictor()
+  {
+    this(DEFAULT_MINIMUM, DEFAULT_INITIAL, DEFAULT_MAXIMUM);
+  }
+
+  /**
+   * @param minimum the minimum prediction.
+   * @param initial the prediction before any output is recorded.
+   * @param maximum the maximum prediction.
+   */
+  public AdaptiveSizePredictor(int minimum, int initial, int maximum)
+  {
+    if (minimum <= 0 || minimum > initial || initial > maximum)
+    {
+      throw new IllegalArgumentException(
+          "Invalid sizes, minimum: " + minimum + ", initial: " + initial + ", maximum: " + maximum);
+    }
+    _minimum = nextPowerOf2(minimum);
+    _maximum = Math.max(_minimum, Integer.highestOneBit(maximum));
+    _prediction = Math.min(_maximum, Math.max(_minimum, nextPowerOf2(initial)));
+  }
+
+  /**
+   * @return the predicted size of the next output.
+   */
+  public int predict()
+  {
+    return _prediction;
+  }
+
+  /**
+   * Records the actual size of an output.
+   */
+  public void record(int size)
+  {
+    final int prediction = _prediction;
+    if (size > prediction)
+    {
+      _prediction = size >= _maximum ? _maximum : nextPowerOf2(size);
+      _shrinkNext = false;
+    }
+    else if (size <= prediction >>> 1 && prediction > _minimum)
+    {
+      if (_shrinkNext)
+      {
+        _prediction = prediction >>> 1;
+        _shrinkNext = false;
+      }
+      else
+      {
+        _shrinkNext = true;
+      }
+    }
+    else
+    {
+      _shrinkNext = false;
+    }
+  }
+
+  private static int nextPowerOf2(int value)
+  {
+    return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * A pool of byte arrays whose lengths are powers of two between {@link #MIN_POOLED_LENGTH} and
+ * {@link #MAX_POOLED_LENGTH}. Requests for larger arrays are always allocated, and the pool retains at most
+ * {@link #MAX_RETAINED_BYTES} bytes.
+ * <p>
+ *
+ * A pool is thread-safe and does not depend on the thread releasing an array, so {@link #shared()} can be used by
+ * any number of platform or virtual threads. Arrays must not be referenced anymore once released.
+ */
+public final class ByteArrayPool
+{
+  public static final int MIN_POOLED_LENGTH = 256;
+  public static final int MAX_POOLED_LENGTH = 1024 * 1024;
+  public static final int MAX_RETAINED_BYTES = 2 * MAX_POOLED_LENGTH;
+
+  private static final int MAX_ARRAYS_PER_LENGTH = 4;
+  private static final int LENGTH_CLASSES =
+      Integer.numberOfTrailingZeros(MAX_POOLED_LENGTH) - Integer.numberOfTrailingZeros(MIN_POOLED_LENGTH) + 1;
+
+  private static final ByteArrayPool SHARED_POOL = new ByteArrayPool();
+
+  // Slots of the arrays of each length class, MAX_ARRAYS_PER_LENGTH consecutive slots per class.
+  private final AtomicReferenceArray<byte[]> _arrays =
+      new AtomicReferenceArray<>(LENGTH_CLASSES * MAX_ARRAYS_PER_LENGTH);
+  private final AtomicInteger _retainedBytes = new AtomicInteger();
+
+  /**
+   * @return the pool shared by all the threads.
+   */
+  public static ByteArrayPool shared()
+  {
+    return SHARED_POOL;
+  }
+
+  /**
+   * Returns an array of at least the given length, rounded up to a power of two if it can be pooled.
+   */
+  public byte[] acquire(int minLength)
+  {
+    if (minLength > MAX_POOLED_LENGTH)
+    {
+      return new byte[minLength];
+    }
+    final int lengthClass = lengthClass(minLength);
+    final int firstSlot = lengthClass * MAX_ARRAYS_PER_LENGTH;
+    for (int slot = firstSlot; slot < firstSlot + MAX_ARRAYS_PER_LENGTH; slot++)
+    {
+      if (_arrays.get(slot) != null)
+      {
+        final byte[] array = _arrays.getAndSet(slot, null);
+        if (array != null)
+        {
+          _retainedBytes.addAndGet(-array.length);
+          return array;
+        }
+      }
+    }
+    return new byte[MIN_POOLED_LENGTH << lengthClass];
+  }
+
+  /**
+   * Returns an array to the pool. Arrays that can not be pooled are dropped.
+   */
+  public void release(byte[] array)
+  {
+    final int length = array.length;
+    if (length < MIN_POOLED_LENGTH || length > MAX_POOLED_LENGTH || Integer.bitCount(length) != 1)
+    {
+      return;
+    }
+    // Reserves the bytes first, so that concurrent releases can not exceed the bound.
+    if (_retainedBytes.addAndGet(length) > MAX_RETAINED_BYTES)
+    {
+      _retainedBytes.addAndGet(-length);
+      return;
+    }
+    final int firstSlot = lengthClass(length) * MAX_ARRAYS_PER_LENGTH;
+    for (int slot = firstSlot; slot < firstSlot + MAX_ARRAYS_PER_LENGTH; slot++)
+    {
+      if (_arrays.get(slot) == null && _arrays.compareAndSet(slot, null, array))
+      {
+        return;
+      }
+    }
+    _retainedBytes.addAndGet(-length);
+  }
+
+  /**
+   * @return the total length of the arrays held by the pool.
+   */
+  public int getRetainedBytes()
+  {
+    return _retainedBytes.get();
+  }
+
+  private static int lengthClass(int length)
+  {
+    if (length <= MIN_POOLED_LENGTH)
+    {
+      return 0;
+    }
+    // Index of the smallest power of two that is at least the length, relative to the minimum pooled length.
+    return 32 - Integer.numberOfLeadingZeros(length - 1) - Integer.numberOfTrailingZeros(MIN_POOLED_LENGTH);
+  }
+}
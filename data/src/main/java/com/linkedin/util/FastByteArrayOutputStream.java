@@ -56,6 +56,9 @@ public class FastByteArrayOutputStream extends OutputStream
   // The index of the last buffer to be written next.
   private int _index = 0;
 
+  // The pool the buffers are acquired from, or null to allocate them.
+  private final ByteArrayPool _pool;
+
   /**
    * Create a new <code>FastByteArrayOutputStream</code> with the default buffer size.
    */
@@ -65,8 +68,18 @@ public class FastByteArrayOutputStream extends OutputStream
    * Create a new <code>FastByteArrayOutputStream</code> with customized buffer size.
    */
   public FastByteArrayOutputStream(int initialBufferSize)
+  {
+    this(initialBufferSize, null);
+  }
+
+  /**
+   * Create a new <code>FastByteArrayOutputStream</code> with customized buffer size, acquiring its buffers from
+   * the given pool. Call {@link #recycle()} to return the buffers once the contents have been copied out.
+   */
+  public FastByteArrayOutputStream(int initialBufferSize, ByteArrayPool pool)
   {
     this._nextBufferSize = initialBufferSize;
+    this._pool = pool;
   }
 
   /**
@@ -209,6 +222,24 @@ public class FastByteArrayOutputStream extends OutputStream
     return new ByteString(_bufferList, _index);
   }
 
+  /**
+   * Return the internal buffers to the pool of the stream, if any, and discard the contents. The contents must not
+   * be referenced anymore, in particular this must not be called after {@link #toUnsafeByteString()}.
+   */
+  public void recycle()
+  {
+    if (this._pool != null)
+    {
+      for (byte[] buffer : this._bufferList)
+      {
+        this._pool.release(buffer);
+      }
+    }
+    this._bufferList.clear();
+    this._alreadyBufferedSize = 0;
+    this._index = 0;
+  }
+
   /**
    * The maximum number of bytes the stream is allowed to store. Exceeding the limit will
    * result in OutOfMemoryError when invoking toByteArray().
@@ -237,7 +268,7 @@ public class FastByteArrayOutputStream extends OutputStream
     {
       this._nextBufferSize = MAX_STREAM_SIZE - size();
     }
-    this._bufferList.add(new byte[this._nextBufferSize]);
+    this._bufferList.add(this._pool == null ? new byte[this._nextBufferSize] : this._pool.acquire(this._nextBufferSize));
     this._nextBufferSize *= 2;
   }
 
@@ -0,0 +1,169 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.collections.CheckedUtil;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestParallelDataEncoder
+{
+  private final ExecutorService _executor = Executors.newFixedThreadPool(4);
+
+  @AfterClass
+  public void tearDown()
+  {
+    _executor.shutdownNow();
+  }
+
+  @DataProvider
+  public Object[][] codecs()
+  {
+    return new Object[][] {
+        { new JacksonDataCodec() },
+        { new ProtobufDataCodec() }
+    };
+  }
+
+  private static DataMap record(int i)
+  {
+    DataMap record = new DataMap();
+    record.put("id", i);
+    record.put("name", "name-" + i);
+    record.put("tags", new DataList());
+    return record;
+  }
+
+  private static DataMap collectionResponse(int count)
+  {
+    DataList elements = new DataList();
+    for (int i = 0; i < count; i++)
+    {
+      elements.add(record(i));
+    }
+    DataMap paging = new DataMap();
+    paging.put("start", 0);
+    paging.put("count", count);
+
+    DataMap response = new DataMap();
+    response.put("elements", elements);
+    response.put("paging", paging);
+    return response;
+  }
+
+  private static DataMap batchResponse(int count)
+  {
+    DataMap results = new DataMap();
+    DataMap statuses = new DataMap();
+    for (int i = 0; i < count; i++)
+    {
+      results.put(String.valueOf(i), record(i));
+      statuses.put(String.valueOf(i), 200);
+    }
+    DataMap response = new DataMap();
+    response.put("results", results);
+    response.put("statuses", statuses);
+    response.put("errors", new DataMap());
+    return response;
+  }
+
+  @Test(dataProvider = "codecs")
+  public void testCollectionResponse(DataCodec codec) throws IOException
+  {
+    ParallelDataEncoder encoder = new ParallelDataEncoder(_executor, 10, 7, 4);
+    DataMap response = collectionResponse(100);
+
+    ByteString encoded = encoder.encode(response, codec);
+    Assert.assertEquals(codec.readMap(encoded), response);
+  }
+
+  @Test(dataProvider = "codecs")
+  public void testBatchResponse(DataCodec codec) throws IOException
+  {
+    ParallelDataEncoder encoder = new ParallelDataEncoder(_executor, 10, 7, 4);
+    DataMap response = batchResponse(100);
+
+    ByteString encoded = encoder.encode(response, codec);
+    Assert.assertEquals(codec.readMap(encoded), response);
+  }
+
+  @Test
+  public void testProtobufOutputIsIdentical() throws IOException
+  {
+    ProtobufDataCodec codec = new ProtobufDataCodec();
+    ParallelDataEncoder encoder = new ParallelDataEncoder(_executor, 10, 3, 4);
+    DataMap response = new DataMap();
+    response.put("elements", collectionResponse(50).get("elements"));
+
+    Assert.assertEquals(encoder.encode(response, codec), codec.mapToByteString(response));
+  }
+
+  @Test(dataProvider = "codecs")
+  public void testBelowThreshold(DataCodec codec) throws IOException
+  {
+    ParallelDataEncoder encoder = new ParallelDataEncoder(_executor, 1000);
+    DataMap response = collectionResponse(10);
+
+    Assert.assertEquals(encoder.encode(response, codec), codec.mapToByteString(response));
+  }
+
+  @Test
+  public void testUnsupportedCodec() throws IOException
+  {
+    PsonDataCodec codec = new PsonDataCodec();
+    Assert.assertFalse(ParallelDataEncoder.supports(codec));
+    JacksonDataCodec sortedCodec = new JacksonDataCodec();
+    sortedCodec.setSortKeys(true);
+    Assert.assertFalse(ParallelDataEncoder.supports(sortedCodec));
+
+    ParallelDataEncoder encoder = new ParallelDataEncoder(_executor, 1, 1, 4);
+    DataMap response = collectionResponse(10);
+    Assert.assertEquals(encoder.encode(response, codec), codec.mapToByteString(response));
+  }
+
+  @Test(dataProvider = "codecs")
+  public void testRejectingExecutor(DataCodec codec) throws IOException
+  {
+    ParallelDataEncoder encoder = new ParallelDataEncoder(command ->
+    {
+      throw new RejectedExecutionException();
+    }, 10, 7, 4);
+    DataMap response = batchResponse(50);
+
+    Assert.assertEquals(codec.readMap(encoder.encode(response, codec)), response);
+  }
+
+  @Test(expectedExceptions = DataEncodingException.class)
+  public void testEncodingFailure() throws IOException
+  {
+    ParallelDataEncoder encoder = new ParallelDataEncoder(_executor, 10, 7, 4);
+    DataMap response = collectionResponse(50);
+    CheckedUtil.putWithoutChecking((DataMap) ((DataList) response.get("elements")).get(42), "bad", new Object());
+
+    encoder.encode(response, new JacksonDataCodec());
+  }
+}
@@ -16,10 +16,16 @@
 
 package com.linkedin.data.codec;
 
+import com.linkedin.data.ByteString;
 import com.linkedin.data.DataComplex;
+import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.protobuf.ProtoWriter;
 import com.linkedin.data.protobuf.Utf8Utils;
+import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,6 +46,106 @@ public class TestProtobufCodec extends TestCodec
     testDataCodec(codec, dataComplex);
   }
 
+  @Test(dataProvider = "protobufCodecData", dataProviderClass = CodecDataProviders.class)
+  public void testProtoWriterBufferSizes(String testName, DataComplex dataComplex, boolean enableFixedLengthFloatDoubles)
+      throws IOException
+  {
+    // Sizes below the minimum and above the maximum of the byte array sizes predicted from recent outputs.
+    for (int bufferSize : new int[] { 16, 4 * 1024 * 1024 })
+    {
+      ProtobufDataCodec codec = new ProtobufDataCodec(
+          new ProtobufCodecOptions.Builder().setProtoWriterBufferSize(bufferSize)
+              .setEnableFixedLengthFloatDoubles(enableFixedLengthFloatDoubles)
+              .build());
+      testDataCodec(codec, dataComplex);
+    }
+  }
+
+  @Test(dataProvider = "protobufCodecData", dataProviderClass = CodecDataProviders.class)
+  public void testReadMapLazily(String testName, DataComplex dataComplex, boolean enableFixedLengthFloatDoubles)
+      throws IOException
+  {
+    if (!(dataComplex instanceof DataMap))
+    {
+      return;
+    }
+    ProtobufDataCodec codec = new ProtobufDataCodec(
+        new ProtobufCodecOptions.Builder().setEnableFixedLengthFloatDoubles(enableFixedLengthFloatDoubles).build());
+    byte[] bytes = codec.mapToBytes((DataMap) dataComplex);
+    Assert.assertEquals(codec.readMapLazily(ByteString.unsafeWrap(bytes)), dataComplex);
+
+    // Split the input into several chunks to read it across chunk boundaries.
+    ByteString.Builder builder = new ByteString.Builder();
+    for (int offset = 0; offset < bytes.length; offset += 7)
+    {
+      builder.append(ByteString.copy(bytes, offset, Math.min(7, bytes.length - offset)));
+    }
+    Assert.assertEquals(codec.readMapLazily(builder.build()), dataComplex);
+  }
+
+  @Test
+  public void testNestedValuesAreDecodedOnAccess() throws IOException, CloneNotSupportedException
+  {
+    DataMap nested = new DataMap();
+    nested.put("list", new DataList(Arrays.asList(1, "two", new DataMap())));
+    DataMap map = new DataMap();
+    map.put("int", 1);
+    map.put("nested", nested);
+    map.put("empty", new DataList());
+
+    ProtobufDataCodec codec = new ProtobufDataCodec();
+    DataMap lazy = codec.readMapLazily(ByteString.unsafeWrap(codec.mapToBytes(map)));
+    Assert.assertFalse(lazy.isDeferred());
+    Assert.assertEquals(lazy.getInteger("int"), Integer.valueOf(1));
+
+    DataMap lazyNested = (DataMap) lazy.get("nested");
+    Assert.assertTrue(lazyNested.isDeferred());
+    DataList lazyList = (DataList) lazyNested.get("list");
+    Assert.assertFalse(lazyNested.isDeferred());
+    Assert.assertTrue(lazyList.isDeferred());
+    Assert.assertEquals(lazyList.size(), 3);
+    Assert.assertFalse(lazyList.isDeferred());
+
+    DataMap copy = lazy.copy();
+    Assert.assertEquals(copy, map);
+    Assert.assertEquals(lazy, map);
+  }
+
+  @Test
+  public void testNestedDecodingErrorIsReportedOnAccess() throws IOException
+  {
+    // {"nested": {"key": <reference to an unknown symbol>}}
+    FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+    try (ProtoWriter writer = new ProtoWriter(out))
+    {
+      writer.writeByte(ProtobufDataCodec.MAP_ORDINAL);
+      writer.writeUInt32(1);
+      writer.writeByte(ProtobufDataCodec.STRING_LITERAL_ORDINAL);
+      writer.writeString("nested");
+      writer.writeByte(ProtobufDataCodec.MAP_ORDINAL);
+      writer.writeUInt32(1);
+      writer.writeByte(ProtobufDataCodec.STRING_REFERENCE_ORDINAL);
+      writer.writeUInt32(12345);
+      writer.writeByte(ProtobufDataCodec.INTEGER_ORDINAL);
+      writer.writeUInt32(1);
+    }
+
+    DataMap lazy = new ProtobufDataCodec().readMapLazily(ByteString.unsafeWrap(out.toByteArray()));
+    DataMap nested = (DataMap) lazy.get("nested");
+    for (int i = 0; i < 2; i++)
+    {
+      try
+      {
+        nested.size();
+        Assert.fail("Expected the decoding error to be reported");
+      }
+      catch (UncheckedIOException e)
+      {
+        Assert.assertTrue(e.getCause() instanceof DataDecodingException);
+      }
+    }
+  }
+
   @Test(dataProvider = "surrogatePairData", dataProviderClass = CodecDataProviders.class)
   public void testSurrogatePairs(String value, String expectedString, int expectedLength,
       boolean isValidSurrogatePair, boolean tolerateInvalidSurrogatePairs) throws Exception
@@ -0,0 +1,139 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.linkedin.data.codec.entitystream;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.ChunkedByteStringWriter;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.TestUtil;
+import com.linkedin.data.codec.DataCodec;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.entitystream.EntityStream;
+import com.linkedin.entitystream.EntityStreams;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+
+public class TestProjectionDecoding
+{
+  private static final String DATA = "{ \"id\" : 1, \"name\" : \"n\", "
+      + "\"profile\" : { \"a\" : 1, \"b\" : { \"x\" : [ 1, 2 ] }, \"c\" : \"s\" }, "
+      + "\"items\" : [ { \"k\" : 1, \"v\" : 2 }, { \"k\" : 3, \"v\" : 4 } ], "
+      + "\"ne$t\" : 5, \"tags\" : [ \"t1\", \"t2\" ] }";
+
+  @DataProvider
+  public Object[][] projections()
+  {
+    return new Object[][]
+        {
+            {
+                "{ \"id\" : 1, \"profile\" : { \"a\" : 1 } }",
+                "{ \"id\" : 1, \"profile\" : { \"a\" : 1 } }"
+            },
+            {
+                "{ \"profile\" : 0, \"items\" : { \"$*\" : { \"v\" : 0 } } }",
+                "{ \"id\" : 1, \"name\" : \"n\", \"items\" : [ { \"k\" : 1 }, { \"k\" : 3 } ], \"ne$t\" : 5, "
+                    + "\"tags\" : [ \"t1\", \"t2\" ] }"
+            },
+            {
+                "{ \"$*\" : 0, \"name\" : 1 }",
+                "{ \"name\" : \"n\" }"
+            },
+            {
+                "{ \"ne$$t\" : 1 }",
+                "{ \"ne$t\" : 5 }"
+            },
+            {
+                "{ \"items\" : { \"$*\" : { \"k\" : 1 } }, \"profile\" : { \"b\" : { \"x\" : 1 } } }",
+                "{ \"items\" : [ { \"k\" : 1 }, { \"k\" : 3 } ], \"profile\" : { \"b\" : { \"x\" : [ 1, 2 ] } } }"
+            },
+            {
+                "{ \"tags\" : { \"$*\" : 0 } }",
+                "{ \"id\" : 1, \"name\" : \"n\", "
+                    + "\"profile\" : { \"a\" : 1, \"b\" : { \"x\" : [ 1, 2 ] }, \"c\" : \"s\" }, "
+                    + "\"items\" : [ { \"k\" : 1, \"v\" : 2 }, { \"k\" : 3, \"v\" : 4 } ], \"ne$t\" : 5, \"tags\" : [] }"
+            },
+            // Array ranges are left to the filter, only the other fields are skipped.
+            {
+                "{ \"items\" : { \"$start\" : 1 } }",
+                "{ \"items\" : [ { \"k\" : 1, \"v\" : 2 }, { \"k\" : 3, \"v\" : 4 } ] }"
+            },
+            // Field masks composed with a wildcard mask are not applied.
+            {
+                "{ \"$*\" : { \"a\" : 1 }, \"profile\" : { \"c\" : 1 } }",
+                DATA
+            },
+        };
+  }
+
+  @Test(dataProvider = "projections")
+  public void testJsonDecodeMap(String projection, String expected) throws Exception
+  {
+    DataMap data = TestUtil.dataMapFromString(DATA);
+    DataMap decoded = decodeMap(new JacksonDataCodec(), new JacksonStreamDataCodec(4096), data, projection);
+    assertEquals(decoded, TestUtil.dataMapFromString(expected));
+  }
+
+  @Test(dataProvider = "projections")
+  public void testProtobufDecodeMap(String projection, String expected) throws Exception
+  {
+    DataMap data = TestUtil.dataMapFromString(DATA);
+    DataMap decoded = decodeMap(new ProtobufDataCodec(), new ProtobufStreamDataCodec(4096), data, projection);
+    assertEquals(decoded, TestUtil.dataMapFromString(expected));
+  }
+
+  @Test
+  public void testDecodeList() throws Exception
+  {
+    DataList data = TestUtil.dataMapFromString(DATA).getDataList("items");
+    DataMap projection = TestUtil.dataMapFromString("{ \"$*\" : { \"k\" : 1 } }");
+    DataList expected = TestUtil.dataMapFromString("{ \"l\" : [ { \"k\" : 1 }, { \"k\" : 3 } ] }").getDataList("l");
+
+    EntityStream<ByteString> jsonStream = stream(TestUtil.dataComplexToBytes(new JacksonDataCodec(), data));
+    assertEquals(new JacksonStreamDataCodec(4096).decodeList(jsonStream, projection).toCompletableFuture().get(),
+        expected);
+
+    EntityStream<ByteString> protobufStream = stream(TestUtil.dataComplexToBytes(new ProtobufDataCodec(), data));
+    assertEquals(new ProtobufStreamDataCodec(4096).decodeList(protobufStream, projection).toCompletableFuture().get(),
+        expected);
+  }
+
+  @Test
+  public void testNoProjection() throws Exception
+  {
+    DataMap data = TestUtil.dataMapFromString(DATA);
+    EntityStream<ByteString> entityStream = stream(TestUtil.dataComplexToBytes(new ProtobufDataCodec(), data));
+    assertEquals(new ProtobufStreamDataCodec(4096).decodeMap(entityStream, (DataMap) null).toCompletableFuture().get(), data);
+  }
+
+  private static DataMap decodeMap(DataCodec codec, StreamDataCodec streamCodec, DataMap data, String projection)
+      throws Exception
+  {
+    EntityStream<ByteString> entityStream = stream(TestUtil.dataComplexToBytes(codec, data));
+    return streamCodec.decodeMap(entityStream, TestUtil.dataMapFromString(projection)).toCompletableFuture().get();
+  }
+
+  private static EntityStream<ByteString> stream(byte[] bytes)
+  {
+    // Small chunks so that skipped values span several chunks.
+    return EntityStreams.newEntityStream(new ChunkedByteStringWriter(bytes, 3));
+  }
+}
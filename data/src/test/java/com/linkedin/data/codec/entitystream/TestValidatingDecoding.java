@@ -0,0 +1,231 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.linkedin.data.codec.entitystream;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.ChunkedByteStringWriter;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.TestUtil;
+import com.linkedin.data.codec.DataCodec;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.data.message.Message;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.validation.CoercionMode;
+import com.linkedin.data.schema.validation.RequiredMode;
+import com.linkedin.data.schema.validation.UnrecognizedFieldMode;
+import com.linkedin.data.schema.validation.ValidateDataAgainstSchema;
+import com.linkedin.data.schema.validation.ValidationOptions;
+import com.linkedin.data.schema.validation.ValidationResult;
+import com.linkedin.entitystream.EntityStream;
+import com.linkedin.entitystream.EntityStreams;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestValidatingDecoding
+{
+  private static final String SCHEMA = "{ \"type\" : \"record\", \"name\" : \"Foo\", \"fields\" : [ "
+      + "{ \"name\" : \"id\", \"type\" : \"int\" }, "
+      + "{ \"name\" : \"name\", \"type\" : \"string\", \"default\" : \"none\" }, "
+      + "{ \"name\" : \"score\", \"type\" : \"float\", \"optional\" : true }, "
+      + "{ \"name\" : \"kind\", \"type\" : { \"type\" : \"enum\", \"name\" : \"Kind\", \"symbols\" : [ \"A\", \"B\" ] }, "
+      + "\"optional\" : true }, "
+      + "{ \"name\" : \"data\", \"type\" : \"bytes\", \"optional\" : true }, "
+      + "{ \"name\" : \"tags\", \"type\" : { \"type\" : \"array\", \"items\" : \"long\" }, \"optional\" : true }, "
+      + "{ \"name\" : \"children\", \"type\" : { \"type\" : \"array\", \"items\" : \"Foo\" }, \"optional\" : true }, "
+      + "{ \"name\" : \"counts\", \"type\" : { \"type\" : \"map\", \"values\" : \"int\" }, \"optional\" : true }, "
+      + "{ \"name\" : \"choice\", \"type\" : [ \"int\", \"string\" ], \"optional\" : true } "
+      + "] }";
+
+  private static final String[] DATA =
+      {
+          "{ \"id\" : 1, \"name\" : \"x\", \"tags\" : [ 1, 2 ], \"counts\" : { \"a\" : 1 }, \"choice\" : { \"int\" : 1 } }",
+          "{ \"score\" : \"abc\", \"kind\" : \"C\", \"tags\" : [ 1, \"x\" ], \"children\" : [ { \"name\" : \"c\" } ] }",
+          "{ \"id\" : 1, \"name\" : \"n\", \"score\" : 2, \"tags\" : [ 1, 2 ], \"data\" : \"abc\", "
+              + "\"counts\" : { \"a\" : 1.5 } }",
+          "{ \"id\" : 1, \"name\" : \"n\", \"extra\" : { \"x\" : [ 1 ] }, "
+              + "\"children\" : [ { \"id\" : 2, \"name\" : \"c\", \"more\" : 1 }, [ 1 ] ] }",
+          "{ \"id\" : 1, \"name\" : \"n\", \"choice\" : { \"boolean\" : true }, \"counts\" : [ 1 ] }",
+          "{ \"id\" : \"12\", \"name\" : 3, \"choice\" : { \"int\" : 1, \"string\" : \"s\" } }",
+      };
+
+  private static final ValidationOptions[] OPTIONS =
+      {
+          new ValidationOptions(),
+          new ValidationOptions(RequiredMode.FIXUP_ABSENT_WITH_DEFAULT, CoercionMode.NORMAL, UnrecognizedFieldMode.TRIM),
+          new ValidationOptions(RequiredMode.MUST_BE_PRESENT, CoercionMode.OFF, UnrecognizedFieldMode.DISALLOW),
+          new ValidationOptions(RequiredMode.IGNORE, CoercionMode.STRING_TO_PRIMITIVE, UnrecognizedFieldMode.IGNORE),
+      };
+
+  @DataProvider
+  public Object[][] validations()
+  {
+    List<Object[]> validations = new ArrayList<>();
+    for (String data : DATA)
+    {
+      for (ValidationOptions options : OPTIONS)
+      {
+        validations.add(new Object[] { data, options, new JacksonDataCodec() });
+        validations.add(new Object[] { data, options, new ProtobufDataCodec() });
+      }
+    }
+    return validations.toArray(new Object[0][]);
+  }
+
+  @Test(dataProvider = "validations")
+  public void testSameResultAsValidateDataAgainstSchema(String data, ValidationOptions options, DataCodec codec)
+      throws Exception
+  {
+    DataSchema schema = TestUtil.dataSchemaFromString(SCHEMA);
+    byte[] bytes = codec.mapToBytes(TestUtil.dataMapFromString(data));
+
+    AbstractDataDecoder<DataMap> decoder = createDecoder(codec);
+    decoder.setValidation(schema, options, null);
+    DataMap decoded = decode(bytes, decoder);
+    ValidationResult result = decoder.getValidationResult();
+
+    DataMap expectedData = codec.bytesToMap(bytes);
+    ValidationResult expected = ValidateDataAgainstSchema.validate(expectedData, schema, options);
+
+    assertEquals(result.isValid(), expected.isValid());
+    assertEquals(result.hasFix(), expected.hasFix());
+    assertFalse(result.hasFixupReadOnlyError());
+    assertEquals(messages(result), messages(expected));
+    assertEquals(decoded, expectedData);
+    assertEquals(result.getFixed(), expectedData);
+  }
+
+  @Test(dataProvider = "validations")
+  public void testSchemaBoundRecords(String data, ValidationOptions options, DataCodec codec) throws Exception
+  {
+    DataSchema schema = TestUtil.dataSchemaFromString(SCHEMA);
+    byte[] bytes = codec.mapToBytes(TestUtil.dataMapFromString(data));
+
+    AbstractDataDecoder<DataMap> decoder = createDecoder(codec);
+    decoder.setSchema(schema);
+    decoder.setValidation(schema, options, null);
+    DataMap decoded = decode(bytes, decoder);
+
+    DataMap expectedData = codec.bytesToMap(bytes);
+    ValidateDataAgainstSchema.validate(expectedData, schema, options);
+    assertEquals(decoded, expectedData);
+    assertTrue(decoded.isPositionalStorage());
+    DataList children = decoded.getDataList("children");
+    if (children != null && children.get(0) instanceof DataMap)
+    {
+      assertTrue(((DataMap) children.get(0)).isPositionalStorage());
+    }
+    Object counts = decoded.get("counts");
+    if (counts instanceof DataMap)
+    {
+      assertFalse(((DataMap) counts).isPositionalStorage());
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testAvroUnionModeNotSupported() throws Exception
+  {
+    ValidationOptions options = new ValidationOptions();
+    options.setAvroUnionMode(true);
+    new JacksonJsonDataMapDecoder().setValidation(TestUtil.dataSchemaFromString(SCHEMA), options, null);
+  }
+
+  @Test
+  public void testRequiredFieldsExcludedByProjection() throws Exception
+  {
+    DataSchema schema = TestUtil.dataSchemaFromString(SCHEMA);
+    byte[] bytes = new JacksonDataCodec().mapToBytes(TestUtil.dataMapFromString(
+        "{ \"name\" : \"x\", \"children\" : [ { \"name\" : \"c\" } ] }"));
+    ValidationOptions options = new ValidationOptions(RequiredMode.MUST_BE_PRESENT);
+
+    AbstractDataDecoder<DataMap> decoder = new JacksonJsonDataMapDecoder();
+    decoder.setValidation(schema, options, null);
+    decode(bytes, decoder);
+    assertFalse(decoder.getValidationResult().isValid());
+
+    // The projection excludes the missing "id" fields, which are not reported as missing.
+    decoder = new JacksonJsonDataMapDecoder();
+    decoder.setProjection(TestUtil.dataMapFromString(
+        "{ \"name\" : 1, \"children\" : { \"$*\" : { \"name\" : 1 } } }"));
+    decoder.setValidation(schema, options, null);
+    decode(bytes, decoder);
+    assertTrue(decoder.getValidationResult().isValid(), decoder.getValidationResult().getMessages().toString());
+
+    // A projection including them still reports them.
+    decoder = new JacksonJsonDataMapDecoder();
+    decoder.setProjection(TestUtil.dataMapFromString("{ \"id\" : 1, \"name\" : 1 }"));
+    decoder.setValidation(schema, options, null);
+    decode(bytes, decoder);
+    assertFalse(decoder.getValidationResult().isValid());
+  }
+
+  @Test
+  public void testValidationDecodingOption() throws Exception
+  {
+    DataSchema schema = TestUtil.dataSchemaFromString(SCHEMA);
+    byte[] bytes = new JacksonDataCodec().mapToBytes(TestUtil.dataMapFromString(DATA[1]));
+
+    StreamDecodingOptions decodingOptions = new StreamDecodingOptions();
+    assertNull(decodingOptions.getValidationResult());
+    decodingOptions.setValidation(schema, new ValidationOptions(), null);
+    EntityStream<ByteString> entityStream = EntityStreams.newEntityStream(new ChunkedByteStringWriter(bytes, 3));
+    new JacksonStreamDataCodec(1024).decodeMap(entityStream, decodingOptions).toCompletableFuture().get();
+
+    ValidationResult expected = ValidateDataAgainstSchema.validate(new JacksonDataCodec().bytesToMap(bytes), schema,
+        new ValidationOptions());
+    assertFalse(decodingOptions.getValidationResult().isValid());
+    assertEquals(messages(decodingOptions.getValidationResult()), messages(expected));
+  }
+
+  private static AbstractDataDecoder<DataMap> createDecoder(DataCodec codec)
+  {
+    return codec instanceof ProtobufDataCodec
+        ? new ProtobufDataDecoder<>(null, AbstractDataDecoder.START_OBJECT_TOKEN)
+        : new JacksonJsonDataMapDecoder();
+  }
+
+  private static DataMap decode(byte[] bytes, AbstractDataDecoder<DataMap> decoder) throws Exception
+  {
+    EntityStream<ByteString> entityStream = EntityStreams.newEntityStream(new ChunkedByteStringWriter(bytes, 3));
+    entityStream.setReader(decoder);
+    return decoder.getResult().toCompletableFuture().get();
+  }
+
+  /**
+   * Messages are reported in the order of the data, which differs from the iteration order of maps.
+   */
+  private static List<String> messages(ValidationResult result)
+  {
+    List<String> messages = new ArrayList<>();
+    for (Message message : result.getMessages())
+    {
+      messages.add(message.toString());
+    }
+    Collections.sort(messages);
+    return messages;
+  }
+}
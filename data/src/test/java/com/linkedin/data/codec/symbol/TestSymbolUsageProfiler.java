@@ -0,0 +1,100 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec.symbol;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.ProtobufCodecOptions;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestSymbolUsageProfiler
+{
+  @Test
+  public void testTakeFrequentSymbols()
+  {
+    SymbolUsageProfiler profiler = new SymbolUsageProfiler();
+    for (int i = 0; i < 3; i++)
+    {
+      profiler.recordMiss("b");
+      profiler.recordMiss("a");
+    }
+    for (int i = 0; i < 5; i++)
+    {
+      profiler.recordMiss("c");
+    }
+    profiler.recordMiss("rare");
+
+    Assert.assertEquals(profiler.takeFrequentSymbols(2, 10), Arrays.asList("c", "a", "b"));
+    Assert.assertEquals(profiler.getCandidateCount(), 0);
+    Assert.assertEquals(profiler.takeFrequentSymbols(1, 10), Collections.emptyList());
+  }
+
+  @Test
+  public void testCandidatesAreBounded()
+  {
+    SymbolUsageProfiler profiler = new SymbolUsageProfiler(2, 5);
+    profiler.recordMiss("a");
+    profiler.recordMiss("b");
+    profiler.recordMiss("c");
+    profiler.recordMiss("toolong");
+    profiler.recordMiss("a");
+
+    Assert.assertEquals(profiler.getCandidateCount(), 2);
+    Assert.assertEquals(profiler.getLookupCount(), 5);
+    Assert.assertEquals(profiler.takeFrequentSymbols(1, 1), Collections.singletonList("a"));
+  }
+
+  @Test
+  public void testProfileEncoding() throws IOException
+  {
+    List<String> symbols = new ArrayList<>(Arrays.asList("id", "name"));
+    SymbolUsageProfiler profiler = new SymbolUsageProfiler();
+    SymbolTable symbolTable = new ProfilingSymbolTable(new InMemorySymbolTable("table", symbols), profiler);
+    ProtobufDataCodec codec =
+        new ProtobufDataCodec(new ProtobufCodecOptions.Builder().setSymbolTable(symbolTable).build());
+
+    DataMap map = new DataMap();
+    map.put("id", 1);
+    map.put("name", "value");
+    DataMap counts = new DataMap();
+    counts.put("dynamicKey", 1);
+    map.put("counts", counts);
+    byte[] encoded = codec.mapToBytes(map);
+
+    // Two hits on "id" and "name", misses on "value", "counts" and "dynamicKey".
+    Assert.assertEquals(profiler.getLookupCount(), 5);
+    Assert.assertEquals(profiler.getHitCount(), 2);
+    Assert.assertEquals(profiler.getHitRate(), 0.4, 0.0001);
+    Assert.assertEquals(profiler.getBytesSaved(), 1 + "id".length() - 1 + 1 + "name".length() - 1);
+
+    // A table with the learned symbols encodes the same data in fewer bytes.
+    symbols.addAll(profiler.takeFrequentSymbols(1, 10));
+    SymbolTable learnedTable = new InMemorySymbolTable("learned", symbols);
+    ProtobufDataCodec learnedCodec =
+        new ProtobufDataCodec(new ProtobufCodecOptions.Builder().setSymbolTable(learnedTable).build());
+    byte[] learnedEncoded = learnedCodec.mapToBytes(map);
+    Assert.assertTrue(learnedEncoded.length < encoded.length);
+    Assert.assertEquals(learnedCodec.bytesToMap(learnedEncoded), map);
+  }
+}
@@ -18,7 +18,14 @@ package com.linkedin.data.collections;
 
 import com.linkedin.data.DataMap;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -104,4 +111,49 @@ public class TestCheckedMap
 
     map.removeIf(entry -> entry.getKey().equals("Unknown"));
   }
+
+  @Test(timeOut = 30000)
+  public void testConcurrentReadsOfDeferredMap() throws Exception
+  {
+    final int readers = 4;
+    final int size = 100;
+    ExecutorService executor = Executors.newFixedThreadPool(readers);
+    try
+    {
+      for (int i = 0; i < 200; i++)
+      {
+        AtomicInteger loads = new AtomicInteger();
+        CheckedMap<String, Object> map = new CheckedMap<>(target ->
+        {
+          loads.incrementAndGet();
+          for (int j = 0; j < size; j++)
+          {
+            target.put("key" + j, j);
+          }
+        }, size, null, false);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> reads = new ArrayList<>();
+        for (int r = 0; r < readers; r++)
+        {
+          reads.add(executor.submit(() ->
+          {
+            start.await();
+            return map.size() == size && Integer.valueOf(size - 1).equals(map.get("key" + (size - 1)));
+          }));
+        }
+        start.countDown();
+        for (Future<Boolean> read : reads)
+        {
+          Assert.assertTrue(read.get(), "Reader found partially loaded contents");
+        }
+        Assert.assertEquals(loads.get(), 1);
+        Assert.assertFalse(map.isDeferred());
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
 }
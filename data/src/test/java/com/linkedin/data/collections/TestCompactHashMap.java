@@ -0,0 +1,200 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.DataMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestCompactHashMap
+{
+  @DataProvider
+  public Object[][] sizes()
+  {
+    return new Object[][] {{0}, {1}, {CompactHashMap.LINEAR_SCAN_THRESHOLD}, {CompactHashMap.LINEAR_SCAN_THRESHOLD + 1}, {1000}};
+  }
+
+  @Test(dataProvider = "sizes")
+  public void testAgainstHashMap(int size)
+  {
+    Map<String, Integer> reference = new HashMap<>();
+    CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    for (int i = 0; i < size; i++)
+    {
+      reference.put("key" + i, i);
+      Assert.assertNull(map.put("key" + i, i));
+    }
+    Assert.assertEquals(map.put("key0", -1), size == 0 ? null : Integer.valueOf(0));
+    reference.put("key0", -1);
+
+    Assert.assertEquals(map, reference);
+    Assert.assertEquals(reference, map);
+    Assert.assertEquals(map.hashCode(), reference.hashCode());
+    Assert.assertEquals(map.size(), reference.size());
+    Assert.assertEquals(map.keySet(), reference.keySet());
+    Assert.assertEquals(map.isHashed(), reference.size() > CompactHashMap.LINEAR_SCAN_THRESHOLD);
+    for (String key : reference.keySet())
+    {
+      Assert.assertTrue(map.containsKey(key));
+      Assert.assertEquals(map.get(key), reference.get(key));
+    }
+    Assert.assertFalse(map.containsKey("missing"));
+    Assert.assertNull(map.get("missing"));
+    Assert.assertEquals(map.containsValue(-1), true);
+    Assert.assertEquals(map.containsValue(-2), false);
+  }
+
+  @Test
+  public void testRandomOperations()
+  {
+    Random random = new Random(42);
+    Map<Integer, Integer> reference = new HashMap<>();
+    CompactHashMap<Integer, Integer> map = new CompactHashMap<>();
+    for (int i = 0; i < 100000; i++)
+    {
+      Integer key = random.nextInt(64);
+      switch (random.nextInt(3))
+      {
+        case 0:
+          Assert.assertEquals(map.put(key, i), reference.put(key, i));
+          break;
+        case 1:
+          Assert.assertEquals(map.remove(key), reference.remove(key));
+          break;
+        default:
+          Assert.assertEquals(map.get(key), reference.get(key));
+      }
+      Assert.assertEquals(map.size(), reference.size());
+    }
+    Assert.assertEquals(map, reference);
+  }
+
+  @Test(dataProvider = "sizes")
+  public void testIteratorRemove(int size)
+  {
+    CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    Map<String, Integer> reference = new HashMap<>();
+    for (int i = 0; i < size; i++)
+    {
+      map.put("key" + i, i);
+      if (i % 2 == 1)
+      {
+        reference.put("key" + i, i);
+      }
+    }
+
+    int visited = 0;
+    for (Iterator<Map.Entry<String, Integer>> it = map.entrySet().iterator(); it.hasNext(); )
+    {
+      Map.Entry<String, Integer> entry = it.next();
+      visited++;
+      if (entry.getValue() % 2 == 0)
+      {
+        it.remove();
+      }
+    }
+    Assert.assertEquals(visited, size);
+    Assert.assertEquals(map, reference);
+  }
+
+  @Test
+  public void testNullKeyAndValue()
+  {
+    CompactHashMap<String, String> map = new CompactHashMap<>();
+    map.put(null, "a");
+    map.put("b", null);
+    Assert.assertTrue(map.containsKey(null));
+    Assert.assertEquals(map.get(null), "a");
+    Assert.assertTrue(map.containsKey("b"));
+    Assert.assertNull(map.get("b"));
+    Assert.assertTrue(map.containsValue(null));
+    Assert.assertEquals(map.remove(null), "a");
+    Assert.assertFalse(map.containsKey(null));
+  }
+
+  @Test
+  public void testEntrySetValue()
+  {
+    CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    map.put("a", 1);
+    map.entrySet().iterator().next().setValue(2);
+    Assert.assertEquals(map, Collections.singletonMap("a", 2));
+  }
+
+  @Test
+  public void testClone()
+  {
+    CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    map.put("a", 1);
+    CompactHashMap<String, Integer> clone = map.clone();
+    clone.put("b", 2);
+    Assert.assertEquals(map, Collections.singletonMap("a", 1));
+    Assert.assertEquals(clone.size(), 2);
+  }
+
+  @Test
+  public void testCompactDataMap() throws CloneNotSupportedException
+  {
+    DataMap map = new DataMap(4, true);
+    Assert.assertTrue(map.isCompactStorage());
+    Assert.assertFalse(new DataMap().isCompactStorage());
+
+    map.put("a", 1);
+    map.put("b", new DataMap(0, true));
+    DataMap clone = map.clone();
+    Assert.assertTrue(clone.isCompactStorage());
+    clone.put("c", "x");
+    Assert.assertEquals(map.size(), 2);
+    Assert.assertEquals(clone.size(), 3);
+
+    DataMap copy = map.copy();
+    Assert.assertEquals(copy, map);
+    Assert.assertNotSame(copy.getDataMap("b"), map.getDataMap("b"));
+
+    try
+    {
+      map.put("d", new Object());
+      Assert.fail("Expected checker to reject non-data value");
+    }
+    catch (IllegalArgumentException e)
+    {
+      // expected
+    }
+
+    Map<String, Object> changes = new HashMap<>();
+    map.addChangeListener(changes::put);
+    map.put("a", 2);
+    map.remove("b");
+    Assert.assertEquals(changes.get("a"), 2);
+    Assert.assertTrue(changes.containsKey("b"));
+
+    map.makeReadOnly();
+    TestCommonMap.verifyReadOnly(new CheckedMap<String, String>(Collections.singletonMap("k1", "1"), null, true)
+    {
+      {
+        setReadOnly();
+      }
+    });
+  }
+}
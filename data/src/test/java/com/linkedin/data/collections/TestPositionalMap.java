@@ -0,0 +1,187 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.data.template.GetMode;
+import com.linkedin.data.template.RecordTemplate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestPositionalMap
+{
+  private static final PositionalMap.Layout<String> LAYOUT = new PositionalMap.Layout<>(Arrays.asList("a", "b", "c"));
+
+  @Test
+  public void testLayout()
+  {
+    Assert.assertEquals(LAYOUT.size(), 3);
+    Assert.assertEquals(LAYOUT.indexOf("a"), 0);
+    Assert.assertEquals(LAYOUT.indexOf(new String("c")), 2);
+    Assert.assertEquals(LAYOUT.indexOf("d"), -1);
+    Assert.assertEquals(LAYOUT.indexOf(null), -1);
+    Assert.assertEquals(LAYOUT.keyAt(1), "b");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testLayoutDuplicateKey()
+  {
+    new PositionalMap.Layout<>(Arrays.asList("a", "a"));
+  }
+
+  @Test
+  public void testPositionalAndOverflowEntries()
+  {
+    PositionalMap<String, Integer> map = new PositionalMap<>(LAYOUT);
+    Map<String, Integer> reference = new HashMap<>();
+    for (String key : Arrays.asList("c", "x", "a", "y"))
+    {
+      Assert.assertNull(map.put(key, key.hashCode()));
+      reference.put(key, key.hashCode());
+    }
+    Assert.assertEquals(map.put("a", 1), Integer.valueOf("a".hashCode()));
+    reference.put("a", 1);
+
+    Assert.assertEquals(map, reference);
+    Assert.assertEquals(reference, map);
+    Assert.assertEquals(map.hashCode(), reference.hashCode());
+    Assert.assertEquals(map.size(), 4);
+    Assert.assertEquals(map.getAt(0), Integer.valueOf(1));
+    Assert.assertNull(map.getAt(1));
+    Assert.assertFalse(map.containsKey("b"));
+    Assert.assertTrue(map.containsKey("x"));
+
+    Assert.assertEquals(map.remove("c"), Integer.valueOf("c".hashCode()));
+    Assert.assertEquals(map.remove("x"), Integer.valueOf("x".hashCode()));
+    Assert.assertNull(map.remove("b"));
+    Assert.assertEquals(map.size(), 2);
+
+    PositionalMap<String, Integer> clone = map.clone();
+    clone.put("b", 2);
+    Assert.assertFalse(map.containsKey("b"));
+    Assert.assertEquals(clone.size(), 3);
+  }
+
+  @Test
+  public void testIteratorRemove()
+  {
+    PositionalMap<String, Integer> map = new PositionalMap<>(LAYOUT);
+    map.put("a", 1);
+    map.put("b", 2);
+    map.put("x", 3);
+    map.put("y", 4);
+    for (Iterator<Map.Entry<String, Integer>> it = map.entrySet().iterator(); it.hasNext(); )
+    {
+      if (it.next().getValue() % 2 == 1)
+      {
+        it.remove();
+      }
+    }
+    Map<String, Integer> expected = new HashMap<>();
+    expected.put("b", 2);
+    expected.put("y", 4);
+    Assert.assertEquals(map, expected);
+  }
+
+  @Test
+  public void testSchemaBoundDataMap() throws CloneNotSupportedException
+  {
+    RecordDataSchema schema = (RecordDataSchema) DataTemplateUtil.parseSchema(
+        "{ \"type\" : \"record\", \"name\" : \"Foo\", \"fields\" : [ "
+            + "{ \"name\" : \"int\", \"type\" : \"int\" }, { \"name\" : \"string\", \"type\" : \"string\" } ] }");
+    Assert.assertSame(schema.getFieldLayout(), schema.getFieldLayout());
+    Assert.assertEquals(schema.getFieldLayout().indexOf("string"), schema.index("string"));
+
+    DataMap map = new DataMap(schema.getFieldLayout());
+    Assert.assertTrue(map.isPositionalStorage());
+    map.put("int", 1);
+    map.put("unknown", "value");
+    Assert.assertEquals(map.getInteger("int"), Integer.valueOf(1));
+    Assert.assertEquals(map.getString("unknown"), "value");
+
+    DataMap clone = map.clone();
+    Assert.assertTrue(clone.isPositionalStorage());
+    clone.put("string", "s");
+    Assert.assertFalse(map.containsKey("string"));
+    Assert.assertEquals(map.copy(), map);
+
+    DataMap empty = new DataMap();
+    Assert.assertTrue(empty.usePositionalStorage(schema.getFieldLayout()));
+    Assert.assertTrue(empty.isPositionalStorage());
+
+    DataMap nonEmpty = new DataMap(Collections.singletonMap("int", 1));
+    Assert.assertFalse(nonEmpty.usePositionalStorage(schema.getFieldLayout()));
+    Assert.assertFalse(nonEmpty.isPositionalStorage());
+  }
+
+  @Test
+  public void testRecordTemplateFieldsByPosition()
+  {
+    RecordDataSchema included = (RecordDataSchema) DataTemplateUtil.parseSchema(
+        "{ \"type\" : \"record\", \"name\" : \"Bar\", \"fields\" : [ { \"name\" : \"bar\", \"type\" : \"int\" } ] }");
+    RecordDataSchema schema = (RecordDataSchema) DataTemplateUtil.parseSchema(
+        "{ \"type\" : \"record\", \"name\" : \"Foo\", \"include\" : [ " + included + " ], \"fields\" : [ "
+            + "{ \"name\" : \"int\", \"type\" : \"int\" }, { \"name\" : \"string\", \"type\" : \"string\" } ] }");
+    RecordDataSchema.Field stringField = schema.getField("string");
+    RecordDataSchema.Field barField = schema.getField("bar");
+    Assert.assertEquals(stringField.getPosition(schema.getFieldLayout()), schema.index("string"));
+    Assert.assertEquals(barField.getPosition(schema.getFieldLayout()), schema.index("bar"));
+    Assert.assertEquals(barField.getPosition(included.getFieldLayout()), 0);
+    Assert.assertEquals(stringField.getPosition(included.getFieldLayout()), -1);
+
+    DataMap map = new DataMap(schema.getFieldLayout());
+    map.put("string", "s");
+    map.put("bar", 2);
+    Assert.assertEquals(map.getAt(stringField.getPosition(schema.getFieldLayout()), "string"), "s");
+    Assert.assertEquals(map.getAt(-1, "bar"), 2);
+    Assert.assertEquals(new DataMap(map).getAt(0, "int"), null);
+
+    FooRecord record = new FooRecord(map, schema);
+    Assert.assertEquals(record.getString(), "s");
+    Assert.assertEquals(record.getBar(), Integer.valueOf(2));
+    Assert.assertEquals(new FooRecord(new DataMap(map), schema).getString(), "s");
+  }
+
+  private static class FooRecord extends RecordTemplate
+  {
+    private final RecordDataSchema _schema;
+
+    FooRecord(DataMap map, RecordDataSchema schema)
+    {
+      super(map, schema);
+      _schema = schema;
+    }
+
+    String getString()
+    {
+      return obtainDirect(_schema.getField("string"), String.class, GetMode.STRICT);
+    }
+
+    Integer getBar()
+    {
+      return obtainDirect(_schema.getField("bar"), Integer.class, GetMode.STRICT);
+    }
+  }
+}
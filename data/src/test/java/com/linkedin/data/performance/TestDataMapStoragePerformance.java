@@ -0,0 +1,172 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.performance;
+
+
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.ProtobufCodecOptions;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import java.io.IOException;
+import java.io.PrintStream;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Compares memory footprint and throughput of {@link DataMap}s backed by {@link java.util.HashMap}
+ * and by {@link com.linkedin.data.collections.CompactHashMap}.
+ *
+ * <p>Run {@link #main(String[])} for meaningful numbers, the test only verifies both layouts produce
+ * the same data.</p>
+ */
+public class TestDataMapStoragePerformance
+{
+  private static int _numRecords = 1000;
+  private static int _numIterations = 1;
+  private static boolean _testOnly = true;
+
+  private static final int[] FIELD_COUNTS = { 3, 8, 15, 40 };
+  private static final String[] FIELD_NAMES = new String[40];
+  static
+  {
+    for (int f = 0; f < FIELD_NAMES.length; f++)
+    {
+      FIELD_NAMES[f] = "field" + f;
+    }
+  }
+  private static final PrintStream out = System.out;
+
+  public static void main(String args[]) throws IOException
+  {
+    TestDataMapStoragePerformance test = new TestDataMapStoragePerformance();
+    _numRecords = 200000;
+    _numIterations = 20;
+    _testOnly = false;
+    test.run();
+  }
+
+  @Test
+  public void run() throws IOException
+  {
+    for (int fieldCount : FIELD_COUNTS)
+    {
+      DataList records = new DataList();
+      for (int i = 0; i < _numRecords; i++)
+      {
+        records.add(record(fieldCount, i));
+      }
+      DataMap envelope = new DataMap();
+      envelope.put("elements", records);
+
+      ProtobufDataCodec hashMapCodec = new ProtobufDataCodec();
+      ProtobufDataCodec compactCodec =
+          new ProtobufDataCodec(new ProtobufCodecOptions.Builder().setEnableCompactDataMaps(true).build());
+      byte[] bytes = hashMapCodec.mapToBytes(envelope);
+
+      DataMap fromHashMapCodec = hashMapCodec.bytesToMap(bytes);
+      DataMap fromCompactCodec = compactCodec.bytesToMap(bytes);
+      assertEquals(fromCompactCodec, fromHashMapCodec);
+      assertTrue(fromCompactCodec.getDataList("elements").getDataMap(0).isCompactStorage());
+
+      if (!_testOnly)
+      {
+        out.println("Fields per record: " + fieldCount + ", records: " + _numRecords);
+        measure("HashMap", hashMapCodec, bytes, fieldCount);
+        measure("CompactHashMap", compactCodec, bytes, fieldCount);
+      }
+    }
+  }
+
+  private static DataMap record(int fieldCount, int seed)
+  {
+    DataMap map = new DataMap();
+    for (int f = 0; f < fieldCount; f++)
+    {
+      switch (f % 3)
+      {
+        case 0:
+          map.put(FIELD_NAMES[f], seed + f);
+          break;
+        case 1:
+          map.put(FIELD_NAMES[f], "value" + seed);
+          break;
+        default:
+          map.put(FIELD_NAMES[f], (seed & 1) == 0);
+      }
+    }
+    return map;
+  }
+
+  private static void measure(String label, ProtobufDataCodec codec, byte[] bytes, int fieldCount) throws IOException
+  {
+    // Warm up
+    for (int i = 0; i < 3; i++)
+    {
+      codec.bytesToMap(bytes);
+    }
+
+    long decodeNanos = 0;
+    long readNanos = 0;
+    long reads = 0;
+    for (int i = 0; i < _numIterations; i++)
+    {
+      long start = System.nanoTime();
+      DataMap map = codec.bytesToMap(bytes);
+      decodeNanos += System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (Object element : map.getDataList("elements"))
+      {
+        DataMap record = (DataMap) element;
+        for (int f = 0; f < fieldCount; f++)
+        {
+          if (record.get(FIELD_NAMES[f]) != null)
+          {
+            reads++;
+          }
+        }
+      }
+      readNanos += System.nanoTime() - start;
+    }
+
+    out.println("  " + label
+        + ": retained bytes per record " + retainedBytesPerRecord(codec, bytes)
+        + ", decode ms " + decodeNanos / 1000000.0 / _numIterations
+        + ", ns per get " + (double) readNanos / reads);
+  }
+
+  private static long retainedBytesPerRecord(ProtobufDataCodec codec, byte[] bytes) throws IOException
+  {
+    Runtime runtime = Runtime.getRuntime();
+    long before = usedMemory(runtime);
+    DataMap retained = codec.bytesToMap(bytes);
+    long after = usedMemory(runtime);
+    return (after - before) / retained.getDataList("elements").size();
+  }
+
+  private static long usedMemory(Runtime runtime)
+  {
+    for (int i = 0; i < 4; i++)
+    {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
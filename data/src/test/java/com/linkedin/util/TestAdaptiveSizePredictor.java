@@ -0,0 +1,69 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestAdaptiveSizePredictor
+{
+  @Test
+  public void testInitialPrediction()
+  {
+    Assert.assertEquals(new AdaptiveSizePredictor().predict(), AdaptiveSizePredictor.DEFAULT_INITIAL);
+    Assert.assertEquals(new AdaptiveSizePredictor(100, 1000, 10000).predict(), 1024);
+  }
+
+  @Test
+  public void testGrowsImmediately()
+  {
+    AdaptiveSizePredictor predictor = new AdaptiveSizePredictor(256, 4096, 1 << 20);
+    predictor.record(5000);
+    Assert.assertEquals(predictor.predict(), 8192);
+    predictor.record(1 << 30);
+    Assert.assertEquals(predictor.predict(), 1 << 20);
+  }
+
+  @Test
+  public void testShrinksAfterTwoSmallOutputs()
+  {
+    AdaptiveSizePredictor predictor = new AdaptiveSizePredictor(256, 4096, 1 << 20);
+    predictor.record(100);
+    Assert.assertEquals(predictor.predict(), 4096);
+    predictor.record(100);
+    Assert.assertEquals(predictor.predict(), 2048);
+
+    // An output that does not fit in half of the prediction resets the shrinking.
+    predictor.record(100);
+    predictor.record(1500);
+    predictor.record(100);
+    Assert.assertEquals(predictor.predict(), 2048);
+
+    for (int i = 0; i < 20; i++)
+    {
+      predictor.record(1);
+    }
+    Assert.assertEquals(predictor.predict(), 256);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidBounds()
+  {
+    new AdaptiveSizePredictor(1000, 100, 10000);
+  }
+}
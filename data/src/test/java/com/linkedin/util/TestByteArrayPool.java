@@ -0,0 +1,108 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestByteArrayPool
+{
+  private static final int[] MIN_LENGTHS = { 100, 1000, 5000, ByteArrayPool.MAX_POOLED_LENGTH };
+
+  @Test
+  public void testAcquireRoundsUp()
+  {
+    ByteArrayPool pool = new ByteArrayPool();
+    Assert.assertEquals(pool.acquire(1).length, ByteArrayPool.MIN_POOLED_LENGTH);
+    Assert.assertEquals(pool.acquire(257).length, 512);
+    Assert.assertEquals(pool.acquire(4096).length, 4096);
+    Assert.assertEquals(pool.acquire(ByteArrayPool.MAX_POOLED_LENGTH + 1).length, ByteArrayPool.MAX_POOLED_LENGTH + 1);
+  }
+
+  @Test
+  public void testReuse()
+  {
+    ByteArrayPool pool = new ByteArrayPool();
+    byte[] array = pool.acquire(1000);
+    pool.release(array);
+    Assert.assertEquals(pool.getRetainedBytes(), 1024);
+
+    Assert.assertSame(pool.acquire(600), array);
+    Assert.assertEquals(pool.getRetainedBytes(), 0);
+    Assert.assertNotSame(pool.acquire(600), array);
+  }
+
+  @Test
+  public void testReleaseIgnoresUnpooledArrays()
+  {
+    ByteArrayPool pool = new ByteArrayPool();
+    pool.release(new byte[100]);
+    pool.release(new byte[1000]);
+    pool.release(new byte[ByteArrayPool.MAX_POOLED_LENGTH * 2]);
+    Assert.assertEquals(pool.getRetainedBytes(), 0);
+  }
+
+  @Test
+  public void testRetainedBytesAreBounded()
+  {
+    ByteArrayPool pool = new ByteArrayPool();
+    for (int i = 0; i < 10; i++)
+    {
+      pool.release(new byte[ByteArrayPool.MAX_POOLED_LENGTH]);
+    }
+    pool.release(new byte[256]);
+    Assert.assertEquals(pool.getRetainedBytes(), ByteArrayPool.MAX_RETAINED_BYTES);
+  }
+
+  @Test
+  public void testReleaseOnOtherThread() throws InterruptedException
+  {
+    ByteArrayPool pool = new ByteArrayPool();
+    byte[] array = pool.acquire(1024);
+    Thread thread = new Thread(() -> pool.release(array));
+    thread.start();
+    thread.join();
+    Assert.assertSame(pool.acquire(1024), array);
+  }
+
+  @Test
+  public void testConcurrentUse() throws InterruptedException
+  {
+    ByteArrayPool pool = new ByteArrayPool();
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++)
+    {
+      threads[i] = new Thread(() ->
+      {
+        for (int j = 0; j < 10000; j++)
+        {
+          byte[] array = pool.acquire(MIN_LENGTHS[j % MIN_LENGTHS.length]);
+          array[0] = 1;
+          pool.release(array);
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads)
+    {
+      thread.join();
+    }
+    Assert.assertTrue(pool.getRetainedBytes() <= ByteArrayPool.MAX_RETAINED_BYTES);
+    Assert.assertTrue(pool.getRetainedBytes() > 0);
+  }
+}
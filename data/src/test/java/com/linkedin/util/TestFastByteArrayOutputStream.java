@@ -79,4 +79,26 @@ public class TestFastByteArrayOutputStream {
     Assert.assertEquals(((LinkedList<byte[]>) bufferListField.get(testStream)).size(), 2);
     Assert.assertEquals(testStream.toByteArray().length, defaultSize + 1);
   }
+
+  @Test
+  public void testRecycle()
+  {
+    ByteArrayPool pool = new ByteArrayPool();
+    FastByteArrayOutputStream testStream = new FastByteArrayOutputStream(300, pool);
+    byte[] inputArray = new byte[1100];
+    inputArray[1099] = 1;
+    testStream.write(inputArray, 0, 100);
+    testStream.write(inputArray, 100, 1000);
+    Assert.assertEquals(testStream.toByteArray(), inputArray);
+
+    testStream.recycle();
+    Assert.assertEquals(testStream.size(), 0);
+    // The buffers of 512 and 1024 bytes are back in the pool.
+    Assert.assertEquals(pool.getRetainedBytes(), 1536);
+
+    FastByteArrayOutputStream reusingStream = new FastByteArrayOutputStream(300, pool);
+    reusingStream.write(inputArray, 0, 10);
+    Assert.assertEquals(pool.getRetainedBytes(), 1024);
+    Assert.assertEquals(reusingStream.toByteArray(), new byte[10]);
+  }
 }
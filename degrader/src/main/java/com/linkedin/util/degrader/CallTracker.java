@@ -55,6 +55,26 @@ public interface CallTracker
    */
   boolean removeStatsRolloverEventListener(StatsRolloverEventListener listener);
 
+  /**
+   * Register a listener to get notifications when each call ends. The listener is invoked
+   * by the thread which ends the call, hence it must be fast and must not block. Implementations
+   * which do not support call end listeners ignore them.
+   * @param listener that will receive notifications.
+   */
+  default void addCallEndListener(CallEndListener listener)
+  {
+  }
+
+  /**
+   * Remove a call end listener that was previously registered.
+   * @param listener that will be removed.
+   * @return true if listener was removed.
+   */
+  default boolean removeCallEndListener(CallEndListener listener)
+  {
+    return false;
+  }
+
   /**
    * Resets all internal call statistics to initial values
    */
@@ -238,6 +258,17 @@ public interface CallTracker
     LongStats getCallTimeStats();
   }
 
+  interface CallEndListener
+  {
+    /**
+     * Listener for the end of a call
+     *
+     * @param duration the duration of the call in milliseconds
+     * @param hasError whether the call ended with an error
+     */
+    void onCallEnd(long duration, boolean hasError);
+  }
+
   interface StatsRolloverEventListener
   {
     /**
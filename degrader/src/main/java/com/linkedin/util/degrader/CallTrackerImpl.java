@@ -77,6 +77,8 @@ public class CallTrackerImpl implements CallTracker
 
   // This CallTrackerListener list is immutable and copy-on-write.
   private volatile List<StatsRolloverEventListener> _listeners = new ArrayList<>();
+  // This CallEndListener list is immutable and copy-on-write.
+  private volatile List<CallEndListener> _callEndListeners = Collections.emptyList();
 
   public CallTrackerImpl(long interval)
   {
@@ -193,6 +195,34 @@ public class CallTrackerImpl implements CallTracker
     return removed;
   }
 
+  @Override
+  public void addCallEndListener(CallEndListener listener)
+  {
+    synchronized (_lock)
+    {
+      // Same as _listeners, copy-on-write is implemented for _callEndListeners.
+      List<CallEndListener> copy = new ArrayList<>(_callEndListeners);
+      copy.add(listener);
+      _callEndListeners = Collections.unmodifiableList(copy);
+    }
+  }
+
+  @Override
+  public boolean removeCallEndListener(CallEndListener listener)
+  {
+    boolean removed = false;
+    synchronized (_lock)
+    {
+      if (_callEndListeners.contains(listener))
+      {
+        List<CallEndListener> copy = new ArrayList<>(_callEndListeners);
+        removed = copy.remove(listener);
+        _callEndListeners = Collections.unmodifiableList(copy);
+      }
+    }
+    return removed;
+  }
+
   @Override
   public long getCurrentCallCountTotal()
   {
@@ -342,10 +372,11 @@ public class CallTrackerImpl implements CallTracker
       if (_done.compareAndSet(false, true))
       {
         Pending pending;
+        long duration;
         synchronized (_lock)
         {
           _endTime.compareAndSet(0, _clock.currentTimeMillis());
-          long duration = _endTime.get() - _start;
+          duration = _endTime.get() - _start;
 
           if (_start >= _lastResetTime)
           {
@@ -371,10 +402,19 @@ public class CallTrackerImpl implements CallTracker
         {
           pending.deliver();
         }
+        notifyCallEnd(duration, hasError);
       }
     }
   }
 
+  private void notifyCallEnd(long duration, boolean hasError)
+  {
+    for (CallEndListener listener : _callEndListeners)
+    {
+      listener.onCallEnd(duration, hasError);
+    }
+  }
+
 
   private void addCallData(long duration, boolean hasError, long currentTime, ErrorType errorType)
   {
@@ -415,6 +455,7 @@ public class CallTrackerImpl implements CallTracker
     {
       pending.deliver();
     }
+    notifyCallEnd(duration, hasError);
   }
 
   @Override
@@ -19,6 +19,7 @@
 package com.linkedin.util.degrader;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import java.util.Map;
@@ -363,6 +364,31 @@ public class TestCallTracker
         "Interval average call time is incorrect");
   }
 
+  @Test
+  public void testCallEndListener()
+  {
+    List<String> calls = new ArrayList<>();
+    CallTracker.CallEndListener listener = (duration, hasError) -> calls.add(duration + ":" + hasError);
+    _callTracker.addCallEndListener(listener);
+
+    CallCompletion callCompletion = _callTracker.startCall();
+    CallCompletion errorCallCompletion = _callTracker.startCall();
+    _clock.addDuration(FIVE_MS);
+    callCompletion.endCall();
+    // A call is only notified once
+    callCompletion.endCall();
+    _clock.addDuration(FIVE_MS);
+    errorCallCompletion.endCallWithError();
+    _callTracker.trackCall(TEN_MS);
+
+    Assert.assertEquals(calls, Arrays.asList("5:false", "10:true", "10:false"));
+
+    Assert.assertTrue(_callTracker.removeCallEndListener(listener));
+    Assert.assertFalse(_callTracker.removeCallEndListener(listener));
+    _callTracker.startCall().endCall();
+    Assert.assertEquals(calls.size(), 3);
+  }
+
   @org.testng.annotations.Test public void testOutstanding()
   {
     long jitter = 500;
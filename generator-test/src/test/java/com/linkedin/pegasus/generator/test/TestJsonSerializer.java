@@ -0,0 +1,178 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+
+package com.linkedin.pegasus.generator.test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.DataDecodingException;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.JacksonRecordSerializer;
+import com.linkedin.data.codec.PsonDataCodec;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Tests the JSON serializers generated for the records of this module.
+ */
+public class TestJsonSerializer
+{
+  private static final JacksonDataCodec CODEC = new JacksonDataCodec();
+
+  @DataProvider
+  public Object[][] records()
+  {
+    DataMap bar = new DataMap();
+    bar.put("location", "here");
+
+    DataMap all = new DataMap();
+    all.put("intField", 1);
+    all.put("longField", 2L);
+    all.put("floatField", 3.5f);
+    all.put("doubleField", 4.5);
+    all.put("booleanField", true);
+    all.put("stringField", "string");
+    all.put("bytesField", ByteString.copy(new byte[] { 1, 2, 3 }));
+    all.put("enumField", "APPLE");
+    all.put("recordField", bar);
+    all.put("recordInlineField", new DataMap(Collections.singletonMap("a", 5)));
+    all.put("arrayField", new DataList(Arrays.asList(1, 2, 3)));
+    all.put("mapField", new DataMap(Collections.singletonMap("key", "value")));
+    all.put("unionField", new DataMap(Collections.singletonMap("string", "union")));
+
+    DataMap undeclared = new DataMap();
+    undeclared.put("intField", 2);
+    undeclared.put("extra", "value");
+    undeclared.put("other", new DataMap(Collections.singletonMap("x", "y")));
+
+    DataMap mismatched = new DataMap();
+    mismatched.put("intField", "not an int");
+    mismatched.put("longField", 1);
+    mismatched.put("stringField", 5);
+    mismatched.put("booleanField", Data.NULL);
+    mismatched.put("recordField", "not a record");
+    mismatched.put("recordInlineField", new DataMap(Collections.singletonMap("a", "not an int")));
+
+    return new Object[][] {
+        { new DataMap() },
+        { all },
+        { undeclared },
+        { mismatched }
+    };
+  }
+
+  @Test(dataProvider = "records")
+  public void testSameBytesAsCodec(DataMap map) throws IOException
+  {
+    JacksonRecordSerializer serializer = JacksonRecordSerializer.forTemplateClass(RecordTest.class);
+    byte[] codecBytes = CODEC.mapToBytes(map);
+    assertEquals(serializer.mapToBytes(map), codecBytes);
+
+    DataMap expected = CODEC.bytesToMap(codecBytes);
+    assertEquals(serializer.bytesToMap(codecBytes), expected);
+    assertEquals(serializer.readMap(ByteString.unsafeWrap(codecBytes)), expected);
+  }
+
+  @Test
+  public void testReadLargeNumbers() throws IOException
+  {
+    byte[] bytes = "{\"intField\":12345678901,\"recordInlineField\":{\"a\":1.5}}".getBytes(Data.UTF_8_CHARSET);
+    assertEquals(JacksonRecordSerializer.forTemplateClass(RecordTest.class).bytesToMap(bytes), CODEC.bytesToMap(bytes));
+  }
+
+  @DataProvider
+  public Object[][] jsonWithErrors()
+  {
+    return new Object[][] {
+        { "{\"intField\":1,\"intField\":2}" },
+        { "{\"recordField\":{\"location\":\"here\",\"location\":\"there\"},\"intField\":1}" },
+        { "{\"extra\":{\"x\":1,\"x\":2}}" },
+        { "{\"intField\":123456789012345678901234567890,\"stringField\":\"string\"}" },
+        { "{\"arrayField\":[1,123456789012345678901234567890]}" },
+        { "{\"recordInlineField\":{\"a\":123456789012345678901234567890}}" }
+    };
+  }
+
+  @Test(dataProvider = "jsonWithErrors")
+  public void testSameErrorsAsCodec(String json) throws IOException
+  {
+    JacksonRecordSerializer serializer = JacksonRecordSerializer.forTemplateClass(RecordTest.class);
+    byte[] bytes = json.getBytes(Data.UTF_8_CHARSET);
+    DataMap expected = CODEC.bytesToMap(bytes);
+    assertNotNull(expected.getError());
+
+    DataMap map = serializer.bytesToMap(bytes);
+    assertEquals(map, expected);
+    assertEquals(map.getError(), expected.getError());
+    assertEquals(serializer.readMap(ByteString.unsafeWrap(bytes)), expected);
+  }
+
+  @Test
+  public void testIsEquivalentTo()
+  {
+    assertTrue(JacksonRecordSerializer.isEquivalentTo(CODEC));
+
+    JacksonDataCodec sortingCodec = new JacksonDataCodec();
+    sortingCodec.setSortKeys(true);
+    assertFalse(JacksonRecordSerializer.isEquivalentTo(sortingCodec));
+
+    JacksonDataCodec prettyCodec = new JacksonDataCodec();
+    prettyCodec.setPrettyPrinter(new DefaultPrettyPrinter());
+    assertFalse(JacksonRecordSerializer.isEquivalentTo(prettyCodec));
+
+    assertFalse(JacksonRecordSerializer.isEquivalentTo(new JacksonDataCodec(new JsonFactory())));
+    assertFalse(JacksonRecordSerializer.isEquivalentTo(new PsonDataCodec()));
+  }
+
+  @Test(expectedExceptions = DataDecodingException.class)
+  public void testNotAnObject() throws IOException
+  {
+    JacksonRecordSerializer.forTemplateClass(RecordTest.class).bytesToMap("[1]".getBytes(Data.UTF_8_CHARSET));
+  }
+
+  @Test
+  public void testForTemplateClass()
+  {
+    assertSame(JacksonRecordSerializer.forTemplateClass(RecordTest.class), RecordTestJsonSerializer.INSTANCE);
+    assertSame(JacksonRecordSerializer.forTemplateClass(RecordInRecord.class), RecordInRecordJsonSerializer.INSTANCE);
+    assertNull(JacksonRecordSerializer.forTemplateClass(DataMap.class));
+    assertNull(JacksonRecordSerializer.forTemplateClass(EnumFruits.class));
+  }
+
+  @Test
+  public void testReservedNames() throws IOException
+  {
+    DataMap map = new DataMap();
+    map.put("if", 1);
+    map.put("try", new DataMap());
+    map.put("case", "symbol");
+
+    JacksonRecordSerializer serializer = JacksonRecordSerializer.forTemplateClass(JavaReservedTest.class);
+    assertEquals(serializer.mapToBytes(map), CODEC.mapToBytes(map));
+    assertEquals(serializer.bytesToMap(CODEC.mapToBytes(map)), map);
+  }
+}
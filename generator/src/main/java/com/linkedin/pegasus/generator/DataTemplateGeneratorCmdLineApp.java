@@ -21,12 +21,14 @@ import com.linkedin.data.schema.DataSchemaLocation;
 import com.linkedin.data.schema.resolver.SchemaDirectory;
 import com.linkedin.internal.tools.ArgumentFileProcessor;
 import com.linkedin.pegasus.generator.spec.ClassTemplateSpec;
+import com.linkedin.pegasus.generator.spec.RecordTemplateSpec;
 import com.linkedin.util.FileUtil;
 import com.sun.codemodel.JCodeModel;
 import com.sun.codemodel.JDefinedClass;
 import com.sun.codemodel.JPackage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
@@ -100,6 +102,11 @@ public class DataTemplateGeneratorCmdLineApp
     OptionBuilder.withDescription("Comma-separated list of schema directory names within the resolver path to use for "
         + "resolving schemas. Optional, defaults to 'pegasus'.");
     OPTIONS.addOption(OptionBuilder.create('r'));
+    OptionBuilder.withArgName("Generate JSON serializers");
+    OptionBuilder.withLongOpt("generateJsonSerializers");
+    OptionBuilder.hasArg(false);
+    OptionBuilder.withDescription("Specifies if schema specific JSON serializers should be generated for record templates.");
+    OPTIONS.addOption(OptionBuilder.create('j'));
   }
 
   private static void help()
@@ -141,6 +148,7 @@ public class DataTemplateGeneratorCmdLineApp
       }
       LOGGER.debug("Resolver Path: " + resolverPath);
       final String rootPath = cl.getOptionValue('t');
+      final boolean generateJsonSerializers = cl.hasOption('j');
       String[] resolverSchemaDirectories = null;
       if (cl.hasOption('r'))
       {
@@ -168,7 +176,8 @@ public class DataTemplateGeneratorCmdLineApp
           sources,
           generateLowercasePath,
           generateFieldMask,
-          resolverSchemaDirectories);
+          resolverSchemaDirectories,
+          generateJsonSerializers);
     }
     catch (ParseException | IOException e)
     {
@@ -178,9 +187,9 @@ public class DataTemplateGeneratorCmdLineApp
     }
   }
 
-  private static void run(String resolverPath, String defaultPackage, String rootPath, final boolean generateImported,
+  static void run(String resolverPath, String defaultPackage, String rootPath, final boolean generateImported,
       String targetDirectoryPath, String[] sources, boolean generateLowercasePath, boolean generateFieldMask,
-      String[] resolverSchemaDirectories)
+      String[] resolverSchemaDirectories, boolean generateJsonSerializers)
       throws IOException
   {
     final DataSchemaParser.Builder schemaParserBuilder = new DataSchemaParser.Builder(resolverPath);
@@ -221,9 +230,28 @@ public class DataTemplateGeneratorCmdLineApp
         generateImported, specGenerator, dataTemplateGenerator, parseResult.getSourceFiles());
 
     final File targetDirectory = new File(targetDirectoryPath);
-    final List<File> targetFiles = JavaCodeUtil.targetFiles(
-        targetDirectory, dataTemplateGenerator.getCodeModel(),
-        JavaCodeUtil.classLoaderFromResolverPath(schemaParser.getResolverPath()), checker, generateLowercasePath);
+    final ClassLoader classLoader = JavaCodeUtil.classLoaderFromResolverPath(schemaParser.getResolverPath());
+    final List<File> targetFiles = new ArrayList<>(JavaCodeUtil.targetFiles(
+        targetDirectory, dataTemplateGenerator.getCodeModel(), classLoader, checker, generateLowercasePath));
+
+    JacksonRecordSerializerGenerator serializerGenerator = null;
+    if (generateJsonSerializers)
+    {
+      // Only records whose templates are written by this run get a serializer.
+      final List<RecordTemplateSpec> recordSpecs = new ArrayList<>();
+      for (Map.Entry<JDefinedClass, ClassTemplateSpec> entry : dataTemplateGenerator.getGeneratedClasses().entrySet())
+      {
+        if (entry.getValue() instanceof RecordTemplateSpec && entry.getKey().outer() == null
+            && isWritten(entry.getKey(), classLoader, checker))
+        {
+          recordSpecs.add((RecordTemplateSpec) entry.getValue());
+        }
+      }
+      serializerGenerator = new JacksonRecordSerializerGenerator(defaultPackage, rootPath);
+      serializerGenerator.generate(recordSpecs);
+      targetFiles.addAll(JavaCodeUtil.targetFiles(
+          targetDirectory, serializerGenerator.getCodeModel(), classLoader, clazz -> true, generateLowercasePath));
+    }
 
     if (FileUtil.upToDate(parseResult.getSourceFiles(), targetFiles))
     {
@@ -238,6 +266,27 @@ public class DataTemplateGeneratorCmdLineApp
       targetDirectory.mkdirs();
       dataTemplateGenerator.getCodeModel().build(
           new CaseSensitiveFileCodeWriter(targetDirectory, true, generateLowercasePath));
+      if (serializerGenerator != null)
+      {
+        validateDefinedClassRegistration(serializerGenerator.getCodeModel(),
+            serializerGenerator.getGeneratedClasses().keySet());
+        serializerGenerator.getCodeModel().build(
+            new CaseSensitiveFileCodeWriter(targetDirectory, true, generateLowercasePath));
+      }
+    }
+  }
+
+  private static boolean isWritten(JDefinedClass definedClass, ClassLoader classLoader,
+      JavaCodeUtil.PersistentClassChecker checker)
+  {
+    try
+    {
+      classLoader.loadClass(definedClass.fullName());
+      return false;
+    }
+    catch (ClassNotFoundException e)
+    {
+      return checker.isPersistent(definedClass);
     }
   }
 
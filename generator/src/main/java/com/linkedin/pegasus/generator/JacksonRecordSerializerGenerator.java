@@ -0,0 +1,276 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.pegasus.generator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.linkedin.data.codec.JacksonRecordSerializer;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.pegasus.generator.spec.RecordTemplateSpec;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JConditional;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JForEach;
+import com.sun.codemodel.JInvocation;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JPackage;
+import com.sun.codemodel.JSwitch;
+import com.sun.codemodel.JVar;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Generates a {@link JacksonRecordSerializer} for each record template, named after the record template class
+ * with the {@link JacksonRecordSerializer#SERIALIZER_CLASS_SUFFIX}.
+ *
+ * Fields of primitive, enum and record types are read and written with their declared types, nested records
+ * are delegated to the serializers generated in the same run. All other fields are handled generically.
+ */
+public class JacksonRecordSerializerGenerator extends JavaCodeGeneratorBase
+{
+  private final String _rootPath;
+  private final Map<JDefinedClass, RecordTemplateSpec> _generatedClasses = new LinkedHashMap<>();
+  private final Map<String, JDefinedClass> _serializerClasses = new HashMap<>();
+
+  public JacksonRecordSerializerGenerator(String defaultPackage, String rootPath)
+  {
+    super(defaultPackage);
+    _rootPath = rootPath;
+  }
+
+  public Map<JDefinedClass, RecordTemplateSpec> getGeneratedClasses()
+  {
+    return _generatedClasses;
+  }
+
+  /**
+   * Generates serializers for the given top level record templates. Serializers of records in the same call
+   * refer to each other directly.
+   */
+  public void generate(Collection<RecordTemplateSpec> recordSpecs)
+  {
+    for (RecordTemplateSpec spec : recordSpecs)
+    {
+      if (spec.getEnclosingClass() != null)
+      {
+        throw new IllegalArgumentException("Serializers are only generated for top level records: " + spec.getFullName());
+      }
+      try
+      {
+        final JDefinedClass serializerClass = getPackage(spec.getPackage())._class(JMod.PUBLIC | JMod.FINAL,
+            escapeReserved(spec.getClassName()) + JacksonRecordSerializer.SERIALIZER_CLASS_SUFFIX);
+        _generatedClasses.put(serializerClass, spec);
+        _serializerClasses.put(spec.getSchema().getFullName(), serializerClass);
+      }
+      catch (JClassAlreadyExistsException e)
+      {
+        throw new IllegalArgumentException(spec.getFullName());
+      }
+    }
+
+    for (Map.Entry<JDefinedClass, RecordTemplateSpec> entry : _generatedClasses.entrySet())
+    {
+      populateSerializerClass(entry.getKey(), entry.getValue());
+    }
+  }
+
+  private void populateSerializerClass(JDefinedClass serializerClass, RecordTemplateSpec spec)
+  {
+    JavaCodeUtil.annotate(serializerClass, "JSON Serializer", spec.getLocation(), _rootPath);
+    serializerClass._extends(JacksonRecordSerializer.class);
+    serializerClass.field(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, serializerClass,
+        JacksonRecordSerializer.INSTANCE_FIELD_NAME, JExpr._new(serializerClass));
+
+    final List<RecordTemplateSpec.Field> fields = spec.getFields();
+    final Map<String, JFieldVar> serializedNames = new LinkedHashMap<>();
+    final JClass serializedStringClass = getCodeModel().ref(SerializedString.class);
+    for (RecordTemplateSpec.Field field : fields)
+    {
+      final String name = field.getSchemaField().getName();
+      serializedNames.put(name, serializerClass.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, serializedStringClass,
+          "FIELD_" + name, JExpr._new(serializedStringClass).arg(JExpr.lit(name))));
+    }
+
+    serializerClass.constructor(JMod.PRIVATE);
+
+    generateWriteRecord(serializerClass, fields, serializedNames);
+    // The template class is in the same package, with the same escaping of its name as the serializer.
+    final String templateClassName = escapeReserved(spec.getClassName());
+    final JPackage templatePackage = serializerClass._package();
+    generateReadRecord(serializerClass, getCodeModel().directClass(
+        templatePackage.isUnnamed() ? templateClassName : templatePackage.name() + "." + templateClassName), fields);
+  }
+
+  /**
+   * Generates the method writing the entries in the iteration order of the map, like the generic codec does,
+   * so that the output is identical to the output of the codec.
+   */
+  private void generateWriteRecord(JDefinedClass serializerClass, List<RecordTemplateSpec.Field> fields,
+      Map<String, JFieldVar> serializedNames)
+  {
+    final JMethod method = serializerClass.method(JMod.PUBLIC, getCodeModel().VOID, "writeRecord");
+    method.annotate(Override.class);
+    method._throws(IOException.class);
+    final JVar map = method.param(_dataMapClass, "map");
+    final JVar generator = method.param(JsonGenerator.class, "generator");
+
+    final JBlock body = method.body();
+    body.invoke(generator, "writeStartObject");
+    final JClass entryClass = getCodeModel().ref(Map.Entry.class).narrow(_stringClass, _objectClass);
+    final JForEach entries = body.forEach(entryClass, "entry", map.invoke("entrySet"));
+    final JBlock loop = entries.body();
+    final JVar name = loop.decl(_stringClass, "name", entries.var().invoke("getKey"));
+    final JVar value = loop.decl(_objectClass, "value", entries.var().invoke("getValue"));
+    final JSwitch fieldSwitch = loop._switch(name);
+    for (RecordTemplateSpec.Field field : fields)
+    {
+      final String fieldName = field.getSchemaField().getName();
+      final JBlock caseBody = fieldSwitch._case(JExpr.lit(fieldName)).body();
+      caseBody.invoke(generator, "writeFieldName").arg(serializedNames.get(fieldName));
+      generateWriteValue(caseBody, field.getSchemaField().getType(), value, generator);
+      caseBody._break();
+    }
+    final JBlock defaultBody = fieldSwitch._default().body();
+    defaultBody.invoke(generator, "writeFieldName").arg(name);
+    defaultBody.invoke("writeValue").arg(value).arg(generator);
+    defaultBody._break();
+    body.invoke(generator, "writeEndObject");
+  }
+
+  private void generateWriteValue(JBlock block, DataSchema schema, JVar value, JVar generator)
+  {
+    final DataSchema dereferenced = schema.getDereferencedDataSchema();
+    final JClass valueClass;
+    final JInvocation typedWrite;
+    switch (dereferenced.getType())
+    {
+      case INT:
+        valueClass = getCodeModel().ref(Integer.class);
+        typedWrite = generator.invoke("writeNumber").arg(JExpr.cast(valueClass, value).invoke("intValue"));
+        break;
+      case LONG:
+        valueClass = getCodeModel().ref(Long.class);
+        typedWrite = generator.invoke("writeNumber").arg(JExpr.cast(valueClass, value).invoke("longValue"));
+        break;
+      case FLOAT:
+        valueClass = getCodeModel().ref(Float.class);
+        typedWrite = generator.invoke("writeNumber").arg(JExpr.cast(valueClass, value).invoke("floatValue"));
+        break;
+      case DOUBLE:
+        valueClass = getCodeModel().ref(Double.class);
+        typedWrite = generator.invoke("writeNumber").arg(JExpr.cast(valueClass, value).invoke("doubleValue"));
+        break;
+      case BOOLEAN:
+        valueClass = getCodeModel().ref(Boolean.class);
+        typedWrite = generator.invoke("writeBoolean").arg(JExpr.cast(valueClass, value).invoke("booleanValue"));
+        break;
+      case STRING:
+      case ENUM:
+        valueClass = _stringClass;
+        typedWrite = generator.invoke("writeString").arg(JExpr.cast(valueClass, value));
+        break;
+      case RECORD:
+        final JDefinedClass nestedSerializer = _serializerClasses.get(((RecordDataSchema) dereferenced).getFullName());
+        if (nestedSerializer == null)
+        {
+          block.invoke("writeValue").arg(value).arg(generator);
+          return;
+        }
+        valueClass = _dataMapClass;
+        typedWrite = nestedSerializer.staticRef(JacksonRecordSerializer.INSTANCE_FIELD_NAME)
+            .invoke("writeRecord").arg(JExpr.cast(valueClass, value)).arg(generator);
+        break;
+      default:
+        block.invoke("writeValue").arg(value).arg(generator);
+        return;
+    }
+
+    final JConditional conditional = block._if(value._instanceof(valueClass));
+    conditional._then().add(typedWrite);
+    conditional._else().invoke("writeValue").arg(value).arg(generator);
+  }
+
+  private void generateReadRecord(JDefinedClass serializerClass, JClass templateClass,
+      List<RecordTemplateSpec.Field> fields)
+  {
+    final JMethod method = serializerClass.method(JMod.PUBLIC, _dataMapClass, "readRecord");
+    method.annotate(Override.class);
+    method._throws(IOException.class);
+    final JVar parser = method.param(JsonParser.class, "parser");
+
+    final JBlock body = method.body();
+    final JVar map = body.decl(_dataMapClass, "map",
+        JExpr.invoke("newRecordMap").arg(templateClass.staticInvoke("dataSchema")));
+    final JClass jsonTokenClass = getCodeModel().ref(JsonToken.class);
+    final JBlock loop = body._while(parser.invoke("nextToken").eq(jsonTokenClass.staticRef("FIELD_NAME"))).body();
+    final JVar name = loop.decl(_stringClass, "name", parser.invoke("getCurrentName"));
+    final JVar token = loop.decl(jsonTokenClass, "token", parser.invoke("nextToken"));
+    final JVar value = loop.decl(_objectClass, "value");
+    final JSwitch fieldSwitch = loop._switch(name);
+    for (RecordTemplateSpec.Field field : fields)
+    {
+      final JBlock caseBody = fieldSwitch._case(JExpr.lit(field.getSchemaField().getName())).body();
+      caseBody.assign(value, generateReadValue(field.getSchemaField().getType(), parser, token));
+      caseBody._break();
+    }
+    final JBlock defaultBody = fieldSwitch._default().body();
+    defaultBody.assign(value, JExpr.invoke("readValue").arg(parser).arg(token));
+    defaultBody._break();
+    loop.invoke("putField").arg(map).arg(name).arg(value);
+    body._return(map);
+  }
+
+  private JExpression generateReadValue(DataSchema schema, JVar parser, JVar token)
+  {
+    final DataSchema dereferenced = schema.getDereferencedDataSchema();
+    switch (dereferenced.getType())
+    {
+      case INT:
+        return JExpr.invoke("readInt").arg(parser).arg(token);
+      case BOOLEAN:
+        return JExpr.invoke("readBoolean").arg(parser).arg(token);
+      case STRING:
+      case ENUM:
+        return JExpr.invoke("readString").arg(parser).arg(token);
+      case RECORD:
+        final JDefinedClass nestedSerializer = _serializerClasses.get(((RecordDataSchema) dereferenced).getFullName());
+        if (nestedSerializer != null)
+        {
+          return JExpr.invoke("readNestedRecord").arg(parser).arg(token)
+              .arg(nestedSerializer.staticRef(JacksonRecordSerializer.INSTANCE_FIELD_NAME));
+        }
+        return JExpr.invoke("readValue").arg(parser).arg(token);
+      default:
+        // Other numbers are decoded by magnitude like the generic codec does, so they are not specialized.
+        return JExpr.invoke("readValue").arg(parser).arg(token);
+    }
+  }
+}
@@ -778,7 +778,8 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
       changeListenerClass = null;
       changeListenerVar = null;
     }
-    generateDataMapConstructor(templateClass, schemaFieldVar, recordSpec.getFields().size(), recordSpec.getWrappedFields().size(), changeListenerVar);
+    generateDataMapConstructor(templateClass, schemaFieldVar, recordSpec.getFields().size(),
+        recordSpec.getWrappedFields().size(), changeListenerVar, true);
     generateConstructorWithArg(templateClass, schemaFieldVar, _dataMapClass, changeListenerVar);
 
     recordSpec.getFields().stream()
@@ -810,12 +811,15 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
    * @param initialCacheSize Initial size for the cache, applied only if capacity derived from this is smaller than
    *                         {@link #DEFAULT_DATAMAP_INITIAL_CAPACITY}
    * @param changeListenerVar The map change listener variable if any.
+   * @param isRecord Whether the DataTemplate is a record, whose DataMap is created by RecordTemplate#newDataMap so
+   *                 that it may be bound to the schema.
    */
   private void generateDataMapConstructor(JDefinedClass cls, JVar schemaField, int initialDataMapSize, int initialCacheSize,
-      JVar changeListenerVar)
+      JVar changeListenerVar, boolean isRecord)
   {
     final JMethod noArgConstructor = cls.constructor(JMod.PUBLIC);
-    JInvocation superConstructorArg = JExpr._new(_dataMapClass);
+    JInvocation superConstructorArg =
+        isRecord ? JExpr.invoke("newDataMap").arg(schemaField) : JExpr._new(_dataMapClass);
     // Compute the DataMap initial capacity based on the load factor of 0.75. Use lower capacity if possible.
     int initialDataMapCapacity = DataMapBuilder.getOptimumHashMapCapacityFromSize(initialDataMapSize);
     if (initialDataMapCapacity < DEFAULT_DATAMAP_INITIAL_CAPACITY)
@@ -1326,7 +1330,7 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
 
     // Default union datamap size to 1 (last arg) as union can have at-most one element.
     // We don't need cache for unions, so pass in -1 for cache size to ignore size param.
-    generateDataMapConstructor(unionClass, schemaField, 1, -1, changeListenerVar);
+    generateDataMapConstructor(unionClass, schemaField, 1, -1, changeListenerVar, false);
     generateConstructorWithObjectArg(unionClass, schemaField, changeListenerVar);
 
     for (UnionTemplateSpec.Member member : unionSpec.getMembers())
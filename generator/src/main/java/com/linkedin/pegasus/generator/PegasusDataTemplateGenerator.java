@@ -51,6 +51,7 @@ public class PegasusDataTemplateGenerator
   public static final String GENERATOR_GENERATE_IMPORTED = "generator.generate.imported";
   public static final String GENERATOR_GENERATE_LOWERCASE_PATH = "generator.generate.lowercase.path";
   public static final String GENERATOR_GENERATE_FIELD_MASK = "generator.generate.field.mask";
+  public static final String GENERATOR_GENERATE_JSON_SERIALIZERS = "generator.generate.json.serializers";
 
   private static final Logger _log = LoggerFactory.getLogger(PegasusDataTemplateGenerator.class);
 
@@ -78,6 +79,21 @@ public class PegasusDataTemplateGenerator
     }
     _log.debug("Resolver Path: " + resolverPath);
     String[] schemaFiles = Arrays.copyOfRange(args, 1, args.length);
+    if (Boolean.parseBoolean(System.getProperty(PegasusDataTemplateGenerator.GENERATOR_GENERATE_JSON_SERIALIZERS)))
+    {
+      // JSON serializers are only generated by DataTemplateGeneratorCmdLineApp.
+      DataTemplateGeneratorCmdLineApp.run(resolverPath,
+                                          System.getProperty(JavaCodeGeneratorBase.GENERATOR_DEFAULT_PACKAGE),
+                                          System.getProperty(JavaCodeGeneratorBase.ROOT_PATH),
+                                          generateImported,
+                                          args[0],
+                                          schemaFiles,
+                                          generateLowercasePath,
+                                          generateFieldMask,
+                                          null,
+                                          true);
+      return;
+    }
     PegasusDataTemplateGenerator.run(resolverPath,
                                      System.getProperty(JavaCodeGeneratorBase.GENERATOR_DEFAULT_PACKAGE),
                                      System.getProperty(JavaCodeGeneratorBase.ROOT_PATH),
@@ -322,6 +322,21 @@ public class TestDataTemplateGeneratorCmdLineApp
         Arrays.asList("custom1", "custom2", "custom3"), null);
   }
 
+  @Test
+  public void testGenerateJsonSerializers() throws Exception
+  {
+    DataTemplateGeneratorCmdLineApp.main(new String[] {
+        "-d", _tempDir.getAbsolutePath(),
+        "--generateJsonSerializers",
+        new File(PEGASUS_DIR + FS + "WithoutResolverExample.pdsc").getAbsolutePath()
+    });
+
+    // The generated serializers are compiled and tested by the generator-test module.
+    Assert.assertTrue(new File(_tempDir, "WithoutResolverExampleJsonSerializer.java").exists());
+    Assert.assertTrue(new File(_tempDir, "InlineRecordJsonSerializer.java").exists());
+    Assert.assertTrue(new File(_tempDir, "WithoutResolverExample.java").exists());
+  }
+
   private File[] generateDataTemplateFiles(File targetDir, String[] pegasusFilenames) throws Exception
   {
     File tempDir = Files.createTempDirectory("restli").toFile();
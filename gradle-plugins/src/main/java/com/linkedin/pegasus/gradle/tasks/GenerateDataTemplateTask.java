@@ -49,6 +49,7 @@ public class GenerateDataTemplateTask extends DefaultTask
   private Boolean _generateLowercasePath;
   private Boolean _generateFieldMask;
   private Boolean _generateImported;
+  private Boolean _generateJsonSerializers;
   private List<String> _resolverDirectories;
 
   // Output Task Property
@@ -182,6 +183,21 @@ public class GenerateDataTemplateTask extends DefaultTask
     _generateImported = generateImported;
   }
 
+  /**
+   * Whether schema specific JSON serializers should be generated for record templates, disabled by default.
+   */
+  @Optional
+  @Input
+  public Boolean isGenerateJsonSerializers()
+  {
+    return _generateJsonSerializers;
+  }
+
+  public void setGenerateJsonSerializers(Boolean generateJsonSerializers)
+  {
+    _generateJsonSerializers = generateJsonSerializers;
+  }
+
   @Optional
   @Input
   public List<String> getResolverDirectories()
@@ -252,6 +268,10 @@ public class GenerateDataTemplateTask extends DefaultTask
       {
         javaExecSpec.args("--skipFieldMask");
       }
+      if (Boolean.TRUE.equals(_generateJsonSerializers))
+      {
+        javaExecSpec.args("--generateJsonSerializers");
+      }
       if (_resolverDirectories != null)
       {
         javaExecSpec.args("--resolverSchemaDirectories", String.join(",", _resolverDirectories));
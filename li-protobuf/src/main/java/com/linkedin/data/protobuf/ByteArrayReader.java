@@ -58,12 +58,14 @@ import java.util.Arrays;
 final class ByteArrayReader extends ProtoReader
 {
   private final byte[] _buffer;
+  private final int _offset;
   private int _limit;
   private int _pos;
 
   ByteArrayReader(final byte[] buffer, final int offset, final int len)
   {
     _buffer = buffer;
+    _offset = offset;
     _limit = offset + len;
     _pos = offset;
   }
@@ -320,6 +322,22 @@ final class ByteArrayReader extends ProtoReader
     throw new IOException("Malformed VarInt");
   }
 
+  @Override
+  public void skipRawBytes(int length) throws IOException
+  {
+    if (length < 0 || length > (_limit - _pos))
+    {
+      throw new EOFException();
+    }
+    _pos += length;
+  }
+
+  @Override
+  public int getPosition()
+  {
+    return _pos - _offset;
+  }
+
   @Override
   public byte readRawByte() throws IOException
   {
@@ -502,6 +502,12 @@ final class InputStreamReader extends ProtoReader
     return false;
   }
 
+  @Override
+  public int getPosition()
+  {
+    return _totalBytesRetired + _pos;
+  }
+
   @Override
   public byte readRawByte() throws IOException
   {
@@ -142,6 +142,28 @@ public abstract class ProtoReader
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Skip the given number of bytes.
+   *
+   * @throws EOFException The end of the stream or the current _limit was reached.
+   */
+  public void skipRawBytes(int length) throws IOException
+  {
+    for (int i = 0; i < length; i++)
+    {
+      readRawByte();
+    }
+  }
+
+  /**
+   * Return the number of bytes read from the start of the input.
+   */
+  public int getPosition()
+  {
+    // For backward compatibility at build time, implement but throw an UnsupportedOperationException.
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Read one byte from the _input.
    *
@@ -0,0 +1,130 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.util.None;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Compares {@link AsyncPoolImpl} with {@link ConcurrentAsyncPool} when several threads check out objects and return
+ * them right away. With fewer objects than threads, part of the checkouts wait for an object returned by another
+ * thread.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Threads(8)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AsyncPoolBenchmark
+{
+  public enum PoolType { LOCK, CONCURRENT }
+
+  @State(Scope.Benchmark)
+  public static class PoolState
+  {
+    @Param({"LOCK", "CONCURRENT"})
+    PoolType _poolType;
+
+    @Param({"4", "64"})
+    int _maxSize;
+
+    ScheduledExecutorService _executor;
+    AsyncPool<Object> _pool;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+      _executor = Executors.newSingleThreadScheduledExecutor();
+      _pool = _poolType == PoolType.LOCK
+          ? new AsyncPoolImpl<>("benchmark", new ObjectLifecycle(), _maxSize, 60000, _executor)
+          : new ConcurrentAsyncPool<>("benchmark", new ObjectLifecycle(), _maxSize, 60000, _executor);
+      _pool.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception
+    {
+      FutureCallback<None> shutdown = new FutureCallback<>();
+      _pool.shutdown(shutdown);
+      shutdown.get(10, TimeUnit.SECONDS);
+      _executor.shutdown();
+    }
+  }
+
+  @Benchmark
+  public Object measureGetAndPut(PoolState state) throws Exception
+  {
+    FutureCallback<Object> callback = new FutureCallback<>();
+    state._pool.get(callback);
+    Object obj = callback.get();
+    state._pool.put(obj);
+    return obj;
+  }
+
+  private static class ObjectLifecycle implements AsyncPool.Lifecycle<Object>
+  {
+    @Override
+    public void create(Callback<Object> callback)
+    {
+      callback.onSuccess(new Object());
+    }
+
+    @Override
+    public boolean validateGet(Object obj)
+    {
+      return true;
+    }
+
+    @Override
+    public boolean validatePut(Object obj)
+    {
+      return true;
+    }
+
+    @Override
+    public void destroy(Object obj, boolean error, Callback<Object> callback)
+    {
+      callback.onSuccess(obj);
+    }
+
+    @Override
+    public PoolStats.LifecycleStats getStats()
+    {
+      return null;
+    }
+  }
+}
@@ -88,6 +88,12 @@ public class R2Constants
    */
   public static final String SERVER_REQUEST_FINALIZER_MANAGER_REQUEST_CONTEXT_KEY = "SERVER_REQUEST_FINALIZER_MANAGER";
 
+  /**
+   * Server-side {@link java.util.concurrent.Executor} to run blocking work on, set by servers which dispatch requests
+   * on their I/O threads. Work that does not block should run on the calling thread instead.
+   */
+  public static final String SERVER_BLOCKING_EXECUTOR = "SERVER_BLOCKING_EXECUTOR";
+
   /**
    * Client-side request finalizer manager.
    *
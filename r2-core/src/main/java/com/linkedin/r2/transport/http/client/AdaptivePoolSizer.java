@@ -0,0 +1,132 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.linkedin.r2.transport.http.client;
+
+import com.linkedin.util.ArgumentUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Adapts the size limit of {@link ResizableAsyncPool}s to their usage, within their configured minimum and maximum
+ * sizes, so that idle objects are not kept for hosts with little traffic and callbacks do not wait for objects of
+ * hosts with a lot of traffic.
+ * <p>
+ *
+ * The limit is adjusted once per sampling period, following an additive increase, multiplicative decrease policy:
+ * <ul>
+ *   <li>If all the objects allowed by the limit were checked out and callbacks had to wait for them longer than the
+ *   target wait time on average, the limit is increased by a fixed step.</li>
+ *   <li>Otherwise the limit is decreased by a factor, but not below the number of objects needed for the observed
+ *   traffic with some headroom. By Little's law, the number of objects checked out at the same time is the rate of
+ *   requests times the time each one holds its object, hence the maximum number of objects checked out during the
+ *   sampling period accounts for both the traffic and the latency of the host.</li>
+ * </ul>
+ */
+public class AdaptivePoolSizer
+{
+  private static final Logger LOG = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+  public static final long DEFAULT_SAMPLING_PERIOD = 1000;
+  public static final long DEFAULT_TARGET_WAIT_TIME = 5;
+  public static final int DEFAULT_INCREASE_STEP = 4;
+  public static final double DEFAULT_DECREASE_FACTOR = 0.9;
+  public static final double DEFAULT_HEADROOM = 1.5;
+
+  private final long _samplingPeriod;
+  private final long _targetWaitTime;
+  private final int _increaseStep;
+  private final double _decreaseFactor;
+  private final double _headroom;
+
+  public AdaptivePoolSizer()
+  {
+    this(DEFAULT_SAMPLING_PERIOD, DEFAULT_TARGET_WAIT_TIME, DEFAULT_INCREASE_STEP, DEFAULT_DECREASE_FACTOR,
+        DEFAULT_HEADROOM);
+  }
+
+  /**
+   * @param samplingPeriod the period in milliseconds at which pools are resized.
+   * @param targetWaitTime the average time in milliseconds callbacks may wait for an object before the size limit
+   *                       of a fully checked out pool is increased.
+   * @param increaseStep the number of objects the size limit is increased by.
+   * @param decreaseFactor the factor the size limit is at most multiplied by when it is decreased.
+   * @param headroom the factor applied to the maximum number of objects checked out to get the size limit is not
+   *                 decreased below.
+   */
+  public AdaptivePoolSizer(long samplingPeriod, long targetWaitTime, int increaseStep, double decreaseFactor,
+      double headroom)
+  {
+    ArgumentUtil.checkArgument(samplingPeriod > 0, "samplingPeriod");
+    ArgumentUtil.checkArgument(targetWaitTime >= 0, "targetWaitTime");
+    ArgumentUtil.checkArgument(increaseStep > 0, "increaseStep");
+    ArgumentUtil.checkArgument(decreaseFactor > 0 && decreaseFactor <= 1, "decreaseFactor");
+    ArgumentUtil.checkArgument(headroom >= 1, "headroom");
+
+    _samplingPeriod = samplingPeriod;
+    _targetWaitTime = targetWaitTime;
+    _increaseStep = increaseStep;
+    _decreaseFactor = decreaseFactor;
+    _headroom = headroom;
+  }
+
+  /**
+   * @return the period in milliseconds at which pools should be resized with {@link #resize(ResizableAsyncPool)}.
+   */
+  public long getSamplingPeriod()
+  {
+    return _samplingPeriod;
+  }
+
+  /**
+   * Samples the usage of the pool since the previous invocation and adjusts its size limit.
+   *
+   * @param pool the pool to resize.
+   */
+  public void resize(ResizableAsyncPool<?> pool)
+  {
+    final PoolSizingSample sample = pool.sampleSizing();
+    final int sizeLimit = pool.getSizeLimit();
+    final int newSizeLimit = getNewSizeLimit(sizeLimit, sample);
+    if (newSizeLimit != sizeLimit)
+    {
+      pool.setSizeLimit(newSizeLimit);
+      LOG.debug("{}: size limit changed from {} to {} ({})", new Object[]{pool.getName(), sizeLimit,
+          pool.getSizeLimit(), sample});
+    }
+  }
+
+  /**
+   * @param sizeLimit the current size limit of a pool.
+   * @param sample the usage of the pool during the last sampling period.
+   * @return the new size limit of the pool, before it is bounded by the configured sizes of the pool.
+   */
+  public int getNewSizeLimit(int sizeLimit, PoolSizingSample sample)
+  {
+    if (sample.getMaxCheckedOut() >= sizeLimit && sample.getMaxWaiters() > 0
+        && sample.getWaitTimeAvg() > _targetWaitTime)
+    {
+      return sizeLimit > Integer.MAX_VALUE - _increaseStep ? Integer.MAX_VALUE : sizeLimit + _increaseStep;
+    }
+
+    final int neededSize = (int) Math.ceil(sample.getMaxCheckedOut() * _headroom);
+    if (neededSize >= sizeLimit)
+    {
+      return sizeLimit;
+    }
+    return Math.max(neededSize, (int) (sizeLimit * _decreaseFactor));
+  }
+}
@@ -53,7 +53,7 @@ import com.linkedin.r2.transport.http.client.RateLimiter.Task;
  * @version $Revision: $
  */
 
-public class AsyncPoolImpl<T> implements AsyncPool<T>
+public class AsyncPoolImpl<T> implements ResizableAsyncPool<T>
 {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncPoolImpl.class);
 
@@ -95,7 +95,10 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
   private Throwable _lastCreateError = null;
   private State _state = State.NOT_YET_STARTED;
   private Callback<None> _shutdownCallback = null;
+  // The maximum size, which can be lowered below the configured one
+  private int _sizeLimit;
   private final AsyncPoolStatsTracker _statsTracker;
+  private final PoolSizingTracker _sizingTracker = new PoolSizingTracker();
   private final Clock _clock;
 
   /**
@@ -240,6 +243,7 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
     _maxWaiters = maxWaiters;
     _strategy = strategy;
     _minSize = minSize;
+    _sizeLimit = maxSize;
     _rateLimiter = rateLimiter;
     _clock = clock;
     _statsTracker = new AsyncPoolStatsTracker(
@@ -263,6 +267,12 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
             return _idle.size();
           }
         },
+        () -> {
+          synchronized (_lock)
+          {
+            return _sizeLimit;
+          }
+        },
         clock,
         waitTimeTracker);
   }
@@ -380,6 +390,7 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
               }
               // No objects available and the waiter list is not full; add to waiter list and break out of loop
               node = _waiters.addLastNode(callbackWithTracking);
+              _sizingTracker.sampleWaiters(_waiters.size());
               create = shouldCreate();
             }
             else
@@ -406,6 +417,7 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
         {
           _checkedOut++;
           _statsTracker.sampleMaxCheckedOut();
+          _sizingTracker.sampleCheckedOut(_checkedOut);
         }
         callbackWithTracking.onSuccess(rawObj);
         return () -> false;
@@ -464,9 +476,26 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
     }
     // A channel made it through a complete request lifecycle
     _rateLimiter.setPeriod(0);
+    if (isBeyondSizeLimit())
+    {
+      destroy(obj, false);
+      return;
+    }
     add(obj);
   }
 
+  /**
+   * @return true if an object returned to the pool should be destroyed since the size limit has been lowered below
+   *         the pool size, unless a callback is waiting for it.
+   */
+  private boolean isBeyondSizeLimit()
+  {
+    synchronized (_lock)
+    {
+      return _state == State.RUNNING && _waiters.isEmpty() && _poolSize > Math.max(_sizeLimit, _minSize);
+    }
+  }
+
   private void add(T obj)
   {
     final Callback<None> shutdown;
@@ -485,6 +514,7 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
       {
         _checkedOut++;
         _statsTracker.sampleMaxCheckedOut();
+        _sizingTracker.sampleCheckedOut(_checkedOut);
       }
       shutdown = checkShutdownComplete();
     }
@@ -518,6 +548,58 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
     destroy(obj, true);
   }
 
+  @Override
+  public int getSizeLimit()
+  {
+    synchronized (_lock)
+    {
+      return _sizeLimit;
+    }
+  }
+
+  @Override
+  public void setSizeLimit(int sizeLimit)
+  {
+    final List<T> excessObjects = new ArrayList<>();
+    int creates = 0;
+    synchronized (_lock)
+    {
+      _sizeLimit = Math.max(Math.max(_minSize, 1), Math.min(sizeLimit, _maxSize));
+      if (_state != State.RUNNING)
+      {
+        return;
+      }
+      // Idle objects beyond the limit are destroyed, least recently used first
+      for (int excess = _poolSize - _sizeLimit; excess > 0 && !_idle.isEmpty(); excess--)
+      {
+        excessObjects.add(_idle.pollFirst().get());
+      }
+      // Objects are created for the waiters which were denied one by the previous limit
+      final int pending = _poolSize - _checkedOut - _idle.size() - excessObjects.size();
+      for (int denied = _waiters.size() - pending; denied > 0 && shouldCreate(); denied--)
+      {
+        creates++;
+      }
+    }
+    for (T obj : excessObjects)
+    {
+      destroy(obj, false);
+    }
+    for (int i = 0; i < creates; i++)
+    {
+      create();
+    }
+  }
+
+  @Override
+  public PoolSizingSample sampleSizing()
+  {
+    synchronized (_lock)
+    {
+      return _sizingTracker.sample(_checkedOut, _waiters.size());
+    }
+  }
+
   @Override
   public AsyncPoolStats getStats()
   {
@@ -609,7 +691,7 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
     {
       if (_state == State.RUNNING)
       {
-        if (_poolSize >= _maxSize)
+        if (_poolSize >= _sizeLimit)
         {
           // If we pass up an opportunity to create an object due to full pool, the next
           // timeout is not necessarily caused by any previous creation failure.  Need to
@@ -904,6 +986,7 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
       {
         _statsTracker.trackWaitTime(waitTime);
         _statsTracker.sampleMaxWaitTime(waitTime);
+        _sizingTracker.trackWaitTime(waitTime);
       }
       _callback.onError(e);
     }
@@ -916,6 +999,7 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
       {
         _statsTracker.trackWaitTime(waitTime);
         _statsTracker.sampleMaxWaitTime(waitTime);
+        _sizingTracker.trackWaitTime(waitTime);
       }
       _callback.onSuccess(result);
     }
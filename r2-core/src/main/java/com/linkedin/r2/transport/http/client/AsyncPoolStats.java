@@ -42,6 +42,7 @@ public class AsyncPoolStats implements PoolStats
   private final int _checkedOut;
   private final int _maxPoolSize;
   private final int _minPoolSize;
+  private final int _poolSizeLimit;
   private final int _poolSize;
 
   private final int _sampleMaxCheckedOut;
@@ -85,6 +86,44 @@ public class AsyncPoolStats implements PoolStats
       long waitTime99Pct,
       LifecycleStats lifecycleStats
   )
+  {
+    this(totalCreated, totalDestroyed, totalCreateErrors, totalDestroyErrors, totalBadDestroyed, totalTimedOut,
+        totalWaiterTimedOut, totalCreationsIgnored, checkedOut, maxPoolSize, minPoolSize, poolSize, sampleMaxCheckedOut,
+        sampleMaxPoolSize, sampleMaxWaitTime, idleCount, waitTimeAvg, waitTime50Pct, waitTime95Pct, waitTime99Pct,
+        lifecycleStats, maxPoolSize);
+  }
+
+  /**
+   * This class should be instantiated through a call to
+   * getStats() on an AsyncPool.
+   */
+  public AsyncPoolStats(
+      int totalCreated,
+      int totalDestroyed,
+      int totalCreateErrors,
+      int totalDestroyErrors,
+      int totalBadDestroyed,
+      int totalTimedOut,
+      int totalWaiterTimedOut,
+      int totalCreationsIgnored,
+
+      int checkedOut,
+      int maxPoolSize,
+      int minPoolSize,
+      int poolSize,
+
+      int sampleMaxCheckedOut,
+      int sampleMaxPoolSize,
+      long sampleMaxWaitTime,
+
+      int idleCount,
+      double waitTimeAvg,
+      long waitTime50Pct,
+      long waitTime95Pct,
+      long waitTime99Pct,
+      LifecycleStats lifecycleStats,
+      int poolSizeLimit
+  )
   {
     _totalCreated = totalCreated;
     _totalDestroyed = totalDestroyed;
@@ -98,6 +137,7 @@ public class AsyncPoolStats implements PoolStats
     _checkedOut = checkedOut;
     _maxPoolSize = maxPoolSize;
     _minPoolSize = minPoolSize;
+    _poolSizeLimit = poolSizeLimit;
     _poolSize = poolSize;
 
     _sampleMaxCheckedOut = sampleMaxCheckedOut;
@@ -235,6 +275,17 @@ public class AsyncPoolStats implements PoolStats
     return _minPoolSize;
   }
 
+  /**
+   * Get the maximum pool size at the time of the call to getStats(),
+   * which is lower than the configured one if the pool has been resized.
+   * @return The pool size limit
+   */
+  @Override
+  public int getPoolSizeLimit()
+  {
+    return _poolSizeLimit;
+  }
+
   /**
    * Get the pool size at the time of the call to getStats().
    * @return The pool size
@@ -346,6 +397,7 @@ public class AsyncPoolStats implements PoolStats
         "\ntotalWaiterTimedOut: " + _totalWaiterTimedOut +
         "\ncheckedOut: " + _totalTimedOut +
         "\nmaxPoolSize: " + _maxPoolSize +
+        "\npoolSizeLimit: " + _poolSizeLimit +
         "\npoolSize: " + _poolSize +
         "\nsampleMaxCheckedOut: " + _sampleMaxCheckedOut +
         "\nsampleMaxPoolSize: " + _sampleMaxPoolSize +
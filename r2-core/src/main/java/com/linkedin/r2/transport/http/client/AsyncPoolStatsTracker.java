@@ -72,6 +72,7 @@ public class AsyncPoolStatsTracker
   private final Supplier<Integer> _poolSizeSupplier;
   private final Supplier<Integer> _checkedOutSupplier;
   private final Supplier<Integer> _idleSizeSupplier;
+  private final Supplier<Integer> _sizeLimitSupplier;
   private final LongTracker _waitTimeTracker;
 
   private final Clock _clock;
@@ -105,6 +106,28 @@ public class AsyncPoolStatsTracker
       Supplier<Integer> idleSizeSupplier,
       Clock clock,
       LongTracker waitTimeTracker)
+  {
+    this(lifecycleStatsSupplier,
+        maxSizeSupplier,
+        minSizeSupplier,
+        poolSizeSupplier,
+        checkedOutSupplier,
+        idleSizeSupplier,
+        maxSizeSupplier,
+        clock,
+        waitTimeTracker);
+  }
+
+  public AsyncPoolStatsTracker(
+      Supplier<PoolStats.LifecycleStats> lifecycleStatsSupplier,
+      Supplier<Integer> maxSizeSupplier,
+      Supplier<Integer> minSizeSupplier,
+      Supplier<Integer> poolSizeSupplier,
+      Supplier<Integer> checkedOutSupplier,
+      Supplier<Integer> idleSizeSupplier,
+      Supplier<Integer> sizeLimitSupplier,
+      Clock clock,
+      LongTracker waitTimeTracker)
   {
     _lifecycleStatsSupplier = lifecycleStatsSupplier;
     _maxSizeSupplier = maxSizeSupplier;
@@ -112,6 +135,7 @@ public class AsyncPoolStatsTracker
     _poolSizeSupplier = poolSizeSupplier;
     _checkedOutSupplier = checkedOutSupplier;
     _idleSizeSupplier = idleSizeSupplier;
+    _sizeLimitSupplier = sizeLimitSupplier;
     _clock = clock;
     _waitTimeTracker = waitTimeTracker;
   }
@@ -214,7 +238,8 @@ public class AsyncPoolStatsTracker
         waitTimeStats.get50Pct(),
         waitTimeStats.get95Pct(),
         waitTimeStats.get99Pct(),
-        _lifecycleStatsSupplier.get()
+        _lifecycleStatsSupplier.get(),
+        _sizeLimitSupplier.get()
     );
 
     _waitTimeTracker.reset();
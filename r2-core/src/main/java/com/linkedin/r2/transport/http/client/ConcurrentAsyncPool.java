@@ -0,0 +1,794 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.SimpleCallback;
+import com.linkedin.common.stats.LongTracker;
+import com.linkedin.common.stats.LongTracking;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.SizeLimitExceededException;
+import com.linkedin.r2.transport.http.client.AsyncPoolImpl.Strategy;
+import com.linkedin.r2.transport.http.client.RateLimiter.Task;
+import com.linkedin.r2.util.Cancellable;
+import com.linkedin.util.ArgumentUtil;
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SystemClock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * An {@link AsyncPool} with the same contract and configuration as {@link AsyncPoolImpl}, whose idle objects, waiters
+ * and counters are not guarded by a single lock, so that concurrent {@link #get(Callback)} and {@link #put(Object)}
+ * calls do not contend on it.
+ * <p>
+ *
+ * The idle objects are kept in a {@link ConcurrentLinkedDeque}, polled from its tail with {@link Strategy#MRU} and
+ * from its head with {@link Strategy#LRU}, and the waiters in a {@link ConcurrentLinkedQueue}. A waiter is completed
+ * by the thread which claims it first, whether it hands it an object, cancels it or times it out. Since a getter may
+ * enqueue itself while a putter adds an idle object, both check the other queue after adding to their own, so that an
+ * idle object is never left behind while a waiter is enqueued. The idle objects are counted separately, since the size
+ * of the deque is computed by traversing it, and the waiters which are cancelled or timed out are left in their queue,
+ * which they are purged from in bulk, since removing one is linear too.
+ * <p>
+ *
+ * The stats are tracked by a {@link ConcurrentAsyncPoolStatsTracker}, whose counters are updated without a lock.
+ */
+public class ConcurrentAsyncPool<T> implements AsyncPool<T>
+{
+  private static final Logger LOG = LoggerFactory.getLogger(ConcurrentAsyncPool.class);
+
+  /**
+   * Minimum number of abandoned waiters before they are purged from the waiter queue.
+   */
+  private static final int MIN_ABANDONED_WAITERS_TO_PURGE = 64;
+
+  private enum State { NOT_YET_STARTED, RUNNING, SHUTTING_DOWN, STOPPED }
+
+  // Configured
+  private final String _poolName;
+  private final Lifecycle<T> _lifecycle;
+  private final int _maxSize;
+  private final int _maxWaiters;
+  private final long _idleTimeout;
+  private final long _waiterTimeout;
+  private final long _creationTimeout;
+  private final ScheduledExecutorService _timeoutExecutor;
+  private final int _minSize;
+  private final Strategy _strategy;
+  private final RateLimiter _rateLimiter;
+  private final Clock _clock;
+  private volatile ScheduledFuture<?> _objectTimeoutFuture;
+
+  private final AtomicReference<State> _state = new AtomicReference<>(State.NOT_YET_STARTED);
+  private final AtomicReference<Callback<None>> _shutdownCallback = new AtomicReference<>();
+  // Including idle, checked out, and creations/destructions in progress
+  private final AtomicInteger _poolSize = new AtomicInteger();
+  private final AtomicInteger _checkedOut = new AtomicInteger();
+  // Unused objects live here, sorted by age.
+  // The first object is the least recently added object.
+  private final ConcurrentLinkedDeque<TimedObject<T>> _idle = new ConcurrentLinkedDeque<>();
+  // Incremented after an object is added to the idle queue, and decremented before one is removed from it
+  private final AtomicInteger _idleCount = new AtomicInteger();
+  // Waiters stay in the queue until they are polled or removed after they have been claimed.
+  private final ConcurrentLinkedQueue<Waiter> _waiters = new ConcurrentLinkedQueue<>();
+  // Number of waiters which have not been claimed yet
+  private final AtomicInteger _waiterCount = new AtomicInteger();
+  // Number of waiters claimed by a cancellation or a timeout since the queue was last purged
+  private final AtomicInteger _abandonedWaiters = new AtomicInteger();
+
+  private final ConcurrentAsyncPoolStatsTracker _statsTracker;
+
+  /**
+   * Constructs a pool with {@link Strategy#MRU} strategy, no minimum size, no waiter timeout and maxWaiters equal to
+   * {@code Integer.MAX_VALUE}.
+   */
+  public ConcurrentAsyncPool(String name,
+      Lifecycle<T> lifecycle,
+      int maxSize,
+      long idleTimeout,
+      ScheduledExecutorService timeoutExecutor)
+  {
+    this(name, lifecycle, maxSize, idleTimeout, Integer.MAX_VALUE, timeoutExecutor, Integer.MAX_VALUE, Strategy.MRU,
+        0, new NoopRateLimiter(), SystemClock.instance(), new LongTracking());
+  }
+
+  /**
+   * @see AsyncPoolImpl#AsyncPoolImpl(String, Lifecycle, int, long, long, ScheduledExecutorService, int, Strategy, int,
+   *      RateLimiter, Clock, LongTracker)
+   */
+  public ConcurrentAsyncPool(String name,
+      Lifecycle<T> lifecycle,
+      int maxSize,
+      long idleTimeout,
+      long waiterTimeout,
+      ScheduledExecutorService timeoutExecutor,
+      int maxWaiters,
+      Strategy strategy,
+      int minSize,
+      RateLimiter rateLimiter,
+      Clock clock,
+      LongTracker waitTimeTracker)
+  {
+    ArgumentUtil.notNull(lifecycle, "lifecycle");
+    ArgumentUtil.notNull(timeoutExecutor, "timeoutExecutor");
+    ArgumentUtil.notNull(strategy, "strategy");
+    ArgumentUtil.notNull(rateLimiter, "rateLimiter");
+
+    _poolName = name + "/" + Integer.toHexString(hashCode());
+    _lifecycle = lifecycle;
+    _maxSize = maxSize;
+    _idleTimeout = idleTimeout;
+    _waiterTimeout = waiterTimeout;
+    _creationTimeout = AsyncPoolImpl.DEFAULT_OBJECT_CREATION_TIMEOUT;
+    _timeoutExecutor = timeoutExecutor;
+    _maxWaiters = maxWaiters;
+    _strategy = strategy;
+    _minSize = minSize;
+    _rateLimiter = rateLimiter;
+    _clock = clock;
+    _statsTracker = new ConcurrentAsyncPoolStatsTracker(
+        _lifecycle::getStats,
+        () -> _maxSize,
+        () -> _minSize,
+        _poolSize::get,
+        _checkedOut::get,
+        _idleCount::get,
+        clock,
+        waitTimeTracker);
+  }
+
+  @Override
+  public String getName()
+  {
+    return _poolName;
+  }
+
+  @Override
+  public void start()
+  {
+    if (!_state.compareAndSet(State.NOT_YET_STARTED, State.RUNNING))
+    {
+      throw new IllegalStateException(_poolName + " is " + _state.get());
+    }
+    if (_idleTimeout > 0)
+    {
+      long freq = Math.min(_idleTimeout / 10, 1000);
+      _objectTimeoutFuture = _timeoutExecutor.scheduleAtFixedRate(this::timeoutObjects, freq, freq,
+          TimeUnit.MILLISECONDS);
+    }
+
+    // Make the minimum required number of connections now
+    for (int i = 0; i < _minSize; i++)
+    {
+      if (shouldCreate())
+      {
+        create();
+      }
+    }
+  }
+
+  @Override
+  public void shutdown(Callback<None> callback)
+  {
+    if (!_state.compareAndSet(State.RUNNING, State.SHUTTING_DOWN))
+    {
+      callback.onError(new IllegalStateException(_poolName + " is " + _state.get()));
+      return;
+    }
+    // Shutdown can not complete before the callback is set, see checkShutdownComplete()
+    _shutdownCallback.set(callback);
+    LOG.info("{}: {}", _poolName, "shutdown requested");
+    shutdownIfNeeded();
+  }
+
+  @Override
+  public Collection<Callback<T>> cancelWaiters()
+  {
+    List<Callback<T>> cancelled = new ArrayList<>();
+    for (Waiter waiter; (waiter = pollWaiter()) != null;)
+    {
+      cancelled.add(waiter._callback);
+    }
+    return cancelled;
+  }
+
+  @Override
+  public Cancellable get(Callback<T> callback)
+  {
+    final Callback<T> callbackWithTracking = new TimeTrackingCallback(callback);
+    for (;;)
+    {
+      if (_state.get() != State.RUNNING)
+      {
+        callbackWithTracking.onError(new IllegalStateException(_poolName + " is " + _state.get()));
+        return () -> false;
+      }
+      TimedObject<T> obj = pollIdle();
+      if (obj == null)
+      {
+        break;
+      }
+      T rawObj = obj.get();
+      if (_lifecycle.validateGet(rawObj))
+      {
+        trc("dequeued an idle object");
+        _checkedOut.incrementAndGet();
+        callbackWithTracking.onSuccess(rawObj);
+        return () -> false;
+      }
+      // Invalid object, discard it and keep trying
+      destroy(rawObj, true);
+      trc("dequeued and disposed an invalid idle object");
+    }
+
+    if (_waiterCount.incrementAndGet() > _maxWaiters)
+    {
+      _waiterCount.decrementAndGet();
+      // This is a recoverable exception. User can simply retry the failed get() operation.
+      callbackWithTracking.onError(
+          new SizeLimitExceededException("AsyncPool " + _poolName + " reached maximum waiter size: " + _maxWaiters));
+      return () -> false;
+    }
+    final Waiter waiter = new Waiter(callbackWithTracking);
+    _waiters.offer(waiter);
+    trc("enqueued a waiter");
+    if (isWaiterTimeoutEnabled())
+    {
+      waiter.scheduleTimeout();
+    }
+
+    // The pool may have been shut down after the state was checked, in which case no object is created for this
+    // waiter, and shutdown may be waiting for it
+    State state = _state.get();
+    if (state != State.RUNNING && waiter.claim())
+    {
+      abandonWaiter();
+      callbackWithTracking.onError(new IllegalStateException(_poolName + " is " + state));
+      shutdownIfNeeded();
+      return () -> false;
+    }
+    if (shouldCreate())
+    {
+      create();
+    }
+    // An object may have been added to the idle queue while this waiter was being enqueued
+    dispatchIdleObjects();
+    return waiter;
+  }
+
+  private boolean isWaiterTimeoutEnabled()
+  {
+    // Do not enable waiter timeout if the configured value is not within the fail fast threshold
+    return _waiterTimeout >= AsyncPoolImpl.MIN_WAITER_TIMEOUT && _waiterTimeout <= AsyncPoolImpl.MAX_WAITER_TIMEOUT;
+  }
+
+  @Override
+  public void put(T obj)
+  {
+    _checkedOut.decrementAndGet();
+    if (!_lifecycle.validatePut(obj))
+    {
+      destroy(obj, true);
+      return;
+    }
+    // A channel made it through a complete request lifecycle
+    _rateLimiter.setPeriod(0);
+    add(obj);
+  }
+
+  private void add(T obj)
+  {
+    Waiter waiter = pollWaiter();
+    if (waiter != null)
+    {
+      trc("dequeued a waiter");
+      _checkedOut.incrementAndGet();
+      waiter._callback.onSuccess(obj);
+    }
+    else
+    {
+      _idle.offerLast(new TimedObject<>(obj));
+      _idleCount.incrementAndGet();
+      trc("enqueued an idle object");
+      // A waiter may have been enqueued while this object was being added to the idle queue
+      dispatchIdleObjects();
+    }
+    shutdownIfNeeded();
+  }
+
+  /**
+   * Hands idle objects to waiters until either queue is empty.
+   */
+  private void dispatchIdleObjects()
+  {
+    while (!_waiters.isEmpty())
+    {
+      TimedObject<T> obj = pollIdle();
+      if (obj == null)
+      {
+        return;
+      }
+      T rawObj = obj.get();
+      if (!_lifecycle.validateGet(rawObj))
+      {
+        destroy(rawObj, true);
+        continue;
+      }
+      Waiter waiter = pollWaiter();
+      if (waiter == null)
+      {
+        // The remaining waiters were claimed by others, the queues are checked again after the object is back
+        offerIdle(obj);
+        continue;
+      }
+      trc("dequeued an idle object for a waiter");
+      _checkedOut.incrementAndGet();
+      waiter._callback.onSuccess(rawObj);
+    }
+  }
+
+  private TimedObject<T> pollIdle()
+  {
+    // Once reserved, an object is in the queue, since the count is incremented after it is added
+    if (!reserveIdle())
+    {
+      return null;
+    }
+    return _strategy == Strategy.LRU ? _idle.pollFirst() : _idle.pollLast();
+  }
+
+  /**
+   * @return true if one of the idle objects has been reserved for removal by the caller.
+   */
+  private boolean reserveIdle()
+  {
+    for (;;)
+    {
+      int idleCount = _idleCount.get();
+      if (idleCount <= 0)
+      {
+        return false;
+      }
+      if (_idleCount.compareAndSet(idleCount, idleCount - 1))
+      {
+        return true;
+      }
+    }
+  }
+
+  private void offerIdle(TimedObject<T> obj)
+  {
+    if (_strategy == Strategy.LRU)
+    {
+      _idle.offerFirst(obj);
+    }
+    else
+    {
+      _idle.offerLast(obj);
+    }
+    _idleCount.incrementAndGet();
+  }
+
+  /**
+   * @return the first waiter which has not been claimed yet, claimed by the caller, or null if there is none.
+   */
+  private Waiter pollWaiter()
+  {
+    for (Waiter waiter; (waiter = _waiters.poll()) != null;)
+    {
+      if (waiter.claim())
+      {
+        return waiter;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Accounts for a waiter claimed by a cancellation or a timeout, which is left in the queue, and purges the queue of
+   * the claimed waiters once they may outnumber the others, so that the cost of the purge is amortized.
+   */
+  private void abandonWaiter()
+  {
+    final int abandoned = _abandonedWaiters.incrementAndGet();
+    if (abandoned >= MIN_ABANDONED_WAITERS_TO_PURGE && abandoned > _waiterCount.get()
+        && _abandonedWaiters.compareAndSet(abandoned, 0))
+    {
+      _waiters.removeIf(Waiter::isClaimed);
+    }
+  }
+
+  @Override
+  public void dispose(T obj)
+  {
+    _checkedOut.decrementAndGet();
+    destroy(obj, true);
+  }
+
+  @Override
+  public AsyncPoolStats getStats()
+  {
+    return _statsTracker.getStats();
+  }
+
+  private void destroy(T obj, boolean bad)
+  {
+    if (bad)
+    {
+      _statsTracker.incrementBadDestroyed();
+    }
+    trc("disposing a pooled object");
+    _lifecycle.destroy(obj, bad, new Callback<T>()
+    {
+      @Override
+      public void onSuccess(T t)
+      {
+        _statsTracker.incrementDestroyed();
+        if (objectDestroyed(1))
+        {
+          create();
+        }
+      }
+
+      @Override
+      public void onError(Throwable e)
+      {
+        _statsTracker.incrementDestroyErrors();
+        if (objectDestroyed(1))
+        {
+          create();
+        }
+      }
+    });
+  }
+
+  /**
+   * @param num number of objects have been destroyed
+   * @return true if another object creation should be initiated
+   */
+  private boolean objectDestroyed(int num)
+  {
+    _poolSize.updateAndGet(poolSize -> Math.max(poolSize - num, 0));
+    boolean create = shouldCreate();
+    shutdownIfNeeded();
+    return create;
+  }
+
+  /**
+   * Reserves a slot in the pool for a new object if there are waiters or the pool is below its minimum size.
+   * @return true if another object creation should be initiated.
+   */
+  private boolean shouldCreate()
+  {
+    for (;;)
+    {
+      if (_state.get() != State.RUNNING)
+      {
+        return false;
+      }
+      int poolSize = _poolSize.get();
+      if (poolSize >= _maxSize || (_waiterCount.get() == 0 && poolSize >= _minSize))
+      {
+        return false;
+      }
+      if (_poolSize.compareAndSet(poolSize, poolSize + 1))
+      {
+        _statsTracker.sampleMaxPoolSize();
+        return true;
+      }
+    }
+  }
+
+  private void create()
+  {
+    trc("initiating object creation");
+    _rateLimiter.submit(new Task()
+    {
+      @Override
+      public void run(final SimpleCallback callback)
+      {
+        // Ignore the object creation if no one is waiting for the object and the pool already has _minSize objects
+        if (_waiterCount.get() == 0 && (_minSize == 0 || _checkedOut.get() + _idleCount.get() >= _minSize))
+        {
+          _statsTracker.incrementIgnoredCreation();
+          // _poolSize also include the count of creation requests pending.
+          _poolSize.updateAndGet(poolSize -> poolSize >= 1 ? poolSize - 1 : poolSize);
+          shutdownIfNeeded();
+          callback.onDone();
+          return;
+        }
+
+        _lifecycle.create(new TimeoutCallback<>(_timeoutExecutor, _creationTimeout, TimeUnit.MILLISECONDS,
+            new Callback<T>()
+            {
+              @Override
+              public void onSuccess(T t)
+              {
+                _statsTracker.incrementCreated();
+                add(t);
+                callback.onDone();
+              }
+
+              @Override
+              public void onError(final Throwable e)
+              {
+                // Fails all waiters and cancels all pending creations, the same as AsyncPoolImpl
+                final Collection<Task> cancelledCreate = _rateLimiter.cancelPendingTasks();
+                _statsTracker.incrementCreateErrors();
+                final Collection<Callback<T>> waitersDenied =
+                    _waiters.isEmpty() ? Collections.<Callback<T>>emptyList() : cancelWaiters();
+
+                // reclaim the slot in the pool
+                boolean create = objectDestroyed(1 + cancelledCreate.size());
+
+                for (Callback<T> denied : waitersDenied)
+                {
+                  try
+                  {
+                    denied.onError(e);
+                  }
+                  catch (Exception ex)
+                  {
+                    LOG.error("Encountered error while invoking error waiter callback", ex);
+                  }
+                }
+
+                _rateLimiter.incrementPeriod();
+
+                if (create)
+                {
+                  create();
+                }
+                LOG.debug(_poolName + ": object creation failed", e);
+                callback.onDone();
+              }
+            }, () -> new ObjectCreationTimeoutException(
+                "Exceeded creation timeout of " + _creationTimeout + "ms: in Pool: " + _poolName)));
+      }
+    });
+  }
+
+  private void timeoutObjects()
+  {
+    Collection<T> expiredObjects = getExpiredObjects();
+    if (expiredObjects.size() > 0)
+    {
+      LOG.debug("{}: disposing {} objects due to idle timeout", _poolName, expiredObjects.size());
+      for (T obj : expiredObjects)
+      {
+        destroy(obj, false);
+      }
+    }
+  }
+
+  private Collection<T> getExpiredObjects()
+  {
+    List<T> expiredObjects = new ArrayList<>();
+    long deadline = _clock.currentTimeMillis() - _idleTimeout;
+    int excess = _poolSize.get() - _minSize;
+    for (TimedObject<T> p; excess > 0 && (p = _idle.peekFirst()) != null && p.getTime() < deadline;)
+    {
+      if (!reserveIdle())
+      {
+        break;
+      }
+      // The oldest object may have been polled concurrently, in which case the next one is checked
+      if (!_idle.removeFirstOccurrence(p))
+      {
+        _idleCount.incrementAndGet();
+      }
+      else
+      {
+        expiredObjects.add(p.get());
+        _statsTracker.incrementTimedOut();
+        excess--;
+      }
+    }
+    return expiredObjects;
+  }
+
+  private void shutdownIfNeeded()
+  {
+    if (_state.get() != State.SHUTTING_DOWN)
+    {
+      return;
+    }
+    Callback<None> shutdown = checkShutdownComplete();
+    if (shutdown != null)
+    {
+      finishShutdown(shutdown);
+    }
+  }
+
+  private Callback<None> checkShutdownComplete()
+  {
+    if (_shutdownCallback.get() == null)
+    {
+      return null;
+    }
+    // The pool size can only decrease once shutting down, and no more than the idle objects which are being destroyed,
+    // hence it is read before them so that shutdown does not complete while an object is still checked out.
+    final int poolSize = _poolSize.get();
+    final int waiters = _waiterCount.get();
+    final int idle = _idleCount.get();
+    if (waiters == 0 && idle == poolSize)
+    {
+      if (_state.compareAndSet(State.SHUTTING_DOWN, State.STOPPED))
+      {
+        return _shutdownCallback.getAndSet(null);
+      }
+      return null;
+    }
+    LOG.info("{}: {} waiters and {} objects outstanding before shutdown", new Object[]{ _poolName, waiters,
+        poolSize - idle });
+    return null;
+  }
+
+  private void finishShutdown(Callback<None> shutdown)
+  {
+    ScheduledFuture<?> future = _objectTimeoutFuture;
+    if (future != null)
+    {
+      future.cancel(false);
+    }
+
+    LOG.info("{}: {}", _poolName, "shutdown complete");
+
+    shutdown.onSuccess(None.none());
+  }
+
+  private class TimedObject<U>
+  {
+    private final U _obj;
+    private final long _time;
+
+    TimedObject(U obj)
+    {
+      _obj = obj;
+      _time = _clock.currentTimeMillis();
+    }
+
+    U get()
+    {
+      return _obj;
+    }
+
+    long getTime()
+    {
+      return _time;
+    }
+  }
+
+  /**
+   * A pending {@link #get(Callback)}, which is completed by the thread which claims it first.
+   */
+  private class Waiter implements Cancellable
+  {
+    private final Callback<T> _callback;
+    private final AtomicBoolean _claimed = new AtomicBoolean();
+    private volatile ScheduledFuture<?> _timeoutFuture;
+
+    Waiter(Callback<T> callback)
+    {
+      _callback = callback;
+    }
+
+    boolean isClaimed()
+    {
+      return _claimed.get();
+    }
+
+    boolean claim()
+    {
+      if (!_claimed.compareAndSet(false, true))
+      {
+        return false;
+      }
+      _waiterCount.decrementAndGet();
+      ScheduledFuture<?> timeoutFuture = _timeoutFuture;
+      if (timeoutFuture != null)
+      {
+        timeoutFuture.cancel(false);
+      }
+      return true;
+    }
+
+    void scheduleTimeout()
+    {
+      _timeoutFuture = _timeoutExecutor.schedule(() ->
+      {
+        if (claim())
+        {
+          abandonWaiter();
+          _statsTracker.incrementWaiterTimedOut();
+          LOG.debug("{}: failing waiter due to waiter timeout", _poolName);
+          _callback.onError(new WaiterTimeoutException(
+              "Exceeded waiter timeout of " + _waiterTimeout + "ms: in Pool: " + _poolName));
+          shutdownIfNeeded();
+        }
+      }, _waiterTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean cancel()
+    {
+      if (claim())
+      {
+        abandonWaiter();
+        shutdownIfNeeded();
+        return true;
+      }
+      return false;
+    }
+  }
+
+  private class TimeTrackingCallback implements Callback<T>
+  {
+    private final long _startTime;
+    private final Callback<T> _callback;
+
+    TimeTrackingCallback(Callback<T> callback)
+    {
+      _callback = callback;
+      _startTime = _clock.currentTimeMillis();
+    }
+
+    @Override
+    public void onError(Throwable e)
+    {
+      trackWaitTime(false);
+      _callback.onError(e);
+    }
+
+    @Override
+    public void onSuccess(T result)
+    {
+      trackWaitTime(true);
+      _callback.onSuccess(result);
+    }
+
+    private void trackWaitTime(boolean checkedOut)
+    {
+      long waitTime = _clock.currentTimeMillis() - _startTime;
+      if (checkedOut)
+      {
+        _statsTracker.sampleMaxCheckedOut();
+      }
+      _statsTracker.trackWaitTime(waitTime);
+      _statsTracker.sampleMaxWaitTime(waitTime);
+    }
+  }
+
+  private void trc(Object toLog)
+  {
+    LOG.trace("{}: {}", _poolName, toLog);
+  }
+}
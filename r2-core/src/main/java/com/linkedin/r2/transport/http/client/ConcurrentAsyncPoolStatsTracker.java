@@ -0,0 +1,277 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+
+package com.linkedin.r2.transport.http.client;
+
+import com.linkedin.common.stats.LongStats;
+import com.linkedin.common.stats.LongTracker;
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.Time;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+
+/**
+ * Thread safe counterpart of {@link AsyncPoolStatsTracker} for {@link ConcurrentAsyncPool}, whose counters and
+ * maximums are updated without a lock. The wait times are buffered in stripes selected by thread, and added to the
+ * {@link LongTracker}, which is not thread safe, under the lock of this tracker once a stripe is full or when the
+ * stats are requested.
+ */
+class ConcurrentAsyncPoolStatsTracker
+{
+  /**
+   * @see AsyncPoolStatsTracker
+   */
+  private static final long MINIMUM_SAMPLING_PERIOD = Time.minutes(1L);
+
+  private static final int WAIT_TIME_STRIPE_SIZE = 64;
+
+  private final LongAdder _totalCreated = new LongAdder();
+  private final LongAdder _totalDestroyed = new LongAdder();
+  private final LongAdder _totalCreateErrors = new LongAdder();
+  private final LongAdder _totalDestroyErrors = new LongAdder();
+  private final LongAdder _totalBadDestroyed = new LongAdder();
+  private final LongAdder _totalTimedOut = new LongAdder();
+  private final LongAdder _totalWaiterTimedOut = new LongAdder();
+  private final LongAdder _totalCreationIgnored = new LongAdder();
+
+  private final AtomicInteger _currentMaxCheckedOut = new AtomicInteger();
+  private final AtomicInteger _currentMaxPoolSize = new AtomicInteger();
+  private final AtomicLong _currentMaxWaitTime = new AtomicLong();
+
+  // Guarded by this
+  private int _sampleMaxCheckedOut = 0;
+  private int _sampleMaxPoolSize = 0;
+  private long _sampleMaxWaitTime = 0;
+  private long _lastSamplingTime = 0L;
+
+  private final WaitTimeStripe[] _waitTimeStripes;
+
+  private final Supplier<PoolStats.LifecycleStats> _lifecycleStatsSupplier;
+  private final Supplier<Integer> _maxSizeSupplier;
+  private final Supplier<Integer> _minSizeSupplier;
+  private final Supplier<Integer> _poolSizeSupplier;
+  private final Supplier<Integer> _checkedOutSupplier;
+  private final Supplier<Integer> _idleSizeSupplier;
+  private final LongTracker _waitTimeTracker;
+  private final Clock _clock;
+
+  ConcurrentAsyncPoolStatsTracker(
+      Supplier<PoolStats.LifecycleStats> lifecycleStatsSupplier,
+      Supplier<Integer> maxSizeSupplier,
+      Supplier<Integer> minSizeSupplier,
+      Supplier<Integer> poolSizeSupplier,
+      Supplier<Integer> checkedOutSupplier,
+      Supplier<Integer> idleSizeSupplier,
+      Clock clock,
+      LongTracker waitTimeTracker)
+  {
+    _lifecycleStatsSupplier = lifecycleStatsSupplier;
+    _maxSizeSupplier = maxSizeSupplier;
+    _minSizeSupplier = minSizeSupplier;
+    _poolSizeSupplier = poolSizeSupplier;
+    _checkedOutSupplier = checkedOutSupplier;
+    _idleSizeSupplier = idleSizeSupplier;
+    _clock = clock;
+    _waitTimeTracker = waitTimeTracker;
+
+    // A power of two, so that the stripe of a thread is selected by masking its id
+    _waitTimeStripes = new WaitTimeStripe[Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 1];
+    for (int i = 0; i < _waitTimeStripes.length; i++)
+    {
+      _waitTimeStripes[i] = new WaitTimeStripe();
+    }
+  }
+
+  void incrementCreated()
+  {
+    _totalCreated.increment();
+  }
+
+  void incrementIgnoredCreation()
+  {
+    _totalCreationIgnored.increment();
+  }
+
+  void incrementDestroyed()
+  {
+    _totalDestroyed.increment();
+  }
+
+  void incrementCreateErrors()
+  {
+    _totalCreateErrors.increment();
+  }
+
+  void incrementDestroyErrors()
+  {
+    _totalDestroyErrors.increment();
+  }
+
+  void incrementBadDestroyed()
+  {
+    _totalBadDestroyed.increment();
+  }
+
+  void incrementTimedOut()
+  {
+    _totalTimedOut.increment();
+  }
+
+  void incrementWaiterTimedOut()
+  {
+    _totalWaiterTimedOut.increment();
+  }
+
+  void sampleMaxPoolSize()
+  {
+    updateMax(_currentMaxPoolSize, _poolSizeSupplier.get());
+  }
+
+  void sampleMaxCheckedOut()
+  {
+    updateMax(_currentMaxCheckedOut, _checkedOutSupplier.get());
+  }
+
+  void sampleMaxWaitTime(long waitTimeMillis)
+  {
+    for (long max; waitTimeMillis > (max = _currentMaxWaitTime.get());)
+    {
+      if (_currentMaxWaitTime.compareAndSet(max, waitTimeMillis))
+      {
+        return;
+      }
+    }
+  }
+
+  void trackWaitTime(long waitTimeMillis)
+  {
+    final WaitTimeStripe stripe =
+        _waitTimeStripes[(int) Thread.currentThread().getId() & (_waitTimeStripes.length - 1)];
+    final long[] full = stripe.add(waitTimeMillis);
+    if (full != null)
+    {
+      synchronized (this)
+      {
+        addWaitTimes(full, full.length);
+      }
+    }
+  }
+
+  synchronized AsyncPoolStats getStats()
+  {
+    long now = _clock.currentTimeMillis();
+    if (now - _lastSamplingTime > MINIMUM_SAMPLING_PERIOD)
+    {
+      _sampleMaxCheckedOut = _currentMaxCheckedOut.getAndSet(_checkedOutSupplier.get());
+      _sampleMaxPoolSize = _currentMaxPoolSize.getAndSet(_poolSizeSupplier.get());
+      _sampleMaxWaitTime = _currentMaxWaitTime.getAndSet(0L);
+
+      _lastSamplingTime = now;
+    }
+
+    for (WaitTimeStripe stripe : _waitTimeStripes)
+    {
+      stripe.drainTo(this);
+    }
+
+    LongStats waitTimeStats = _waitTimeTracker.getStats();
+    AsyncPoolStats stats = new AsyncPoolStats(
+        _totalCreated.intValue(),
+        _totalDestroyed.intValue(),
+        _totalCreateErrors.intValue(),
+        _totalDestroyErrors.intValue(),
+        _totalBadDestroyed.intValue(),
+        _totalTimedOut.intValue(),
+        _totalWaiterTimedOut.intValue(),
+        _totalCreationIgnored.intValue(),
+        _checkedOutSupplier.get(),
+        _maxSizeSupplier.get(),
+        _minSizeSupplier.get(),
+        _poolSizeSupplier.get(),
+        _sampleMaxCheckedOut,
+        _sampleMaxPoolSize,
+        _sampleMaxWaitTime,
+        _idleSizeSupplier.get(),
+        waitTimeStats.getAverage(),
+        waitTimeStats.get50Pct(),
+        waitTimeStats.get95Pct(),
+        waitTimeStats.get99Pct(),
+        _lifecycleStatsSupplier.get(),
+        _maxSizeSupplier.get()
+    );
+
+    _waitTimeTracker.reset();
+    return stats;
+  }
+
+  private void addWaitTimes(long[] waitTimes, int count)
+  {
+    for (int i = 0; i < count; i++)
+    {
+      _waitTimeTracker.addValue(waitTimes[i]);
+    }
+  }
+
+  private static void updateMax(AtomicInteger max, int value)
+  {
+    for (int current; value > (current = max.get());)
+    {
+      if (max.compareAndSet(current, value))
+      {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Wait times of the threads sharing a stripe, guarded by the stripe. The lock of the tracker is never acquired while
+   * holding it.
+   */
+  private static class WaitTimeStripe
+  {
+    private long[] _waitTimes = new long[WAIT_TIME_STRIPE_SIZE];
+    private int _count = 0;
+
+    /**
+     * @return the wait times of the stripe if it is full, which must be added to the tracker, or null.
+     */
+    synchronized long[] add(long waitTime)
+    {
+      _waitTimes[_count++] = waitTime;
+      if (_count < _waitTimes.length)
+      {
+        return null;
+      }
+      final long[] full = _waitTimes;
+      _waitTimes = new long[WAIT_TIME_STRIPE_SIZE];
+      _count = 0;
+      return full;
+    }
+
+    /**
+     * Must be called while holding the lock of the tracker.
+     */
+    synchronized void drainTo(ConcurrentAsyncPoolStatsTracker tracker)
+    {
+      tracker.addWaitTimes(_waitTimes, _count);
+      _count = 0;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.linkedin.r2.transport.http.client;
+
+/**
+ * Usage of a {@link ResizableAsyncPool} over a sampling period, from which its size limit is derived.
+ */
+public class PoolSizingSample
+{
+  private final int _maxCheckedOut;
+  private final int _maxWaiters;
+  private final double _waitTimeAvg;
+
+  /**
+   * @param maxCheckedOut the maximum number of objects checked out at the same time.
+   * @param maxWaiters the maximum number of callbacks waiting for an object at the same time.
+   * @param waitTimeAvg the average time in milliseconds callbacks have waited for an object.
+   */
+  public PoolSizingSample(int maxCheckedOut, int maxWaiters, double waitTimeAvg)
+  {
+    _maxCheckedOut = maxCheckedOut;
+    _maxWaiters = maxWaiters;
+    _waitTimeAvg = waitTimeAvg;
+  }
+
+  public int getMaxCheckedOut()
+  {
+    return _maxCheckedOut;
+  }
+
+  public int getMaxWaiters()
+  {
+    return _maxWaiters;
+  }
+
+  public double getWaitTimeAvg()
+  {
+    return _waitTimeAvg;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "maxCheckedOut=" + _maxCheckedOut + ", maxWaiters=" + _maxWaiters + ", waitTimeAvg=" + _waitTimeAvg;
+  }
+}
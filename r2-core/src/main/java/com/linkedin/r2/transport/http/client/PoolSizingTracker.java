@@ -0,0 +1,62 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.linkedin.r2.transport.http.client;
+
+/**
+ * Tracks the usage of a {@link ResizableAsyncPool} and produces a {@link PoolSizingSample} upon request. Unlike
+ * {@link AsyncPoolStatsTracker}, samples are taken on every request, so that the pool can be resized independently of
+ * how often its statistics are read. The implementation itself is not thread safe. Use external synchronization if
+ * needed.
+ */
+class PoolSizingTracker
+{
+  private int _maxCheckedOut = 0;
+  private int _maxWaiters = 0;
+  private long _totalWaitTime = 0L;
+  private int _waitCount = 0;
+
+  void sampleCheckedOut(int checkedOut)
+  {
+    _maxCheckedOut = Math.max(checkedOut, _maxCheckedOut);
+  }
+
+  void sampleWaiters(int waiters)
+  {
+    _maxWaiters = Math.max(waiters, _maxWaiters);
+  }
+
+  void trackWaitTime(long waitTimeMillis)
+  {
+    _totalWaitTime += waitTimeMillis;
+    _waitCount++;
+  }
+
+  /**
+   * @param checkedOut the number of objects currently checked out.
+   * @param waiters the number of callbacks currently waiting for an object.
+   * @return the usage since the previous sample, after which a new sample starts from the current usage.
+   */
+  PoolSizingSample sample(int checkedOut, int waiters)
+  {
+    PoolSizingSample sample = new PoolSizingSample(_maxCheckedOut, _maxWaiters,
+        _waitCount == 0 ? 0.0 : (double) _totalWaitTime / _waitCount);
+    _maxCheckedOut = checkedOut;
+    _maxWaiters = waiters;
+    _totalWaitTime = 0L;
+    _waitCount = 0;
+    return sample;
+  }
+}
@@ -106,6 +106,15 @@ public interface PoolStats
    */
   int getMinPoolSize();
 
+  /**
+   * Get the current maximum size of the pool, which is lower than the configured maximum
+   * size if the pool has been resized.
+   */
+  default int getPoolSizeLimit()
+  {
+    return getMaxPoolSize();
+  }
+
   /**
    * Get the pool size at the time of the call to getStats().
    * @return The pool size
@@ -0,0 +1,44 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.linkedin.r2.transport.http.client;
+
+/**
+ * An {@link AsyncPool} whose size can be limited below its configured maximum size while it is running, e.g. by
+ * {@link AdaptivePoolSizer}.
+ */
+public interface ResizableAsyncPool<T> extends AsyncPool<T>
+{
+  /**
+   * @return the current maximum number of objects in the pool.
+   */
+  int getSizeLimit();
+
+  /**
+   * Sets the maximum number of objects in the pool. The limit is bounded by the configured minimum and maximum sizes
+   * of the pool. Idle objects beyond a lowered limit are destroyed, while checked out ones are destroyed once they
+   * are returned.
+   *
+   * @param sizeLimit the new maximum number of objects in the pool.
+   */
+  void setSizeLimit(int sizeLimit);
+
+  /**
+   * Returns the usage of the pool since the previous invocation and starts a new sample.
+   *
+   * @return the sampled usage of the pool.
+   */
+  PoolSizingSample sampleSizing();
+}
@@ -0,0 +1,157 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package test.r2.transport.http.client;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.r2.transport.http.client.AdaptivePoolSizer;
+import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.PoolSizingSample;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import test.r2.transport.http.client.TestAsyncPool.SynchronousLifecycle;
+
+
+public class TestAdaptivePoolSizer
+{
+  private final ScheduledExecutorService _executor = Executors.newSingleThreadScheduledExecutor();
+
+  @AfterClass
+  public void stopExecutor()
+  {
+    _executor.shutdown();
+  }
+
+  @Test
+  public void testIncreaseWhenSaturated()
+  {
+    AdaptivePoolSizer sizer = new AdaptivePoolSizer(1000, 5, 4, 0.5, 1.5);
+
+    Assert.assertEquals(sizer.getNewSizeLimit(10, new PoolSizingSample(10, 3, 20.0)), 14);
+    // Waiters which did not wait long are served by returned objects
+    Assert.assertEquals(sizer.getNewSizeLimit(10, new PoolSizingSample(10, 3, 1.0)), 10);
+  }
+
+  @Test
+  public void testDecreaseBoundedByUsage()
+  {
+    AdaptivePoolSizer sizer = new AdaptivePoolSizer(1000, 5, 4, 0.5, 1.5);
+
+    Assert.assertEquals(sizer.getNewSizeLimit(100, new PoolSizingSample(0, 0, 0.0)), 50);
+    Assert.assertEquals(sizer.getNewSizeLimit(100, new PoolSizingSample(40, 0, 0.0)), 60);
+    Assert.assertEquals(sizer.getNewSizeLimit(100, new PoolSizingSample(80, 0, 0.0)), 100);
+  }
+
+  @Test
+  public void testLowerSizeLimit() throws Exception
+  {
+    SynchronousLifecycle lifecycle = new SynchronousLifecycle();
+    AsyncPoolImpl<Object> pool = new AsyncPoolImpl<>("object pool", lifecycle, 10, 100000, _executor);
+    pool.start();
+
+    List<Object> objects = checkOut(pool, 10);
+    Assert.assertEquals(pool.sampleSizing().getMaxCheckedOut(), 10);
+    for (Object obj : objects.subList(0, 5))
+    {
+      pool.put(obj);
+    }
+
+    pool.setSizeLimit(3);
+    Assert.assertEquals(pool.getSizeLimit(), 3);
+    Assert.assertEquals(pool.getStats().getPoolSizeLimit(), 3);
+    Assert.assertEquals(pool.getStats().getMaxPoolSize(), 10);
+    // Idle objects beyond the limit are destroyed right away, checked out ones once returned
+    Assert.assertEquals(lifecycle.getLive(), 5);
+    for (Object obj : objects.subList(5, 10))
+    {
+      pool.put(obj);
+    }
+    Assert.assertEquals(lifecycle.getLive(), 3);
+    Assert.assertEquals(pool.getStats().getIdleCount(), 3);
+  }
+
+  @Test
+  public void testRaiseSizeLimitServesWaiters() throws Exception
+  {
+    SynchronousLifecycle lifecycle = new SynchronousLifecycle();
+    AsyncPoolImpl<Object> pool = new AsyncPoolImpl<>("object pool", lifecycle, 10, 100000, _executor);
+    pool.start();
+    pool.setSizeLimit(2);
+
+    checkOut(pool, 2);
+    List<FutureCallback<Object>> waiters = new ArrayList<>();
+    for (int i = 0; i < 3; i++)
+    {
+      FutureCallback<Object> waiter = new FutureCallback<>();
+      pool.get(waiter);
+      waiters.add(waiter);
+    }
+    Assert.assertFalse(waiters.get(0).isDone());
+    Assert.assertEquals(pool.sampleSizing().getMaxWaiters(), 3);
+
+    pool.setSizeLimit(20);
+    Assert.assertEquals(pool.getSizeLimit(), 10);
+    for (FutureCallback<Object> waiter : waiters)
+    {
+      Assert.assertNotNull(waiter.get(5, TimeUnit.SECONDS));
+    }
+    Assert.assertEquals(lifecycle.getLive(), 5);
+  }
+
+  @Test
+  public void testResize() throws Exception
+  {
+    AdaptivePoolSizer sizer = new AdaptivePoolSizer();
+    AsyncPoolImpl<Object> pool = new AsyncPoolImpl<>("object pool", new SynchronousLifecycle(), 100, 100000,
+        _executor);
+    pool.start();
+
+    // The pool is not used, hence it is shrunk down to a single object
+    for (int i = 0; i < 100 && pool.getSizeLimit() > 1; i++)
+    {
+      sizer.resize(pool);
+    }
+    Assert.assertEquals(pool.getSizeLimit(), 1);
+
+    List<Object> objects = checkOut(pool, 1);
+    FutureCallback<Object> waiter = new FutureCallback<>();
+    pool.get(waiter);
+    Thread.sleep(AdaptivePoolSizer.DEFAULT_TARGET_WAIT_TIME * 4);
+    pool.put(objects.get(0));
+    waiter.get(5, TimeUnit.SECONDS);
+
+    sizer.resize(pool);
+    Assert.assertEquals(pool.getSizeLimit(), 1 + AdaptivePoolSizer.DEFAULT_INCREASE_STEP);
+  }
+
+  private static List<Object> checkOut(AsyncPoolImpl<Object> pool, int count) throws Exception
+  {
+    List<Object> objects = new ArrayList<>(count);
+    for (int i = 0; i < count; i++)
+    {
+      FutureCallback<Object> callback = new FutureCallback<>();
+      pool.get(callback);
+      objects.add(callback.get(5, TimeUnit.SECONDS));
+    }
+    return objects;
+  }
+}
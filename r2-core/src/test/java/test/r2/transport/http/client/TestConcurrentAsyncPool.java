@@ -0,0 +1,360 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package test.r2.transport.http.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.stats.LongTracking;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.SizeLimitExceededException;
+import com.linkedin.r2.transport.http.client.AsyncPool;
+import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.AsyncPoolStats;
+import com.linkedin.r2.transport.http.client.ConcurrentAsyncPool;
+import com.linkedin.r2.transport.http.client.NoopRateLimiter;
+import com.linkedin.r2.util.Cancellable;
+import com.linkedin.util.clock.SystemClock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import test.r2.transport.http.client.TestAsyncPool.SynchronousLifecycle;
+
+
+public class TestConcurrentAsyncPool
+{
+  private final ScheduledExecutorService _executor = Executors.newSingleThreadScheduledExecutor();
+
+  @AfterClass
+  public void stopExecutor()
+  {
+    _executor.shutdown();
+  }
+
+  @Test
+  public void testMustStart() throws Exception
+  {
+    AsyncPool<Object> pool = new ConcurrentAsyncPool<>("object pool", new SynchronousLifecycle(), 1, 100, _executor);
+    FutureCallback<Object> cb = new FutureCallback<>();
+    pool.get(cb);
+    try
+    {
+      cb.get(30, TimeUnit.SECONDS);
+      Assert.fail("Get succeeded on pool not yet started");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  public void testConcurrentGetAndPut() throws Exception
+  {
+    final int ITERATIONS = 1000;
+    final int THREADS = 50;
+    final int POOL_SIZE = 10;
+    SynchronousLifecycle lifecycle = new SynchronousLifecycle();
+    final AsyncPool<Object> pool = new ConcurrentAsyncPool<>("object pool", lifecycle, POOL_SIZE, 1000, _executor);
+    pool.start();
+
+    final AtomicInteger failures = new AtomicInteger();
+    List<Thread> threads = new ArrayList<>(THREADS);
+    for (int i = 0; i < THREADS; i++)
+    {
+      Thread t = new Thread(() ->
+      {
+        for (int j = 0; j < ITERATIONS; j++)
+        {
+          FutureCallback<Object> cb = new FutureCallback<>();
+          pool.get(cb);
+          try
+          {
+            pool.put(cb.get(10, TimeUnit.SECONDS));
+          }
+          catch (Exception e)
+          {
+            failures.incrementAndGet();
+            return;
+          }
+        }
+      });
+      t.start();
+      threads.add(t);
+    }
+    for (Thread t : threads)
+    {
+      t.join();
+    }
+
+    Assert.assertEquals(failures.get(), 0);
+    Assert.assertTrue(lifecycle.getHighWaterMark() <= POOL_SIZE, "High water mark exceeded " + POOL_SIZE);
+    AsyncPoolStats stats = (AsyncPoolStats) pool.getStats();
+    Assert.assertEquals(stats.getCheckedOut(), 0);
+    Assert.assertEquals(stats.getIdleCount(), stats.getPoolSize());
+    Assert.assertEquals(stats.getTotalCreated(), stats.getPoolSize());
+    Assert.assertTrue(stats.getSampleMaxCheckedOut() > 0 && stats.getSampleMaxCheckedOut() <= POOL_SIZE);
+    Assert.assertTrue(stats.getSampleMaxPoolSize() > 0 && stats.getSampleMaxPoolSize() <= POOL_SIZE);
+    Assert.assertTrue(stats.getWaitTimeAvg() >= 0);
+
+    FutureCallback<None> shutdown = new FutureCallback<>();
+    pool.shutdown(shutdown);
+    shutdown.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testShutdown() throws Exception
+  {
+    final int POOL_SIZE = 25;
+    final AsyncPool<Object> pool = new ConcurrentAsyncPool<>("object pool", new SynchronousLifecycle(), POOL_SIZE,
+        100, _executor);
+    pool.start();
+
+    List<Object> objects = new ArrayList<>(POOL_SIZE);
+    for (int i = 0; i < POOL_SIZE; i++)
+    {
+      FutureCallback<Object> cb = new FutureCallback<>();
+      pool.get(cb);
+      objects.add(cb.get());
+    }
+    FutureCallback<None> shutdown = new FutureCallback<>();
+    pool.shutdown(shutdown);
+
+    for (Object o : objects)
+    {
+      Assert.assertFalse(shutdown.isDone(), "Pool shutdown with objects checked out");
+      pool.put(o);
+    }
+    shutdown.get(5, TimeUnit.SECONDS);
+
+    FutureCallback<Object> cb = new FutureCallback<>();
+    pool.get(cb);
+    try
+    {
+      cb.get(5, TimeUnit.SECONDS);
+      Assert.fail("Get succeeded on pool already shut down");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  public void testGetRacingShutdown() throws Exception
+  {
+    final int ITERATIONS = 1000;
+    final int THREADS = 4;
+    for (int i = 0; i < ITERATIONS; i++)
+    {
+      final AsyncPool<Object> pool = new ConcurrentAsyncPool<>("object pool", new SynchronousLifecycle(), 1, 100,
+          _executor);
+      pool.start();
+
+      final CountDownLatch start = new CountDownLatch(1);
+      final CountDownLatch done = new CountDownLatch(THREADS);
+      final AtomicInteger failures = new AtomicInteger();
+      List<Thread> threads = new ArrayList<>(THREADS);
+      for (int j = 0; j < THREADS; j++)
+      {
+        Thread t = new Thread(() ->
+        {
+          try
+          {
+            start.await();
+          }
+          catch (InterruptedException e)
+          {
+            throw new RuntimeException(e);
+          }
+          // The get either succeeds before the pool shuts down, or fails, but never waits forever
+          pool.get(new Callback<Object>()
+          {
+            @Override
+            public void onSuccess(Object result)
+            {
+              pool.put(result);
+              done.countDown();
+            }
+
+            @Override
+            public void onError(Throwable e)
+            {
+              if (!(e instanceof IllegalStateException))
+              {
+                failures.incrementAndGet();
+              }
+              done.countDown();
+            }
+          });
+        });
+        t.start();
+        threads.add(t);
+      }
+
+      FutureCallback<None> shutdown = new FutureCallback<>();
+      start.countDown();
+      pool.shutdown(shutdown);
+      for (Thread t : threads)
+      {
+        t.join();
+      }
+
+      Assert.assertTrue(done.await(5, TimeUnit.SECONDS), "Waiter not served after shutdown");
+      Assert.assertEquals(failures.get(), 0);
+      shutdown.get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void testCancelTriggerShutdown() throws Exception
+  {
+    AsyncPool<Object> pool = new ConcurrentAsyncPool<>("object pool", new SynchronousLifecycle(), 1, 100, _executor);
+    pool.start();
+
+    FutureCallback<Object> callback1 = new FutureCallback<>();
+    pool.get(callback1);
+
+    FutureCallback<Object> callback2 = new FutureCallback<>();
+    Cancellable cancellable2 = pool.get(callback2);
+
+    FutureCallback<None> shutdownCallback = new FutureCallback<>();
+    pool.shutdown(shutdownCallback);
+
+    pool.dispose(callback1.get(5, TimeUnit.SECONDS));
+    Assert.assertFalse(shutdownCallback.isDone());
+
+    Assert.assertTrue(cancellable2.cancel());
+    Assert.assertFalse(cancellable2.cancel());
+    shutdownCallback.get(5, TimeUnit.SECONDS);
+    Assert.assertFalse(callback2.isDone());
+  }
+
+  @Test
+  public void testCancelledWaitersSkipped() throws Exception
+  {
+    final int WAITERS = 200;
+    AsyncPool<Object> pool = new ConcurrentAsyncPool<>("object pool", new SynchronousLifecycle(), 1, 100, _executor);
+    pool.start();
+
+    FutureCallback<Object> checkedOut = new FutureCallback<>();
+    pool.get(checkedOut);
+    Object obj = checkedOut.get(5, TimeUnit.SECONDS);
+
+    // The cancelled waiters are purged from the queue once they outnumber the others
+    for (int i = 0; i < WAITERS; i++)
+    {
+      Assert.assertTrue(pool.get(new FutureCallback<>()).cancel());
+    }
+    FutureCallback<Object> waiter = new FutureCallback<>();
+    pool.get(waiter);
+    for (int i = 0; i < WAITERS; i++)
+    {
+      Assert.assertTrue(pool.get(new FutureCallback<>()).cancel());
+    }
+
+    pool.put(obj);
+    Assert.assertSame(waiter.get(5, TimeUnit.SECONDS), obj);
+    pool.put(obj);
+
+    AsyncPoolStats stats = (AsyncPoolStats) pool.getStats();
+    Assert.assertEquals(stats.getCheckedOut(), 0);
+    Assert.assertEquals(stats.getIdleCount(), 1);
+
+    FutureCallback<None> shutdown = new FutureCallback<>();
+    pool.shutdown(shutdown);
+    shutdown.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testLRU() throws Exception
+  {
+    final int POOL_SIZE = 25;
+    final int GET = 15;
+    final AsyncPool<Object> pool = new ConcurrentAsyncPool<>("object pool", new SynchronousLifecycle(), POOL_SIZE,
+        1000, Integer.MAX_VALUE, _executor, Integer.MAX_VALUE, AsyncPoolImpl.Strategy.LRU, 0, new NoopRateLimiter(),
+        SystemClock.instance(), new LongTracking());
+    pool.start();
+
+    List<Object> objects = new ArrayList<>();
+    for (int i = 0; i < GET; i++)
+    {
+      FutureCallback<Object> cb = new FutureCallback<>();
+      pool.get(cb);
+      objects.add(cb.get());
+    }
+    for (Object o : objects)
+    {
+      pool.put(o);
+    }
+
+    // we should get the same objects back in FIFO order
+    for (int i = 0; i < GET; i++)
+    {
+      FutureCallback<Object> cb = new FutureCallback<>();
+      pool.get(cb);
+      Assert.assertSame(cb.get(), objects.get(i));
+    }
+  }
+
+  @Test
+  public void testMaxWaiters() throws Exception
+  {
+    final int MAX_WAITERS = 2;
+    final AsyncPool<Object> pool = new ConcurrentAsyncPool<>("object pool", new SynchronousLifecycle(), 1, 1000,
+        Integer.MAX_VALUE, _executor, MAX_WAITERS, AsyncPoolImpl.Strategy.MRU, 0, new NoopRateLimiter(),
+        SystemClock.instance(), new LongTracking());
+    pool.start();
+
+    FutureCallback<Object> checkedOut = new FutureCallback<>();
+    pool.get(checkedOut);
+    Object obj = checkedOut.get(5, TimeUnit.SECONDS);
+
+    List<FutureCallback<Object>> waiters = new ArrayList<>();
+    for (int i = 0; i < MAX_WAITERS; i++)
+    {
+      FutureCallback<Object> cb = new FutureCallback<>();
+      pool.get(cb);
+      waiters.add(cb);
+    }
+    FutureCallback<Object> rejected = new FutureCallback<>();
+    pool.get(rejected);
+    try
+    {
+      rejected.get(5, TimeUnit.SECONDS);
+      Assert.fail("Get succeeded with too many waiters");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof SizeLimitExceededException);
+    }
+
+    // The waiters get the object in FIFO order
+    for (FutureCallback<Object> waiter : waiters)
+    {
+      pool.put(obj);
+      Assert.assertSame(waiter.get(5, TimeUnit.SECONDS), obj);
+    }
+  }
+}
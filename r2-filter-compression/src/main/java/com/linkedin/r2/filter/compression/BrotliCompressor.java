@@ -0,0 +1,90 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.BrotliInputStream;
+import com.aayushatharva.brotli4j.encoder.BrotliOutputStream;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+
+/**
+ * Wrapper class for brotli compression. Requires the brotli4j native library of the platform, without which
+ * compression and decompression fail.
+ * */
+public class BrotliCompressor extends AbstractCompressor
+{
+  private static final String HTTP_NAME = "br";
+  // Quality levels above 4 are much slower, and mostly worth it for static content
+  public static final int DEFAULT_QUALITY = 4;
+
+  private final int _quality;
+
+  public BrotliCompressor()
+  {
+    this(DEFAULT_QUALITY);
+  }
+
+  /**
+   * @param quality the compression quality, from 0 (fastest) to 11 (smallest).
+   */
+  public BrotliCompressor(int quality)
+  {
+    _quality = quality;
+  }
+
+  @Override
+  public String getContentEncodingName()
+  {
+    return HTTP_NAME;
+  }
+
+  @Override
+  protected InputStream createInflaterInputStream(InputStream compressedDataStream) throws IOException
+  {
+    return createInputStream(compressedDataStream);
+  }
+
+  @Override
+  protected OutputStream createDeflaterOutputStream(OutputStream decompressedDataStream) throws IOException
+  {
+    return createOutputStream(decompressedDataStream, _quality);
+  }
+
+  public static InputStream createInputStream(InputStream in) throws IOException
+  {
+    ensureAvailability();
+    return new BrotliInputStream(in);
+  }
+
+  public static OutputStream createOutputStream(OutputStream out, int quality) throws IOException
+  {
+    ensureAvailability();
+    return new BrotliOutputStream(out, new Encoder.Parameters().setQuality(quality));
+  }
+
+  private static void ensureAvailability() throws IOException
+  {
+    if (!Brotli4jLoader.isAvailable())
+    {
+      throw new IOException("The brotli native library is not available", Brotli4jLoader.getUnavailabilityCause());
+    }
+  }
+}
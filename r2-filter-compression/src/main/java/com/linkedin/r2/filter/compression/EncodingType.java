@@ -31,6 +31,8 @@ public enum EncodingType
   BZIP2(new Bzip2Compressor()),
   SNAPPY(new SnappyCompressor()),
   SNAPPY_FRAMED(new SnappyFramedCompressor()),
+  ZSTD(new ZstdCompressor()),
+  BROTLI(new BrotliCompressor()),
   IDENTITY("identity"),
   ANY("*");
 
@@ -0,0 +1,120 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.Arrays;
+
+
+/**
+ * Wrapper class for zstd compression, which compresses with the dictionary set by
+ * {@link ZstdDictionaries#setCompressionDictionary(ZstdDictionary)} if any.
+ * */
+public class ZstdCompressor extends AbstractCompressor
+{
+  private static final String HTTP_NAME = "zstd";
+  public static final int DEFAULT_LEVEL = 3;
+  // The maximum size of a frame header, which contains the dictionary id
+  private static final int MAX_FRAME_HEADER_SIZE = 18;
+
+  private final int _level;
+
+  public ZstdCompressor()
+  {
+    this(DEFAULT_LEVEL);
+  }
+
+  /**
+   * @param level the compression level, from 1 (fastest) to 22 (smallest).
+   */
+  public ZstdCompressor(int level)
+  {
+    _level = level;
+  }
+
+  @Override
+  public String getContentEncodingName()
+  {
+    return HTTP_NAME;
+  }
+
+  @Override
+  protected InputStream createInflaterInputStream(InputStream compressedDataStream) throws IOException
+  {
+    return createInputStream(compressedDataStream);
+  }
+
+  @Override
+  protected OutputStream createDeflaterOutputStream(OutputStream decompressedDataStream) throws IOException
+  {
+    return createOutputStream(decompressedDataStream, _level);
+  }
+
+  /**
+   * Returns a stream which decompresses zstd frames, with the registered dictionary whose id is in the frame header.
+   *
+   * @throws IOException if the dictionary of the frame is not registered.
+   */
+  public static InputStream createInputStream(InputStream in) throws IOException
+  {
+    final PushbackInputStream pushbackIn = new PushbackInputStream(in, MAX_FRAME_HEADER_SIZE);
+    final byte[] header = new byte[MAX_FRAME_HEADER_SIZE];
+    int length = 0;
+    int read;
+    while (length < header.length && (read = pushbackIn.read(header, length, header.length - length)) >= 0)
+    {
+      length += read;
+    }
+    pushbackIn.unread(header, 0, length);
+
+    final ZstdInputStream zstdIn = new ZstdInputStream(pushbackIn);
+    final long dictionaryId = length == 0 ? 0 : Zstd.getDictIdFromFrame(Arrays.copyOf(header, length));
+    if (dictionaryId != 0)
+    {
+      final ZstdDictDecompress dictionary = ZstdDictionaries.getDecompressDictionary(dictionaryId);
+      if (dictionary == null)
+      {
+        zstdIn.close();
+        throw new IOException("Unknown zstd dictionary: " + dictionaryId);
+      }
+      zstdIn.setDict(dictionary);
+    }
+    return zstdIn;
+  }
+
+  /**
+   * Returns a stream which compresses to a zstd frame, with the compression dictionary if any.
+   */
+  public static OutputStream createOutputStream(OutputStream out, int level) throws IOException
+  {
+    final ZstdOutputStream zstdOut = new ZstdOutputStream(out, level);
+    final ZstdDictCompress dictionary = ZstdDictionaries.getCompressDictionary(level);
+    if (dictionary != null)
+    {
+      zstdOut.setDict(dictionary);
+    }
+    return zstdOut;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * The zstd dictionaries known to this process, which are shared by the zstd compressors of the rest and stream
+ * compression filters since encodings are selected by name only.
+ * <p>
+ *
+ * Frames compressed with a dictionary record its id, and are decompressed with the registered dictionary of this id.
+ * Since the peer must have registered the same dictionary to decompress them, a dictionary should only be used for
+ * compression once it has been deployed to all the peers, and kept registered as long as they may use it.
+ * <p>
+ *
+ * The native zstd structures of each dictionary are created once, when it is registered or first used at a compression
+ * level, rather than digesting the dictionary for each request.
+ */
+public final class ZstdDictionaries
+{
+  private static final Map<Long, ZstdDictionary> DICTIONARIES = new ConcurrentHashMap<>();
+  private static final Map<Long, ZstdDictDecompress> DECOMPRESS_DICTIONARIES = new ConcurrentHashMap<>();
+  private static volatile CompressionDictionary _compressionDictionary = null;
+
+  private ZstdDictionaries()
+  {
+  }
+
+  /**
+   * Registers a dictionary for decompression.
+   */
+  public static void register(ZstdDictionary dictionary)
+  {
+    DECOMPRESS_DICTIONARIES.put(dictionary.getId(), new ZstdDictDecompress(dictionary.bytes()));
+    DICTIONARIES.put(dictionary.getId(), dictionary);
+  }
+
+  /**
+   * @return the registered dictionary with the given id, or null if there is none.
+   */
+  public static ZstdDictionary get(long id)
+  {
+    return DICTIONARIES.get(id);
+  }
+
+  /**
+   * Registers a dictionary, and uses it to compress from now on.
+   *
+   * @param dictionary the dictionary to compress with, or null to compress without dictionary.
+   */
+  public static void setCompressionDictionary(ZstdDictionary dictionary)
+  {
+    if (dictionary != null)
+    {
+      register(dictionary);
+    }
+    _compressionDictionary = dictionary == null ? null : new CompressionDictionary(dictionary);
+  }
+
+  /**
+   * @return the dictionary to compress with, or null if none.
+   */
+  public static ZstdDictionary getCompressionDictionary()
+  {
+    final CompressionDictionary compressionDictionary = _compressionDictionary;
+    return compressionDictionary == null ? null : compressionDictionary._dictionary;
+  }
+
+  /**
+   * @return the digested registered dictionary with the given id, or null if there is none.
+   */
+  static ZstdDictDecompress getDecompressDictionary(long id)
+  {
+    return DECOMPRESS_DICTIONARIES.get(id);
+  }
+
+  /**
+   * @return the digested dictionary to compress with at the given level, or null if none.
+   */
+  static ZstdDictCompress getCompressDictionary(int level)
+  {
+    final CompressionDictionary compressionDictionary = _compressionDictionary;
+    return compressionDictionary == null ? null
+        : compressionDictionary._levels.computeIfAbsent(level,
+            key -> new ZstdDictCompress(compressionDictionary._dictionary.bytes(), key));
+  }
+
+  /**
+   * The dictionary to compress with, along with its digested forms for the compression levels it has been used at.
+   */
+  private static final class CompressionDictionary
+  {
+    private final ZstdDictionary _dictionary;
+    private final Map<Integer, ZstdDictCompress> _levels = new ConcurrentHashMap<>();
+
+    CompressionDictionary(ZstdDictionary dictionary)
+    {
+      _dictionary = dictionary;
+    }
+  }
+}
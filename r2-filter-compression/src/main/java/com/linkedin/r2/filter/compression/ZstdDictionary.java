@@ -0,0 +1,98 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictTrainer;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * A zstd dictionary, which improves the compression of small payloads that share the same structure, such as the
+ * JSON or protobuf entities of a resource. Only dictionaries with an id, such as those returned by
+ * {@link #train(List, int)}, are supported, since decompressors find the dictionary of a frame by its id.
+ *
+ * @see ZstdDictionaries
+ */
+public final class ZstdDictionary
+{
+  private final byte[] _bytes;
+  private final long _id;
+
+  /**
+   * @param bytes the content of a dictionary trained by zstd.
+   * @throws IllegalArgumentException if the dictionary has no id.
+   */
+  public ZstdDictionary(byte[] bytes)
+  {
+    _bytes = Arrays.copyOf(bytes, bytes.length);
+    _id = Zstd.getDictIdFromDict(_bytes);
+    if (_id == 0)
+    {
+      throw new IllegalArgumentException("The zstd dictionary has no id");
+    }
+  }
+
+  /**
+   * Trains a dictionary on sample payloads. Zstd recommends about a hundred times more sample bytes than the size of
+   * the dictionary, which is typically around 100KB.
+   *
+   * @param samples sample payloads, which are expected to be small.
+   * @param maxSize the maximum size of the dictionary in bytes.
+   * @throws IllegalArgumentException if the samples are too few to train a dictionary.
+   */
+  public static ZstdDictionary train(List<byte[]> samples, int maxSize)
+  {
+    int samplesSize = 0;
+    for (byte[] sample : samples)
+    {
+      samplesSize += sample.length;
+    }
+    ZstdDictTrainer trainer = new ZstdDictTrainer(samplesSize, maxSize);
+    for (byte[] sample : samples)
+    {
+      trainer.addSample(sample);
+    }
+    try
+    {
+      return new ZstdDictionary(trainer.trainSamples());
+    }
+    catch (RuntimeException e)
+    {
+      throw new IllegalArgumentException("Failed to train a zstd dictionary on " + samples.size() + " samples", e);
+    }
+  }
+
+  public long getId()
+  {
+    return _id;
+  }
+
+  /**
+   * @return a copy of the content of the dictionary.
+   */
+  public byte[] getBytes()
+  {
+    return Arrays.copyOf(_bytes, _bytes.length);
+  }
+
+  byte[] bytes()
+  {
+    return _bytes;
+  }
+}
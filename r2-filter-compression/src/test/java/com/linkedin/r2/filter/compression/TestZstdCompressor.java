@@ -0,0 +1,102 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.linkedin.data.ByteString;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+
+public class TestZstdCompressor
+{
+  @AfterMethod
+  public void resetDictionary()
+  {
+    ZstdDictionaries.setCompressionDictionary(null);
+  }
+
+  @Test
+  public void testCompressThenDecompress() throws CompressionException
+  {
+    Compressor compressor = EncodingType.ZSTD.getCompressor();
+    ByteString origin = ByteString.copyString(newPayload(new Random(1)), StandardCharsets.UTF_8);
+
+    ByteString compressed = compressor.deflate(origin);
+    Assert.assertTrue(compressed.length() < origin.length());
+    Assert.assertEquals(compressor.inflate(compressed), origin);
+    Assert.assertEquals(EncodingType.get("zstd"), EncodingType.ZSTD);
+  }
+
+  @Test
+  public void testDictionary() throws CompressionException
+  {
+    Random random = new Random(2);
+    List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 1000; i++)
+    {
+      samples.add(newPayload(random).getBytes(StandardCharsets.UTF_8));
+    }
+    ZstdDictionary dictionary = ZstdDictionary.train(samples, 4096);
+    Compressor compressor = EncodingType.ZSTD.getCompressor();
+    ByteString origin = ByteString.copyString(newPayload(random), StandardCharsets.UTF_8);
+    ByteString compressedWithoutDictionary = compressor.deflate(origin);
+
+    ZstdDictionaries.setCompressionDictionary(dictionary);
+    ByteString compressed = compressor.deflate(origin);
+    Assert.assertTrue(compressed.length() < compressedWithoutDictionary.length());
+    Assert.assertEquals(compressor.inflate(compressed), origin);
+    Assert.assertSame(ZstdDictionaries.get(dictionary.getId()), dictionary);
+
+    // The dictionary is digested once per compression level, not per payload
+    Assert.assertSame(ZstdDictionaries.getCompressDictionary(ZstdCompressor.DEFAULT_LEVEL),
+        ZstdDictionaries.getCompressDictionary(ZstdCompressor.DEFAULT_LEVEL));
+    Assert.assertNotNull(ZstdDictionaries.getDecompressDictionary(dictionary.getId()));
+
+    // Frames compressed without dictionary are still decompressed
+    Assert.assertEquals(compressor.inflate(compressedWithoutDictionary), origin);
+  }
+
+  @Test(expectedExceptions = CompressionException.class)
+  public void testUnknownDictionary() throws CompressionException
+  {
+    Random random = new Random(3);
+    List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 1000; i++)
+    {
+      samples.add(newPayload(random).getBytes(StandardCharsets.UTF_8));
+    }
+    // A dictionary which is not registered
+    ZstdDictionary dictionary = ZstdDictionary.train(samples, 4096);
+    byte[] compressed = Zstd.compressUsingDict(newPayload(random).getBytes(StandardCharsets.UTF_8),
+        dictionary.getBytes(), ZstdCompressor.DEFAULT_LEVEL);
+
+    new ZstdCompressor().inflate(ByteString.copy(compressed));
+  }
+
+  private static String newPayload(Random random)
+  {
+    return "{\"id\": " + random.nextInt(100000) + ", \"name\": \"member" + random.nextInt(1000)
+        + "\", \"headline\": \"Software engineer at company" + random.nextInt(100)
+        + "\", \"location\": {\"country\": \"us\", \"postalCode\": \"" + (10000 + random.nextInt(90000)) + "\"}}";
+  }
+}
@@ -17,15 +17,21 @@
 package com.linkedin.r2.filter.compression.stream;
 
 
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.BrotliOutputStream;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.github.luben.zstd.ZstdOutputStream;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.callback.FutureCallback;
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.filter.compression.CompressionException;
+import com.linkedin.r2.filter.compression.streaming.BrotliCompressor;
 import com.linkedin.r2.filter.compression.streaming.Bzip2Compressor;
 import com.linkedin.r2.filter.compression.streaming.DeflateCompressor;
 import com.linkedin.r2.filter.compression.streaming.GzipCompressor;
 import com.linkedin.r2.filter.compression.streaming.SnappyCompressor;
 import com.linkedin.r2.filter.compression.streaming.StreamingCompressor;
+import com.linkedin.r2.filter.compression.streaming.ZstdCompressor;
 import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
 import com.linkedin.r2.message.stream.entitystream.EntityStream;
 import com.linkedin.r2.message.stream.entitystream.EntityStreams;
@@ -43,6 +49,7 @@ import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream
 import org.apache.commons.io.IOUtils;
 import org.iq80.snappy.SnappyFramedOutputStream;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -144,6 +151,47 @@ public class TestStreamingCompression
     testCompressThenDecompress(compressor, origin);
   }
 
+  @Test
+  public void testZstdCompressor()
+      throws IOException, InterruptedException, CompressionException, ExecutionException
+  {
+    StreamingCompressor compressor = new ZstdCompressor(_executor);
+    final byte[] origin = new byte[BUF_SIZE];
+    Arrays.fill(origin, (byte)'d');
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ZstdOutputStream zstd = new ZstdOutputStream(out, com.linkedin.r2.filter.compression.ZstdCompressor.DEFAULT_LEVEL);
+    IOUtils.write(origin, zstd);
+    zstd.close();
+    byte[] compressed = out.toByteArray();
+
+    testDecompress(compressor, origin, compressed);
+    testCompressThenDecompress(compressor, origin);
+  }
+
+  @Test
+  public void testBrotliCompressor()
+      throws IOException, InterruptedException, CompressionException, ExecutionException
+  {
+    if (!Brotli4jLoader.isAvailable())
+    {
+      throw new SkipException("The brotli native library is not available");
+    }
+    StreamingCompressor compressor = new BrotliCompressor(_executor);
+    final byte[] origin = new byte[BUF_SIZE];
+    Arrays.fill(origin, (byte)'e');
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BrotliOutputStream brotli = new BrotliOutputStream(out,
+        new Encoder.Parameters().setQuality(com.linkedin.r2.filter.compression.BrotliCompressor.DEFAULT_QUALITY));
+    IOUtils.write(origin, brotli);
+    brotli.close();
+    byte[] compressed = out.toByteArray();
+
+    testDecompress(compressor, origin, compressed);
+    testCompressThenDecompress(compressor, origin);
+  }
+
   private void testCompress(StreamingCompressor compressor, byte[] uncompressed, byte[] compressed)
       throws CompressionException, ExecutionException, InterruptedException
   {
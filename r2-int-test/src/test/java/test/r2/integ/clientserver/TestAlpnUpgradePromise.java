@@ -31,8 +31,10 @@ import test.r2.integ.clientserver.providers.client.Http2ClientProvider;
 import test.r2.integ.clientserver.providers.client.Https2ClientProvider;
 import test.r2.integ.clientserver.providers.server.Http1JettyServerProvider;
 import test.r2.integ.clientserver.providers.server.Http2JettyServerProvider;
+import test.r2.integ.clientserver.providers.server.Http2NettyServerProvider;
 import test.r2.integ.clientserver.providers.server.Https1JettyServerProvider;
 import test.r2.integ.clientserver.providers.server.Https2JettyServerProvider;
+import test.r2.integ.clientserver.providers.server.Https2NettyServerProvider;
 import test.r2.integ.clientserver.providers.server.ServerProvider;
 
 /**
@@ -141,11 +143,12 @@ public class TestAlpnUpgradePromise extends AbstractEchoServiceTest
     }
 
     if (_clientProvider instanceof Https2ClientProvider &&
-        _serverProvider instanceof Https2JettyServerProvider)
+        (_serverProvider instanceof Https2JettyServerProvider || _serverProvider instanceof Https2NettyServerProvider))
     {
       return true;
     }
 
-    return _clientProvider instanceof Http2ClientProvider && _serverProvider instanceof Http2JettyServerProvider;
+    return _clientProvider instanceof Http2ClientProvider &&
+        (_serverProvider instanceof Http2JettyServerProvider || _serverProvider instanceof Http2NettyServerProvider);
   }
 }
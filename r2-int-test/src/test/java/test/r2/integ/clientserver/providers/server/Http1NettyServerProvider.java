@@ -27,27 +27,42 @@ import com.linkedin.r2.transport.http.server.HttpNettyServerBuilder;
 
 public class Http1NettyServerProvider implements ServerProvider
 {
-  public Http1NettyServerProvider(){}
+  private final boolean _streamingEnabled;
+
+  public Http1NettyServerProvider()
+  {
+    this(false);
+  }
+
+  /**
+   * @param streamingEnabled whether the server streams the entities of the requests instead of aggregating them.
+   */
+  public Http1NettyServerProvider(boolean streamingEnabled)
+  {
+    _streamingEnabled = streamingEnabled;
+  }
 
   @Override
   public Server createServer(FilterChain filters, int port)
   {
     final TransportDispatcher dispatcher = getTransportDispatcher();
 
-    return new HttpNettyServerBuilder().filters(filters).port(port).transportDispatcher(dispatcher).build();
+    return new HttpNettyServerBuilder().filters(filters).port(port).transportDispatcher(dispatcher)
+        .streamingEnabled(_streamingEnabled).build();
   }
 
   @Override
   public Server createServer(FilterChain filters, int port, TransportDispatcher dispatcher) throws Exception
   {
-    return new HttpNettyServerBuilder().filters(filters).port(port).transportDispatcher(dispatcher).build();
+    return new HttpNettyServerBuilder().filters(filters).port(port).transportDispatcher(dispatcher)
+        .streamingEnabled(_streamingEnabled).build();
   }
 
   @Override
   public Server createServer(ServerCreationContext context)
   {
     return new HttpNettyServerBuilder().filters(context.getFilterChain()).port(context.getPort()).
-        transportDispatcher(context.getTransportDispatcher()).build();
+        transportDispatcher(context.getTransportDispatcher()).streamingEnabled(_streamingEnabled).build();
   }
 
   protected TransportDispatcher getTransportDispatcher()
@@ -60,6 +75,6 @@ public class Http1NettyServerProvider implements ServerProvider
   @Override
   public String toString()
   {
-    return "[" + getClass().getName() + "]";
+    return "[" + getClass().getName() + ", streamingEnabled=" + _streamingEnabled + "]";
   }
 }
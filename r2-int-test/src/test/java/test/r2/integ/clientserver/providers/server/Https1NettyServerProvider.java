@@ -29,8 +29,16 @@ import test.r2.integ.clientserver.providers.common.SslContextUtil;
 
 public class Https1NettyServerProvider implements ServerProvider
 {
+  private final boolean _http2Enabled;
+
   public Https1NettyServerProvider()
   {
+    this(false);
+  }
+
+  protected Https1NettyServerProvider(boolean http2Enabled)
+  {
+    _http2Enabled = http2Enabled;
   }
 
   @Override
@@ -43,11 +51,13 @@ public class Https1NettyServerProvider implements ServerProvider
   @Override
   public Server createServer(FilterChain filters, int port, TransportDispatcher dispatcher) throws Exception
   {
-    Server httpServer = new Http1NettyServerProvider().createServer(filters, SslContextUtil.getHttpPortFromHttps(port));
+    ServerProvider httpServerProvider = _http2Enabled ? new Http2NettyServerProvider() : new Http1NettyServerProvider();
+    Server httpServer = httpServerProvider.createServer(filters, SslContextUtil.getHttpPortFromHttps(port));
     Server httpsServer = new HttpNettyServerBuilder()
         .port(port)
         .filters(filters)
         .transportDispatcher(dispatcher)
+        .http2Enabled(_http2Enabled)
         .sslContext(SslContextUtil.getContext()).build();
 
     // start both an http and https server
@@ -33,7 +33,8 @@ public class ServerProviderConfiguration
     return Arrays.asList(
       new Http1JettyServerProvider(true),
       new Http1JettyServerProvider(false),
-      new Http1NettyServerProvider()
+      new Http1NettyServerProvider(),
+      new Http1NettyServerProvider(true)
     );
   }
 
@@ -47,7 +48,8 @@ public class ServerProviderConfiguration
   public static List<ServerProvider> allHttp1StreamServer()
   {
     return Arrays.asList(
-        new Http1JettyServerProvider(true)
+        new Http1JettyServerProvider(true),
+        new Http1NettyServerProvider(true)
     );
   }
 
@@ -62,14 +64,17 @@ public class ServerProviderConfiguration
   {
     return Arrays.asList(
       new Http2JettyServerProvider(true),
-      new Http2JettyServerProvider(false)
+      new Http2JettyServerProvider(false),
+      new Http2NettyServerProvider(),
+      new Http2NettyServerProvider(true)
     );
   }
 
   public static List<ServerProvider> allHttp2StreamServer()
   {
     return Arrays.asList(
-        new Http2JettyServerProvider(true)
+        new Http2JettyServerProvider(true),
+        new Http2NettyServerProvider(true)
     );
   }
 
@@ -116,7 +121,8 @@ public class ServerProviderConfiguration
   {
     return Arrays.asList(
       new Https2JettyServerProvider(true),
-      new Https2JettyServerProvider(false)
+      new Https2JettyServerProvider(false),
+      new Https2NettyServerProvider()
     );
   }
 
@@ -41,6 +41,7 @@ import com.linkedin.r2.netty.common.ShutdownTimeoutException;
 import com.linkedin.r2.netty.common.StreamingTimeout;
 import com.linkedin.r2.netty.common.UnknownSchemeException;
 import com.linkedin.r2.netty.handler.common.SslHandshakeTimingHandler;
+import com.linkedin.r2.netty.handler.http.HttpPipeliningHandler;
 import com.linkedin.r2.transport.common.MessageType;
 import com.linkedin.r2.transport.common.WireAttributeHelper;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
@@ -64,16 +65,21 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpScheme;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -111,6 +117,13 @@ public class HttpNettyClient implements TransportClient
   private final long _shutdownTimeout;
   private final String _udsAddress;
   private final DnsMetricsCallback _dnsMetricsCallback;
+  private final int _maxPipelinedRequests;
+  private final InFlightRequestCoalescer _requestCoalescer;
+
+  /**
+   * Channel of each pool on which GET requests are currently pipelined
+   */
+  private final ConcurrentMap<AsyncPool<Channel>, Channel> _pipelinedChannels = new ConcurrentHashMap<>();
 
   private final AtomicReference<NettyClientState> _state;
 
@@ -192,6 +205,49 @@ public class HttpNettyClient implements TransportClient
       long shutdownTimeout,
       String udsAddress,
       DnsMetricsCallback dnsMetricsCallback)
+  {
+    this(eventLoopGroup, scheduler, callbackExecutor, channelPoolManager, sslChannelPoolManager, protocolVersion,
+        clock, requestTimeout, streamingTimeout, shutdownTimeout, udsAddress, dnsMetricsCallback,
+        HttpClientFactory.DEFAULT_MAX_PIPELINED_REQUESTS, HttpClientFactory.DEFAULT_COALESCE_GET_REQUESTS,
+        Collections.emptyList());
+  }
+
+  /**
+   * Creates a new instance of {@link HttpNettyClient}.
+   *
+   * @param eventLoopGroup Non-blocking event loop group implementation for selectors and channels
+   * @param callbackExecutor Executor service for executing user callbacks. The executor must be provided
+   *                         because user callbacks can potentially be blocking. If executed with the
+   *                         event loop group, threads might be blocked and cause channels to hang.
+   * @param channelPoolManager Channel pool manager for non-SSL channels
+   * @param sslChannelPoolManager Channel pool manager for SSL channels
+   * @param protocolVersion HTTP version the client uses to send requests and receive responses
+   * @param clock Clock to get current time
+   * @param requestTimeout Time in milliseconds before an error response is returned in the callback
+   *                       with a {@link TimeoutException}
+   * @param shutdownTimeout Client shutdown timeout
+   * @param udsAddress Unix Domain Socket Address, used while using side car proxy for external communication
+   * @param maxPipelinedRequests Maximum number of GET requests in flight on an HTTP/1.1 channel. Requests are not
+   *                             pipelined if it is 1.
+   * @param coalesceGetRequests Whether identical GET requests in flight are sent only once
+   * @param coalesceIgnoredHeaders Names of the headers ignored to tell whether GET requests are identical
+   */
+  public HttpNettyClient(
+      EventLoopGroup eventLoopGroup,
+      ScheduledExecutorService scheduler,
+      ExecutorService callbackExecutor,
+      ChannelPoolManager channelPoolManager,
+      ChannelPoolManager sslChannelPoolManager,
+      HttpProtocolVersion protocolVersion,
+      Clock clock,
+      long requestTimeout,
+      long streamingTimeout,
+      long shutdownTimeout,
+      String udsAddress,
+      DnsMetricsCallback dnsMetricsCallback,
+      int maxPipelinedRequests,
+      boolean coalesceGetRequests,
+      Collection<String> coalesceIgnoredHeaders)
   {
     ArgumentUtil.notNull(eventLoopGroup, "eventLoopGroup");
     ArgumentUtil.notNull(scheduler, "scheduler");
@@ -202,6 +258,7 @@ public class HttpNettyClient implements TransportClient
     ArgumentUtil.checkArgument(requestTimeout >= 0, "requestTimeout");
     ArgumentUtil.checkArgument(streamingTimeout >= DEFAULT_STREAMING_TIMEOUT, "streamingTimeout");
     ArgumentUtil.checkArgument(shutdownTimeout >= 0, "shutdownTimeout");
+    ArgumentUtil.checkArgument(maxPipelinedRequests >= 1, "maxPipelinedRequests");
 
     // If StreamingTimeout is greater than RequestTimeout then its as good as not being set
     if (streamingTimeout >= requestTimeout)
@@ -221,7 +278,8 @@ public class HttpNettyClient implements TransportClient
     _shutdownTimeout = shutdownTimeout;
     _udsAddress = udsAddress;
     _dnsMetricsCallback = dnsMetricsCallback;
-
+    _maxPipelinedRequests = maxPipelinedRequests;
+    _requestCoalescer = coalesceGetRequests ? new InFlightRequestCoalescer(coalesceIgnoredHeaders) : null;
 
     _state = new AtomicReference<>(NettyClientState.RUNNING);
   }
@@ -343,20 +401,57 @@ public class HttpNettyClient implements TransportClient
    */
   private void sendRequest(Request request, RequestContext requestContext, Map<String, String> wireAttrs, TransportCallback<StreamResponse> callback)
   {
-    final TransportCallback<StreamResponse> decoratedCallback = decorateUserCallback(request, callback);
+    final TransportCallback<StreamResponse> userCallback = decorateUserCallback(request, callback);
 
     final NettyClientState state = _state.get();
     if (state != NettyClientState.RUNNING)
     {
-      decoratedCallback.onResponse(TransportResponseImpl.error(new IllegalStateException("Client is not running")));
+      userCallback.onResponse(TransportResponseImpl.error(new IllegalStateException("Client is not running")));
       return;
     }
 
+    // Serialize wire attributes
+    final Request requestWithWireAttrHeaders;
+
+    if (request instanceof StreamRequest)
+    {
+      requestWithWireAttrHeaders = buildRequestWithWireAttributes((StreamRequest)request, wireAttrs);
+    }
+    else
+    {
+      MessageType.setMessageType(MessageType.Type.REST, wireAttrs);
+      requestWithWireAttrHeaders = buildRequestWithWireAttributes((RestRequest)request, wireAttrs);
+    }
+
     final long resolvedRequestTimeout = resolveRequestTimeout(requestContext, _requestTimeout);
 
     // Timeout ensures the request callback is always invoked and is cancelled before the
     // responsibility of invoking the callback is handed over to the pipeline.
     final Timeout<None> timeout = new Timeout<>(_scheduler, resolvedRequestTimeout, TimeUnit.MILLISECONDS, None.none());
+
+    // Only the first of identical GET requests in flight is sent, with a callback which invokes all of theirs
+    final TransportCallback<StreamResponse> decoratedCallback;
+    if (_requestCoalescer != null && isGetWithoutEntity(requestWithWireAttrHeaders))
+    {
+      decoratedCallback = _requestCoalescer.coalesce((RestRequest) requestWithWireAttrHeaders, requestContext,
+          resolvedRequestTimeout, response ->
+          {
+            timeout.getItem();
+            userCallback.onResponse(response);
+          });
+      if (decoratedCallback == null)
+      {
+        // The timeout of a coalesced request remains its own
+        timeout.addTimeoutTask(() -> userCallback.onResponse(TransportResponseImpl.error(
+            new TimeoutException("Exceeded request timeout of " + resolvedRequestTimeout + "ms"))));
+        return;
+      }
+    }
+    else
+    {
+      decoratedCallback = userCallback;
+    }
+
     timeout.addTimeoutTask(() -> decoratedCallback.onResponse(TransportResponseImpl.error(
         new TimeoutException("Exceeded request timeout of " + resolvedRequestTimeout + "ms" +
             (requestContext.getLocalAttr(R2Constants.REMOTE_SERVER_ADDR) == null ? " (timeout during DNS resolution)" : "")))));
@@ -392,19 +487,6 @@ public class HttpNettyClient implements TransportClient
       }
     }
 
-    // Serialize wire attributes
-    final Request requestWithWireAttrHeaders;
-
-    if (request instanceof StreamRequest)
-    {
-      requestWithWireAttrHeaders = buildRequestWithWireAttributes((StreamRequest)request, wireAttrs);
-    }
-    else
-    {
-      MessageType.setMessageType(MessageType.Type.REST, wireAttrs);
-      requestWithWireAttrHeaders = buildRequestWithWireAttributes((RestRequest)request, wireAttrs);
-    }
-
     // Gets channel pool
     final AsyncPool<Channel> pool;
     try
@@ -420,8 +502,36 @@ public class HttpNettyClient implements TransportClient
     // Saves protocol version in request context
     requestContext.putLocalAttr(R2Constants.HTTP_PROTOCOL_VERSION, _protocolVersion);
 
+    final boolean pipelinable = isPipelinable(requestWithWireAttrHeaders, requestContext);
+    final Channel pipelinedChannel = pipelinable ? _pipelinedChannels.get(pool) : null;
+    if (pipelinedChannel == null)
+    {
+      getChannel(pool, requestWithWireAttrHeaders, requestContext, decoratedCallback, timeout, resolvedRequestTimeout,
+          pipelinable);
+      return;
+    }
+
+    try
+    {
+      pipelinedChannel.eventLoop().execute(() -> pipelineRequest(pipelinedChannel, pool, requestWithWireAttrHeaders,
+          requestContext, decoratedCallback, timeout, resolvedRequestTimeout));
+    }
+    catch (RejectedExecutionException e)
+    {
+      getChannel(pool, requestWithWireAttrHeaders, requestContext, decoratedCallback, timeout, resolvedRequestTimeout,
+          true);
+    }
+  }
+
+  /**
+   * Gets a channel from the pool and sends the request on it.
+   */
+  private void getChannel(AsyncPool<Channel> pool, Request request, RequestContext requestContext,
+      TransportCallback<StreamResponse> callback, Timeout<None> timeout, long resolvedRequestTimeout,
+      boolean pipelinable)
+  {
     final Cancellable pendingGet = pool.get(new ChannelPoolGetCallback(
-        pool, requestWithWireAttrHeaders, requestContext, decoratedCallback, timeout, resolvedRequestTimeout, _streamingTimeout));
+        pool, request, requestContext, callback, timeout, resolvedRequestTimeout, _streamingTimeout, pipelinable));
 
     if (pendingGet != null)
     {
@@ -429,6 +539,64 @@ public class HttpNettyClient implements TransportClient
     }
   }
 
+  /**
+   * Sends the request on a channel on which requests are pipelined, or gets a channel from the pool if no more
+   * requests can be pipelined on it. Must be invoked by the event loop of the channel.
+   */
+  private void pipelineRequest(Channel channel, AsyncPool<Channel> pool, Request request,
+      RequestContext requestContext, TransportCallback<StreamResponse> callback, Timeout<None> timeout,
+      long resolvedRequestTimeout)
+  {
+    final HttpPipeliningHandler pipeliningHandler = channel.pipeline().get(HttpPipeliningHandler.class);
+    if (_state.get() != NettyClientState.RUNNING || pipeliningHandler == null)
+    {
+      getChannel(pool, request, requestContext, callback, timeout, resolvedRequestTimeout, false);
+      return;
+    }
+
+    if (!pipeliningHandler.tryPipeline(callback, resolvedRequestTimeout))
+    {
+      getChannel(pool, request, requestContext, callback, timeout, resolvedRequestTimeout, true);
+      return;
+    }
+
+    // Cancels previous timeout and hands over the responsibility of invoking the request callback to the channel
+    timeout.getItem();
+    channel.writeAndFlush(request).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+  }
+
+  /**
+   * Schedules a timeout exception to be fired on the channel after the specified request timeout.
+   */
+  private ScheduledFuture<ChannelPipeline> scheduleTimeout(Channel channel, long resolvedRequestTimeout)
+  {
+    return _scheduler.schedule(
+        () -> channel.pipeline().fireExceptionCaught(
+            new TimeoutException("Exceeded request timeout of " + resolvedRequestTimeout + "ms")),
+        resolvedRequestTimeout,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Requests can be pipelined if they are HTTP/1.1 GET requests which are fully in memory. Requests which validate
+   * the SSL session or have a streaming timeout are excluded since these are set up per channel.
+   */
+  private boolean isPipelinable(Request request, RequestContext requestContext)
+  {
+    return _maxPipelinedRequests > 1
+        && _protocolVersion == HttpProtocolVersion.HTTP_1_1
+        && _streamingTimeout <= HttpClientFactory.DEFAULT_STREAMING_TIMEOUT
+        && requestContext.getLocalAttr(R2Constants.REQUESTED_SSL_SESSION_VALIDATOR) == null
+        && isGetWithoutEntity(request);
+  }
+
+  private static boolean isGetWithoutEntity(Request request)
+  {
+    return request instanceof RestRequest
+        && HttpMethod.GET.name().equalsIgnoreCase(request.getMethod())
+        && ((RestRequest) request).getEntity().isEmpty();
+  }
+
   private StreamRequest buildRequestWithWireAttributes(StreamRequest request, Map<String, String> wireAttrs)
   {
     return request.builder()
@@ -455,6 +623,7 @@ public class HttpNettyClient implements TransportClient
     private final Timeout<None> _timeout;
     private final long _resolvedRequestTimeout;
     private final long _streamingTimeout;
+    private final boolean _pipelinable;
 
     ChannelPoolGetCallback(
         AsyncPool<Channel> pool,
@@ -463,7 +632,8 @@ public class HttpNettyClient implements TransportClient
         TransportCallback<StreamResponse> callback,
         Timeout<None> timeout,
         long resolvedRequestTimeout,
-        long streamingTimeout)
+        long streamingTimeout,
+        boolean pipelinable)
     {
       _pool = pool;
       _request = request;
@@ -472,6 +642,7 @@ public class HttpNettyClient implements TransportClient
       _timeout = timeout;
       _resolvedRequestTimeout = resolvedRequestTimeout;
       _streamingTimeout = streamingTimeout;
+      _pipelinable = pipelinable;
     }
 
     @Override
@@ -503,11 +674,7 @@ public class HttpNettyClient implements TransportClient
       }
 
       // Schedules a timeout exception to be fired after specified request timeout
-      final ScheduledFuture<ChannelPipeline> timeoutFuture = _scheduler.schedule(
-          () -> channel.pipeline().fireExceptionCaught(
-              new TimeoutException("Exceeded request timeout of " + _resolvedRequestTimeout + "ms")),
-          _resolvedRequestTimeout,
-          TimeUnit.MILLISECONDS);
+      final ScheduledFuture<ChannelPipeline> timeoutFuture = scheduleTimeout(channel, _resolvedRequestTimeout);
 
       // Schedules a stream timeout exception to be fired after specified stream idle time
       if (isStreamingTimeoutEnabled())
@@ -518,11 +685,41 @@ public class HttpNettyClient implements TransportClient
 
       channel.attr(NettyChannelAttributes.TIMEOUT_FUTURE).set(timeoutFuture);
 
+      if (_pipelinable)
+      {
+        // Pipelining is started before the request is written, so that its response cannot be received before
+        if (channel.eventLoop().inEventLoop())
+        {
+          startPipeliningAndWrite(channel);
+        }
+        else
+        {
+          channel.eventLoop().execute(() -> startPipeliningAndWrite(channel));
+        }
+        return;
+      }
+
       // Here we want the exception in outbound operations to be passed back through pipeline so that
       // the user callback would be invoked with the exception and the channel can be put back into the pool
       channel.writeAndFlush(_request).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
     }
 
+    /**
+     * Makes the channel available to the following GET requests to the same pool until all the requests sent on it
+     * are complete, after which it is returned to the pool.
+     */
+    private void startPipeliningAndWrite(Channel channel)
+    {
+      final HttpPipeliningHandler pipeliningHandler = channel.pipeline().get(HttpPipeliningHandler.class);
+      if (pipeliningHandler != null
+          && pipeliningHandler.startPipelining(_maxPipelinedRequests, _resolvedRequestTimeout,
+              () -> _pipelinedChannels.remove(_pool, channel)))
+      {
+        _pipelinedChannels.put(_pool, channel);
+      }
+      channel.writeAndFlush(_request).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+    }
+
     private boolean isStreamingTimeoutEnabled()
     {
       return _streamingTimeout > HttpClientFactory.DEFAULT_STREAMING_TIMEOUT;
@@ -0,0 +1,241 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import com.linkedin.r2.transport.http.client.InvokedOnceTransportCallback;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * Coalesces identical GET requests which are in flight at the same time, so that only the first one is sent and its
+ * response is passed to the callbacks of all of them. Requests are identical if they have the same URI, headers and
+ * cookies, ignoring the headers which are specific to each request such as request ids. The entity of the response is
+ * read in full before it is passed to more than one callback.
+ * <p>
+ *
+ * A request is only coalesced with a request whose timeout is at least as long as its own, so that it does not fail
+ * earlier than it would have if it had been sent. The caller remains responsible for the timeout of each request.
+ * A request which is received after the response of an identical request is sent anew.
+ */
+public class InFlightRequestCoalescer
+{
+  /**
+   * Local attributes of the request context of the request which is sent, which are copied to the request contexts of
+   * the requests coalesced with it.
+   */
+  private static final List<String> SHARED_LOCAL_ATTRS = Arrays.asList(
+      R2Constants.REMOTE_SERVER_ADDR, R2Constants.REMOTE_SERVER_PORT, R2Constants.HTTP_PROTOCOL_VERSION);
+
+  private final ConcurrentMap<RequestKey, InFlightRequest> _inFlightRequests = new ConcurrentHashMap<>();
+  private final Set<String> _ignoredHeaders;
+
+  public InFlightRequestCoalescer()
+  {
+    this(Collections.emptyList());
+  }
+
+  /**
+   * @param ignoredHeaders names of the headers which are not compared to tell whether requests are identical. The
+   *                       values of these headers are the ones of the request which is sent.
+   */
+  public InFlightRequestCoalescer(Collection<String> ignoredHeaders)
+  {
+    _ignoredHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    _ignoredHeaders.addAll(ignoredHeaders);
+  }
+
+  /**
+   * Registers the callback of a request.
+   *
+   * @param request a GET request without entity.
+   * @param requestContext the context of the request.
+   * @param requestTimeout the timeout of the request in milliseconds.
+   * @param callback the callback of the request.
+   * @return the callback to send the request with if there is no identical request in flight, or null if the request
+   *         has been coalesced with an identical request in flight and must not be sent.
+   */
+  public TransportCallback<StreamResponse> coalesce(RestRequest request, RequestContext requestContext,
+      long requestTimeout, TransportCallback<StreamResponse> callback)
+  {
+    final RequestKey key = new RequestKey(request, _ignoredHeaders);
+    final CoalescedRequest coalescedRequest = new CoalescedRequest(requestContext, callback);
+    final InFlightRequest newRequest = new InFlightRequest(requestContext, requestTimeout);
+    // The requests are only mutated within the map, which guards them until they are removed by the first request.
+    final InFlightRequest inFlightRequest = _inFlightRequests.compute(key, (k, current) ->
+    {
+      final InFlightRequest result = current == null || current._requestTimeout < requestTimeout ? newRequest : current;
+      result._requests.add(coalescedRequest);
+      return result;
+    });
+    return inFlightRequest == newRequest
+        ? new InvokedOnceTransportCallback<>(response -> onResponse(key, newRequest, response))
+        : null;
+  }
+
+  /**
+   * @return the number of distinct requests in flight.
+   */
+  public int getInFlightRequestCount()
+  {
+    return _inFlightRequests.size();
+  }
+
+  private void onResponse(RequestKey key, InFlightRequest inFlightRequest, TransportResponse<StreamResponse> response)
+  {
+    _inFlightRequests.remove(key, inFlightRequest);
+    final List<CoalescedRequest> requests = inFlightRequest._requests;
+    if (requests.size() == 1)
+    {
+      requests.get(0)._callback.onResponse(response);
+      return;
+    }
+
+    for (CoalescedRequest request : requests)
+    {
+      if (request._requestContext != inFlightRequest._requestContext)
+      {
+        for (String attr : SHARED_LOCAL_ATTRS)
+        {
+          final Object value = inFlightRequest._requestContext.getLocalAttr(attr);
+          if (value != null)
+          {
+            request._requestContext.putLocalAttr(attr, value);
+          }
+        }
+      }
+    }
+
+    if (response.hasError())
+    {
+      requests.forEach(request -> request._callback.onResponse(response));
+      return;
+    }
+
+    final Map<String, String> wireAttrs = response.getWireAttributes();
+    Messages.toRestResponse(response.getResponse(), new Callback<RestResponse>()
+    {
+      @Override
+      public void onError(Throwable e)
+      {
+        requests.forEach(request -> request._callback.onResponse(TransportResponseImpl.error(e, wireAttrs)));
+      }
+
+      @Override
+      public void onSuccess(RestResponse restResponse)
+      {
+        requests.forEach(request -> request._callback.onResponse(
+            TransportResponseImpl.success(Messages.toStreamResponse(restResponse), wireAttrs)));
+      }
+    });
+  }
+
+  /**
+   * Request which is sent, along with the requests coalesced with it.
+   */
+  private static final class InFlightRequest
+  {
+    private final RequestContext _requestContext;
+    private final long _requestTimeout;
+    private final List<CoalescedRequest> _requests = new ArrayList<>(2);
+
+    InFlightRequest(RequestContext requestContext, long requestTimeout)
+    {
+      _requestContext = requestContext;
+      _requestTimeout = requestTimeout;
+    }
+  }
+
+  private static final class CoalescedRequest
+  {
+    private final RequestContext _requestContext;
+    private final TransportCallback<StreamResponse> _callback;
+
+    CoalescedRequest(RequestContext requestContext, TransportCallback<StreamResponse> callback)
+    {
+      _requestContext = requestContext;
+      _callback = callback;
+    }
+  }
+
+  private static final class RequestKey
+  {
+    private final URI _uri;
+    private final Map<String, String> _headers;
+    private final List<String> _cookies;
+    private final int _hashCode;
+
+    RequestKey(RestRequest request, Set<String> ignoredHeaders)
+    {
+      _uri = request.getURI();
+      // Header names are lower cased for the hash code to be consistent with their case insensitive comparison
+      _headers = new HashMap<>();
+      request.getHeaders().forEach((name, value) ->
+      {
+        if (!ignoredHeaders.contains(name))
+        {
+          _headers.put(name.toLowerCase(Locale.ROOT), value);
+        }
+      });
+      _cookies = request.getCookies();
+      _hashCode = Objects.hash(_uri, _headers, _cookies);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (this == o)
+      {
+        return true;
+      }
+      if (!(o instanceof RequestKey))
+      {
+        return false;
+      }
+      RequestKey that = (RequestKey) o;
+      return _uri.equals(that._uri) && _headers.equals(that._headers) && _cookies.equals(that._cookies);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _hashCode;
+    }
+  }
+}
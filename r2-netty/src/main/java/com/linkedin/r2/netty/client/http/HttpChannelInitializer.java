@@ -25,6 +25,7 @@ import com.linkedin.r2.netty.handler.common.SessionResumptionSslHandler;
 import com.linkedin.r2.netty.handler.common.SslHandshakeTimingHandler;
 import com.linkedin.r2.netty.handler.http.HttpMessageDecoders;
 import com.linkedin.r2.netty.handler.http.HttpMessageEncoders;
+import com.linkedin.r2.netty.handler.http.HttpPipeliningHandler;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -54,6 +55,7 @@ import javax.net.ssl.SSLParameters;
  *   (inboundRequestDecoder = {@link HttpMessageDecoders.ResponseDecoder}),
  *   (schemeHandler = {@link SchemeHandler}),
  *   (streamDuplexHandler = {@link ClientEntityStreamHandler}),
+ *   (pipeliningHandler = {@link HttpPipeliningHandler}),
  *   (timeoutHandler = {@link CancelTimeoutHandler}),
  *   (channelPoolHandler = {@link ChannelLifecycleHandler})
  * }
@@ -110,6 +112,7 @@ class HttpChannelInitializer extends ChannelInitializer<Channel>
     channel.pipeline().addLast("inboundRequestDecoder", HttpMessageDecoders.newResponseDecoder());
     channel.pipeline().addLast("schemeHandler", new SchemeHandler(_ssl ? HttpScheme.HTTPS.toString() : HttpScheme.HTTP.toString()));
     channel.pipeline().addLast("streamDuplexHandler", new ClientEntityStreamHandler(_maxContentLength));
+    channel.pipeline().addLast(HttpPipeliningHandler.PIPELINE_PIPELINING_HANDLER, new HttpPipeliningHandler());
     channel.pipeline().addLast("timeoutHandler", new CancelTimeoutHandler());
     channel.pipeline().addLast("channelPoolHandler", new ChannelLifecycleHandler(RECYCLE_CHANNEL));
   }
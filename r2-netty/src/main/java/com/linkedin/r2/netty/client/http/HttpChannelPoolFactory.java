@@ -17,6 +17,7 @@
 package com.linkedin.r2.netty.client.http;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
 import com.linkedin.r2.transport.http.client.ExponentialBackOffRateLimiter;
@@ -27,10 +28,13 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.EventExecutor;
 import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
@@ -54,6 +58,7 @@ public class HttpChannelPoolFactory implements ChannelPoolFactory
   private final ChannelGroup _allChannels;
   private final ScheduledExecutorService _scheduler;
   private final AsyncPoolImpl.Strategy _strategy;
+  private final List<EventExecutor> _eventLoops = new ArrayList<>();
   private int _channelPoolWaiterTimeout;
 
   public HttpChannelPoolFactory(
@@ -93,8 +98,11 @@ public class HttpChannelPoolFactory implements ChannelPoolFactory
     _tcpNoDelay = tcpNoDelay;
     _channelPoolWaiterTimeout = channelPoolWaiterTimeout;
 
+    eventLoopGroup.forEach(_eventLoops::add);
+
     Bootstrap bootstrap = !StringUtils.isEmpty(udsAddress) ?
-        new Bootstrap().channel(getDomainSocketClass()) : new Bootstrap().channel(NioSocketChannel.class);
+        new Bootstrap().channel(getDomainSocketClass())
+        : new Bootstrap().channel(NettyTransport.of(eventLoopGroup).getSocketChannelClass());
 
     _bootstrap = bootstrap
         .group(eventLoopGroup)
@@ -105,18 +113,39 @@ public class HttpChannelPoolFactory implements ChannelPoolFactory
   @Override
   public AsyncPool<Channel> getPool(SocketAddress address)
   {
-    return new AsyncPoolImpl<>(address.toString(),
+    return createPool(address.toString(), address, _bootstrap, _maxPoolSize, _minPoolSize);
+  }
+
+  /**
+   * The pools of the event loops share the configured pool sizes, each getting at least one channel, so that together
+   * they hold about as many channels to the host as a single pool. These come in addition to the channels of the
+   * shared pool returned by {@link #getPool(SocketAddress)}, used by the callers which do not run on an event loop,
+   * hence the total number of channels to the host is up to about twice the configured maximum pool size.
+   */
+  @Override
+  public AsyncPool<Channel> getPool(SocketAddress address, EventLoop eventLoop)
+  {
+    final int eventLoopCount = Math.max(_eventLoops.size(), 1);
+    return createPool(address + "/" + _eventLoops.indexOf(eventLoop), address, _bootstrap.clone(eventLoop),
+        Math.max(1, (_maxPoolSize + eventLoopCount - 1) / eventLoopCount),
+        _minPoolSize / eventLoopCount);
+  }
+
+  private AsyncPool<Channel> createPool(String name, SocketAddress address, Bootstrap bootstrap, int maxPoolSize,
+      int minPoolSize)
+  {
+    return new AsyncPoolImpl<>(name,
         new ChannelPoolLifecycle(address,
-            _bootstrap,
+            bootstrap,
             _allChannels,
             _tcpNoDelay),
-        _maxPoolSize,
+        maxPoolSize,
         _idleTimeout,
         _channelPoolWaiterTimeout,
         _scheduler,
         _maxPoolWaiterSize,
         _strategy,
-        _minPoolSize,
+        minPoolSize,
         new ExponentialBackOffRateLimiter(0,
             ChannelPoolLifecycle.MAX_PERIOD_BEFORE_RETRY_CONNECTIONS,
             ChannelPoolLifecycle.INITIAL_PERIOD_BEFORE_RETRY_CONNECTIONS,
@@ -17,6 +17,7 @@
 package com.linkedin.r2.netty.client.http2;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
 import com.linkedin.r2.transport.http.client.NoopRateLimiter;
@@ -29,7 +30,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.net.SocketAddress;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.net.ssl.SSLContext;
@@ -117,7 +117,8 @@ public class Http2ChannelPoolFactory implements ChannelPoolFactory
     _tcpNoDelay = tcpNoDelay;
 
     Bootstrap bootstrap = !StringUtils.isEmpty(udsAddress) ?
-        new Bootstrap().channel(getDomainSocketClass()) : new Bootstrap().channel(NioSocketChannel.class);
+        new Bootstrap().channel(getDomainSocketClass())
+        : new Bootstrap().channel(NettyTransport.of(eventLoopGroup).getSocketChannelClass());
 
     _bootstrap = bootstrap
         .group(eventLoopGroup)
@@ -0,0 +1,49 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import com.linkedin.data.ByteString;
+import io.netty.buffer.ByteBuf;
+
+
+/**
+ * Conversions from Netty {@link ByteBuf}s to {@link ByteString}s.
+ */
+public class ByteStringUtil
+{
+  private ByteStringUtil()
+  {
+  }
+
+  /**
+   * Copies the readable bytes of the {@link ByteBuf} into a heap backed {@link ByteString} with a single copy.
+   * The reader index of the buffer is not modified.
+   *
+   * @param buf the buffer to copy.
+   * @return a {@link ByteString} with a copy of the readable bytes.
+   */
+  public static ByteString copy(ByteBuf buf)
+  {
+    if (!buf.isReadable())
+    {
+      return ByteString.empty();
+    }
+    byte[] bytes = new byte[buf.readableBytes()];
+    buf.getBytes(buf.readerIndex(), bytes);
+    return ByteString.unsafeWrap(bytes);
+  }
+}
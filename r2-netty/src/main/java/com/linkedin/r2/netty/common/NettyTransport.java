@@ -0,0 +1,280 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * Enumerates the Netty transports of the event loops and TCP channels of clients and servers.
+ * <p>
+ *
+ * {@link #EPOLL} and {@link #IO_URING} are native Linux transports with fewer system calls and less garbage than
+ * {@link #NIO}, and support {@code SO_REUSEPORT} so that a server can accept connections on several threads.
+ * {@link #IO_URING} is provided by the netty-incubator-transport-native-io_uring artifact, which is loaded reflectively
+ * and must be added to the classpath to use it.
+ */
+public enum NettyTransport
+{
+  NIO("Nio")
+  {
+    @Override
+    public Throwable unavailabilityCause()
+    {
+      return null;
+    }
+
+    @Override
+    EventLoopGroup createEventLoopGroup(int nThreads, ThreadFactory threadFactory)
+    {
+      return new NioEventLoopGroup(nThreads, threadFactory);
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getSocketChannelClass()
+    {
+      return NioSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerSocketChannelClass()
+    {
+      return NioServerSocketChannel.class;
+    }
+
+    @Override
+    public boolean isReusePortSupported()
+    {
+      return false;
+    }
+  },
+
+  EPOLL("Epoll")
+  {
+    @Override
+    public Throwable unavailabilityCause()
+    {
+      return Epoll.unavailabilityCause();
+    }
+
+    @Override
+    EventLoopGroup createEventLoopGroup(int nThreads, ThreadFactory threadFactory)
+    {
+      return new EpollEventLoopGroup(nThreads, threadFactory);
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getSocketChannelClass()
+    {
+      return EpollSocketChannel.class;
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerSocketChannelClass()
+    {
+      return EpollServerSocketChannel.class;
+    }
+
+    @Override
+    public boolean isReusePortSupported()
+    {
+      return true;
+    }
+  },
+
+  IO_URING("IOUring")
+  {
+    @Override
+    public Throwable unavailabilityCause()
+    {
+      return IOUringClasses.UNAVAILABILITY_CAUSE;
+    }
+
+    @Override
+    EventLoopGroup createEventLoopGroup(int nThreads, ThreadFactory threadFactory)
+    {
+      try
+      {
+        return IOUringClasses.EVENT_LOOP_GROUP_CONSTRUCTOR.newInstance(nThreads, threadFactory);
+      }
+      catch (ReflectiveOperationException e)
+      {
+        throw new IllegalStateException("Failed to create an io_uring event loop group", e);
+      }
+    }
+
+    @Override
+    public Class<? extends SocketChannel> getSocketChannelClass()
+    {
+      ensureAvailable();
+      return IOUringClasses.SOCKET_CHANNEL_CLASS;
+    }
+
+    @Override
+    public Class<? extends ServerSocketChannel> getServerSocketChannelClass()
+    {
+      ensureAvailable();
+      return IOUringClasses.SERVER_SOCKET_CHANNEL_CLASS;
+    }
+
+    @Override
+    public boolean isReusePortSupported()
+    {
+      return true;
+    }
+  };
+
+  private final String _name;
+
+  NettyTransport(String name)
+  {
+    _name = name;
+  }
+
+  /**
+   * @return the name of the transport, as used in the names of the event loop threads.
+   */
+  public String getName()
+  {
+    return _name;
+  }
+
+  /**
+   * @return why the transport is not available on this host, or null if it is available.
+   */
+  public abstract Throwable unavailabilityCause();
+
+  public boolean isAvailable()
+  {
+    return unavailabilityCause() == null;
+  }
+
+  /**
+   * @throws IllegalStateException if the transport is not available on this host.
+   */
+  public void ensureAvailable()
+  {
+    final Throwable cause = unavailabilityCause();
+    if (cause != null)
+    {
+      throw new IllegalStateException(_name + " transport is not available", cause);
+    }
+  }
+
+  /**
+   * Creates an event loop group of this transport.
+   *
+   * @param nThreads the number of event loops, or 0 for Netty's default.
+   * @throws IllegalStateException if the transport is not available on this host.
+   */
+  public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory)
+  {
+    ensureAvailable();
+    return createEventLoopGroup(nThreads, threadFactory);
+  }
+
+  abstract EventLoopGroup createEventLoopGroup(int nThreads, ThreadFactory threadFactory);
+
+  /**
+   * @return the class of the client TCP channels, which must be registered with event loops of this transport.
+   */
+  public abstract Class<? extends SocketChannel> getSocketChannelClass();
+
+  /**
+   * @return the class of the server TCP channels, which must be registered with event loops of this transport.
+   */
+  public abstract Class<? extends ServerSocketChannel> getServerSocketChannelClass();
+
+  /**
+   * @return whether the server channels of this transport support
+   *         {@link io.netty.channel.unix.UnixChannelOption#SO_REUSEPORT}.
+   */
+  public abstract boolean isReusePortSupported();
+
+  /**
+   * Returns the transport of an event loop group, so that channels of the matching type are registered with it.
+   * Event loop groups which are not of a native transport, e.g. provided by callers, are assumed to be NIO.
+   */
+  public static NettyTransport of(EventLoopGroup eventLoopGroup)
+  {
+    if (eventLoopGroup instanceof EpollEventLoopGroup)
+    {
+      return EPOLL;
+    }
+    if (IOUringClasses.EVENT_LOOP_GROUP_CLASS != null && IOUringClasses.EVENT_LOOP_GROUP_CLASS.isInstance(eventLoopGroup))
+    {
+      return IO_URING;
+    }
+    return NIO;
+  }
+
+  /**
+   * Classes of the io_uring transport, loaded on first use.
+   */
+  private static final class IOUringClasses
+  {
+    private static final String PACKAGE = "io.netty.incubator.channel.uring.";
+
+    private static final Throwable UNAVAILABILITY_CAUSE;
+    private static final Class<? extends EventLoopGroup> EVENT_LOOP_GROUP_CLASS;
+    private static final Constructor<? extends EventLoopGroup> EVENT_LOOP_GROUP_CONSTRUCTOR;
+    private static final Class<? extends SocketChannel> SOCKET_CHANNEL_CLASS;
+    private static final Class<? extends ServerSocketChannel> SERVER_SOCKET_CHANNEL_CLASS;
+
+    static
+    {
+      Throwable cause;
+      Class<? extends EventLoopGroup> eventLoopGroupClass = null;
+      Constructor<? extends EventLoopGroup> eventLoopGroupConstructor = null;
+      Class<? extends SocketChannel> socketChannelClass = null;
+      Class<? extends ServerSocketChannel> serverSocketChannelClass = null;
+      try
+      {
+        final ClassLoader classLoader = NettyTransport.class.getClassLoader();
+        cause = (Throwable) Class.forName(PACKAGE + "IOUring", true, classLoader)
+            .getMethod("unavailabilityCause").invoke(null);
+        eventLoopGroupClass = Class.forName(PACKAGE + "IOUringEventLoopGroup", false, classLoader)
+            .asSubclass(EventLoopGroup.class);
+        eventLoopGroupConstructor = eventLoopGroupClass.getConstructor(int.class, ThreadFactory.class);
+        socketChannelClass = Class.forName(PACKAGE + "IOUringSocketChannel", false, classLoader)
+            .asSubclass(SocketChannel.class);
+        serverSocketChannelClass = Class.forName(PACKAGE + "IOUringServerSocketChannel", false, classLoader)
+            .asSubclass(ServerSocketChannel.class);
+      }
+      catch (ReflectiveOperationException | LinkageError | ClassCastException e)
+      {
+        cause = e;
+      }
+      UNAVAILABILITY_CAUSE = cause;
+      EVENT_LOOP_GROUP_CLASS = eventLoopGroupClass;
+      EVENT_LOOP_GROUP_CONSTRUCTOR = eventLoopGroupConstructor;
+      SOCKET_CHANNEL_CLASS = socketChannelClass;
+      SERVER_SOCKET_CHANNEL_CLASS = serverSocketChannelClass;
+    }
+  }
+}
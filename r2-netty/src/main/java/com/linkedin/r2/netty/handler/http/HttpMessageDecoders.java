@@ -17,24 +17,28 @@
 package com.linkedin.r2.netty.handler.http;
 
 import com.linkedin.data.ByteString;
+import com.linkedin.r2.message.stream.StreamRequestBuilder;
 import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.netty.common.ByteStringUtil;
 import com.linkedin.r2.netty.entitystream.StreamWriter;
 import com.linkedin.r2.transport.http.common.HttpConstants;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
 import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Inbound {@link ChannelHandler} implementation that decodes {@link HttpResponse} and {@link HttpContent}
- * into {@link StreamResponseBuilder} and {@link ByteString}.
+ * into {@link StreamResponseBuilder} and {@link ByteString}, or {@link HttpRequest} into {@link StreamRequestBuilder}
+ * on the server.
  *
  * @author Sean Sheng
  * @author Nizar Mankulangara
@@ -46,6 +50,11 @@ public class HttpMessageDecoders
     return new ResponseDecoder();
   }
 
+  public static RequestDecoder newRequestDecoder()
+  {
+    return new RequestDecoder();
+  }
+
   public static DataDecoder newDataDecoder()
   {
     return new DataDecoder();
@@ -99,6 +108,68 @@ public class HttpMessageDecoders
     }
   }
 
+  @Sharable
+  public static class RequestDecoder extends MessageToMessageDecoder<HttpRequest>
+  {
+    private RequestDecoder()
+    {
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, HttpRequest request, List<Object> out) throws Exception
+    {
+      if (!request.decoderResult().isSuccess())
+      {
+        ctx.fireExceptionCaught(request.decoderResult().cause());
+        return;
+      }
+
+      // Remove chunked encoding.
+      if (HttpUtil.isTransferEncodingChunked(request))
+      {
+        HttpUtil.setTransferEncodingChunked(request, false);
+      }
+
+      out.add(buildStreamRequest(request));
+
+      // The request is also its content if it is a full request, e.g. an HTTP/2 request without body.
+      if (request instanceof HttpContent)
+      {
+        HttpContent content = (HttpContent) request;
+        if (content.content().isReadable())
+        {
+          out.add(ByteStringUtil.copy(content.content()));
+        }
+        if (request instanceof LastHttpContent)
+        {
+          out.add(StreamWriter.EOF);
+        }
+      }
+    }
+
+    private static StreamRequestBuilder buildStreamRequest(HttpRequest request) throws Exception
+    {
+      StreamRequestBuilder builder = new StreamRequestBuilder(new URI(request.uri()));
+      builder.setMethod(request.method().name());
+
+      for (Map.Entry<String, String> entry : request.headers())
+      {
+        String key = entry.getKey();
+        String value = entry.getValue();
+        if (key.equalsIgnoreCase(HttpConstants.REQUEST_COOKIE_HEADER_NAME))
+        {
+          builder.addCookie(value);
+        }
+        else
+        {
+          builder.unsafeAddHeaderValue(key, value);
+        }
+      }
+
+      return builder;
+    }
+  }
+
   @Sharable
   public static class DataDecoder extends MessageToMessageDecoder<HttpContent>
   {
@@ -116,7 +187,7 @@ public class HttpMessageDecoders
 
       if (chunk.content().isReadable())
       {
-        out.add(ByteString.read(new ByteBufInputStream(chunk.content()), chunk.content().readableBytes()));
+        out.add(ByteStringUtil.copy(chunk.content()));
       }
 
       if (chunk instanceof LastHttpContent)
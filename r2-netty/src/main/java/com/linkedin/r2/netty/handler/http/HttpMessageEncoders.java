@@ -19,21 +19,31 @@ package com.linkedin.r2.netty.handler.http;
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.netty.common.NettyRequestAdapter;
 import com.linkedin.r2.netty.entitystream.StreamReader;
+import com.linkedin.r2.transport.http.common.HttpConstants;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageEncoder;
 import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Outbound {@link ChannelHandler} implementations that encodes {@link StreamRequest} and request
- * entity in the form of {@link ByteString} into {@link HttpRequest} and {@link HttpContent}.
+ * entity in the form of {@link ByteString} into {@link HttpRequest} and {@link HttpContent}, or
+ * {@link StreamResponse} into {@link HttpResponse} on the server.
  *
  * @author Sean Sheng
  * @author Nizar Mankulangara
@@ -50,6 +60,11 @@ public class HttpMessageEncoders
     return new RestRequestEncoder();
   }
 
+  public static StreamResponseEncoder newStreamResponseEncoder()
+  {
+    return new StreamResponseEncoder();
+  }
+
   public static DataEncoder newDataEncoder()
   {
     return new DataEncoder();
@@ -81,6 +96,34 @@ public class HttpMessageEncoders
     }
   }
 
+  public static class StreamResponseEncoder extends MessageToMessageEncoder<StreamResponse>
+  {
+    private StreamResponseEncoder()
+    {
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, StreamResponse response, List<Object> out) throws Exception
+    {
+      HttpResponse nettyResponse =
+          new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(response.getStatus()));
+
+      for (Map.Entry<String, String> e : response.getHeaders().entrySet())
+      {
+        nettyResponse.headers().set(e.getKey(), e.getValue());
+      }
+      nettyResponse.headers().set(HttpConstants.RESPONSE_COOKIE_HEADER_NAME, response.getCookies());
+
+      // The length of the entity is not known before it has been streamed.
+      if (!nettyResponse.headers().contains(HttpHeaderNames.CONTENT_LENGTH))
+      {
+        HttpUtil.setTransferEncodingChunked(nettyResponse, true);
+      }
+
+      out.add(nettyResponse);
+    }
+  }
+
   public static class DataEncoder extends MessageToMessageEncoder<ByteString>
   {
     private DataEncoder()
@@ -0,0 +1,369 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.handler.http;
+
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.entitystream.DrainReader;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.netty.common.ChannelPipelineEvent;
+import com.linkedin.r2.netty.common.NettyChannelAttributes;
+import com.linkedin.r2.netty.entitystream.StreamWriter;
+import com.linkedin.r2.netty.handler.common.ChannelLifecycleHandler;
+import com.linkedin.r2.netty.handler.common.ClientEntityStreamHandler;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+
+/**
+ * Pipelines HTTP/1.1 requests, i.e. sends requests on a channel before the responses of the previous ones have been
+ * received. The responses are received in the order of the requests, hence the response callback of a request is set
+ * once the response headers of the previous request have been received by {@link ClientEntityStreamHandler}.
+ * <p>
+ *
+ * The handler is inactive until {@link #startPipelining(int, long, Runnable)} is invoked after the first request has
+ * been set up on the channel. It then holds back {@link ChannelPipelineEvent#REQUEST_COMPLETE} and
+ * {@link ChannelPipelineEvent#RESPONSE_COMPLETE} until all the pipelined requests are complete, so that the channel
+ * is returned to the pool by {@link ChannelLifecycleHandler} only then.
+ * <p>
+ *
+ * Each request times out on its own. A request which times out before its response headers are received fails with a
+ * {@link TimeoutException}, and its response is drained when it is received, so that the responses of the following
+ * requests are still received. A request which times out while its response entity is received fails the entity,
+ * whose remaining bytes are drained. No more requests are pipelined on the channel once a request has timed out, and
+ * the channel is closed once all the requests whose response is expected have timed out.
+ * <p>
+ *
+ * Must be added to the pipeline after {@link ClientEntityStreamHandler}, and its methods must be invoked by the event
+ * loop of the channel.
+ */
+public class HttpPipeliningHandler extends ChannelInboundHandlerAdapter
+{
+  public static final String PIPELINE_PIPELINING_HANDLER = "pipeliningHandler";
+
+  /**
+   * Requests whose response headers have not been received yet, in the order of the requests. The response callback
+   * of the first one is set in {@link NettyChannelAttributes#RESPONSE_CALLBACK}.
+   */
+  private final Queue<PipelinedRequest> _awaitingResponses = new ArrayDeque<>();
+
+  /**
+   * Request whose response headers have been received last, whose response entity may still be received.
+   */
+  private PipelinedRequest _respondingRequest;
+
+  private ChannelHandlerContext _ctx;
+  private int _maxRequests = 0;
+  private boolean _accepting = false;
+  private int _requestCount = 0;
+  private int _completeRequestCount = 0;
+  private int _completeResponseCount = 0;
+  private Runnable _onStopAccepting;
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx)
+  {
+    _ctx = ctx;
+  }
+
+  /**
+   * Allows requests to be pipelined after the request which has been set up on the channel, which must not have been
+   * written yet.
+   *
+   * @param maxRequests the maximum number of requests in flight on the channel, including the first one.
+   * @param requestTimeout the timeout of the first request in milliseconds, which replaces the timeout set up on the
+   *                       channel.
+   * @param onStopAccepting invoked once no more requests can be pipelined, i.e. once all the pipelined requests are
+   *                        complete or have failed, or once one of them has timed out.
+   * @return whether pipelining has started, which it does not if the channel is inactive or the request has failed.
+   */
+  public boolean startPipelining(int maxRequests, long requestTimeout, Runnable onStopAccepting)
+  {
+    final TransportCallback<StreamResponse> callback =
+        _ctx.channel().attr(NettyChannelAttributes.RESPONSE_CALLBACK).get();
+    if (callback == null || !_ctx.channel().isActive())
+    {
+      return false;
+    }
+    _maxRequests = maxRequests;
+    _accepting = true;
+    _onStopAccepting = onStopAccepting;
+
+    final ScheduledFuture<?> timeout = _ctx.channel().attr(NettyChannelAttributes.TIMEOUT_FUTURE).getAndSet(null);
+    if (timeout != null)
+    {
+      timeout.cancel(false);
+    }
+    addRequest(callback, requestTimeout);
+    return true;
+  }
+
+  /**
+   * Adds a request to the pipelined requests of the channel, if there are less than the maximum and none of them has
+   * timed out. The request must be written to the channel if and only if it is added.
+   *
+   * @param callback the response callback of the request.
+   * @param requestTimeout the timeout of the request in milliseconds.
+   * @return whether the request has been added.
+   */
+  public boolean tryPipeline(TransportCallback<StreamResponse> callback, long requestTimeout)
+  {
+    if (!_accepting || _requestCount >= _maxRequests || !_ctx.channel().isActive())
+    {
+      return false;
+    }
+    addRequest(callback, requestTimeout);
+    return true;
+  }
+
+  private void addRequest(TransportCallback<StreamResponse> callback, long requestTimeout)
+  {
+    final PipelinedRequest request = new PipelinedRequest(callback);
+    request._timeout = _ctx.executor().schedule(() -> onTimeout(request, requestTimeout), requestTimeout,
+        TimeUnit.MILLISECONDS);
+    _requestCount++;
+    _awaitingResponses.add(request);
+    if (_awaitingResponses.size() == 1)
+    {
+      // The response headers of all the previous requests have been received
+      _ctx.channel().attr(NettyChannelAttributes.RESPONSE_CALLBACK).set(response -> onResponse(request, response));
+    }
+  }
+
+  private boolean isPipelining()
+  {
+    return _maxRequests > 0;
+  }
+
+  @Override
+  public void userEventTriggered(ChannelHandlerContext ctx, Object evt)
+  {
+    if (!isPipelining())
+    {
+      ctx.fireUserEventTriggered(evt);
+      return;
+    }
+
+    if (ChannelPipelineEvent.REQUEST_COMPLETE == evt)
+    {
+      _completeRequestCount++;
+    }
+    else if (ChannelPipelineEvent.RESPONSE_COMPLETE == evt)
+    {
+      // The entities of the responses may be completed by their readers in any order
+      _completeResponseCount++;
+    }
+    else
+    {
+      ctx.fireUserEventTriggered(evt);
+      return;
+    }
+
+    if (_completeRequestCount == _requestCount && _completeResponseCount == _requestCount)
+    {
+      stopPipelining();
+      ctx.fireUserEventTriggered(ChannelPipelineEvent.REQUEST_COMPLETE);
+      ctx.fireUserEventTriggered(ChannelPipelineEvent.RESPONSE_COMPLETE);
+    }
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause)
+  {
+    failPendingRequests(cause);
+    ctx.fireExceptionCaught(cause);
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx)
+  {
+    failPendingRequests(new ClosedChannelException());
+    ctx.fireChannelInactive();
+  }
+
+  /**
+   * Invoked by {@link ClientEntityStreamHandler} once the response headers of the request have been received, or with
+   * the error of the channel.
+   */
+  private void onResponse(PipelinedRequest request, TransportResponse<StreamResponse> response)
+  {
+    _awaitingResponses.poll();
+    if (response.hasError())
+    {
+      request._timeout.cancel(false);
+      request.complete(response);
+      return;
+    }
+
+    final PipelinedRequest next = _awaitingResponses.peek();
+    if (next != null)
+    {
+      _ctx.channel().attr(NettyChannelAttributes.RESPONSE_CALLBACK).set(nextResponse -> onResponse(next, nextResponse));
+    }
+
+    // The entity of the previous response has been received in full
+    if (_respondingRequest != null)
+    {
+      _respondingRequest._timeout.cancel(false);
+    }
+    _respondingRequest = request;
+    request._writer = _ctx.channel().attr(NettyChannelAttributes.RESPONSE_WRITER).get();
+
+    if (request._timedOut)
+    {
+      response.getResponse().getEntityStream().setReader(new DrainReader());
+    }
+    else
+    {
+      request.complete(response);
+    }
+  }
+
+  private void onTimeout(PipelinedRequest request, long requestTimeout)
+  {
+    final StreamWriter writer = _ctx.channel().attr(NettyChannelAttributes.RESPONSE_WRITER).get();
+    if (!isPipelining() || request._timedOut || (request._writer != null && request._writer != writer))
+    {
+      // The response has been received in full, its entity may only be waiting for its reader
+      return;
+    }
+
+    request._timedOut = true;
+    stopAccepting();
+    final TimeoutException cause = new TimeoutException("Exceeded request timeout of " + requestTimeout + "ms");
+    if (request._writer == null)
+    {
+      request.complete(TransportResponseImpl.error(cause));
+    }
+    else
+    {
+      // The remaining bytes of the entity are drained, so that the following responses are still received.
+      final StreamWriter drainWriter =
+          new StreamWriter(_ctx.pipeline().context(ClientEntityStreamHandler.class), Long.MAX_VALUE);
+      EntityStreams.newEntityStream(drainWriter).setReader(new DrainReader());
+      _ctx.channel().attr(NettyChannelAttributes.RESPONSE_WRITER).set(drainWriter);
+      request._writer.onError(cause);
+      request._writer = drainWriter;
+      // The failed entity is no longer read, hence no longer re-enables auto read
+      _ctx.channel().config().setAutoRead(true);
+    }
+
+    if (!hasRespondingRequest())
+    {
+      _ctx.close();
+    }
+  }
+
+  /**
+   * @return whether a request which has not timed out is waiting for its response headers or entity.
+   */
+  private boolean hasRespondingRequest()
+  {
+    for (PipelinedRequest request : _awaitingResponses)
+    {
+      if (!request._timedOut)
+      {
+        return true;
+      }
+    }
+    final StreamWriter writer = _ctx.channel().attr(NettyChannelAttributes.RESPONSE_WRITER).get();
+    return _respondingRequest != null && !_respondingRequest._timedOut && writer != null
+        && writer == _respondingRequest._writer;
+  }
+
+  /**
+   * Fails the requests whose callback has not been invoked by {@link ClientEntityStreamHandler}, which has already
+   * handled the error for the request whose response headers were expected.
+   */
+  private void failPendingRequests(Throwable cause)
+  {
+    if (!isPipelining())
+    {
+      return;
+    }
+    final TransportCallback<StreamResponse> current =
+        _ctx.channel().attr(NettyChannelAttributes.RESPONSE_CALLBACK).getAndSet(null);
+    if (current != null)
+    {
+      current.onResponse(TransportResponseImpl.error(cause));
+    }
+    for (PipelinedRequest request; (request = _awaitingResponses.poll()) != null;)
+    {
+      request._timeout.cancel(false);
+      request.complete(TransportResponseImpl.error(cause));
+    }
+    stopPipelining();
+  }
+
+  private void stopAccepting()
+  {
+    final Runnable onStopAccepting = _onStopAccepting;
+    _accepting = false;
+    _onStopAccepting = null;
+    if (onStopAccepting != null)
+    {
+      onStopAccepting.run();
+    }
+  }
+
+  private void stopPipelining()
+  {
+    if (_respondingRequest != null)
+    {
+      _respondingRequest._timeout.cancel(false);
+      _respondingRequest = null;
+    }
+    _maxRequests = 0;
+    _requestCount = 0;
+    _completeRequestCount = 0;
+    _completeResponseCount = 0;
+    stopAccepting();
+  }
+
+  private static class PipelinedRequest
+  {
+    private final TransportCallback<StreamResponse> _callback;
+    private ScheduledFuture<?> _timeout;
+    private boolean _timedOut = false;
+
+    /**
+     * Writer of the response entity, once the response headers have been received.
+     */
+    private StreamWriter _writer;
+
+    PipelinedRequest(TransportCallback<StreamResponse> callback)
+    {
+      _callback = callback;
+    }
+
+    void complete(TransportResponse<StreamResponse> response)
+    {
+      if (!_timedOut)
+      {
+        _callback.onResponse(response);
+      }
+    }
+  }
+}
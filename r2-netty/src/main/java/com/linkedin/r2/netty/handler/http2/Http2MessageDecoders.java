@@ -18,9 +18,9 @@ package com.linkedin.r2.netty.handler.http2;
 
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.netty.common.ByteStringUtil;
 import com.linkedin.r2.netty.entitystream.StreamWriter;
 import com.linkedin.r2.transport.http.common.HttpConstants;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
@@ -145,7 +145,7 @@ public class Http2MessageDecoders
     {
       if (frame.content().isReadable())
       {
-        out.add(ByteString.read(new ByteBufInputStream(frame.content()), frame.content().readableBytes()));
+        out.add(ByteStringUtil.copy(frame.content()));
       }
       if (frame.isEndStream())
       {
@@ -40,6 +40,7 @@ import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.netty.client.DnsMetricsCallback;
 import com.linkedin.r2.transport.common.TransportClientFactory;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
@@ -136,8 +137,18 @@ public class HttpClientFactory implements TransportClientFactory
   public static final String HTTP_MAX_CHUNK_SIZE = "http.maxChunkSize";
   public static final String HTTP_MAX_CONCURRENT_CONNECTIONS = "http.maxConcurrentConnections";
   public static final String HTTP_TCP_NO_DELAY = "http.tcpNoDelay";
+  // Adapts the size of each channel pool to its usage, up to http.poolSize
+  public static final String HTTP_ADAPTIVE_POOL_SIZING = "http.adaptivePoolSizing";
+  // Keeps a channel pool per event loop and host, used by requests sent from the event loop, only supported by pipeline v2
+  public static final String HTTP_EVENT_LOOP_PARTITIONED_POOLS = "http.eventLoopPartitionedPools";
   public static final String HTTP_PROTOCOL_VERSION = "http.protocolVersion";
   public static final String HTTP_MAX_CLIENT_REQUEST_RETRY_RATIO = "http.maxClientRequestRetryRatio";
+  // Maximum number of GET requests in flight on an HTTP/1.1 channel, only supported by pipeline v2
+  public static final String HTTP_MAX_PIPELINED_REQUESTS = "http.maxPipelinedRequests";
+  // Whether identical GET requests in flight are sent only once, only supported by pipeline v2
+  public static final String HTTP_COALESCE_GET_REQUESTS = "http.coalesceGetRequests";
+  // Comma separated names of the headers ignored to tell whether GET requests are identical, such as request ids
+  public static final String HTTP_COALESCE_IGNORED_HEADERS = "http.coalesceIgnoredHeaders";
 
   public static final int DEFAULT_QUERY_POST_THRESHOLD = Integer.MAX_VALUE;
   public static final int DEFAULT_POOL_WAITER_SIZE = Integer.MAX_VALUE;
@@ -157,6 +168,10 @@ public class HttpClientFactory implements TransportClientFactory
   public static final int DEFAULT_MAX_HEADER_SIZE = 8 * 1024;
   public static final int DEFAULT_MAX_CHUNK_SIZE = 8 * 1024;
   public static final int DEFAULT_CONNECT_TIMEOUT = 30000;
+  public static final int DEFAULT_MAX_PIPELINED_REQUESTS = 1;
+  public static final boolean DEFAULT_ADAPTIVE_POOL_SIZING = false;
+  public static final boolean DEFAULT_EVENT_LOOP_PARTITIONED_POOLS = false;
+  public static final boolean DEFAULT_COALESCE_GET_REQUESTS = false;
   public static final int DEFAULT_SSL_HANDSHAKE_TIMEOUT = 10000;
   public static final int DEFAULT_CHANNELPOOL_WAITER_TIMEOUT = Integer.MAX_VALUE;
   public static final double DEFAULT_MAX_CLIENT_REQUEST_RETRY_RATIO = 0.2;
@@ -747,6 +762,7 @@ public class HttpClientFactory implements TransportClientFactory
     private boolean                    _useClientCompression = true;
     private boolean                    _usePipelineV2 = false;
     private String                     _udsAddress = null;
+    private NettyTransport             _transport = NettyTransport.NIO;
     private int                        _pipelineV2MinimumMaturityLevel = PIPELINE_V2_MATURITY_LEVEL;
     private Executor                   _customCompressionExecutor = null;
     private AbstractJmxManager         _jmxManager = AbstractJmxManager.NULL_JMX_MANAGER;
@@ -949,6 +965,17 @@ public class HttpClientFactory implements TransportClientFactory
       return this;
     }
 
+    /**
+     * @param transport the transport of the {@link EventLoopGroup} created by the factory if none is set with
+     *                  {@link #setEventLoopGroup}, {@link NettyTransport#NIO} by default. Clients use the channels of
+     *                  the transport of the event loop group either way.
+     */
+    public Builder setTransport(NettyTransport transport)
+    {
+      _transport = transport;
+      return this;
+    }
+
     public Builder setPipelineV2MinimumMaturityLevel(int pipelineV2MinimumMaturityLevel)
     {
       _pipelineV2MinimumMaturityLevel = pipelineV2MinimumMaturityLevel;
@@ -963,7 +990,8 @@ public class HttpClientFactory implements TransportClientFactory
       if (eventLoopGroup == null)
       {
         eventLoopGroup = StringUtils.isEmpty(_udsAddress) ?
-              new NioEventLoopGroup(0 /* use default settings */, new NamedThreadFactory("R2 Nio Event Loop"))
+              _transport.newEventLoopGroup(0 /* use default settings */,
+                  new NamedThreadFactory("R2 " + _transport.getName() + " Event Loop"))
             : new EpollEventLoopGroup(0, new NamedThreadFactory("R2 Domain Socket Loop"));
       }
 
@@ -1411,6 +1439,8 @@ public class HttpClientFactory implements TransportClientFactory
     Integer maxConcurrentConnectionInitializations = chooseNewOverDefault(getIntValue(properties, HTTP_MAX_CONCURRENT_CONNECTIONS), DEFAULT_MAX_CONCURRENT_CONNECTIONS);
     AsyncPoolImpl.Strategy strategy = chooseNewOverDefault(getStrategy(properties), DEFAULT_POOL_STRATEGY);
     Integer gracefulShutdownTimeout = chooseNewOverDefault(getIntValue(properties, HTTP_GRACEFUL_SHUTDOWN_TIMEOUT), DEFAULT_GRACEFUL_SHUTDOWN_TIMEOUT);
+    Boolean adaptivePoolSizing = chooseNewOverDefault(getBooleanValue(properties, HTTP_ADAPTIVE_POOL_SIZING), DEFAULT_ADAPTIVE_POOL_SIZING);
+    Boolean eventLoopPartitioned = chooseNewOverDefault(getBooleanValue(properties, HTTP_EVENT_LOOP_PARTITIONED_POOLS), DEFAULT_EVENT_LOOP_PARTITIONED_POOLS);
 
     return new ChannelPoolManagerKeyBuilder()
       .setMaxPoolSize(maxPoolSize).setGracefulShutdownTimeout(gracefulShutdownTimeout).setIdleTimeout(idleTimeout)
@@ -1418,7 +1448,8 @@ public class HttpClientFactory implements TransportClientFactory
       .setPoolWaiterSize(poolWaiterSize).setSSLParameters(sslParameters).setStrategy(strategy).setMinPoolSize(poolMinSize)
       .setMaxHeaderSize(maxHeaderSize).setMaxChunkSize(maxChunkSize)
       .setMaxConcurrentConnectionInitializations(maxConcurrentConnectionInitializations)
-      .setTcpNoDelay(tcpNoDelay).setPoolStatsNamePrefix(poolStatsNamePrefix).setUdsAddress(_udsAddress).build();
+      .setTcpNoDelay(tcpNoDelay).setPoolStatsNamePrefix(poolStatsNamePrefix).setUdsAddress(_udsAddress)
+      .setAdaptivePoolSizing(adaptivePoolSizing).setEventLoopPartitioned(eventLoopPartitioned).build();
   }
 
   TransportClient getRawClient(Map<String, ? extends Object> properties,
@@ -1453,6 +1484,13 @@ public class HttpClientFactory implements TransportClientFactory
 
     if (_usePipelineV2)
     {
+      int maxPipelinedRequests =
+          chooseNewOverDefault(getIntValue(properties, HTTP_MAX_PIPELINED_REQUESTS), DEFAULT_MAX_PIPELINED_REQUESTS);
+      boolean coalesceGetRequests =
+          chooseNewOverDefault(getBooleanValue(properties, HTTP_COALESCE_GET_REQUESTS), DEFAULT_COALESCE_GET_REQUESTS);
+      List<String> coalesceIgnoredHeaders =
+          ConfigValueExtractor.buildList(properties.get(HTTP_COALESCE_IGNORED_HEADERS), LIST_SEPARATOR);
+
       ChannelPoolManager channelPoolManager;
       ChannelPoolManager sslChannelPoolManager;
 
@@ -1471,7 +1509,8 @@ public class HttpClientFactory implements TransportClientFactory
 
       return new com.linkedin.r2.netty.client.HttpNettyClient(_eventLoopGroup, _executor, _callbackExecutorGroup,
           channelPoolManager, sslChannelPoolManager, httpProtocolVersion, SystemClock.instance(),
-              requestTimeout, streamingTimeout, shutdownTimeout, _udsAddress, _dnsMetricsCallback);
+              requestTimeout, streamingTimeout, shutdownTimeout, _udsAddress, _dnsMetricsCallback,
+              maxPipelinedRequests, coalesceGetRequests, coalesceIgnoredHeaders);
     }
 
     TransportClient streamClient;
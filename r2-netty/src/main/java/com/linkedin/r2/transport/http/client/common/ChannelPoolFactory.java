@@ -23,6 +23,7 @@ package com.linkedin.r2.transport.http.client.common;
 
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDomainSocketChannel;
 import io.netty.channel.kqueue.KQueue;
@@ -42,6 +43,16 @@ public interface ChannelPoolFactory
    */
   AsyncPool<Channel> getPool(SocketAddress address);
 
+  /**
+   * Returns a new pool of Channels to a specific host which are registered with the given event loop, so that
+   * requests sent from the event loop are written without handing them over to another thread. Factories which
+   * do not support it return a pool of Channels registered with any event loop.
+   */
+  default AsyncPool<Channel> getPool(SocketAddress address, EventLoop eventLoop)
+  {
+    return getPool(address);
+  }
+
   default Class<? extends DomainSocketChannel> getDomainSocketClass() {
     if (Epoll.isAvailable()) {
      return EpollDomainSocketChannel.class;
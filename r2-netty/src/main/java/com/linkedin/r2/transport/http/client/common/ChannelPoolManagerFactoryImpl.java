@@ -20,6 +20,7 @@ import com.linkedin.common.callback.Callback;
 import com.linkedin.common.util.None;
 import com.linkedin.r2.netty.client.http.HttpChannelPoolFactory;
 import com.linkedin.r2.netty.client.http2.Http2ChannelPoolFactory;
+import com.linkedin.r2.transport.http.client.AdaptivePoolSizer;
 import com.linkedin.r2.transport.http.client.rest.HttpNettyChannelPoolFactory;
 import com.linkedin.r2.transport.http.client.stream.http.HttpNettyStreamChannelPoolFactory;
 import com.linkedin.r2.transport.http.client.stream.http2.Http2NettyStreamChannelPoolFactory;
@@ -114,7 +115,8 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
         _sslHandShakeTimeout),
       channelPoolManagerKey.getName(),
       channelGroup,
-      _scheduler);
+      _scheduler,
+      createPoolSizer(channelPoolManagerKey));
   }
 
   @Override
@@ -174,7 +176,9 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
         channelPoolFactory,
         channelPoolManagerKey.getName() + "-Stream",
         channelGroup,
-        _scheduler);
+        _scheduler,
+        createPoolSizer(channelPoolManagerKey),
+        _usePipelineV2 && channelPoolManagerKey.isEventLoopPartitioned() ? _eventLoopGroup : null);
   }
 
   @Override
@@ -234,6 +238,14 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
       _scheduler);
   }
 
+  /**
+   * Pools of HTTP/2 connections are not resized since each connection carries many requests at the same time.
+   */
+  private static AdaptivePoolSizer createPoolSizer(ChannelPoolManagerKey channelPoolManagerKey)
+  {
+    return channelPoolManagerKey.isAdaptivePoolSizing() ? new AdaptivePoolSizer() : null;
+  }
+
   /**
    * The standard {@link ChannelPoolManagerFactoryImpl} is stateless, and doesn't need to do any operation at shutdown
    */
@@ -19,14 +19,19 @@ package com.linkedin.r2.transport.http.client.common;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.callback.Callbacks;
 import com.linkedin.common.util.None;
+import com.linkedin.r2.transport.http.client.AdaptivePoolSizer;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.HttpClientFactory;
 import com.linkedin.r2.transport.http.client.PoolStats;
+import com.linkedin.r2.transport.http.client.ResizableAsyncPool;
 import com.linkedin.r2.transport.http.client.TimeoutCallback;
 import com.linkedin.r2.util.TimeoutRunnable;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFutureListener;
+import io.netty.util.concurrent.EventExecutor;
 import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -35,6 +40,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +68,15 @@ public class ChannelPoolManagerImpl implements ChannelPoolManager
 
   private final ChannelPoolFactory _channelPoolFactory;
   private final String _name;
+  private final AdaptivePoolSizer _poolSizer;
+  private final ScheduledFuture<?> _poolSizerFuture;
+
+  // Pools of the channels registered with each event loop, which are used when the manager is event loop partitioned.
+  // As for _pool, all modifications must be locked on _mutex.
+  private final EventLoopGroup _partitionEventLoopGroup;
+  private final ConcurrentMap<EventLoop, ConcurrentMap<SocketAddress, AsyncPool<Channel>>> _eventLoopPools =
+    new ConcurrentHashMap<>();
+  private final ThreadLocal<EventLoop> _currentEventLoop = ThreadLocal.withInitial(this::findCurrentEventLoop);
 
   /* Constructor for test purpose ONLY. */
   public ChannelPoolManagerImpl(ChannelPoolFactory channelPoolFactory,
@@ -75,10 +90,60 @@ public class ChannelPoolManagerImpl implements ChannelPoolManager
                                 String name,
                                 ChannelGroup allChannels, ScheduledExecutorService scheduler)
   {
+    this(channelPoolFactory, name, allChannels, scheduler, null);
+  }
+
+  /**
+   * @param poolSizer resizes the pools which are {@link ResizableAsyncPool}s periodically, or null to keep the size
+   *                  of the pools fixed.
+   */
+  public ChannelPoolManagerImpl(ChannelPoolFactory channelPoolFactory,
+                                String name,
+                                ChannelGroup allChannels, ScheduledExecutorService scheduler,
+                                AdaptivePoolSizer poolSizer)
+  {
+    this(channelPoolFactory, name, allChannels, scheduler, poolSizer, null);
+  }
+
+  /**
+   * @param poolSizer resizes the pools which are {@link ResizableAsyncPool}s periodically, or null to keep the size
+   *                  of the pools fixed.
+   * @param partitionEventLoopGroup if not null, callers running on an event loop of this group get channels from a
+   *                                pool of channels registered with the same event loop, so that requests are written
+   *                                without handing them over to another thread. Other callers get channels from a
+   *                                pool shared by all threads.
+   */
+  public ChannelPoolManagerImpl(ChannelPoolFactory channelPoolFactory,
+                                String name,
+                                ChannelGroup allChannels, ScheduledExecutorService scheduler,
+                                AdaptivePoolSizer poolSizer, EventLoopGroup partitionEventLoopGroup)
+  {
+    _partitionEventLoopGroup = partitionEventLoopGroup;
     _channelPoolFactory = channelPoolFactory;
     _name = name;
     _allChannels = allChannels;
     _scheduler = scheduler;
+    _poolSizer = poolSizer;
+    _poolSizerFuture = poolSizer == null ? null : scheduler.scheduleAtFixedRate(this::resizePools,
+        poolSizer.getSamplingPeriod(), poolSizer.getSamplingPeriod(), TimeUnit.MILLISECONDS);
+  }
+
+  private void resizePools()
+  {
+    for (AsyncPool<Channel> pool : getAllPools())
+    {
+      if (pool instanceof ResizableAsyncPool)
+      {
+        try
+        {
+          _poolSizer.resize((ResizableAsyncPool<Channel>) pool);
+        }
+        catch (RuntimeException e)
+        {
+          LOG.warn("Failed to resize connection pool " + pool.getName(), e);
+        }
+      }
+    }
   }
 
   public void shutdown(final Callback<None> callback, final Runnable callbackStopRequest, final Runnable callbackShutdown, long shutdownTimeout)
@@ -137,7 +202,7 @@ public class ChannelPoolManagerImpl implements ChannelPoolManager
     synchronized (_mutex)
     {
       state = _state;
-      pools = _pool.values();
+      pools = getAllPools();
       if (state == State.RUNNING)
       {
         _state = State.SHUTTING_DOWN;
@@ -148,6 +213,10 @@ public class ChannelPoolManagerImpl implements ChannelPoolManager
       callback.onError(new IllegalStateException("ChannelPoolManager is " + state));
       return;
     }
+    if (_poolSizerFuture != null)
+    {
+      _poolSizerFuture.cancel(false);
+    }
 
     LOG.info("Shutting down {} connection pools", pools.size());
     Callback<None> poolCallback = Callbacks.countDown(new Callback<None>()
@@ -188,7 +257,7 @@ public class ChannelPoolManagerImpl implements ChannelPoolManager
     final Collection<AsyncPool<Channel>> pools;
     synchronized (_mutex)
     {
-      pools = _pool.values();
+      pools = getAllPools();
     }
     for (AsyncPool<Channel> pool : pools)
     {
@@ -207,7 +276,10 @@ public class ChannelPoolManagerImpl implements ChannelPoolManager
         undesirable, because every request for every address comes through this path and it
         would essentially be a global request lock.
     */
-    AsyncPool<Channel> pool = _pool.get(address);
+    final EventLoop eventLoop = _partitionEventLoopGroup == null ? null : _currentEventLoop.get();
+    final ConcurrentMap<SocketAddress, AsyncPool<Channel>> pools = eventLoop == null ? _pool
+        : _eventLoopPools.get(eventLoop);
+    AsyncPool<Channel> pool = pools == null ? null : pools.get(address);
     if (pool != null)
     {
       return pool;
@@ -220,22 +292,51 @@ public class ChannelPoolManagerImpl implements ChannelPoolManager
         throw new IllegalStateException("ChannelPoolManager is shutting down");
       }
       // Retry the get while synchronized
-      pool = _pool.get(address);
+      final ConcurrentMap<SocketAddress, AsyncPool<Channel>> lockedPools = eventLoop == null ? _pool
+          : _eventLoopPools.computeIfAbsent(eventLoop, loop -> new ConcurrentHashMap<>(256, 0.75f, 1));
+      pool = lockedPools.get(address);
       if (pool == null)
       {
-        pool = _channelPoolFactory.getPool(address);
+        pool = eventLoop == null ? _channelPoolFactory.getPool(address)
+            : _channelPoolFactory.getPool(address, eventLoop);
         pool.start();
-        _pool.put(address, pool);
+        lockedPools.put(address, pool);
       }
     }
     return pool;
   }
 
+  /**
+   * Returns the event loop of the partition event loop group which the current thread runs, or null if it runs none.
+   */
+  private EventLoop findCurrentEventLoop()
+  {
+    for (EventExecutor executor : _partitionEventLoopGroup)
+    {
+      if (executor instanceof EventLoop && executor.inEventLoop())
+      {
+        return (EventLoop) executor;
+      }
+    }
+    return null;
+  }
+
+  private Collection<AsyncPool<Channel>> getAllPools()
+  {
+    if (_eventLoopPools.isEmpty())
+    {
+      return _pool.values();
+    }
+    final Collection<AsyncPool<Channel>> pools = new ArrayList<>(_pool.values());
+    _eventLoopPools.values().forEach(eventLoopPools -> pools.addAll(eventLoopPools.values()));
+    return pools;
+  }
+
   @Override
   public Map<String, PoolStats> getPoolStats()
   {
     final Map<String, PoolStats> stats = new HashMap<>();
-    for(AsyncPool<Channel> pool : _pool.values())
+    for(AsyncPool<Channel> pool : getAllPools())
     {
       stats.put(pool.getName(), pool.getStats());
     }
@@ -46,6 +46,8 @@ public class ChannelPoolManagerKey
   private final boolean _tcpNoDelay;
   private final String _poolStatsNamePrefix;
   private final String _udsAddress;
+  private final boolean _adaptivePoolSizing;
+  private final boolean _eventLoopPartitioned;
 
   @Deprecated
   public ChannelPoolManagerKey(SSLContext sslContext, SSLParameters sslParameters, int gracefulShutdownTimeout,
@@ -63,6 +65,18 @@ public class ChannelPoolManagerKey
                                long maxResponseSize, int maxPoolSize, int minPoolSize,
                                int maxConcurrentConnectionInitializations, int poolWaiterSize, AsyncPoolImpl.Strategy strategy,
                                boolean tcpNoDelay, String poolStatsNamePrefix, String udsAddress)
+  {
+    this(sslContext, sslParameters, gracefulShutdownTimeout, idleTimeout, sslIdleTimeout, maxHeaderSize, maxChunkSize,
+        maxResponseSize, maxPoolSize, minPoolSize, maxConcurrentConnectionInitializations, poolWaiterSize, strategy,
+        tcpNoDelay, poolStatsNamePrefix, udsAddress, false, false);
+  }
+
+  public ChannelPoolManagerKey(SSLContext sslContext, SSLParameters sslParameters, int gracefulShutdownTimeout,
+                               long idleTimeout, long sslIdleTimeout, int maxHeaderSize, int maxChunkSize,
+                               long maxResponseSize, int maxPoolSize, int minPoolSize,
+                               int maxConcurrentConnectionInitializations, int poolWaiterSize, AsyncPoolImpl.Strategy strategy,
+                               boolean tcpNoDelay, String poolStatsNamePrefix, String udsAddress,
+                               boolean adaptivePoolSizing, boolean eventLoopPartitioned)
   {
     _sslContext = sslContext;
     _sslParameters = sslParameters;
@@ -80,6 +94,8 @@ public class ChannelPoolManagerKey
     _tcpNoDelay = tcpNoDelay;
     _poolStatsNamePrefix = poolStatsNamePrefix;
     _udsAddress = udsAddress;
+    _adaptivePoolSizing = adaptivePoolSizing;
+    _eventLoopPartitioned = eventLoopPartitioned;
   }
 
   /**
@@ -117,6 +133,8 @@ public class ChannelPoolManagerKey
     result = 31 * result + _poolWaiterSize;
     result = 31 * result + (_strategy != null ? _strategy.toString().hashCode() : 0);
     result = 31 * result + (_tcpNoDelay ? 1 : 0);
+    result = 31 * result + (_adaptivePoolSizing ? 1 : 0);
+    result = 31 * result + (_eventLoopPartitioned ? 1 : 0);
     result = 31 * result + (isSsl() ? 1 : 0);
     result = 31 * result + (_poolStatsNamePrefix != null ? _poolStatsNamePrefix.hashCode() : 0);
     return result;
@@ -195,6 +213,16 @@ public class ChannelPoolManagerKey
     return _poolStatsNamePrefix;
   }
 
+  public boolean isAdaptivePoolSizing()
+  {
+    return _adaptivePoolSizing;
+  }
+
+  public boolean isEventLoopPartitioned()
+  {
+    return _eventLoopPartitioned;
+  }
+
   public String getUdsAddress() {
     return _udsAddress;
   }
@@ -217,6 +245,8 @@ public class ChannelPoolManagerKey
     if (_maxConcurrentConnectionInitializations != that._maxConcurrentConnectionInitializations) return false;
     if (_poolWaiterSize != that._poolWaiterSize) return false;
     if (_tcpNoDelay != that._tcpNoDelay) return false;
+    if (_adaptivePoolSizing != that._adaptivePoolSizing) return false;
+    if (_eventLoopPartitioned != that._eventLoopPartitioned) return false;
     if (isSsl() != that.isSsl()) return false;
     if (_strategy != that._strategy) return false;
     return _poolStatsNamePrefix != null ? _poolStatsNamePrefix.equals(that._poolStatsNamePrefix) : that._poolStatsNamePrefix == null;
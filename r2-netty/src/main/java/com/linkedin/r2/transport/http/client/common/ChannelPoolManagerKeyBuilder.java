@@ -47,6 +47,8 @@ public class ChannelPoolManagerKeyBuilder
   private boolean _tcpNoDelay = HttpClientFactory.DEFAULT_TCP_NO_DELAY;
   private String _poolStatsNamePrefix = HttpClientFactory.DEFAULT_POOL_STATS_NAME_PREFIX;
   private String _udsAddress = null;
+  private boolean _adaptivePoolSizing = HttpClientFactory.DEFAULT_ADAPTIVE_POOL_SIZING;
+  private boolean _eventLoopPartitioned = HttpClientFactory.DEFAULT_EVENT_LOOP_PARTITIONED_POOLS;
 
   /**
    * @param sslContext {@link SSLContext}
@@ -205,10 +207,30 @@ public class ChannelPoolManagerKeyBuilder
     return this;
   }
 
+  /**
+   * @param adaptivePoolSizing flag to adapt the size of each pool to its usage, up to the maximum pool size
+   */
+  public ChannelPoolManagerKeyBuilder setAdaptivePoolSizing(boolean adaptivePoolSizing)
+  {
+    _adaptivePoolSizing = adaptivePoolSizing;
+    return this;
+  }
+
+  /**
+   * @param eventLoopPartitioned flag to keep a pool per event loop and host, from which callers running on the event
+   *                             loop get channels registered with it
+   */
+  public ChannelPoolManagerKeyBuilder setEventLoopPartitioned(boolean eventLoopPartitioned)
+  {
+    _eventLoopPartitioned = eventLoopPartitioned;
+    return this;
+  }
+
   public ChannelPoolManagerKey build()
   {
     return new ChannelPoolManagerKey(_sslContext, _sslParameters, _gracefulShutdownTimeout, _idleTimeout, _sslIdleTimeout,
       _maxHeaderSize, _maxChunkSize, _maxResponseSize, _maxPoolSize, _minPoolSize, _maxConcurrentConnectionInitializations,
-      _poolWaiterSize, _strategy, _tcpNoDelay, _poolStatsNamePrefix, _udsAddress);
+      _poolWaiterSize, _strategy, _tcpNoDelay, _poolStatsNamePrefix, _udsAddress, _adaptivePoolSizing,
+      _eventLoopPartitioned);
   }
 }
@@ -17,6 +17,7 @@
 package com.linkedin.r2.transport.http.client.rest;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.netty.common.SslHandlerUtil;
 import com.linkedin.r2.netty.handler.common.SessionResumptionSslHandler;
 import com.linkedin.r2.transport.http.client.AsyncPool;
@@ -31,7 +32,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import java.net.SocketAddress;
@@ -69,7 +70,7 @@ public class HttpNettyChannelPoolFactory implements ChannelPoolFactory
     _maxConcurrentConnectionInitializations = maxConcurrentConnectionInitializations;
     _channelPoolWaiterTimeout = channelPoolWaiterTimeout;
     Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup)
-      .channel(NioSocketChannel.class)
+      .channel(NettyTransport.of(eventLoopGroup).getSocketChannelClass())
       .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
       .handler(new HttpClientPipelineInitializer(sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize,
           enableSSLSessionResumption, sslHandShakeTimeout));
@@ -107,7 +108,7 @@ public class HttpNettyChannelPoolFactory implements ChannelPoolFactory
     );
   }
 
-  static class HttpClientPipelineInitializer extends ChannelInitializer<NioSocketChannel>
+  static class HttpClientPipelineInitializer extends ChannelInitializer<SocketChannel>
   {
     private final SSLContext _sslContext;
     private final SSLParameters _sslParameters;
@@ -149,7 +150,7 @@ public class HttpNettyChannelPoolFactory implements ChannelPoolFactory
     }
 
     @Override
-    protected void initChannel(NioSocketChannel ch) throws Exception
+    protected void initChannel(SocketChannel ch) throws Exception
     {
       if (_sslContext != null)
       {
@@ -17,6 +17,7 @@
 package com.linkedin.r2.transport.http.client.stream.http;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolFactory;
@@ -30,7 +31,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
@@ -74,12 +75,12 @@ public class HttpNettyStreamChannelPoolFactory implements ChannelPoolFactory
                                            int connectTimeout,
                                            int sslHandShakeTimeout)
   {
-    ChannelInitializer<NioSocketChannel> initializer =
+    ChannelInitializer<SocketChannel> initializer =
       new RAPStreamClientPipelineInitializer(sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize,
           enableSSLSessionResumption, sslHandShakeTimeout);
 
     Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup)
-      .channel(NioSocketChannel.class)
+      .channel(NettyTransport.of(eventLoopGroup).getSocketChannelClass())
       .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
       .handler(initializer);
 
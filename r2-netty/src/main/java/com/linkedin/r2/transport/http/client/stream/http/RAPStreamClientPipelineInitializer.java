@@ -18,7 +18,7 @@ package com.linkedin.r2.transport.http.client.stream.http;
 
 import com.linkedin.r2.netty.handler.common.SessionResumptionSslHandler;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -32,7 +32,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Netty HTTP/1.1 streaming implementation of {@link ChannelInitializer}
  */
-public class RAPStreamClientPipelineInitializer extends ChannelInitializer<NioSocketChannel>
+public class RAPStreamClientPipelineInitializer extends ChannelInitializer<SocketChannel>
 {
   static final Logger LOG = LoggerFactory.getLogger(RAPStreamClientPipelineInitializer.class);
 
@@ -125,7 +125,7 @@ public class RAPStreamClientPipelineInitializer extends ChannelInitializer<NioSo
   }
 
   @Override
-  protected void initChannel(NioSocketChannel ch)
+  protected void initChannel(SocketChannel ch)
   {
     if (_sslContext != null)
     {
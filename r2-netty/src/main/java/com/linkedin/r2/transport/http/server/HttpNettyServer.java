@@ -21,10 +21,11 @@
 package com.linkedin.r2.transport.http.server;
 
 import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.util.NamedThreadFactory;
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import java.net.InetSocketAddress;
@@ -47,9 +48,14 @@ import javax.net.ssl.SSLParameters;
   private final SSLContext _sslContext;
   private final SSLParameters _sslParameters;
   private final int _startupTimeoutMillis;
-
-  private NioEventLoopGroup _bossGroup;
-  private NioEventLoopGroup _workerGroup;
+  private final boolean _http2Enabled;
+  private final NettyTransport _transport;
+  private final int _acceptorCount;
+  private final boolean _streamingEnabled;
+  private final boolean _dispatchOnEventLoop;
+
+  private EventLoopGroup _bossGroup;
+  private EventLoopGroup _workerGroup;
   private EventExecutorGroup _eventExecutors;
 
   public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher)
@@ -77,6 +83,27 @@ import javax.net.ssl.SSLParameters;
   public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher, boolean restOverStream,
                          SSLContext sslContext, SSLParameters sslParameters, int startupTimeoutMillis)
   {
+    this(port, threadPoolSize, dispatcher, restOverStream, sslContext, sslParameters, startupTimeoutMillis, false,
+        NettyTransport.NIO, 1, false, false);
+  }
+
+  /**
+   * Constructs a server with the settings of {@link HttpNettyServerBuilder}, which documents them.
+   */
+  HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher, boolean restOverStream,
+      SSLContext sslContext, SSLParameters sslParameters, int startupTimeoutMillis, boolean http2Enabled,
+      NettyTransport transport, int acceptorCount, boolean streamingEnabled, boolean dispatchOnEventLoop)
+  {
+    if (acceptorCount < 1)
+    {
+      throw new IllegalArgumentException("acceptorCount must be at least 1: " + acceptorCount);
+    }
+    if (acceptorCount > 1 && !transport.isReusePortSupported())
+    {
+      throw new IllegalArgumentException(transport.getName() + " transport does not support SO_REUSEPORT, "
+          + "which is required to bind " + acceptorCount + " acceptors");
+    }
+
     _port = port;
     _threadPoolSize = threadPoolSize;
     _dispatcher = dispatcher;
@@ -84,22 +111,39 @@ import javax.net.ssl.SSLParameters;
     _sslContext = sslContext;
     _sslParameters = sslParameters;
     _startupTimeoutMillis = startupTimeoutMillis;
+    _http2Enabled = http2Enabled;
+    _transport = transport;
+    _acceptorCount = acceptorCount;
+    _streamingEnabled = streamingEnabled;
+    _dispatchOnEventLoop = dispatchOnEventLoop;
   }
 
   @Override
   public void start()
   {
     _eventExecutors =  new DefaultEventExecutorGroup(_threadPoolSize);
-    _bossGroup = new NioEventLoopGroup(1, new NamedThreadFactory("R2 Nio Boss"));
-    _workerGroup = new NioEventLoopGroup(0, new NamedThreadFactory("R2 Nio Worker"));
+    _bossGroup = _transport.newEventLoopGroup(_acceptorCount,
+        new NamedThreadFactory("R2 " + _transport.getName() + " Boss"));
+    _workerGroup = _transport.newEventLoopGroup(0, new NamedThreadFactory("R2 " + _transport.getName() + " Worker"));
 
     final HttpNettyServerPipelineInitializer pipelineInitializer = new HttpNettyServerPipelineInitializer(
-        _dispatcher, _eventExecutors, _sslContext, _sslParameters, _restOverStream);
+        _dispatcher, _eventExecutors, _sslContext, _sslParameters, _restOverStream, _http2Enabled,
+        _streamingEnabled, _dispatchOnEventLoop);
     ServerBootstrap bootstrap = new ServerBootstrap()
                                       .group(_bossGroup, _workerGroup)
-                                      .channel(NioServerSocketChannel.class)
+                                      .channel(_transport.getServerSocketChannelClass())
                                       .childHandler(pipelineInitializer);
-    bootstrap.bind(new InetSocketAddress(_port)).awaitUninterruptibly(_startupTimeoutMillis);
+    if (_acceptorCount > 1)
+    {
+      bootstrap.option(UnixChannelOption.SO_REUSEPORT, true);
+    }
+
+    // With SO_REUSEPORT, the kernel balances the connections between the server channels, which are each
+    // registered with their own boss event loop.
+    for (int i = 0; i < _acceptorCount; i++)
+    {
+      bootstrap.bind(new InetSocketAddress(_port)).awaitUninterruptibly(_startupTimeoutMillis);
+    }
   }
 
   @Override
@@ -19,6 +19,7 @@ package com.linkedin.r2.transport.http.server;
 import com.linkedin.r2.filter.FilterChain;
 import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.filter.transport.FilterChainDispatcher;
+import com.linkedin.r2.netty.common.NettyTransport;
 import com.linkedin.r2.transport.common.bridge.server.TransportDispatcher;
 import com.linkedin.util.ArgumentUtil;
 import javax.net.ssl.SSLContext;
@@ -36,6 +37,7 @@ public class HttpNettyServerBuilder
 {
   public static final int DEFAULT_NETTY_HTTP_SERVER_PORT = 8080;
   public static final int DEFAULT_THREAD_POOL_SIZE = 256;
+  public static final int DEFAULT_STARTUP_TIMEOUT_MILLIS = 10000;
 
   // The following fields are required.
   private TransportDispatcher _transportDispatcher = null;
@@ -45,6 +47,11 @@ public class HttpNettyServerBuilder
   private int _port = DEFAULT_NETTY_HTTP_SERVER_PORT;
   private int _threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
   private boolean _restOverStream = R2Constants.DEFAULT_REST_OVER_STREAM;
+  private boolean _http2Enabled = false;
+  private NettyTransport _transport = NettyTransport.NIO;
+  private int _acceptorCount = 1;
+  private boolean _streamingEnabled = false;
+  private boolean _dispatchOnEventLoop = false;
 
   // The following fields are optional.
   private SSLContext _sslContext = null;
@@ -92,17 +99,71 @@ public class HttpNettyServerBuilder
     return this;
   }
 
+  /**
+   * Enables HTTP/2 in addition to HTTP/1.1. With an {@link SSLContext}, the protocol is negotiated with ALPN,
+   * otherwise clients can use HTTP/2 in clear text (h2c) with prior knowledge or with an upgrade from HTTP/1.1.
+   */
+  public HttpNettyServerBuilder http2Enabled(boolean http2Enabled)
+  {
+    _http2Enabled = http2Enabled;
+    return this;
+  }
+
+  /**
+   * Sets the transport of the event loops and channels of the server, {@link NettyTransport#NIO} by default.
+   */
+  public HttpNettyServerBuilder transport(NettyTransport transport)
+  {
+    _transport = transport;
+    return this;
+  }
+
+  /**
+   * Sets the number of server channels bound to the port with {@code SO_REUSEPORT}, each accepting connections on its
+   * own thread. Values greater than 1 require a native transport, see {@link #transport(NettyTransport)}.
+   */
+  public HttpNettyServerBuilder acceptorCount(int acceptorCount)
+  {
+    _acceptorCount = acceptorCount;
+    return this;
+  }
+
+  /**
+   * Enables streaming of the entities of the requests as they are received, instead of aggregating them before
+   * dispatching the requests. Reading from a connection is paused while the entity of its request is not read fast
+   * enough by the server.
+   */
+  public HttpNettyServerBuilder streamingEnabled(boolean streamingEnabled)
+  {
+    _streamingEnabled = streamingEnabled;
+    return this;
+  }
+
+  /**
+   * Dispatches the requests on the event loops of their connections, saving the hand-off to the thread pool, which
+   * then only runs the blocking work of the requests, e.g. the synchronous methods of Rest.li resources. Filters and
+   * request handlers must not block the calling thread otherwise.
+   */
+  public HttpNettyServerBuilder dispatchOnEventLoop(boolean dispatchOnEventLoop)
+  {
+    _dispatchOnEventLoop = dispatchOnEventLoop;
+    return this;
+  }
+
   public HttpNettyServer build()
   {
     validateParameters();
     final TransportDispatcher filterDispatcher = new FilterChainDispatcher(_transportDispatcher, _filters);
     final HttpDispatcher dispatcher = HttpDispatcherFactory.create((filterDispatcher));
-    return new HttpNettyServer(_port, _threadPoolSize, dispatcher, _sslContext, _sslParameters);
+    return new HttpNettyServer(_port, _threadPoolSize, dispatcher, _restOverStream, _sslContext, _sslParameters,
+        DEFAULT_STARTUP_TIMEOUT_MILLIS, _http2Enabled, _transport, _acceptorCount, _streamingEnabled,
+        _dispatchOnEventLoop);
   }
 
   private void validateParameters()
   {
     ArgumentUtil.notNull(_transportDispatcher, "transportDispatcher");
     ArgumentUtil.notNull(_filters, "filters");
+    ArgumentUtil.notNull(_transport, "transport");
   }
 }
@@ -18,42 +18,129 @@ package com.linkedin.r2.transport.http.server;
 
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.netty.common.SslHandlerUtil;
+import com.linkedin.r2.netty.handler.http.HttpMessageDecoders;
+import com.linkedin.r2.netty.handler.http.HttpMessageEncoders;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerExpectContinueHandler;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AsciiString;
 import io.netty.util.concurrent.EventExecutorGroup;
+import java.util.Arrays;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
 
 
-public class HttpNettyServerPipelineInitializer extends ChannelInitializer<NioSocketChannel>
+/**
+ * Initializes the pipeline of the connections accepted by {@link HttpNettyServer}.
+ * <p>
+ *
+ * When HTTP/2 is enabled, the protocol of a connection is negotiated with ALPN over SSL, or, in clear text, is
+ * either HTTP/2 with prior knowledge or HTTP/1.1 with an optional upgrade to HTTP/2 (h2c). Connections that stay on
+ * HTTP/1.1 use the same pipeline as when HTTP/2 is disabled. The requests of an HTTP/2 connection are dispatched
+ * from the pipeline of their own {@link io.netty.handler.codec.http2.Http2StreamChannel}:
+ *
+ * <pre>
+ *   Http2StreamFrameToHttpObjectCodec -> HttpObjectAggregator -> RAPServerCodec -> PipelineStreamHandler
+ * </pre>
+ *
+ * When dispatching on the event loop is enabled, the request handlers run on the event loop of their channel instead
+ * of the {@link EventExecutorGroup}, which is set in the {@link com.linkedin.r2.message.RequestContext} under
+ * {@link com.linkedin.r2.filter.R2Constants#SERVER_BLOCKING_EXECUTOR} for the blocking work of the requests.
+ * <p>
+ *
+ * When streaming is enabled, the requests are not aggregated, and their entities are streamed as they are received
+ * by {@link PipelineEntityStreamHandler} instead:
+ *
+ * <pre>
+ *   HttpServerExpectContinueHandler -> RequestDecoder -> DataDecoder -> PipelineEntityStreamHandler
+ * </pre>
+ */
+public class HttpNettyServerPipelineInitializer extends ChannelInitializer<SocketChannel>
 {
+  private static final int MAX_CONTENT_LENGTH = 1048576;
+  private static final String[] HTTP1_HANDLER_NAMES = { "codec", "aggregator", "rapi", "expectContinue",
+      "outboundDataEncoder", "outboundResponseEncoder", "inboundRequestDecoder", "inboundDataDecoder", "handler" };
+
   private final SSLContext _sslContext;
   private final SSLParameters _sslParameters;
   private final EventExecutorGroup _eventExecutors;
   private final boolean _restOverStream;
+  private final boolean _http2Enabled;
+  private final boolean _streamingEnabled;
+  private final boolean _dispatchOnEventLoop;
   private final HttpDispatcher _dispatcher;
 
 
   HttpNettyServerPipelineInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
                                      SSLContext sslContext, SSLParameters sslParameters,
                                      boolean restOverStream)
+  {
+    this(dispatcher, eventExecutors, sslContext, sslParameters, restOverStream, false);
+  }
+
+  HttpNettyServerPipelineInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
+                                     SSLContext sslContext, SSLParameters sslParameters,
+                                     boolean restOverStream, boolean http2Enabled)
+  {
+    this(dispatcher, eventExecutors, sslContext, sslParameters, restOverStream, http2Enabled, false);
+  }
+
+  HttpNettyServerPipelineInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
+                                     SSLContext sslContext, SSLParameters sslParameters,
+                                     boolean restOverStream, boolean http2Enabled, boolean streamingEnabled)
+  {
+    this(dispatcher, eventExecutors, sslContext, sslParameters, restOverStream, http2Enabled, streamingEnabled, false);
+  }
+
+  HttpNettyServerPipelineInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
+                                     SSLContext sslContext, SSLParameters sslParameters,
+                                     boolean restOverStream, boolean http2Enabled, boolean streamingEnabled,
+                                     boolean dispatchOnEventLoop)
   {
     _dispatcher = dispatcher;
     _sslContext = sslContext;
     _sslParameters = sslParameters;
     _eventExecutors = eventExecutors;
     _restOverStream = restOverStream;
+    _http2Enabled = http2Enabled;
+    _streamingEnabled = streamingEnabled;
+    _dispatchOnEventLoop = dispatchOnEventLoop;
   }
 
   @Override
-  protected void initChannel(NioSocketChannel ch) throws Exception
+  protected void initChannel(SocketChannel ch) throws Exception
   {
     SslHandlerUtil.validateSslParameters(_sslContext, _sslParameters);
+    if (_http2Enabled)
+    {
+      initHttp2Channel(ch);
+      return;
+    }
+
     // If _sslContext is not NULL, we should first add SSL handler to the pipeline to secure the channel.
     if (_sslContext != null)
     {
@@ -62,12 +149,170 @@ public class HttpNettyServerPipelineInitializer extends ChannelInitializer<NioSo
     }
 
     ch.pipeline().addLast("decoder", new HttpRequestDecoder());
-    ch.pipeline().addLast("aggregator", new HttpObjectAggregator(1048576));
     ch.pipeline().addLast("encoder", new HttpResponseEncoder());
-    ch.pipeline().addLast("rapi", new RAPServerCodec());
+    addRequestHandlers(ch.pipeline());
+  }
+
+  private void initHttp2Channel(SocketChannel ch)
+  {
+    if (_sslContext != null)
+    {
+      ch.pipeline().addLast(SslHandlerUtil.PIPELINE_SSL_HANDLER, createAlpnSslContext().newHandler(ch.alloc()));
+      ch.pipeline().addLast(new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1)
+      {
+        @Override
+        protected void configurePipeline(ChannelHandlerContext ctx, String protocol)
+        {
+          if (ApplicationProtocolNames.HTTP_2.equals(protocol))
+          {
+            ctx.pipeline().addLast(new Http2ConnectionInitializer(true));
+          }
+          else
+          {
+            addHttp1Handlers(ctx.pipeline());
+          }
+        }
+      });
+      return;
+    }
+
+    final HttpServerCodec sourceCodec = new HttpServerCodec();
+    final HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(sourceCodec,
+        protocol -> AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)
+            ? new Http2ServerUpgradeCodec(createHttp2FrameCodec(), new Http2ConnectionInitializer(false))
+            : null,
+        MAX_CONTENT_LENGTH);
+    ch.pipeline().addLast(new CleartextHttp2ServerUpgradeHandler(sourceCodec, upgradeHandler,
+        new Http2ConnectionInitializer(true)));
+    addRequestHandlers(ch.pipeline());
+  }
+
+  private void addHttp1Handlers(ChannelPipeline pipeline)
+  {
+    pipeline.addLast("codec", new HttpServerCodec());
+    addRequestHandlers(pipeline);
+  }
+
+  /**
+   * Adds the handlers which dispatch the requests decoded by the HTTP codec of the pipeline.
+   */
+  private void addRequestHandlers(ChannelPipeline pipeline)
+  {
+    if (_streamingEnabled)
+    {
+      pipeline.addLast("expectContinue", new HttpServerExpectContinueHandler());
+      pipeline.addLast("outboundDataEncoder", HttpMessageEncoders.newDataEncoder());
+      pipeline.addLast("outboundResponseEncoder", HttpMessageEncoders.newStreamResponseEncoder());
+      // A full request, e.g. an HTTP/2 request without entity, is decoded with its content by the RequestDecoder.
+      pipeline.addLast("inboundRequestDecoder", HttpMessageDecoders.newRequestDecoder());
+      pipeline.addLast("inboundDataDecoder", HttpMessageDecoders.newDataDecoder());
+      // The entities are not buffered beyond the watermarks of the StreamWriter, hence their length is not limited.
+      pipeline.addLast("handler",
+          new PipelineEntityStreamHandler(_dispatcher, _eventExecutors, _dispatchOnEventLoop, Long.MAX_VALUE));
+      return;
+    }
 
-    final SimpleChannelInboundHandler<RestRequest> restHandler = _restOverStream ?
-        new PipelineStreamHandler(_dispatcher) : new PipelineRestHandler(_dispatcher);
-    ch.pipeline().addLast(_eventExecutors, "handler", restHandler);
+    pipeline.addLast("aggregator", new HttpObjectAggregator(MAX_CONTENT_LENGTH));
+    pipeline.addLast("rapi", new RAPServerCodec());
+
+    if (_dispatchOnEventLoop)
+    {
+      final SimpleChannelInboundHandler<RestRequest> restHandler = _restOverStream
+          ? new PipelineStreamHandler(_dispatcher, _eventExecutors)
+          : new PipelineRestHandler(_dispatcher, _eventExecutors);
+      pipeline.addLast("handler", restHandler);
+    }
+    else
+    {
+      final SimpleChannelInboundHandler<RestRequest> restHandler = _restOverStream ?
+          new PipelineStreamHandler(_dispatcher) : new PipelineRestHandler(_dispatcher);
+      pipeline.addLast(_eventExecutors, "handler", restHandler);
+    }
+  }
+
+  private static Http2FrameCodec createHttp2FrameCodec()
+  {
+    return Http2FrameCodecBuilder.forServer().build();
+  }
+
+  private SslContext createAlpnSslContext()
+  {
+    final String[] cipherSuites = _sslParameters == null ? null : _sslParameters.getCipherSuites();
+    final ClientAuth clientAuth;
+    if (_sslParameters != null && _sslParameters.getNeedClientAuth())
+    {
+      clientAuth = ClientAuth.REQUIRE;
+    }
+    else if (_sslParameters != null && _sslParameters.getWantClientAuth())
+    {
+      clientAuth = ClientAuth.OPTIONAL;
+    }
+    else
+    {
+      clientAuth = ClientAuth.NONE;
+    }
+
+    // Same as Http2ChannelInitializer of the client, the SslContextBuilder of Netty can not be built from an
+    // existing SSLContext.
+    return new JdkSslContext(
+        _sslContext,
+        false,
+        cipherSuites == null ? null : Arrays.asList(cipherSuites),
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2,
+            ApplicationProtocolNames.HTTP_1_1),
+        clientAuth);
+  }
+
+  /**
+   * Completes the pipeline of a connection switched to HTTP/2, either after ALPN, with prior knowledge or after
+   * an upgrade from HTTP/1.1, in which case the {@link Http2FrameCodec} has already been added by the
+   * {@link Http2ServerUpgradeCodec}.
+   */
+  private class Http2ConnectionInitializer extends ChannelInitializer<Channel>
+  {
+    private final boolean _addFrameCodec;
+
+    Http2ConnectionInitializer(boolean addFrameCodec)
+    {
+      _addFrameCodec = addFrameCodec;
+    }
+
+    @Override
+    protected void initChannel(Channel ch)
+    {
+      // The HTTP/1.1 handlers of a clear text connection are not used anymore.
+      final ChannelPipeline pipeline = ch.pipeline();
+      for (String name : HTTP1_HANDLER_NAMES)
+      {
+        if (pipeline.get(name) != null)
+        {
+          pipeline.remove(name);
+        }
+      }
+
+      if (_addFrameCodec)
+      {
+        pipeline.addLast(createHttp2FrameCodec());
+      }
+      pipeline.addLast(new Http2MultiplexHandler(new Http2StreamInitializer()));
+    }
+  }
+
+  /**
+   * Initializes the pipeline of an HTTP/2 stream, which carries a single request and its response.
+   */
+  private class Http2StreamInitializer extends ChannelInitializer<Channel>
+  {
+    @Override
+    protected void initChannel(Channel ch)
+    {
+      ch.pipeline().addLast("codec", new Http2StreamFrameToHttpObjectCodec(true));
+      addRequestHandlers(ch.pipeline());
+    }
   }
 }
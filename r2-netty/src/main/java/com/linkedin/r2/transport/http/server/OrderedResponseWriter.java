@@ -0,0 +1,71 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import io.netty.channel.Channel;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Writes the responses of the requests received on a channel in the order of the requests, as HTTP/1.1 requires for
+ * pipelined requests, whatever the order in which the responses are completed. A response completed before the ones
+ * of the previous requests is held until they are written.
+ */
+class OrderedResponseWriter
+{
+  private final Channel _channel;
+  private final Map<Long, Object> _heldResponses = new HashMap<>();
+  private long _nextRequest = 0L;
+  private long _nextResponse = 0L;
+
+  OrderedResponseWriter(Channel channel)
+  {
+    _channel = channel;
+  }
+
+  /**
+   * @return the sequence number of the next request received on the channel.
+   */
+  synchronized long nextSequence()
+  {
+    return _nextRequest++;
+  }
+
+  /**
+   * Writes the response of a request along with the held responses of the following requests, or holds it if the
+   * responses of the previous requests have not all been written.
+   *
+   * @param sequence the sequence number of the request.
+   * @param response the response of the request.
+   */
+  synchronized void write(long sequence, Object response)
+  {
+    _heldResponses.put(sequence, response);
+    boolean written = false;
+    for (Object next; (next = _heldResponses.remove(_nextResponse)) != null; _nextResponse++)
+    {
+      // The writes are submitted to the event loop in order since the lock is held
+      _channel.write(next);
+      written = true;
+    }
+    if (written)
+    {
+      _channel.flush();
+    }
+  }
+}
@@ -0,0 +1,260 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.rest.RestStatus;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamRequestBuilder;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.entitystream.CancelingReader;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.netty.entitystream.StreamReader;
+import com.linkedin.r2.netty.entitystream.StreamWriter;
+import com.linkedin.r2.transport.common.WireAttributeHelper;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import com.linkedin.r2.transport.http.client.stream.OrderedEntityStreamReader;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.EventExecutorGroup;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Queue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Dispatches {@link StreamRequest}s whose entity is streamed from the channel as it is received, instead of being
+ * aggregated first, and streams the entity of their {@link StreamResponse}s to the channel.
+ * <p>
+ *
+ * The entity of a request is written by a {@link StreamWriter}, which stops reading from the channel when too many
+ * bytes are buffered, until they are requested by the reader of the entity. The entity of a response is read by a
+ * {@link StreamReader}, which requests more bytes once the previous ones have been written to the channel.
+ * <p>
+ *
+ * The requests of a connection are handled one at a time. The requests received while a response is being written,
+ * e.g. pipelined HTTP/1.1 requests, are buffered without reading further from the channel, and are dispatched once the
+ * response is complete. The handler must be added to the pipeline without {@link EventExecutorGroup}, so that it runs
+ * on the event loop of the channel. The requests are dispatched either on the given {@link EventExecutorGroup}, or on
+ * the event loop with the {@link EventExecutorGroup} set in the {@link RequestContext} to run blocking work on.
+ */
+class PipelineEntityStreamHandler extends ChannelInboundHandlerAdapter
+{
+  private static final Logger LOG = LoggerFactory.getLogger(PipelineEntityStreamHandler.class);
+
+  private final HttpDispatcher _dispatcher;
+  private final EventExecutorGroup _eventExecutors;
+  private final boolean _dispatchOnEventLoop;
+  private final long _maxContentLength;
+
+  /**
+   * Messages of the requests received while a response is being written.
+   */
+  private final Queue<Object> _pendingMessages = new ArrayDeque<>();
+
+  /**
+   * Writer of the entity of the current request, until its last byte has been received.
+   */
+  private StreamWriter _writer;
+  private boolean _responding = false;
+
+  PipelineEntityStreamHandler(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
+      boolean dispatchOnEventLoop, long maxContentLength)
+  {
+    _dispatcher = dispatcher;
+    _eventExecutors = eventExecutors;
+    _dispatchOnEventLoop = dispatchOnEventLoop;
+    _maxContentLength = maxContentLength;
+  }
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg)
+  {
+    if (!(msg instanceof StreamRequestBuilder) && !(msg instanceof ByteString))
+    {
+      ctx.fireChannelRead(msg);
+      return;
+    }
+
+    if (_responding && (msg instanceof StreamRequestBuilder || !_pendingMessages.isEmpty()))
+    {
+      _pendingMessages.add(msg);
+      ctx.channel().config().setAutoRead(false);
+      return;
+    }
+
+    handleMessage(ctx, msg);
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx)
+  {
+    if (_writer != null)
+    {
+      _writer.onError(new ClosedChannelException());
+      _writer = null;
+    }
+    _pendingMessages.clear();
+    ctx.fireChannelInactive();
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause)
+  {
+    if (_writer != null)
+    {
+      _writer.onError(cause);
+      _writer = null;
+    }
+    LOG.error("Exception caught on channel: " + ctx.channel().remoteAddress(), cause);
+    ctx.close();
+  }
+
+  private void handleMessage(ChannelHandlerContext ctx, Object msg)
+  {
+    if (msg instanceof StreamRequestBuilder)
+    {
+      _writer = new StreamWriter(ctx, _maxContentLength);
+      _responding = true;
+      final StreamRequest request = ((StreamRequestBuilder) msg).build(EntityStreams.newEntityStream(_writer));
+      if (_dispatchOnEventLoop)
+      {
+        dispatch(ctx, request);
+      }
+      else
+      {
+        _eventExecutors.next().execute(() -> dispatch(ctx, request));
+      }
+    }
+    else if (_writer != null)
+    {
+      final StreamWriter writer = _writer;
+      if (msg == StreamWriter.EOF)
+      {
+        _writer = null;
+      }
+      writer.onDataAvailable((ByteString) msg);
+    }
+  }
+
+  private void dispatch(ChannelHandlerContext ctx, StreamRequest request)
+  {
+    final TransportCallback<StreamResponse> writeResponseCallback = response -> writeResponse(ctx, response);
+    final RequestContext requestContext = new RequestContext();
+    if (_dispatchOnEventLoop)
+    {
+      requestContext.putLocalAttr(R2Constants.SERVER_BLOCKING_EXECUTOR, _eventExecutors);
+    }
+    try
+    {
+      _dispatcher.handleRequest(request, requestContext, writeResponseCallback);
+    }
+    catch (Exception ex)
+    {
+      writeResponseCallback.onResponse(TransportResponseImpl.<StreamResponse> error(ex,
+          Collections.<String, String> emptyMap()));
+    }
+  }
+
+  private void writeResponse(ChannelHandlerContext ctx, TransportResponse<StreamResponse> response)
+  {
+    // The error is only set in cases where the exception was thrown by the dispatcher or the callback of the
+    // HttpBridge declined to convert it to a response.
+    final StreamResponse streamResponse = response.hasError()
+        ? Messages.toStreamResponse(RestStatus.responseForError(RestStatus.INTERNAL_SERVER_ERROR, response.getError()))
+        : response.getResponse();
+    final StreamResponse responseWithWireAttrs = streamResponse.builder()
+        .unsafeOverwriteHeaders(WireAttributeHelper.toWireAttributes(response.getWireAttributes()))
+        .build(streamResponse.getEntityStream());
+
+    // Reads the entity after the headers have been written, the same as ClientEntityStreamHandler for requests.
+    ctx.writeAndFlush(responseWithWireAttrs).addListener(future ->
+    {
+      if (future.isSuccess())
+      {
+        responseWithWireAttrs.getEntityStream().setReader(
+            new OrderedEntityStreamReader(ctx, new ResponseEntityReader(ctx)));
+      }
+      else
+      {
+        responseWithWireAttrs.getEntityStream().setReader(new CancelingReader());
+        exceptionCaught(ctx, future.cause());
+      }
+    });
+  }
+
+  /**
+   * Dispatches the requests received while the response was being written, until one of them is being responded to.
+   * Must be executed by the event loop of the channel.
+   */
+  private void onResponseComplete(ChannelHandlerContext ctx)
+  {
+    _responding = false;
+
+    // The rest of the entity of the request is not read once the response is complete.
+    if (_writer != null)
+    {
+      ctx.close();
+      return;
+    }
+
+    while (!_responding && !_pendingMessages.isEmpty())
+    {
+      handleMessage(ctx, _pendingMessages.poll());
+    }
+    if (_pendingMessages.isEmpty())
+    {
+      // The writer of the entity of a dispatched request disables auto read again when needed.
+      ctx.channel().config().setAutoRead(true);
+    }
+  }
+
+  private class ResponseEntityReader extends StreamReader
+  {
+    private final ChannelHandlerContext _ctx;
+
+    ResponseEntityReader(ChannelHandlerContext ctx)
+    {
+      super(ctx);
+      _ctx = ctx;
+    }
+
+    @Override
+    public void onDone()
+    {
+      super.onDone();
+      onResponseComplete(_ctx);
+    }
+
+    @Override
+    public void onError(Throwable e)
+    {
+      // The response can not be completed, the client can only find out from the closed connection.
+      LOG.error("Failed to read the response entity on channel: " + _ctx.channel().remoteAddress(), e);
+      _pendingMessages.clear();
+      _ctx.close();
+    }
+  }
+}
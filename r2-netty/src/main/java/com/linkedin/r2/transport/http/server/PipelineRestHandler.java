@@ -16,6 +16,8 @@
 
 package com.linkedin.r2.transport.http.server;
 
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
@@ -24,10 +26,10 @@ import com.linkedin.r2.transport.common.WireAttributeHelper;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
-import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import java.util.Collections;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,16 +38,35 @@ class PipelineRestHandler extends SimpleChannelInboundHandler<RestRequest>
 {
   private static final Logger LOG = LoggerFactory.getLogger(PipelineRestHandler.class);
   private final HttpDispatcher _dispatcher;
+  private final Executor _blockingExecutor;
+  private OrderedResponseWriter _responseWriter;
 
   PipelineRestHandler(HttpDispatcher dispatcher)
+  {
+    this(dispatcher, null);
+  }
+
+  /**
+   * @param blockingExecutor the executor set in the {@link RequestContext} to run blocking work on when the handler
+   *                         runs on the event loop of the channel, or null if it does not.
+   */
+  PipelineRestHandler(HttpDispatcher dispatcher, Executor blockingExecutor)
   {
     _dispatcher = dispatcher;
+    _blockingExecutor = blockingExecutor;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx)
+  {
+    _responseWriter = new OrderedResponseWriter(ctx.channel());
   }
 
   @Override
   protected void channelRead0(ChannelHandlerContext ctx, RestRequest request) throws Exception
   {
-    final Channel ch = ctx.channel();
+    // Pipelined requests may be completed in any order, their responses are written in order
+    final long sequence = _responseWriter.nextSequence();
     TransportCallback<RestResponse> writeResponseCallback = new TransportCallback<RestResponse>()
     {
       @Override
@@ -72,12 +93,17 @@ class PipelineRestHandler extends SimpleChannelInboundHandler<RestRequest>
             .unsafeOverwriteHeaders(WireAttributeHelper.toWireAttributes(response.getWireAttributes()))
             .build();
 
-        ch.writeAndFlush(responseBuilder.build());
+        _responseWriter.write(sequence, responseBuilder.build());
       }
     };
+    final RequestContext requestContext = new RequestContext();
+    if (_blockingExecutor != null)
+    {
+      requestContext.putLocalAttr(R2Constants.SERVER_BLOCKING_EXECUTOR, _blockingExecutor);
+    }
     try
     {
-      _dispatcher.handleRequest(request, writeResponseCallback);
+      _dispatcher.handleRequest(request, requestContext, writeResponseCallback);
     }
     catch (Exception ex)
     {
@@ -17,7 +17,9 @@
 package com.linkedin.r2.transport.http.server;
 
 import com.linkedin.common.callback.Callback;
+import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
@@ -27,10 +29,10 @@ import com.linkedin.r2.transport.common.WireAttributeHelper;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
-import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import java.util.Collections;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,33 +41,52 @@ class PipelineStreamHandler extends SimpleChannelInboundHandler<RestRequest>
 {
   private static final Logger LOG = LoggerFactory.getLogger(PipelineStreamHandler.class);
   private final HttpDispatcher _dispatcher;
+  private final Executor _blockingExecutor;
+  private OrderedResponseWriter _responseWriter;
 
   PipelineStreamHandler(HttpDispatcher dispatcher)
+  {
+    this(dispatcher, null);
+  }
+
+  /**
+   * @param blockingExecutor the executor set in the {@link RequestContext} to run blocking work on when the handler
+   *                         runs on the event loop of the channel, or null if it does not.
+   */
+  PipelineStreamHandler(HttpDispatcher dispatcher, Executor blockingExecutor)
   {
     _dispatcher = dispatcher;
+    _blockingExecutor = blockingExecutor;
   }
 
-  private void writeError(Channel ch, TransportResponse<StreamResponse> response, Throwable ex)
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx)
+  {
+    _responseWriter = new OrderedResponseWriter(ctx.channel());
+  }
+
+  private void writeError(long sequence, TransportResponse<StreamResponse> response, Throwable ex)
   {
     RestResponseBuilder responseBuilder =
         new RestResponseBuilder(RestStatus.responseForError(RestStatus.INTERNAL_SERVER_ERROR, ex))
             .unsafeOverwriteHeaders(WireAttributeHelper.toWireAttributes(response.getWireAttributes()));
 
-    ch.writeAndFlush(responseBuilder.build());
+    _responseWriter.write(sequence, responseBuilder.build());
   }
 
-  private void writeResponse(Channel ch, TransportResponse<StreamResponse> response,  RestResponse restResponse)
+  private void writeResponse(long sequence, TransportResponse<StreamResponse> response,  RestResponse restResponse)
   {
     RestResponseBuilder responseBuilder = restResponse.builder()
         .unsafeOverwriteHeaders(WireAttributeHelper.toWireAttributes(response.getWireAttributes()));
 
-    ch.writeAndFlush(responseBuilder.build());
+    _responseWriter.write(sequence, responseBuilder.build());
   }
 
   @Override
   protected void channelRead0(ChannelHandlerContext ctx, RestRequest request) throws Exception
   {
-    final Channel ch = ctx.channel();
+    // Pipelined requests may be completed in any order, their responses are written in order
+    final long sequence = _responseWriter.nextSequence();
     TransportCallback<StreamResponse> writeResponseCallback = new TransportCallback<StreamResponse>()
     {
       @Override
@@ -80,7 +101,7 @@ class PipelineStreamHandler extends SimpleChannelInboundHandler<RestRequest>
           // turning it into a Response, or
           // (2) the HttpBridge-installed callback's onError declined to convert the exception to a
           // response and passed it along to here.
-          writeError(ch, response, response.getError());
+          writeError(sequence, response, response.getError());
         }
         else
         {
@@ -89,21 +110,26 @@ class PipelineStreamHandler extends SimpleChannelInboundHandler<RestRequest>
             @Override
             public void onError(Throwable e)
             {
-              writeError(ch, response, e);
+              writeError(sequence, response, e);
             }
 
             @Override
             public void onSuccess(RestResponse result)
             {
-              writeResponse(ch, response, result);
+              writeResponse(sequence, response, result);
             }
           });
         }
       }
     };
+    final RequestContext requestContext = new RequestContext();
+    if (_blockingExecutor != null)
+    {
+      requestContext.putLocalAttr(R2Constants.SERVER_BLOCKING_EXECUTOR, _blockingExecutor);
+    }
     try
     {
-      _dispatcher.handleRequest(Messages.toStreamRequest(request), writeResponseCallback);
+      _dispatcher.handleRequest(Messages.toStreamRequest(request), requestContext, writeResponseCallback);
     }
     catch (Exception ex)
     {
@@ -24,10 +24,10 @@ package com.linkedin.r2.transport.http.server;
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.rest.RestRequestBuilder;
 import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.netty.common.ByteStringUtil;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -95,7 +95,7 @@ class RAPServerCodec extends ChannelDuplexHandler
       ByteBuf buf = nettyRequest.content();
       if (buf != null)
       {
-        ByteString entity = ByteString.read(new ByteBufInputStream(buf), buf.readableBytes());
+        ByteString entity = ByteStringUtil.copy(buf);
         builder.setEntity(entity);
       }
       out.add(builder.build());
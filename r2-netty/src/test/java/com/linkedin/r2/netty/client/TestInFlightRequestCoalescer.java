@@ -0,0 +1,251 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestInFlightRequestCoalescer
+{
+  private static final URI ANY_URI = URI.create("http://localhost:8080/foo/bar?q=baz");
+  private static final String ANY_ENTITY = "{\"name\": \"value\"}";
+  private static final long ANY_TIMEOUT = 1000L;
+
+  @Test
+  public void testSingleRequest()
+  {
+    InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer();
+    ResponseCollector callback = new ResponseCollector();
+
+    TransportCallback<StreamResponse> sendCallback = coalesce(coalescer, newRequest("value"), callback);
+    Assert.assertNotNull(sendCallback);
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 1);
+
+    sendCallback.onResponse(newResponse());
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+    Assert.assertEquals(callback.getEntities(), Collections.singletonList(ANY_ENTITY));
+  }
+
+  @Test
+  public void testIdenticalRequestsCoalesced()
+  {
+    InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer();
+    List<ResponseCollector> callbacks = new ArrayList<>();
+    for (int i = 0; i < 3; i++)
+    {
+      callbacks.add(new ResponseCollector());
+    }
+
+    TransportCallback<StreamResponse> sendCallback = coalesce(coalescer, newRequest("value"), callbacks.get(0));
+    Assert.assertNotNull(sendCallback);
+    Assert.assertNull(coalesce(coalescer, newRequest("value"), callbacks.get(1)));
+    Assert.assertNull(coalesce(coalescer, newRequest("value"), callbacks.get(2)));
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 1);
+
+    sendCallback.onResponse(newResponse());
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+    for (ResponseCollector callback : callbacks)
+    {
+      Assert.assertEquals(callback.getEntities(), Collections.singletonList(ANY_ENTITY));
+    }
+  }
+
+  @Test
+  public void testDifferentHeadersNotCoalesced()
+  {
+    InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer();
+
+    Assert.assertNotNull(coalesce(coalescer, newRequest("value1"), new ResponseCollector()));
+    Assert.assertNotNull(coalesce(coalescer, newRequest("value2"), new ResponseCollector()));
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 2);
+  }
+
+  @Test
+  public void testErrorFannedOut()
+  {
+    InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer();
+    ResponseCollector callback1 = new ResponseCollector();
+    ResponseCollector callback2 = new ResponseCollector();
+
+    TransportCallback<StreamResponse> sendCallback = coalesce(coalescer, newRequest("value"), callback1);
+    Assert.assertNull(coalesce(coalescer, newRequest("value"), callback2));
+
+    TimeoutException error = new TimeoutException();
+    sendCallback.onResponse(TransportResponseImpl.error(error));
+    Assert.assertEquals(callback1.getErrors(), Collections.singletonList(error));
+    Assert.assertEquals(callback2.getErrors(), Collections.singletonList(error));
+  }
+
+  @Test
+  public void testRequestAfterResponseSentAnew()
+  {
+    InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer();
+    ResponseCollector callback1 = new ResponseCollector();
+    ResponseCollector callback2 = new ResponseCollector();
+
+    TransportCallback<StreamResponse> sendCallback1 = coalesce(coalescer, newRequest("value"), callback1);
+    sendCallback1.onResponse(newResponse());
+
+    TransportCallback<StreamResponse> sendCallback2 = coalesce(coalescer, newRequest("value"), callback2);
+    Assert.assertNotNull(sendCallback2);
+
+    // A late invocation of the first callback must not complete the second request
+    sendCallback1.onResponse(TransportResponseImpl.error(new TimeoutException()));
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 1);
+    Assert.assertEquals(callback1.getEntities(), Collections.singletonList(ANY_ENTITY));
+    Assert.assertTrue(callback2.getEntities().isEmpty());
+    Assert.assertTrue(callback2.getErrors().isEmpty());
+  }
+
+  @Test
+  public void testIgnoredHeadersNotCompared()
+  {
+    InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer(Collections.singletonList("x-request-id"));
+
+    RestRequest request1 = new RestRequestBuilder(newRequest("value")).setHeader("X-Request-Id", "1").build();
+    RestRequest request2 = new RestRequestBuilder(newRequest("value")).setHeader("X-Request-Id", "2").build();
+    Assert.assertNotNull(coalesce(coalescer, request1, new ResponseCollector()));
+    Assert.assertNull(coalesce(coalescer, request2, new ResponseCollector()));
+    Assert.assertNotNull(coalesce(coalescer, newRequest("other"), new ResponseCollector()));
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 2);
+  }
+
+  @Test
+  public void testRequestWithLongerTimeoutNotCoalesced()
+  {
+    InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer();
+    ResponseCollector callback1 = new ResponseCollector();
+    ResponseCollector callback2 = new ResponseCollector();
+    ResponseCollector callback3 = new ResponseCollector();
+
+    TransportCallback<StreamResponse> sendCallback1 =
+        coalescer.coalesce(newRequest("value"), new RequestContext(), ANY_TIMEOUT, callback1);
+    TransportCallback<StreamResponse> sendCallback2 =
+        coalescer.coalesce(newRequest("value"), new RequestContext(), ANY_TIMEOUT * 2, callback2);
+    Assert.assertNotNull(sendCallback2);
+    // Following requests are coalesced with the request with the longer timeout
+    Assert.assertNull(coalescer.coalesce(newRequest("value"), new RequestContext(), ANY_TIMEOUT, callback3));
+
+    TimeoutException error = new TimeoutException();
+    sendCallback1.onResponse(TransportResponseImpl.error(error));
+    Assert.assertEquals(callback1.getErrors(), Collections.singletonList(error));
+    Assert.assertTrue(callback2.getErrors().isEmpty());
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 1);
+
+    sendCallback2.onResponse(newResponse());
+    Assert.assertEquals(callback2.getEntities(), Collections.singletonList(ANY_ENTITY));
+    Assert.assertEquals(callback3.getEntities(), Collections.singletonList(ANY_ENTITY));
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+  }
+
+  @Test
+  public void testRemoteServerCopiedToCoalescedRequests()
+  {
+    InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer();
+    RequestContext context1 = new RequestContext();
+    RequestContext context2 = new RequestContext();
+
+    TransportCallback<StreamResponse> sendCallback =
+        coalescer.coalesce(newRequest("value"), context1, ANY_TIMEOUT, new ResponseCollector());
+    Assert.assertNull(coalescer.coalesce(newRequest("value"), context2, ANY_TIMEOUT, new ResponseCollector()));
+
+    context1.putLocalAttr(R2Constants.REMOTE_SERVER_ADDR, "127.0.0.1");
+    context1.putLocalAttr(R2Constants.REMOTE_SERVER_PORT, 8080);
+    sendCallback.onResponse(newResponse());
+    Assert.assertEquals(context2.getLocalAttr(R2Constants.REMOTE_SERVER_ADDR), "127.0.0.1");
+    Assert.assertEquals(context2.getLocalAttr(R2Constants.REMOTE_SERVER_PORT), 8080);
+  }
+
+  private static TransportCallback<StreamResponse> coalesce(InFlightRequestCoalescer coalescer, RestRequest request,
+      TransportCallback<StreamResponse> callback)
+  {
+    return coalescer.coalesce(request, new RequestContext(), ANY_TIMEOUT, callback);
+  }
+
+  private static RestRequest newRequest(String headerValue)
+  {
+    return new RestRequestBuilder(ANY_URI).setMethod("GET").setHeader("X-Header", headerValue).build();
+  }
+
+  private static TransportResponse<StreamResponse> newResponse()
+  {
+    RestResponse response = new RestResponseBuilder()
+        .setEntity(ByteString.copyString(ANY_ENTITY, StandardCharsets.UTF_8))
+        .build();
+    return TransportResponseImpl.success(Messages.toStreamResponse(response));
+  }
+
+  private static class ResponseCollector implements TransportCallback<StreamResponse>
+  {
+    private final List<String> _entities = new ArrayList<>();
+    private final List<Throwable> _errors = new ArrayList<>();
+
+    @Override
+    public void onResponse(TransportResponse<StreamResponse> response)
+    {
+      if (response.hasError())
+      {
+        _errors.add(response.getError());
+        return;
+      }
+      Messages.toRestResponse(response.getResponse(), new Callback<RestResponse>()
+      {
+        @Override
+        public void onError(Throwable e)
+        {
+          _errors.add(e);
+        }
+
+        @Override
+        public void onSuccess(RestResponse result)
+        {
+          _entities.add(result.getEntity().asString(StandardCharsets.UTF_8));
+        }
+      });
+    }
+
+    List<String> getEntities()
+    {
+      return _entities;
+    }
+
+    List<Throwable> getErrors()
+    {
+      return _errors;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import com.linkedin.data.ByteString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestByteStringUtil
+{
+  private static final byte[] BYTES = "hello, world".getBytes();
+
+  @Test
+  public void testCopy()
+  {
+    ByteBuf buf = Unpooled.wrappedBuffer(BYTES);
+    buf.readByte();
+    Assert.assertEquals(ByteStringUtil.copy(buf), ByteString.copy(BYTES, 1, BYTES.length - 1));
+    Assert.assertEquals(buf.readerIndex(), 1);
+    Assert.assertEquals(ByteStringUtil.copy(Unpooled.EMPTY_BUFFER), ByteString.empty());
+  }
+}
@@ -0,0 +1,108 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import com.linkedin.r2.filter.FilterChains;
+import com.linkedin.r2.transport.common.bridge.server.TransportDispatcherBuilder;
+import com.linkedin.r2.transport.http.server.HttpNettyServerBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.concurrent.Executors;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+
+public class TestNettyTransport
+{
+  @Test
+  public void testNio() throws Exception
+  {
+    Assert.assertTrue(NettyTransport.NIO.isAvailable());
+    Assert.assertFalse(NettyTransport.NIO.isReusePortSupported());
+    Assert.assertEquals(NettyTransport.NIO.getSocketChannelClass(), NioSocketChannel.class);
+    Assert.assertEquals(NettyTransport.NIO.getServerSocketChannelClass(), NioServerSocketChannel.class);
+
+    EventLoopGroup eventLoopGroup = NettyTransport.NIO.newEventLoopGroup(1, Executors.defaultThreadFactory());
+    try
+    {
+      Assert.assertEquals(NettyTransport.of(eventLoopGroup), NettyTransport.NIO);
+    }
+    finally
+    {
+      eventLoopGroup.shutdownGracefully().sync();
+    }
+  }
+
+  @Test
+  public void testEpoll() throws Exception
+  {
+    if (!NettyTransport.EPOLL.isAvailable())
+    {
+      throw new SkipException("Epoll is not available");
+    }
+
+    Assert.assertTrue(NettyTransport.EPOLL.isReusePortSupported());
+    Assert.assertEquals(NettyTransport.EPOLL.getSocketChannelClass(), EpollSocketChannel.class);
+    Assert.assertEquals(NettyTransport.EPOLL.getServerSocketChannelClass(), EpollServerSocketChannel.class);
+
+    EventLoopGroup eventLoopGroup = NettyTransport.EPOLL.newEventLoopGroup(1, Executors.defaultThreadFactory());
+    try
+    {
+      Assert.assertEquals(NettyTransport.of(eventLoopGroup), NettyTransport.EPOLL);
+    }
+    finally
+    {
+      eventLoopGroup.shutdownGracefully().sync();
+    }
+  }
+
+  @Test
+  public void testUnavailableTransport()
+  {
+    for (NettyTransport transport : NettyTransport.values())
+    {
+      if (!transport.isAvailable())
+      {
+        Assert.assertNotNull(transport.unavailabilityCause());
+        try
+        {
+          transport.newEventLoopGroup(1, Executors.defaultThreadFactory());
+          Assert.fail("Should not create an event loop group of an unavailable transport");
+        }
+        catch (IllegalStateException e)
+        {
+          Assert.assertSame(e.getCause(), transport.unavailabilityCause());
+        }
+      }
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testReusePortNotSupported()
+  {
+    new HttpNettyServerBuilder()
+        .filters(FilterChains.empty())
+        .transportDispatcher(new TransportDispatcherBuilder().build())
+        .transport(NettyTransport.NIO)
+        .acceptorCount(2)
+        .build();
+  }
+}
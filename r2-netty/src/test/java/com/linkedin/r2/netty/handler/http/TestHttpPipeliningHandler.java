@@ -0,0 +1,282 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.handler.http;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.netty.common.ChannelPipelineEvent;
+import com.linkedin.r2.netty.common.NettyChannelAttributes;
+import com.linkedin.r2.netty.entitystream.StreamWriter;
+import com.linkedin.r2.netty.handler.common.ClientEntityStreamHandler;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestHttpPipeliningHandler
+{
+  private static final URI ANY_URI = URI.create("http://localhost:8080/foo");
+  private static final long LONG_TIMEOUT = 60000L;
+  private static final long SHORT_TIMEOUT = 50L;
+
+  @Test
+  public void testResponsesPassedInRequestOrder()
+  {
+    EventRecorder recorder = new EventRecorder();
+    EmbeddedChannel ch = newChannel(recorder);
+    AtomicInteger stopCount = new AtomicInteger();
+    List<ResponseCollector> callbacks = Arrays.asList(new ResponseCollector(), new ResponseCollector(),
+        new ResponseCollector());
+
+    ch.attr(NettyChannelAttributes.RESPONSE_CALLBACK).set(callbacks.get(0));
+    HttpPipeliningHandler handler = ch.pipeline().get(HttpPipeliningHandler.class);
+    Assert.assertTrue(handler.startPipelining(3, LONG_TIMEOUT, stopCount::incrementAndGet));
+    Assert.assertTrue(handler.tryPipeline(callbacks.get(1), LONG_TIMEOUT));
+    Assert.assertTrue(handler.tryPipeline(callbacks.get(2), LONG_TIMEOUT));
+    Assert.assertFalse(handler.tryPipeline(new ResponseCollector(), LONG_TIMEOUT));
+    writeRequests(ch, 3);
+
+    // The requests are complete, the channel is only released once the responses are too
+    Assert.assertTrue(recorder._events.isEmpty());
+    for (int i = 0; i < 3; i++)
+    {
+      writeResponse(ch, "entity" + i);
+      Assert.assertEquals(callbacks.get(i)._entities, Collections.singletonList("entity" + i));
+    }
+    Assert.assertEquals(recorder._events,
+        Arrays.asList(ChannelPipelineEvent.REQUEST_COMPLETE, ChannelPipelineEvent.RESPONSE_COMPLETE));
+    Assert.assertEquals(stopCount.get(), 1);
+    Assert.assertTrue(ch.isActive());
+  }
+
+  @Test
+  public void testTimeoutBeforeResponseHeaders() throws Exception
+  {
+    EventRecorder recorder = new EventRecorder();
+    EmbeddedChannel ch = newChannel(recorder);
+    AtomicInteger stopCount = new AtomicInteger();
+    ResponseCollector callback1 = new ResponseCollector();
+    ResponseCollector callback2 = new ResponseCollector();
+
+    ch.attr(NettyChannelAttributes.RESPONSE_CALLBACK).set(callback1);
+    HttpPipeliningHandler handler = ch.pipeline().get(HttpPipeliningHandler.class);
+    Assert.assertTrue(handler.startPipelining(3, LONG_TIMEOUT, stopCount::incrementAndGet));
+    Assert.assertTrue(handler.tryPipeline(callback2, SHORT_TIMEOUT));
+    writeRequests(ch, 2);
+    expireTimeouts(ch);
+
+    // Only the request which timed out fails, and no more requests are pipelined on the channel
+    Assert.assertEquals(callback2._errors.size(), 1);
+    Assert.assertTrue(callback2._errors.get(0) instanceof TimeoutException);
+    Assert.assertTrue(callback1._errors.isEmpty());
+    Assert.assertEquals(stopCount.get(), 1);
+    Assert.assertFalse(handler.tryPipeline(new ResponseCollector(), LONG_TIMEOUT));
+    Assert.assertTrue(ch.isActive());
+
+    // The response of the request which timed out is drained
+    writeResponse(ch, "entity1");
+    writeResponse(ch, "entity2");
+    Assert.assertEquals(callback1._entities, Collections.singletonList("entity1"));
+    Assert.assertTrue(callback2._entities.isEmpty());
+    Assert.assertEquals(recorder._events,
+        Arrays.asList(ChannelPipelineEvent.REQUEST_COMPLETE, ChannelPipelineEvent.RESPONSE_COMPLETE));
+    Assert.assertTrue(ch.isActive());
+  }
+
+  @Test
+  public void testTimeoutWhileReceivingResponseEntity() throws Exception
+  {
+    EventRecorder recorder = new EventRecorder();
+    EmbeddedChannel ch = newChannel(recorder);
+    ResponseCollector callback1 = new ResponseCollector();
+    ResponseCollector callback2 = new ResponseCollector();
+
+    ch.attr(NettyChannelAttributes.RESPONSE_CALLBACK).set(callback1);
+    HttpPipeliningHandler handler = ch.pipeline().get(HttpPipeliningHandler.class);
+    Assert.assertTrue(handler.startPipelining(2, SHORT_TIMEOUT, () -> { }));
+    Assert.assertTrue(handler.tryPipeline(callback2, LONG_TIMEOUT));
+    writeRequests(ch, 2);
+
+    ch.writeInbound(new StreamResponseBuilder().setStatus(200));
+    ch.writeInbound(ByteString.copyString("partial", StandardCharsets.UTF_8));
+    expireTimeouts(ch);
+
+    // The entity of the response fails, its remaining bytes are drained
+    Assert.assertEquals(callback1._errors.size(), 1);
+    Assert.assertTrue(ch.isActive());
+    ch.writeInbound(ByteString.copyString("remaining", StandardCharsets.UTF_8));
+    ch.writeInbound(StreamWriter.EOF);
+
+    writeResponse(ch, "entity2");
+    Assert.assertEquals(callback2._entities, Collections.singletonList("entity2"));
+    Assert.assertTrue(callback1._entities.isEmpty());
+    Assert.assertEquals(recorder._events,
+        Arrays.asList(ChannelPipelineEvent.REQUEST_COMPLETE, ChannelPipelineEvent.RESPONSE_COMPLETE));
+  }
+
+  @Test
+  public void testTimeoutOfAllRequestsClosesChannel() throws Exception
+  {
+    EmbeddedChannel ch = newChannel(new EventRecorder());
+    ResponseCollector callback1 = new ResponseCollector();
+    ResponseCollector callback2 = new ResponseCollector();
+
+    ch.attr(NettyChannelAttributes.RESPONSE_CALLBACK).set(callback1);
+    HttpPipeliningHandler handler = ch.pipeline().get(HttpPipeliningHandler.class);
+    Assert.assertTrue(handler.startPipelining(2, SHORT_TIMEOUT, () -> { }));
+    Assert.assertTrue(handler.tryPipeline(callback2, SHORT_TIMEOUT));
+    writeRequests(ch, 2);
+    expireTimeouts(ch);
+
+    Assert.assertEquals(callback1._errors.size(), 1);
+    Assert.assertEquals(callback2._errors.size(), 1);
+    Assert.assertFalse(ch.isActive());
+  }
+
+  @Test
+  public void testChannelErrorFailsPendingRequests()
+  {
+    EventRecorder recorder = new EventRecorder();
+    EmbeddedChannel ch = newChannel(recorder);
+    AtomicInteger stopCount = new AtomicInteger();
+    ResponseCollector callback1 = new ResponseCollector();
+    ResponseCollector callback2 = new ResponseCollector();
+
+    ch.attr(NettyChannelAttributes.RESPONSE_CALLBACK).set(callback1);
+    HttpPipeliningHandler handler = ch.pipeline().get(HttpPipeliningHandler.class);
+    Assert.assertTrue(handler.startPipelining(2, LONG_TIMEOUT, stopCount::incrementAndGet));
+    Assert.assertTrue(handler.tryPipeline(callback2, LONG_TIMEOUT));
+    writeRequests(ch, 2);
+
+    IOException error = new IOException();
+    ch.pipeline().fireExceptionCaught(error);
+    Assert.assertEquals(callback1._errors, Collections.singletonList(error));
+    Assert.assertEquals(callback2._errors, Collections.singletonList(error));
+    Assert.assertEquals(recorder._errors, Collections.singletonList(error));
+    Assert.assertEquals(stopCount.get(), 1);
+  }
+
+  @Test
+  public void testEventsPassedThroughWhenNotPipelining()
+  {
+    EventRecorder recorder = new EventRecorder();
+    EmbeddedChannel ch = newChannel(recorder);
+
+    ch.pipeline().fireUserEventTriggered(ChannelPipelineEvent.REQUEST_COMPLETE);
+    ch.pipeline().fireUserEventTriggered(ChannelPipelineEvent.RESPONSE_COMPLETE);
+    Assert.assertEquals(recorder._events,
+        Arrays.asList(ChannelPipelineEvent.REQUEST_COMPLETE, ChannelPipelineEvent.RESPONSE_COMPLETE));
+  }
+
+  private static EmbeddedChannel newChannel(EventRecorder recorder)
+  {
+    return new EmbeddedChannel(new ClientEntityStreamHandler(Long.MAX_VALUE), new HttpPipeliningHandler(), recorder);
+  }
+
+  private static void writeRequests(EmbeddedChannel ch, int count)
+  {
+    for (int i = 0; i < count; i++)
+    {
+      ch.writeOutbound(new RestRequestBuilder(ANY_URI).setMethod("GET").build());
+    }
+  }
+
+  private static void writeResponse(EmbeddedChannel ch, String entity)
+  {
+    ch.writeInbound(new StreamResponseBuilder().setStatus(200));
+    ch.writeInbound(ByteString.copyString(entity, StandardCharsets.UTF_8));
+    ch.writeInbound(StreamWriter.EOF);
+  }
+
+  private static void expireTimeouts(EmbeddedChannel ch) throws InterruptedException
+  {
+    Thread.sleep(SHORT_TIMEOUT * 2);
+    ch.runPendingTasks();
+  }
+
+  /**
+   * Records the events and errors which reach the end of the pipeline.
+   */
+  private static class EventRecorder extends ChannelInboundHandlerAdapter
+  {
+    private final List<Object> _events = new ArrayList<>();
+    private final List<Throwable> _errors = new ArrayList<>();
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt)
+    {
+      _events.add(evt);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause)
+    {
+      _errors.add(cause);
+    }
+  }
+
+  /**
+   * Reads the entities of the responses in full as they are received.
+   */
+  private static class ResponseCollector implements TransportCallback<StreamResponse>
+  {
+    private final List<String> _entities = new ArrayList<>();
+    private final List<Throwable> _errors = new ArrayList<>();
+
+    @Override
+    public void onResponse(TransportResponse<StreamResponse> response)
+    {
+      if (response.hasError())
+      {
+        _errors.add(response.getError());
+        return;
+      }
+      Messages.toRestResponse(response.getResponse(), new Callback<RestResponse>()
+      {
+        @Override
+        public void onError(Throwable e)
+        {
+          _errors.add(e);
+        }
+
+        @Override
+        public void onSuccess(RestResponse result)
+        {
+          _entities.add(result.getEntity().asString(StandardCharsets.UTF_8));
+        }
+      });
+    }
+  }
+}
@@ -27,6 +27,9 @@ import com.linkedin.r2.transport.http.client.common.ChannelPoolManager;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolManagerImpl;
 import com.linkedin.r2.util.Cancellable;
 import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -35,6 +38,9 @@ import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Steven Ihde
@@ -74,6 +80,50 @@ public class TestChannelPoolManager
     }
   }
 
+  @Test
+  public void testEventLoopPartitioned() throws Exception
+  {
+    final Map<AsyncPool<Channel>, EventLoop> eventLoops = new ConcurrentHashMap<>();
+    ChannelPoolFactory factory = new ChannelPoolFactory()
+    {
+      @Override
+      public AsyncPool<Channel> getPool(SocketAddress address)
+      {
+        return new FakePool<>();
+      }
+
+      @Override
+      public AsyncPool<Channel> getPool(SocketAddress address, EventLoop eventLoop)
+      {
+        AsyncPool<Channel> pool = new FakePool<>();
+        eventLoops.put(pool, eventLoop);
+        return pool;
+      }
+    };
+    EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(2);
+    try
+    {
+      ChannelPoolManager m = new ChannelPoolManagerImpl(factory, "test", null, null, null, eventLoopGroup);
+      SocketAddress address = new InetSocketAddress(0);
+
+      AsyncPool<Channel> sharedPool = m.getPoolForAddress(address);
+      Assert.assertNull(eventLoops.get(sharedPool));
+
+      EventLoop eventLoop1 = eventLoopGroup.next();
+      EventLoop eventLoop2 = eventLoopGroup.next();
+      AsyncPool<Channel> pool1 = eventLoop1.submit(() -> m.getPoolForAddress(address)).get(5, TimeUnit.SECONDS);
+      AsyncPool<Channel> pool2 = eventLoop2.submit(() -> m.getPoolForAddress(address)).get(5, TimeUnit.SECONDS);
+      Assert.assertSame(eventLoops.get(pool1), eventLoop1);
+      Assert.assertSame(eventLoops.get(pool2), eventLoop2);
+      Assert.assertSame(eventLoop1.submit(() -> m.getPoolForAddress(address)).get(5, TimeUnit.SECONDS), pool1);
+      Assert.assertSame(m.getPoolForAddress(address), sharedPool);
+    }
+    finally
+    {
+      eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+  }
+
   private static class FakePool<T> implements AsyncPool<T>
   {
     @Override
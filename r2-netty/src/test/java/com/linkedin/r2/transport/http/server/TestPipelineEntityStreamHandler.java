@@ -0,0 +1,209 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.message.stream.entitystream.FullEntityReader;
+import com.linkedin.r2.message.stream.entitystream.WriteHandle;
+import com.linkedin.r2.message.stream.entitystream.Writer;
+import com.linkedin.r2.netty.handler.http.HttpMessageDecoders;
+import com.linkedin.r2.netty.handler.http.HttpMessageEncoders;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests the streaming HTTP/1.1 server pipeline: {@link HttpMessageDecoders.RequestDecoder},
+ * {@link HttpMessageEncoders.StreamResponseEncoder} and {@link PipelineEntityStreamHandler}.
+ */
+public class TestPipelineEntityStreamHandler
+{
+  private static final int CHUNK_SIZE = R2Constants.DEFAULT_DATA_CHUNK_SIZE;
+
+  @Test
+  public void testRequestEntityBackpressure() throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel ch = newChannel(dispatcher);
+
+    HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/foo");
+    HttpUtil.setTransferEncodingChunked(request, true);
+    ch.writeInbound(request);
+
+    Assert.assertEquals(dispatcher._requests.size(), 1);
+    StreamRequest streamRequest = dispatcher._requests.get(0);
+    Assert.assertFalse(streamRequest.getHeaders().containsKey(HttpHeaderNames.TRANSFER_ENCODING.toString()));
+
+    // Nothing reads the entity yet, the channel stops reading above the high water mark of the writer.
+    for (int i = 0; i < 4; i++)
+    {
+      ch.writeInbound(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[CHUNK_SIZE])));
+    }
+    Assert.assertFalse(ch.config().isAutoRead());
+
+    FutureCallback<ByteString> entity = new FutureCallback<>();
+    streamRequest.getEntityStream().setReader(new FullEntityReader(entity));
+    Assert.assertTrue(ch.config().isAutoRead());
+
+    ch.writeInbound(new DefaultLastHttpContent());
+    Assert.assertEquals(entity.get().length(), 4 * CHUNK_SIZE);
+  }
+
+  @Test
+  public void testPipelinedRequestQueuedWhileResponding() throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel ch = newChannel(dispatcher);
+
+    ch.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/first"));
+    ch.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/second"));
+
+    // The second request is not dispatched before the response to the first one is complete.
+    Assert.assertEquals(dispatcher._requests.size(), 1);
+    Assert.assertFalse(ch.config().isAutoRead());
+
+    ControlledWriter responseEntity = new ControlledWriter();
+    dispatcher._callbacks.get(0).onResponse(
+        TransportResponseImpl.success(new StreamResponseBuilder().build(EntityStreams.newEntityStream(responseEntity))));
+    ch.runPendingTasks();
+
+    HttpResponse response = ch.readOutbound();
+    Assert.assertTrue(HttpUtil.isTransferEncodingChunked(response));
+    Assert.assertEquals(dispatcher._requests.size(), 1);
+    Assert.assertFalse(ch.config().isAutoRead());
+
+    responseEntity._wh.write(ByteString.copy(new byte[]{1, 2, 3}));
+    responseEntity._wh.done();
+    ch.runPendingTasks();
+
+    HttpContent content = ch.readOutbound();
+    Assert.assertEquals(content.content().readableBytes(), 3);
+    Assert.assertTrue(ch.readOutbound() instanceof LastHttpContent);
+
+    Assert.assertEquals(dispatcher._requests.size(), 2);
+    Assert.assertEquals(dispatcher._requests.get(1).getURI().toString(), "/second");
+    Assert.assertTrue(ch.config().isAutoRead());
+    Assert.assertTrue(ch.isOpen());
+  }
+
+  @Test
+  public void testConnectionClosedWhenResponseCompletesBeforeRequestEntity() throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel ch = newChannel(dispatcher);
+
+    ch.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/foo"));
+    ch.writeInbound(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[CHUNK_SIZE])));
+
+    FutureCallback<ByteString> entity = new FutureCallback<>();
+    dispatcher._requests.get(0).getEntityStream().setReader(new FullEntityReader(entity));
+
+    dispatcher._callbacks.get(0).onResponse(
+        TransportResponseImpl.success(new StreamResponseBuilder().build(EntityStreams.emptyStream())));
+    ch.runPendingTasks();
+
+    Assert.assertFalse(ch.isOpen());
+    try
+    {
+      entity.get();
+      Assert.fail("The entity of the request should not complete");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause().getCause() instanceof ClosedChannelException);
+    }
+  }
+
+  private static EmbeddedChannel newChannel(HttpDispatcher dispatcher)
+  {
+    return new EmbeddedChannel(
+        HttpMessageEncoders.newDataEncoder(),
+        HttpMessageEncoders.newStreamResponseEncoder(),
+        HttpMessageDecoders.newRequestDecoder(),
+        HttpMessageDecoders.newDataDecoder(),
+        new PipelineEntityStreamHandler(dispatcher, ImmediateEventExecutor.INSTANCE, true, Long.MAX_VALUE));
+  }
+
+  private static class RecordingDispatcher extends HttpDispatcher
+  {
+    private final List<StreamRequest> _requests = new ArrayList<>();
+    private final List<TransportCallback<StreamResponse>> _callbacks = new ArrayList<>();
+
+    @SuppressWarnings("deprecation")
+    RecordingDispatcher()
+    {
+      super(null);
+    }
+
+    @Override
+    public void handleRequest(StreamRequest req, RequestContext context, TransportCallback<StreamResponse> callback)
+    {
+      _requests.add(req);
+      _callbacks.add(callback);
+    }
+  }
+
+  private static class ControlledWriter implements Writer
+  {
+    private WriteHandle _wh;
+
+    @Override
+    public void onInit(WriteHandle wh)
+    {
+      _wh = wh;
+    }
+
+    @Override
+    public void onWritePossible()
+    {
+    }
+
+    @Override
+    public void onAbort(Throwable e)
+    {
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests that {@link PipelineRestHandler} and {@link PipelineStreamHandler} write the responses of pipelined requests
+ * in the order of the requests.
+ */
+public class TestPipelineRestHandler
+{
+  private static final URI ANY_URI = URI.create("/foo");
+
+  @Test
+  public void testRestResponsesWrittenInRequestOrder()
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel ch = new EmbeddedChannel(new PipelineRestHandler(dispatcher));
+
+    for (int i = 0; i < 3; i++)
+    {
+      ch.writeInbound(newRequest());
+    }
+    Assert.assertEquals(dispatcher._restCallbacks.size(), 3);
+
+    // The last and first responses are completed before the second one
+    dispatcher._restCallbacks.get(2).onResponse(TransportResponseImpl.success(newResponse(2)));
+    Assert.assertNull(ch.readOutbound());
+    dispatcher._restCallbacks.get(0).onResponse(TransportResponseImpl.success(newResponse(0)));
+    assertStatus(ch.readOutbound(), 0);
+    Assert.assertNull(ch.readOutbound());
+    dispatcher._restCallbacks.get(1).onResponse(TransportResponseImpl.success(newResponse(1)));
+    assertStatus(ch.readOutbound(), 1);
+    assertStatus(ch.readOutbound(), 2);
+    Assert.assertNull(ch.readOutbound());
+  }
+
+  @Test
+  public void testStreamResponsesWrittenInRequestOrder()
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    EmbeddedChannel ch = new EmbeddedChannel(new PipelineStreamHandler(dispatcher));
+
+    ch.writeInbound(newRequest());
+    ch.writeInbound(newRequest());
+    Assert.assertEquals(dispatcher._streamCallbacks.size(), 2);
+
+    dispatcher._streamCallbacks.get(1).onResponse(
+        TransportResponseImpl.success(Messages.toStreamResponse(newResponse(1))));
+    Assert.assertNull(ch.readOutbound());
+    dispatcher._streamCallbacks.get(0).onResponse(TransportResponseImpl.error(new IllegalStateException()));
+    Assert.assertEquals(((RestResponse) ch.readOutbound()).getStatus(), 500);
+    assertStatus(ch.readOutbound(), 1);
+    Assert.assertNull(ch.readOutbound());
+  }
+
+  private static RestRequest newRequest()
+  {
+    return new RestRequestBuilder(ANY_URI).setMethod("GET").build();
+  }
+
+  /**
+   * Responses are told apart by their status, 200 plus their index.
+   */
+  private static RestResponse newResponse(int index)
+  {
+    return new RestResponseBuilder().setStatus(200 + index).build();
+  }
+
+  private static void assertStatus(Object response, int index)
+  {
+    Assert.assertTrue(response instanceof RestResponse);
+    Assert.assertEquals(((RestResponse) response).getStatus(), 200 + index);
+  }
+
+  private static class RecordingDispatcher extends HttpDispatcher
+  {
+    private final List<TransportCallback<RestResponse>> _restCallbacks = new ArrayList<>();
+    private final List<TransportCallback<StreamResponse>> _streamCallbacks = new ArrayList<>();
+
+    @SuppressWarnings("deprecation")
+    RecordingDispatcher()
+    {
+      super(null);
+    }
+
+    @Override
+    public void handleRequest(RestRequest req, RequestContext context, TransportCallback<RestResponse> callback)
+    {
+      _restCallbacks.add(callback);
+    }
+
+    @Override
+    public void handleRequest(StreamRequest req, RequestContext context, TransportCallback<StreamResponse> callback)
+    {
+      _streamCallbacks.add(callback);
+    }
+  }
+}
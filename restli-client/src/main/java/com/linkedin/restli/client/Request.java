@@ -22,6 +22,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.PathSpec;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.transform.filter.request.MaskCreator;
 import com.linkedin.data.transform.filter.request.MaskTree;
 import com.linkedin.jersey.api.uri.UriTemplate;
 import com.linkedin.restli.common.HttpMethod;
@@ -341,6 +342,35 @@ public class Request<T>
     throw new IllegalArgumentException("Fields param is of unrecognized type: " + fields.getClass());
   }
 
+  /**
+   * @return the data map of the projection mask of the response entity, or null if the request has no projection.
+   */
+  @SuppressWarnings("unchecked")
+  DataMap getProjectionMask()
+  {
+    Object fields = _queryParams.get(RestConstants.FIELDS_PARAM);
+    if (fields instanceof Set)
+    {
+      return ((Set<PathSpec>) fields).isEmpty() ? null : MaskCreator.createPositiveMask((Set<PathSpec>) fields).getDataMap();
+    }
+    else if (fields instanceof String)
+    {
+      try
+      {
+        return URIMaskUtil.decodeMaskUriFormat((String) fields).getDataMap();
+      }
+      catch (IllegalMaskException e)
+      {
+        throw new IllegalArgumentException("Field param was a string and it did not represent a serialized mask tree", e);
+      }
+    }
+    else if (fields instanceof DataMap)
+    {
+      return (DataMap) fields;
+    }
+    return null;
+  }
+
   /**
    * Get the name of the service for this request
    * @return the service name for this request
@@ -318,7 +318,8 @@ public class RestClient implements Client {
     if (_restLiClientConfig.isUseStreaming() || request.getStreamingAttachments() != null || request.getRequestOptions().getAcceptResponseAttachments())
     {
       //Set content type and accept type correctly and use StreamRequest/StreamResponse
-      sendStreamRequest(request, requestContext, new RestLiStreamCallbackAdapter<>(request.getResponseDecoder(), callback, requestContext));
+      sendStreamRequest(request, requestContext, new RestLiStreamCallbackAdapter<>(request.getResponseDecoder(), callback, requestContext,
+          request.getProjectionMask()));
     }
     else
     {
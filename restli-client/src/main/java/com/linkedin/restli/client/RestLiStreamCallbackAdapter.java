@@ -17,6 +17,7 @@
 package com.linkedin.restli.client;
 
 
+import com.linkedin.data.DataMap;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.r2.message.Messages;
@@ -42,6 +43,7 @@ public class RestLiStreamCallbackAdapter<T> implements Callback<StreamResponse>
   private final Callback<Response<T>> _wrappedCallback;
   private final RestResponseDecoder<T> _decoder;
   private final RequestContext _requestContext;
+  private final DataMap _projection;
 
   public RestLiStreamCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> wrappedCallback)
   {
@@ -50,10 +52,20 @@ public class RestLiStreamCallbackAdapter<T> implements Callback<StreamResponse>
 
   public RestLiStreamCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> wrappedCallback,
       RequestContext requestContext)
+  {
+    this(decoder, wrappedCallback, requestContext, null);
+  }
+
+  /**
+   * @param projection the projection mask of the requested entity, applied while decoding the response, or null.
+   */
+  public RestLiStreamCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> wrappedCallback,
+      RequestContext requestContext, DataMap projection)
   {
     _wrappedCallback = wrappedCallback;
     _decoder = decoder;
     _requestContext = requestContext;
+    _projection = projection;
   }
 
   @Override
@@ -106,7 +118,7 @@ public class RestLiStreamCallbackAdapter<T> implements Callback<StreamResponse>
     TimingContextUtil.beginTiming(_requestContext, FrameworkTimingKeys.CLIENT_RESPONSE_RESTLI_DESERIALIZATION.key());
     try
     {
-      _decoder.decodeResponse(result, callback);
+      _decoder.decodeResponse(result, callback, _projection);
     }
     catch(Exception exception)
     {
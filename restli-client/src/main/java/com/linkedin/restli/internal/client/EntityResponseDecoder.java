@@ -24,6 +24,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonRecordSerializer;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.data.template.TemplateRuntimeException;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.RestConstants;
@@ -49,6 +53,33 @@ public class EntityResponseDecoder<T extends RecordTemplate> extends RestRespons
     return _entityClass;
   }
 
+  @Override
+  protected JacksonRecordSerializer getJsonSerializer()
+  {
+    return JacksonRecordSerializer.forTemplateClass(_entityClass);
+  }
+
+  @Override
+  protected DataSchema getResponseSchema()
+  {
+    try
+    {
+      return DataTemplateUtil.getSchema(_entityClass);
+    }
+    catch (TemplateRuntimeException e)
+    {
+      // The entity class is not a generated template.
+      return null;
+    }
+  }
+
+  @Override
+  protected DataMap getResponseProjection(DataMap projection)
+  {
+    // The response body is the entity.
+    return projection;
+  }
+
   @Override
   public T wrapResponse(DataMap dataMap, Map<String, String> headers, ProtocolVersion version)
                   throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException
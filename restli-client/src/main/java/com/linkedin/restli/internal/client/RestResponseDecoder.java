@@ -24,7 +24,10 @@ package com.linkedin.restli.internal.client;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonRecordSerializer;
 import com.linkedin.data.codec.entitystream.StreamDataCodec;
+import com.linkedin.data.codec.entitystream.StreamDecodingOptions;
+import com.linkedin.data.schema.DataSchema;
 import com.linkedin.multipart.MultiPartMIMEReader;
 import com.linkedin.multipart.MultiPartMIMEReaderCallback;
 import com.linkedin.multipart.SinglePartMIMEReaderCallback;
@@ -72,7 +75,50 @@ import static com.linkedin.restli.common.ContentType.JSON;
  */
 public abstract class RestResponseDecoder<T>
 {
+  private boolean _lazyDecoding = false;
+
+  /**
+   * Enables or disables lazy decoding of response bodies. When enabled, nested maps and lists of the response
+   * body are only decoded when they are first accessed, for codecs that support it (see
+   * {@link com.linkedin.data.codec.DataCodec#readMapLazily(ByteString)}). This saves most of the decoding cost of
+   * large responses of which only a few fields are read, at the cost of reading the body in full before decoding
+   * instead of decoding it while it streams in.
+   * <p>
+   *
+   * Lazily decoded entities must not be accessed concurrently before they are fully decoded. This must be set
+   * before the request is sent.
+   *
+   * @param lazyDecoding true to decode response bodies lazily.
+   * @return this decoder.
+   */
+  public RestResponseDecoder<T> setLazyDecoding(boolean lazyDecoding)
+  {
+    _lazyDecoding = lazyDecoding;
+    return this;
+  }
+
+  /**
+   * @return true if response bodies are decoded lazily.
+   * @see #setLazyDecoding(boolean)
+   */
+  public boolean isLazyDecoding()
+  {
+    return _lazyDecoding;
+  }
+
   public void decodeResponse(final StreamResponse streamResponse, final Callback<Response<T>> responseCallback) throws RestLiDecodingException
+  {
+    decodeResponse(streamResponse, responseCallback, null);
+  }
+
+  /**
+   * Decodes a response, skipping the values of the response entity that the projection of the request excludes when
+   * the body is streamed through a {@link StreamDataCodec}, see {@link #getResponseProjection(DataMap)}.
+   *
+   * @param projection the data map of the projection mask of the request, or null.
+   */
+  public void decodeResponse(final StreamResponse streamResponse, final Callback<Response<T>> responseCallback,
+      DataMap projection) throws RestLiDecodingException
   {
     //Determine content type and take appropriate action.
     //If 'multipart/related', then use MultiPartMIMEReader to read first part (which can be json or pson).
@@ -111,9 +157,12 @@ public abstract class RestResponseDecoder<T>
       return;
     }
 
-    if (streamDataCodec != null)
+    if (streamDataCodec != null && !_lazyDecoding)
     {
-      CompletionStage<DataMap> dataMapCompletionStage = streamDataCodec.decodeMap(EntityStreamAdapters.toGenericEntityStream(streamResponse.getEntityStream()));
+      CompletionStage<DataMap> dataMapCompletionStage = streamDataCodec.decodeMap(
+          EntityStreamAdapters.toGenericEntityStream(streamResponse.getEntityStream()),
+          new StreamDecodingOptions().setSchema(getResponseSchema())
+              .setProjection(projection == null ? null : getResponseProjection(projection)));
       dataMapCompletionStage.handle((dataMap, e) ->
       {
         if (e != null)
@@ -173,7 +222,7 @@ public abstract class RestResponseDecoder<T>
 
     try
     {
-      DataMap dataMap = (entity.isEmpty()) ? null : DataMapConverter.bytesToDataMap(headers, entity);
+      DataMap dataMap = (entity.isEmpty()) ? null : bytesToDataMap(headers, entity);
       response.setEntity(wrapResponse(dataMap, headers, ProtocolVersionUtil.extractProtocolVersion(response.getHeaders())));
       return response;
     }
@@ -374,6 +423,54 @@ public abstract class RestResponseDecoder<T>
     }
   }
 
+  private DataMap bytesToDataMap(Map<String, String> headers, ByteString entity)
+      throws MimeTypeParseException, IOException
+  {
+    JacksonRecordSerializer serializer = getJsonSerializer();
+    if (serializer != null && JacksonRecordSerializer.isEquivalentTo(DataMapConverter.getContentType(headers).getCodec()))
+    {
+      return serializer.readMap(entity);
+    }
+    if (_lazyDecoding)
+    {
+      return DataMapConverter.getContentType(headers).getCodec().readMapLazily(entity);
+    }
+    return DataMapConverter.bytesToDataMap(headers, entity);
+  }
+
+  /**
+   * Returns the generated JSON serializer used to decode JSON response bodies, if the body is a record that has one.
+   *
+   * @return the serializer, or null to decode the body with the codec of its content type.
+   */
+  protected JacksonRecordSerializer getJsonSerializer()
+  {
+    return null;
+  }
+
+  /**
+   * Returns the schema of response bodies, to which streamed response bodies are bound if
+   * {@link DataMap#isSchemaBoundStorageEnabled()}.
+   *
+   * @return the schema, or null if the body is not a record of a known schema.
+   */
+  protected DataSchema getResponseSchema()
+  {
+    return null;
+  }
+
+  /**
+   * Maps the projection of the request, which applies to the entities of the response, to a projection of the
+   * response body.
+   *
+   * @param projection the data map of the projection mask of the request.
+   * @return the projection of the response body, or null to decode the body in full.
+   */
+  protected DataMap getResponseProjection(DataMap projection)
+  {
+    return null;
+  }
+
   public abstract Class<?> getEntityClass();
 
   /**
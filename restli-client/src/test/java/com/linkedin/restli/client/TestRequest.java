@@ -17,11 +17,18 @@
 package com.linkedin.restli.client;
 
 
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.MaskMap;
 import com.linkedin.data.schema.PathSpec;
 import com.linkedin.data.template.DynamicRecordMetadata;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
 import com.linkedin.restli.client.test.TestRecord;
+import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.ResourceMethod;
 import com.linkedin.restli.common.ResourceProperties;
@@ -29,6 +36,7 @@ import com.linkedin.restli.common.ResourceSpec;
 import com.linkedin.restli.common.ResourceSpecImpl;
 import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.internal.client.EntityResponseDecoder;
+import com.linkedin.restli.internal.common.AllProtocolVersions;
 import com.linkedin.restli.internal.common.ResourcePropertiesImpl;
 
 import java.net.HttpCookie;
@@ -273,6 +281,37 @@ public class TestRequest
     getRequest.getFields();
   }
 
+  @Test
+  public void testProjectionMask()
+  {
+    Assert.assertNull(generateDummyRequestBuilder().build().getProjectionMask());
+
+    DataMap expected = new DataMap();
+    expected.put("id", MaskMap.POSITIVE_MASK);
+    assertEquals(generateDummyRequestBuilder().fields(new PathSpec("id")).build().getProjectionMask(), expected);
+    assertEquals(generateDummyRequestBuilder().setParam(RestConstants.FIELDS_PARAM, "id").build().getProjectionMask(),
+        expected);
+  }
+
+  @Test
+  public void testStreamResponseDecodedWithProjection() throws Exception
+  {
+    GetRequest<TestRecord> getRequest = generateDummyRequestBuilder().fields(new PathSpec("id")).build();
+    TestRecord record = new TestRecord().setId(1L).setMessage("hello");
+    StreamResponse streamResponse = new StreamResponseBuilder()
+        .setHeader(RestConstants.HEADER_CONTENT_TYPE, ContentType.JSON.getHeaderKey())
+        .setHeader(RestConstants.HEADER_RESTLI_PROTOCOL_VERSION,
+            AllProtocolVersions.RESTLI_PROTOCOL_2_0_0.getProtocolVersion().toString())
+        .build(EntityStreams.newEntityStream(
+            new ByteStringWriter(ByteString.unsafeWrap(ContentType.JSON.getCodec().mapToBytes(record.data())))));
+
+    FutureCallback<Response<TestRecord>> callback = new FutureCallback<>();
+    getRequest.getResponseDecoder().decodeResponse(streamResponse, callback, getRequest.getProjectionMask());
+    TestRecord decoded = callback.get().getEntity();
+    assertEquals(decoded.getId(), Long.valueOf(1L));
+    Assert.assertFalse(decoded.hasMessage());
+  }
+
   private GetRequestBuilder<Long, TestRecord> generateDummyRequestBuilder ()
   {
     final ResourceSpec spec = new ResourceSpecImpl(
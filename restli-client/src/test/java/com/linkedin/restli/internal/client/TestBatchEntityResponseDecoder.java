@@ -17,15 +17,21 @@
 package com.linkedin.restli.internal.client;
 
 
+import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.restli.client.Response;
 import com.linkedin.restli.client.response.BatchKVResponse;
 import com.linkedin.restli.client.test.TestRecord;
 import com.linkedin.restli.common.BatchResponse;
 import com.linkedin.restli.common.CompoundKey;
+import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.common.EntityResponse;
 import com.linkedin.restli.common.ErrorResponse;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.ProtocolVersion;
+import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.common.TypeSpec;
 import com.linkedin.restli.internal.common.AllProtocolVersions;
 import com.linkedin.restli.internal.common.TestConstants;
@@ -139,4 +145,38 @@ public class TestBatchEntityResponseDecoder
     final BatchKVResponse<String, EntityResponse<TestRecord>> response = decoder.wrapResponse(null, Collections.<String, String>emptyMap(), protocolVersion);
     Assert.assertNull(response);
   }
+
+  @Test
+  public void testLazyDecoding() throws Exception
+  {
+    final DataMap resultData = new DataMap();
+    resultData.put(_keys.get(0), _record.data());
+    final DataMap errorData = new DataMap();
+    errorData.put(_keys.get(1), _error.data());
+    final DataMap data = new DataMap();
+    data.put(BatchResponse.RESULTS, resultData);
+    data.put(BatchResponse.STATUSES, new DataMap());
+    data.put(BatchResponse.ERRORS, errorData);
+
+    final RestResponse restResponse = new RestResponseBuilder()
+        .setHeader(RestConstants.HEADER_CONTENT_TYPE, ContentType.PROTOBUF2.getHeaderKey())
+        .setHeader(RestConstants.HEADER_RESTLI_PROTOCOL_VERSION,
+            AllProtocolVersions.RESTLI_PROTOCOL_2_0_0.getProtocolVersion().toString())
+        .setEntity(ByteString.unsafeWrap(ContentType.PROTOBUF2.getCodec().mapToBytes(data)))
+        .build();
+
+    final BatchEntityResponseDecoder<String, TestRecord> decoder =
+        new BatchEntityResponseDecoder<>(new TypeSpec<>(TestRecord.class),
+            new TypeSpec<>(String.class),
+            Collections.<String, CompoundKey.TypeInfo>emptyMap(),
+            null);
+    Assert.assertFalse(decoder.isLazyDecoding());
+    Assert.assertSame(decoder.setLazyDecoding(true), decoder);
+
+    final Response<BatchKVResponse<String, EntityResponse<TestRecord>>> response = decoder.decodeResponse(restResponse);
+    final BatchKVResponse<String, EntityResponse<TestRecord>> entity = response.getEntity();
+    Assert.assertEquals(entity.getResults().get(_keys.get(0)).getEntity(), _record);
+    Assert.assertEquals(entity.getErrors().get(_keys.get(1)), _error);
+    Assert.assertEquals(entity.data(), data);
+  }
 }
@@ -16,6 +16,7 @@
 
 package com.linkedin.restli.common.validation;
 
+import com.linkedin.data.codec.entitystream.StreamDecodingOptions;
 import com.linkedin.data.element.DataElement;
 import com.linkedin.data.element.DataElementUtil;
 import com.linkedin.data.element.SimpleDataElement;
@@ -395,6 +396,31 @@ public class RestLiDataValidator
     }
   }
 
+  /**
+   * Sets up the validation of an input entity while it is decoded, see
+   * {@link StreamDecodingOptions#setValidation(DataSchema, ValidationOptions, Validator)}. The validation result is the
+   * same as the result of {@link #validateInput(RecordTemplate)} on the decoded entity, which does not have to be
+   * traversed again.
+   *
+   * @param decodingOptions the options to decode the entity with.
+   * @return true if the validation is set up, false if the input of the resource method can not be validated while
+   *         it is decoded, e.g. patches and batches.
+   */
+  public boolean setUpInputValidation(StreamDecodingOptions decodingOptions)
+  {
+    switch (_resourceMethod)
+    {
+      case CREATE:
+      case UPDATE:
+        DataSchema schema = DataTemplateUtil.getSchema(_valueClass);
+        decodingOptions.setValidation(schema, getValidationOptionsForInputEntityValidation(false),
+            getValidatorForInputEntityValidation(schema));
+        return true;
+      default:
+        return false;
+    }
+  }
+
   /**
    * Validate Rest.li input data (single patch).
    *
@@ -24,6 +24,7 @@ import com.linkedin.parseq.Task;
 import com.linkedin.parseq.promise.Promise;
 import com.linkedin.parseq.promise.PromiseListener;
 import com.linkedin.parseq.promise.Promises;
+import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.timing.FrameworkTimingKeys;
 import com.linkedin.r2.message.timing.TimingContextUtil;
@@ -35,6 +36,7 @@ import com.linkedin.restli.internal.server.methods.arguments.RestLiArgumentBuild
 import com.linkedin.restli.internal.server.model.Parameter;
 import com.linkedin.restli.internal.server.model.Parameter.ParamType;
 import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
+import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor.InterfaceType;
 import com.linkedin.restli.restspec.MaxBatchSizeSchema;
 import com.linkedin.restli.server.NonResourceRequestHandler;
 import com.linkedin.restli.server.ResourceContext;
@@ -48,6 +50,7 @@ import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 
@@ -71,6 +74,7 @@ public class RestLiMethodInvoker
   private final ResourceFactory _resourceFactory;
   private final Engine _engine;
   private final String _internalErrorMessage;
+  private final Executor _blockingMethodExecutor;
 
   // This ThreadLocal stores Context of task that is currently being executed.
   // When it is set, new tasks do not start new plans but instead are scheduled
@@ -82,10 +86,23 @@ public class RestLiMethodInvoker
   public RestLiMethodInvoker(final ResourceFactory resourceFactory,
                              final Engine engine,
                              final String internalErrorMessage)
+  {
+    this(resourceFactory, engine, internalErrorMessage, null);
+  }
+
+  /**
+   * @param blockingMethodExecutor the executor to invoke blocking methods on, or null to invoke them on the executor
+   *                               set in the request context by the server, if any.
+   */
+  public RestLiMethodInvoker(final ResourceFactory resourceFactory,
+                             final Engine engine,
+                             final String internalErrorMessage,
+                             final Executor blockingMethodExecutor)
   {
     _resourceFactory = resourceFactory;
     _engine = engine;
     _internalErrorMessage = internalErrorMessage;
+    _blockingMethodExecutor = blockingMethodExecutor;
   }
 
   @SuppressWarnings("deprecation")
@@ -329,8 +346,27 @@ public class RestLiMethodInvoker
       Object[] args = restLiArgumentBuilder.buildArguments(requestData, invokableMethod);
       // Validate the batch size for batch requests
       validateMaxBatchSize(requestData, resourceMethodDescriptor, resourceContext);
-      // Now invoke the resource implementation.
-      doInvoke(resourceMethodDescriptor, resourceMethodConfig, callback, resource, resourceContext, args);
+      // Now invoke the resource implementation, off the I/O thread of the server if the method blocks.
+      final Executor blockingExecutor = getBlockingExecutor(resourceMethodDescriptor, resourceMethodConfig,
+          resourceContext.getRawRequestContext());
+      if (blockingExecutor == null)
+      {
+        doInvoke(resourceMethodDescriptor, resourceMethodConfig, callback, resource, resourceContext, args);
+      }
+      else
+      {
+        blockingExecutor.execute(() ->
+        {
+          try
+          {
+            doInvoke(resourceMethodDescriptor, resourceMethodConfig, callback, resource, resourceContext, args);
+          }
+          catch (Exception e)
+          {
+            callback.onError(e);
+          }
+        });
+      }
     }
     catch (Exception e)
     {
@@ -338,6 +374,40 @@ public class RestLiMethodInvoker
     }
   }
 
+  /**
+   * Returns the executor to invoke a blocking method on, which is either the configured one, or the one set in the
+   * request context by servers which dispatch requests on their I/O threads, or null if the method can be invoked on
+   * the current thread.
+   */
+  private Executor getBlockingExecutor(ResourceMethodDescriptor descriptor, ResourceMethodConfig methodConfig,
+      RequestContext requestContext)
+  {
+    final Object executor = _blockingMethodExecutor != null
+        ? _blockingMethodExecutor
+        : requestContext.getLocalAttr(R2Constants.SERVER_BLOCKING_EXECUTOR);
+    // The methods of a multiplexed request are invoked within the plan of the multiplexer.
+    if (!(executor instanceof Executor) || TASK_CONTEXT.get() != null)
+    {
+      return null;
+    }
+    return isBlocking(descriptor, methodConfig) ? (Executor) executor : null;
+  }
+
+  /**
+   * Returns whether the method blocks the calling thread. Unless configured otherwise, synchronous methods are
+   * considered blocking, while methods returning their result asynchronously, with a {@link Callback}, a
+   * {@link Promise} or a {@link Task}, are not.
+   */
+  public static boolean isBlocking(ResourceMethodDescriptor descriptor, ResourceMethodConfig methodConfig)
+  {
+    final ConfigValue<Boolean> blocking = methodConfig == null ? null : methodConfig.getBlocking();
+    if (blocking != null && blocking.getValue() != null)
+    {
+      return blocking.getValue();
+    }
+    return descriptor.getInterfaceType() == InterfaceType.SYNC;
+  }
+
   /**
    * Method is used to validate if the request's batch size is under
    * the allowed max batch size which is defined in the server resource.
@@ -74,6 +74,13 @@ public interface ServerResourceContext extends ResourceContext
    */
   String CONTEXT_PROTOCOL_VERSION_KEY = ServerResourceContext.class.getName() + ".protocolVersion";
 
+  /**
+   * Local attribute key for the options the request entity is decoded with, when it is validated while it is decoded.
+   * Value must be a {@link com.linkedin.data.codec.entitystream.StreamDecodingOptions}.
+   */
+  String CONTEXT_REQUEST_ENTITY_DECODING_OPTIONS_KEY =
+      ServerResourceContext.class.getName() + ".requestEntityDecodingOptions";
+
   /**
    * @return {@link DataMap} of request parameters.
    */
@@ -30,6 +30,7 @@ import com.linkedin.restli.restspec.MaxBatchSizeSchema;
 import com.linkedin.restli.server.ResourceLevel;
 import com.linkedin.restli.server.annotations.ServiceErrors;
 import com.linkedin.restli.server.errors.ServiceError;
+import com.linkedin.util.AdaptiveSizePredictor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -83,6 +84,8 @@ public class ResourceMethodDescriptor
   private List<ServiceError>                            _serviceErrors;
   private List<HttpStatus>                              _successStatuses;
   private MaxBatchSizeSchema                            _maxBatchSize;
+  // Predicts the encoded size of responses, learned from the recent responses of this method
+  private final AdaptiveSizePredictor                   _responseSizePredictor = new AdaptiveSizePredictor();
 
   /**
    * Finder resource method descriptor factory.
@@ -755,6 +758,15 @@ public class ResourceMethodDescriptor
     _maxBatchSize = maxBatchSize;
   }
 
+  /**
+   * Gets the predictor of the encoded size of the responses of this resource method, used to allocate response
+   * buffers with the right capacity.
+   */
+  public AdaptiveSizePredictor getResponseSizePredictor()
+  {
+    return _responseSizePredictor;
+  }
+
   @Override
   public String toString()
   {
@@ -19,6 +19,8 @@ package com.linkedin.restli.internal.server.response;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonRecordSerializer;
+import com.linkedin.data.codec.ParallelDataEncoder;
 import com.linkedin.data.codec.entitystream.StreamDataCodec;
 import com.linkedin.data.collections.CheckedUtil;
 import com.linkedin.data.schema.ArrayDataSchema;
@@ -27,6 +29,7 @@ import com.linkedin.data.schema.MapDataSchema;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.schema.TyperefDataSchema;
 import com.linkedin.data.schema.UnionDataSchema;
+import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.r2.message.rest.RestException;
 import com.linkedin.r2.message.rest.RestResponse;
@@ -36,6 +39,7 @@ import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.message.stream.StreamResponseBuilder;
 import com.linkedin.r2.message.stream.entitystream.adapter.EntityStreamAdapters;
 import com.linkedin.restli.common.ContentType;
+import com.linkedin.restli.common.EntityResponse;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.internal.common.CookieUtil;
@@ -43,12 +47,15 @@ import com.linkedin.restli.internal.common.DataMapConverter;
 import com.linkedin.restli.internal.server.RestLiInternalException;
 import com.linkedin.restli.internal.server.RoutingResult;
 import com.linkedin.restli.internal.server.ServerResourceContext;
+import com.linkedin.restli.internal.server.methods.AnyRecord;
+import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
 import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.internal.server.util.AlternativeKeyCoercerException;
 import com.linkedin.restli.internal.server.util.ArgumentUtils;
 import com.linkedin.restli.internal.server.util.DataMapUtils;
 import com.linkedin.restli.restspec.ResourceEntityType;
 import com.linkedin.restli.server.RestLiServiceException;
+import com.linkedin.util.AdaptiveSizePredictor;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Map;
@@ -186,6 +193,17 @@ public class ResponseUtils
   }
 
   public static RestResponse buildResponse(RoutingResult routingResult, RestLiResponse restLiResponse)
+  {
+    return buildResponse(routingResult, restLiResponse, null);
+  }
+
+  /**
+   * Builds the {@link RestResponse} of a structured data response.
+   *
+   * @param parallelEncoder encoder of large entities, or null to always encode entities serially.
+   */
+  public static RestResponse buildResponse(RoutingResult routingResult, RestLiResponse restLiResponse,
+      ParallelDataEncoder parallelEncoder)
   {
     RestResponseBuilder builder = new RestResponseBuilder()
         .setHeaders(restLiResponse.getHeaders())
@@ -202,16 +220,43 @@ public class ResponseUtils
       String mimeType = context.getResponseMimeType();
       URI requestUri = context.getRequestURI();
       Map<String, String> requestHeaders = context.getRequestHeaders();
-      builder = encodeResult(mimeType, requestUri, requestHeaders, builder, dataMap);
+      builder = encodeResult(mimeType, requestUri, requestHeaders, builder, dataMap,
+          getEntityTemplateClass(routingResult, restLiResponse.getEntity()),
+          routingResult.getResourceMethod().getResponseSizePredictor(), parallelEncoder);
     }
     return builder.build();
   }
 
+  /**
+   * Returns the record template class of the response entity if the response body is a single entity of the resource,
+   * or null if it is an envelope. The response builders wrap the entity in an {@link AnyRecord} or an
+   * {@link EntityResponse}, so the class is resolved from the resource method.
+   */
+  static Class<? extends RecordTemplate> getEntityTemplateClass(RoutingResult routingResult, RecordTemplate entity)
+  {
+    final ResourceMethodDescriptor resourceMethod = routingResult.getResourceMethod();
+    switch (resourceMethod.getType())
+    {
+      case GET:
+        return resourceMethod.getResourceModel().getValueClass();
+      case CREATE:
+        // The body is an IdResponse unless the created entity is returned.
+        return entity instanceof AnyRecord ? resourceMethod.getResourceModel().getValueClass() : null;
+      case PARTIAL_UPDATE:
+        return entity instanceof EntityResponse ? ((EntityResponse<?>) entity).getEntityClass() : null;
+      default:
+        return null;
+    }
+  }
+
   private static RestResponseBuilder encodeResult(String mimeType,
       URI requestUri,
       Map<String, String> requestHeaders,
       RestResponseBuilder builder,
-      DataMap dataMap)
+      DataMap dataMap,
+      Class<? extends RecordTemplate> entityClass,
+      AdaptiveSizePredictor sizePredictor,
+      ParallelDataEncoder parallelEncoder)
   {
     try
     {
@@ -220,12 +265,31 @@ public class ResponseUtils
               "Requested mime type for encoding is not supported. Mimetype: " + mimeType));
       assert type != null;
       builder.setHeader(RestConstants.HEADER_CONTENT_TYPE, type.getHeaderKey());
-      builder.setEntity(DataMapUtils.mapToByteString(dataMap, type.getCodec()));
+      // Records with a generated JSON serializer skip the generic traversal of the codec.
+      final JacksonRecordSerializer serializer =
+          entityClass != null && JacksonRecordSerializer.isEquivalentTo(type.getCodec())
+              ? JacksonRecordSerializer.forTemplateClass(entityClass) : null;
+      if (serializer != null)
+      {
+        builder.setEntity(ByteString.unsafeWrap(serializer.mapToBytes(dataMap)));
+      }
+      else if (parallelEncoder != null)
+      {
+        builder.setEntity(parallelEncoder.encode(dataMap, type.getCodec()));
+      }
+      else
+      {
+        builder.setEntity(type.getCodec().mapToByteString(dataMap, sizePredictor));
+      }
     }
     catch (MimeTypeParseException e)
     {
       throw new RestLiServiceException(HttpStatus.S_406_NOT_ACCEPTABLE, "Invalid mime type: " + mimeType);
     }
+    catch (IOException e)
+    {
+      throw new RestLiInternalException(e);
+    }
 
     return builder;
   }
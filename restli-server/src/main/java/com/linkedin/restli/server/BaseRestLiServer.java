@@ -2,6 +2,7 @@ package com.linkedin.restli.server;
 
 import com.linkedin.common.callback.Callback;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.entitystream.StreamDecodingOptions;
 import com.linkedin.parseq.Engine;
 import com.linkedin.r2.message.Request;
 import com.linkedin.r2.message.RequestContext;
@@ -45,6 +46,7 @@ import com.linkedin.restli.server.config.ResourceMethodConfigProvider;
 import com.linkedin.restli.server.filter.Filter;
 import com.linkedin.restli.server.filter.FilterRequestContext;
 import com.linkedin.restli.server.resources.ResourceFactory;
+import com.linkedin.restli.server.validation.RestLiValidationFilter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -88,7 +90,8 @@ abstract class BaseRestLiServer
 
     _router = new RestLiRouter(rootResources, config);
     resourceFactory.setRootResources(rootResources);
-    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage());
+    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage(),
+        config.getBlockingMethodExecutor());
 
     _errorResponseBuilder = new ErrorResponseBuilder(config.getErrorResponseFormat());
     _methodAdapterProvider = config.getMethodAdapterProvider();
@@ -118,7 +121,8 @@ abstract class BaseRestLiServer
 
     _router = new RestLiRouter(rootResources, config);
     resourceFactory.setRootResources(rootResources);
-    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage());
+    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage(),
+        config.getBlockingMethodExecutor());
 
     _errorResponseBuilder = errorResponseBuilder;
     _methodAdapterProvider = config.getMethodAdapterProvider();
@@ -270,6 +274,31 @@ abstract class BaseRestLiServer
     filterChain.onRequest(filterContext, filterResponseContextFactory);
   }
 
+  /**
+   * Returns the options to decode the entity of a request with. If a {@link RestLiValidationFilter} validates the
+   * entity, it is validated while it is decoded, and the options are kept in the request context for the filter to
+   * get the validation result.
+   */
+  StreamDecodingOptions getRequestEntityDecodingOptions(RoutingResult routingResult)
+  {
+    for (Filter filter : _filters)
+    {
+      if (filter instanceof RestLiValidationFilter)
+      {
+        StreamDecodingOptions decodingOptions = ((RestLiValidationFilter) filter).getRequestEntityDecodingOptions(
+            new FilterRequestContextInternalImpl(routingResult.getContext(), routingResult.getResourceMethod()));
+        if (decodingOptions != null)
+        {
+          routingResult.getContext().getRawRequestContext()
+              .putLocalAttr(ServerResourceContext.CONTEXT_REQUEST_ENTITY_DECODING_OPTIONS_KEY, decodingOptions);
+          return decodingOptions;
+        }
+        break;
+      }
+    }
+    return new StreamDecodingOptions();
+  }
+
   private RestLiArgumentBuilder lookupArgumentBuilder(ResourceMethodDescriptor method)
   {
     RestLiArgumentBuilder argumentBuilder = _methodAdapterProvider.getArgumentBuilder(method.getType());
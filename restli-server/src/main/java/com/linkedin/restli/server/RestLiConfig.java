@@ -37,6 +37,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 
@@ -108,6 +110,11 @@ public class RestLiConfig
   private boolean _writableStackTrace = true;
   private MethodAdapterProvider _methodAdapterProvider = null;
 
+  // minimum number of elements of a top level list or map of a response to encode it in parallel, 0 to disable
+  private int _parallelEncodingThreshold = 0;
+  private Executor _parallelEncodingExecutor = ForkJoinPool.commonPool();
+  private Executor _blockingMethodExecutor = null;
+
   /**
    * Constructor.
    */
@@ -580,6 +587,63 @@ public class RestLiConfig
     _writableStackTrace = writableStackTrace;
   }
 
+  /**
+   * @return the minimum number of elements of a top level list or map of a response entity, e.g. the elements of
+   *   a collection response or the results of a batch response, to encode it in parallel. 0 if parallel encoding
+   *   is disabled.
+   */
+  public int getParallelEncodingThreshold()
+  {
+    return _parallelEncodingThreshold;
+  }
+
+  /**
+   * Sets the minimum number of elements of a top level list or map of a response entity to encode it in
+   * parallel, see {@link com.linkedin.data.codec.ParallelDataEncoder}. Responses below the threshold, and
+   * responses encoded with codecs that do not support parallel encoding, are encoded serially.
+   *
+   * @param parallelEncodingThreshold the threshold, or 0 to disable parallel encoding.
+   */
+  public void setParallelEncodingThreshold(int parallelEncodingThreshold)
+  {
+    if (parallelEncodingThreshold < 0)
+    {
+      throw new IllegalArgumentException("Parallel encoding threshold must not be negative: " + parallelEncodingThreshold);
+    }
+    _parallelEncodingThreshold = parallelEncodingThreshold;
+  }
+
+  public Executor getParallelEncodingExecutor()
+  {
+    return _parallelEncodingExecutor;
+  }
+
+  /**
+   * Sets the executor encoding chunks of large responses in parallel. Defaults to {@link ForkJoinPool#commonPool()}.
+   */
+  public void setParallelEncodingExecutor(Executor parallelEncodingExecutor)
+  {
+    _parallelEncodingExecutor = parallelEncodingExecutor;
+  }
+
+  public Executor getBlockingMethodExecutor()
+  {
+    return _blockingMethodExecutor;
+  }
+
+  /**
+   * Sets the executor to invoke the blocking resource methods on, which are the synchronous methods unless configured
+   * otherwise with {@link com.linkedin.restli.server.config.RestLiMethodConfigBuilder#addBlocking(String, boolean)}.
+   * Use a {@link com.linkedin.restli.server.util.VirtualThreadExecutor} to invoke each of them on its own virtual
+   * thread on JDK 21 and later. Defaults to null, in which case they are invoked on the executor provided by the
+   * server under {@link com.linkedin.r2.filter.R2Constants#SERVER_BLOCKING_EXECUTOR}, if any, or else on the calling
+   * thread.
+   */
+  public void setBlockingMethodExecutor(Executor blockingMethodExecutor)
+  {
+    _blockingMethodExecutor = blockingMethodExecutor;
+  }
+
   /**
    * Get/Set for filling default values in restli response
    * check config to see if the data in result should fill in default in fields
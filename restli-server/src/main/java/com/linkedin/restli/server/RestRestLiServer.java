@@ -19,6 +19,7 @@ package com.linkedin.restli.server;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.callback.CallbackAdapter;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.ParallelDataEncoder;
 import com.linkedin.parseq.Engine;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestException;
@@ -62,6 +63,7 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
 
   private final List<NonResourceRequestHandler> _nonResourceRequestHandlers;
   private final boolean _writableStackTrace;
+  private final ParallelDataEncoder _parallelEncoder;
 
   /**
    * @deprecated Use the constructor without {@link ErrorResponseBuilder}, because it should be built from the
@@ -110,6 +112,7 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
     // Add custom request handlers
     config.getCustomRequestHandlers().forEach(_nonResourceRequestHandlers::add);
     _writableStackTrace = config.isWritableStackTrace();
+    _parallelEncoder = createParallelEncoder(config);
   }
 
   RestRestLiServer(RestLiConfig config,
@@ -152,6 +155,14 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
     // Add custom request handlers
     config.getCustomRequestHandlers().forEach(_nonResourceRequestHandlers::add);
     _writableStackTrace = config.isWritableStackTrace();
+    _parallelEncoder = createParallelEncoder(config);
+  }
+
+  private static ParallelDataEncoder createParallelEncoder(RestLiConfig config)
+  {
+    return config.getParallelEncodingThreshold() > 0
+        ? new ParallelDataEncoder(config.getParallelEncodingExecutor(), config.getParallelEncodingThreshold())
+        : null;
   }
 
   List<NonResourceRequestHandler> getNonResourceRequestHandlers()
@@ -260,7 +271,7 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
       Callback<RestResponse> callback)
   {
     handleResourceRequestWithRestLiResponse(request, routingResult,
-        new RestLiToRestResponseCallbackAdapter(callback, routingResult, _writableStackTrace));
+        new RestLiToRestResponseCallbackAdapter(callback, routingResult, _writableStackTrace, _parallelEncoder));
   }
 
   protected void handleResourceRequestWithRestLiResponse(RestRequest request, RoutingResult routingResult,
@@ -301,13 +312,21 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
   {
     private final RoutingResult _routingResult;
     private final boolean _writableStackTrace;
+    private final ParallelDataEncoder _parallelEncoder;
     private ContentType _respContentType;
 
     RestLiToRestResponseCallbackAdapter(Callback<RestResponse> callback, RoutingResult routingResult, Boolean writableStackTrace)
+    {
+      this(callback, routingResult, writableStackTrace, null);
+    }
+
+    RestLiToRestResponseCallbackAdapter(Callback<RestResponse> callback, RoutingResult routingResult,
+        Boolean writableStackTrace, ParallelDataEncoder parallelEncoder)
     {
       super(callback);
       _routingResult = routingResult;
       _writableStackTrace = writableStackTrace;
+      _parallelEncoder = parallelEncoder;
       String respMimeType = routingResult.getContext().getResponseMimeType();
       try
       {
@@ -328,7 +347,7 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
       final RequestContext requestContext = _routingResult.getContext().getRawRequestContext();
       TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_SERIALIZATION.key());
 
-      final RestResponse restResponse = ResponseUtils.buildResponse(_routingResult, restLiResponse);
+      final RestResponse restResponse = ResponseUtils.buildResponse(_routingResult, restLiResponse, _parallelEncoder);
 
       TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_SERIALIZATION.key());
       return restResponse;
@@ -270,7 +270,8 @@ class StreamRestLiServer extends BaseRestLiServer implements StreamRequestHandle
     {
       final RequestContext requestContext = routingResult.getContext().getRawRequestContext();
       TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_RESTLI_DESERIALIZATION.key());
-      reqCodec.decodeMap(EntityStreamAdapters.toGenericEntityStream(request.getEntityStream()))
+      reqCodec.decodeMap(EntityStreamAdapters.toGenericEntityStream(request.getEntityStream()),
+          getRequestEntityDecodingOptions(routingResult))
           .handle((dataMap, e) -> {
             TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_RESTLI_DESERIALIZATION.key());
             Throwable error = null;
@@ -33,4 +33,10 @@ public interface ResourceMethodConfig
    * Returns the method level list of fields that should be included when projection is applied.
    */
   ConfigValue<Set<String>> getAlwaysProjectedFields();
+
+  /**
+   * Returns the method level configuration of whether this method blocks the calling thread, whose value is null if
+   * not configured.
+   */
+  ConfigValue<Boolean> getBlocking();
 }
@@ -16,24 +16,26 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
 {
   private final ConfigValue<Long> _timeoutMs;
   private final ConfigValue<Set<String>> _alwaysProjectedFields;
+  private final ConfigValue<Boolean> _blocking;
   private boolean _validateQueryParams;
   private boolean _validateResourceKeys;
 
-  public static final ResourceMethodConfig DEFAULT_CONFIG = new ResourceMethodConfigImpl(null, false, false, null);
+  public static final ResourceMethodConfig DEFAULT_CONFIG = new ResourceMethodConfigImpl(null, false, false, null, null);
 
   @Deprecated
   public ResourceMethodConfigImpl(ConfigValue<Long> timeoutMs, boolean validateQueryParams, boolean validateResourceKeys)
   {
-    this(timeoutMs, validateQueryParams, validateResourceKeys, null);
+    this(timeoutMs, validateQueryParams, validateResourceKeys, null, null);
   }
 
   ResourceMethodConfigImpl(ConfigValue<Long> timeoutMs, boolean validateQueryParams, boolean validateResourceKeys,
-      ConfigValue<Set<String>> alwaysProjectedFields)
+      ConfigValue<Set<String>> alwaysProjectedFields, ConfigValue<Boolean> blocking)
   {
     _timeoutMs = timeoutMs;
     _validateQueryParams = validateQueryParams;
     _validateResourceKeys = validateResourceKeys;
     _alwaysProjectedFields = alwaysProjectedFields;
+    _blocking = blocking;
   }
 
   public ConfigValue<Long> getTimeoutMs()
@@ -57,6 +59,12 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
     return _alwaysProjectedFields;
   }
 
+  @Override
+  public ConfigValue<Boolean> getBlocking()
+  {
+    return _blocking;
+  }
+
   @Override
   public String toString()
   {
@@ -64,6 +72,7 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
           "_timeoutMs=" + _timeoutMs +
           ", _validateQueryParams=" + _validateQueryParams +
           ", _validateResourceKeys=" + _validateResourceKeys +
+          ", _blocking=" + _blocking +
         "}";
   }
 
@@ -30,6 +30,7 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
 
   private final ResourceMethodConfigTree<Long> _timeoutMs = new ResourceMethodConfigTree<>();
   private final ResourceMethodConfigTree<Set<String>> _alwaysProjectedFields = new ResourceMethodConfigTree<>();
+  private final ResourceMethodConfigTree<Boolean> _blocking = new ResourceMethodConfigTree<>();
   private final ConcurrentMap<ResourceMethodConfigCacheKey, ResourceMethodConfig> _cache = new ConcurrentHashMap<>();
   private boolean _shouldValidateQueryParams;
   private boolean _shouldValidateResourceKey;
@@ -46,6 +47,7 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
   {
     boolean success = initializeProperty(config.getTimeoutMsConfig(), RestLiMethodConfig.ConfigType.TIMEOUT);
     success &= initializeProperty(config.getAlwaysProjectedFieldsConfig(), RestLiMethodConfig.ConfigType.ALWAYS_PROJECTED_FIELDS);
+    success &= initializeProperty(config.getBlockingConfig(), RestLiMethodConfig.ConfigType.BLOCKING);
     if (!success)
     {
       throw new ResourceMethodConfigParsingException("Rest.li resource method level configuration parsing error!");
@@ -78,6 +80,9 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
       case ALWAYS_PROJECTED_FIELDS:
         elements = _alwaysProjectedFields.getConfigItemsByPriority();
         break;
+      case BLOCKING:
+        elements = _blocking.getConfigItemsByPriority();
+        break;
     }
     StringBuilder sb = new StringBuilder();
     sb.append("RestLi MethodLevel Configuration for property " + configType.getConfigName() + " sorted by priority - first match gets applied:\n");
@@ -98,6 +103,9 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
       case ALWAYS_PROJECTED_FIELDS:
         _alwaysProjectedFields.add(element);
         break;
+      case BLOCKING:
+        _blocking.add(element);
+        break;
       default: throw new ResourceMethodConfigParsingException("Unrecognized property: " + element.getProperty());
     }
   }
@@ -112,7 +120,7 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
   private ResourceMethodConfig resolve(ResourceMethodConfigCacheKey cacheKey)
   {
     return new ResourceMethodConfigImpl(_timeoutMs.resolve(cacheKey), _shouldValidateQueryParams,
-        _shouldValidateResourceKey, _alwaysProjectedFields.resolve(cacheKey));
+        _shouldValidateResourceKey, _alwaysProjectedFields.resolve(cacheKey), _blocking.resolve(cacheKey));
   }
 
   /**
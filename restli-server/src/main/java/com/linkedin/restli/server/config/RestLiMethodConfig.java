@@ -13,7 +13,8 @@ public interface RestLiMethodConfig
   enum ConfigType
   {
     TIMEOUT("timeoutMs"),
-    ALWAYS_PROJECTED_FIELDS("alwaysProjectedFields");
+    ALWAYS_PROJECTED_FIELDS("alwaysProjectedFields"),
+    BLOCKING("blocking");
 
     ConfigType(String configName)
     {
@@ -48,4 +49,10 @@ public interface RestLiMethodConfig
    * provided as comma separated string.
    */
   Map<String, String> getAlwaysProjectedFieldsConfig();
+
+  /**
+   * Returns the method level configuration of whether methods block the calling thread, and hence must not be invoked
+   * on the I/O thread of servers which dispatch requests on it. The value is provided as boolean or string.
+   */
+  Map<String, Object> getBlockingConfig();
 }
@@ -13,6 +13,7 @@ public class RestLiMethodConfigBuilder
 {
   private final Map<String, Long> _timeoutMsConfig = new HashMap<>();
   private final Map<String, String> _alwaysProjectedFieldsConfig = new HashMap<>();
+  private final Map<String, Object> _blockingConfig = new HashMap<>();
   // Whether to validate parameter in the query parameters.
   private boolean shouldValidateQueryParams = false;
   private boolean shouldValidateResourceKeys = false;
@@ -34,13 +35,14 @@ public class RestLiMethodConfigBuilder
       withShouldValidateQueryParams(config.shouldValidateQueryParams());
       withShouldValidateResourceKeys(config.shouldValidateResourceKey());
       addAlwaysProjectedFieldsMap(config.getAlwaysProjectedFieldsConfig());
+      addBlockingMap(config.getBlockingConfig());
     }
   }
 
   public RestLiMethodConfig build()
   {
     return new RestLiMethodConfigImpl(_timeoutMsConfig, shouldValidateQueryParams, shouldValidateResourceKeys,
-        _alwaysProjectedFieldsConfig);
+        _alwaysProjectedFieldsConfig, _blockingConfig);
   }
 
   public RestLiMethodConfigBuilder withShouldValidateQueryParams(boolean shouldValidateQueryParams)
@@ -90,4 +92,22 @@ public class RestLiMethodConfigBuilder
     _alwaysProjectedFieldsConfig.clear();
     return this;
   }
+
+  public RestLiMethodConfigBuilder addBlockingMap(Map<String, Object> config)
+  {
+    _blockingConfig.putAll(config);
+    return this;
+  }
+
+  public RestLiMethodConfigBuilder addBlocking(String key, boolean value)
+  {
+    _blockingConfig.put(key, value);
+    return this;
+  }
+
+  public RestLiMethodConfigBuilder clearBlocking()
+  {
+    _blockingConfig.clear();
+    return this;
+  }
 }
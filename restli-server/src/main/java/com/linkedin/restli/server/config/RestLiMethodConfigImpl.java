@@ -10,6 +10,7 @@ class RestLiMethodConfigImpl implements RestLiMethodConfig
   private boolean _validateQueryParams;
   private boolean _validateResourceKeys;
   private final Map<String, String> _alwaysProjectedFieldsConfig;
+  private final Map<String, Object> _blockingConfig;
 
   /**
    * @deprecated Use {@link RestLiMethodConfigBuilder} to build this type.
@@ -18,16 +19,17 @@ class RestLiMethodConfigImpl implements RestLiMethodConfig
   public RestLiMethodConfigImpl(Map<String, Long> timeoutMsConfig, boolean validateQueryParams,
       boolean validateResourceKeys)
   {
-    this(timeoutMsConfig, validateQueryParams, validateResourceKeys, Collections.emptyMap());
+    this(timeoutMsConfig, validateQueryParams, validateResourceKeys, Collections.emptyMap(), Collections.emptyMap());
   }
 
   RestLiMethodConfigImpl(Map<String, Long> timeoutMsConfig, boolean validateQueryParams,
-      boolean validateResourceKeys, Map<String, String> alwaysProjectedFieldsConfig)
+      boolean validateResourceKeys, Map<String, String> alwaysProjectedFieldsConfig, Map<String, Object> blockingConfig)
   {
     _timeoutMsConfig = timeoutMsConfig;
     _validateQueryParams = validateQueryParams;
     _validateResourceKeys = validateResourceKeys;
     _alwaysProjectedFieldsConfig = alwaysProjectedFieldsConfig;
+    _blockingConfig = blockingConfig;
   }
   @Override
   public Map<String, Long> getTimeoutMsConfig()
@@ -52,4 +54,10 @@ class RestLiMethodConfigImpl implements RestLiMethodConfig
   {
     return _alwaysProjectedFieldsConfig;
   }
+
+  @Override
+  public Map<String, Object> getBlockingConfig()
+  {
+    return _blockingConfig;
+  }
 }
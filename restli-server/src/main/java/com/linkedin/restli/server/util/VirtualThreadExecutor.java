@@ -0,0 +1,229 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server.util;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * {@link Executor} which runs each task on a new virtual thread, available on JDK 21 and later. Virtual threads are
+ * cheap to create and to block, hence blocking resource methods can be invoked concurrently without sizing a thread
+ * pool for them, see {@link com.linkedin.restli.server.RestLiConfig#setBlockingMethodExecutor(Executor)}.
+ * <p>
+ *
+ * A virtual thread which blocks while pinned to its carrier thread, e.g. within a {@code synchronized} block before
+ * JDK 24, or in native code, blocks the carrier thread too. When pinning is monitored, the pinned periods longer
+ * than the threshold are counted from the {@code jdk.VirtualThreadPinned} events of a JFR recording stream, which
+ * must be closed with {@link #close()}.
+ * <p>
+ *
+ * The metrics can be exposed through JMX by registering the executor as a {@link VirtualThreadExecutorMBean}.
+ * <p>
+ *
+ * The virtual thread API is accessed reflectively, so that this class can be loaded on any JDK. Use
+ * {@link #isSupported()} to check whether it can be instantiated.
+ */
+public class VirtualThreadExecutor implements Executor, AutoCloseable, VirtualThreadExecutorMBean
+{
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadExecutor.class);
+
+  private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+
+  /**
+   * The default threshold of the {@code jdk.VirtualThreadPinned} event.
+   */
+  public static final Duration DEFAULT_PINNING_THRESHOLD = Duration.ofMillis(20);
+
+  private final ThreadFactory _threadFactory;
+  private final AutoCloseable _pinningRecording;
+
+  private final LongAdder _startedCount = new LongAdder();
+  private final LongAdder _completedCount = new LongAdder();
+  private final LongAdder _pinnedCount = new LongAdder();
+  private final AtomicLong _pinnedNanos = new AtomicLong();
+
+  /**
+   * Creates an executor whose virtual threads are named with the given prefix followed by a counter, without
+   * monitoring pinning.
+   */
+  public VirtualThreadExecutor(String namePrefix)
+  {
+    this(namePrefix, null);
+  }
+
+  /**
+   * @param namePrefix the prefix of the names of the virtual threads, followed by a counter.
+   * @param pinningThreshold the minimum duration of the pinned periods to count, or null to not monitor pinning.
+   * @throws UnsupportedOperationException if virtual threads are not supported by the JDK, or if pinning is monitored
+   *         and JFR recording streams are not supported.
+   */
+  public VirtualThreadExecutor(String namePrefix, Duration pinningThreshold)
+  {
+    _threadFactory = createThreadFactory(namePrefix);
+    _pinningRecording = pinningThreshold == null ? null : startPinningRecording(pinningThreshold);
+  }
+
+  /**
+   * @return whether virtual threads are supported by the JDK.
+   */
+  public static boolean isSupported()
+  {
+    try
+    {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    }
+    catch (NoSuchMethodException e)
+    {
+      return false;
+    }
+  }
+
+  @Override
+  public void execute(Runnable command)
+  {
+    final Thread thread = _threadFactory.newThread(() ->
+    {
+      try
+      {
+        command.run();
+      }
+      finally
+      {
+        _completedCount.increment();
+      }
+    });
+    _startedCount.increment();
+    thread.start();
+  }
+
+  /**
+   * @return the number of tasks started on virtual threads.
+   */
+  @Override
+  public long getStartedCount()
+  {
+    return _startedCount.sum();
+  }
+
+  /**
+   * @return the number of tasks running on virtual threads.
+   */
+  @Override
+  public long getActiveCount()
+  {
+    // Completed before started when racing with a task which has just started.
+    return Math.max(0, _startedCount.sum() - _completedCount.sum());
+  }
+
+  /**
+   * @return the number of times a virtual thread was pinned to its carrier thread for longer than the threshold, or 0
+   *         if pinning is not monitored. Pinning by other executors of the same JVM is counted too.
+   */
+  @Override
+  public long getPinnedCount()
+  {
+    return _pinnedCount.sum();
+  }
+
+  /**
+   * @return the total duration of the pinned periods counted by {@link #getPinnedCount()}.
+   */
+  public Duration getPinnedDuration()
+  {
+    return Duration.ofNanos(_pinnedNanos.get());
+  }
+
+  /**
+   * @return the total duration of the pinned periods counted by {@link #getPinnedCount()}, in milliseconds.
+   */
+  @Override
+  public long getPinnedDurationMs()
+  {
+    return getPinnedDuration().toMillis();
+  }
+
+  /**
+   * Stops monitoring pinning. Tasks can still be executed.
+   */
+  @Override
+  public void close() throws Exception
+  {
+    if (_pinningRecording != null)
+    {
+      _pinningRecording.close();
+    }
+  }
+
+  private static ThreadFactory createThreadFactory(String namePrefix)
+  {
+    try
+    {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+    catch (ReflectiveOperationException e)
+    {
+      throw new UnsupportedOperationException("Virtual threads are not supported by Java "
+          + System.getProperty("java.version"), e);
+    }
+  }
+
+  private AutoCloseable startPinningRecording(Duration threshold)
+  {
+    try
+    {
+      final Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+      final Method getDuration = Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getDuration");
+
+      final AutoCloseable stream = (AutoCloseable) streamClass.getConstructor().newInstance();
+      final Object settings = streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT_NAME);
+      Class.forName("jdk.jfr.EventSettings").getMethod("withThreshold", Duration.class).invoke(settings, threshold);
+
+      final Consumer<Object> onPinned = event ->
+      {
+        _pinnedCount.increment();
+        try
+        {
+          _pinnedNanos.addAndGet(((Duration) getDuration.invoke(event)).toNanos());
+        }
+        catch (ReflectiveOperationException e)
+        {
+          LOG.debug("Failed to get the duration of a pinned virtual thread", e);
+        }
+      };
+      streamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, PINNED_EVENT_NAME, onPinned);
+      streamClass.getMethod("startAsync").invoke(stream);
+      return stream;
+    }
+    catch (ReflectiveOperationException e)
+    {
+      throw new UnsupportedOperationException("JFR recording streams are not supported by Java "
+          + System.getProperty("java.version"), e);
+    }
+  }
+}
@@ -17,6 +17,7 @@
 package com.linkedin.restli.server.validation;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.entitystream.StreamDecodingOptions;
 import com.linkedin.data.message.Message;
 import com.linkedin.data.schema.DataSchema;
 import com.linkedin.data.schema.validation.ValidationResult;
@@ -36,6 +37,7 @@ import com.linkedin.restli.common.util.ProjectionMaskApplier.InvalidProjectionEx
 import com.linkedin.restli.common.validation.RestLiDataSchemaDataValidator;
 import com.linkedin.restli.common.validation.RestLiDataValidator;
 import com.linkedin.restli.internal.common.URIParamUtils;
+import com.linkedin.restli.internal.server.ServerResourceContext;
 import com.linkedin.restli.internal.server.response.BatchCreateResponseEnvelope;
 import com.linkedin.restli.internal.server.response.BatchFinderResponseEnvelope;
 import com.linkedin.restli.internal.server.response.BatchGetResponseEnvelope;
@@ -165,7 +167,11 @@ public class RestLiValidationFilter implements Filter
     {
       case CREATE:
       case UPDATE:
-        result = validator.validateInput(requestData.getEntity());
+        result = getDecodedEntityValidationResult(requestContext);
+        if (result == null)
+        {
+          result = validator.validateInput(requestData.getEntity());
+        }
         if (!result.isValid())
         {
           throw constructRestLiServiceException(result.getMessages(), result.getMessages().toString());
@@ -455,6 +461,47 @@ public class RestLiValidationFilter implements Filter
     }
   }
 
+  /**
+   * Returns the options to decode the entity of a request with, so that it is validated while it is decoded instead
+   * of being traversed again by {@link #onRequest(FilterRequestContext)}. Only the entities of CREATE and UPDATE
+   * requests are validated while decoded, with the validator of {@link #createRequestRestLiDataValidator}. The
+   * request data of the context is not available yet.
+   * <p>
+   * The entity is validated as it is received, changes made to it by the filters that run before this one are not
+   * validated.
+   *
+   * @param requestContext the context of the request, without request data.
+   * @return the decoding options, or null to validate the decoded entity.
+   */
+  public StreamDecodingOptions getRequestEntityDecodingOptions(FilterRequestContext requestContext)
+  {
+    if (!shouldValidateOnRequest(requestContext)
+        || UnstructuredDataUtil.isUnstructuredDataClass(requestContext.getFilterResourceModel().getResourceClass()))
+    {
+      return null;
+    }
+
+    StreamDecodingOptions decodingOptions = new StreamDecodingOptions();
+    try
+    {
+      return createRequestRestLiDataValidator(requestContext).setUpInputValidation(decodingOptions)
+          ? decodingOptions : null;
+    }
+    catch (TemplateRuntimeException e)
+    {
+      // The value class has no schema, the decoded entity fails validation in onRequest.
+      return null;
+    }
+  }
+
+  private static ValidationResult getDecodedEntityValidationResult(FilterRequestContext requestContext)
+  {
+    Object decodingOptions =
+        requestContext.getRequestContextLocalAttrs().get(ServerResourceContext.CONTEXT_REQUEST_ENTITY_DECODING_OPTIONS_KEY);
+    return decodingOptions instanceof StreamDecodingOptions
+        ? ((StreamDecodingOptions) decodingOptions).getValidationResult() : null;
+  }
+
   /**
    * @return True to validate request, false otherwise.
    */
@@ -16,20 +16,45 @@
 package com.linkedin.restli.internal.server.response;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.JacksonRecordSerializer;
 import com.linkedin.data.schema.DataSchema;
 import com.linkedin.data.schema.SchemaFormatType;
 import com.linkedin.data.schema.generator.AbstractGenerator;
 import com.linkedin.data.schema.resolver.MultiFormatDataSchemaResolver;
 import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.stream.StreamException;
+import com.linkedin.restli.common.CollectionResponse;
 import com.linkedin.restli.common.ContentType;
+import com.linkedin.restli.common.EmptyRecord;
+import com.linkedin.restli.common.EntityResponse;
 import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.common.IdResponse;
+import com.linkedin.restli.common.ResourceMethod;
 import com.linkedin.restli.common.RestConstants;
+import com.linkedin.restli.internal.server.PathKeysImpl;
+import com.linkedin.restli.internal.server.ResourceContextImpl;
+import com.linkedin.restli.internal.server.RoutingResult;
+import com.linkedin.restli.internal.server.ServerResourceContext;
+import com.linkedin.restli.internal.server.methods.AnyRecord;
+import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
+import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor.InterfaceType;
+import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.internal.server.util.DataMapUtils;
+import com.linkedin.restli.internal.server.util.RestUtils;
+import com.linkedin.restli.server.RestLiTestHelper;
 import com.linkedin.restli.server.TestRecord;
+import com.linkedin.restli.server.resources.fixtures.SomeResource1;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import org.testng.Assert;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeTest;
@@ -108,6 +133,54 @@ public class TestResponseUtils
         ContentType.PROTOBUF2.getHeaderKey());
   }
 
+  @Test
+  public void testBuildResponseWithGeneratedSerializer() throws Exception
+  {
+    Assert.assertNotNull(JacksonRecordSerializer.forTemplateClass(TestRecord.class),
+        "Expected a JSON serializer to be generated for the test record.");
+
+    TestRecord record = new TestRecord().setIntField(1).setLongField(2L).setFloatField(3.5f).setDoubleField(4.5);
+    record.data().put("undeclaredField", "value");
+    RoutingResult routingResult = buildRoutingResult(ResourceMethod.GET);
+    GetResponseBuilder responseBuilder = new GetResponseBuilder();
+    RestLiResponse response = responseBuilder.buildResponse(routingResult,
+        responseBuilder.buildRestLiResponseData(null, routingResult, record, new HashMap<>(), new ArrayList<>()));
+
+    Assert.assertEquals(ResponseUtils.getEntityTemplateClass(routingResult, response.getEntity()), TestRecord.class);
+    RestResponse restResponse = ResponseUtils.buildResponse(routingResult, response);
+    Assert.assertEquals(restResponse.getEntity().copyBytes(), new JacksonDataCodec().mapToBytes(record.data()));
+  }
+
+  @Test
+  public void testEntityTemplateClass() throws Exception
+  {
+    Assert.assertEquals(ResponseUtils.getEntityTemplateClass(buildRoutingResult(ResourceMethod.CREATE),
+        new AnyRecord(new DataMap())), TestRecord.class);
+    Assert.assertNull(ResponseUtils.getEntityTemplateClass(buildRoutingResult(ResourceMethod.CREATE),
+        new IdResponse<>(1)));
+    Assert.assertEquals(ResponseUtils.getEntityTemplateClass(buildRoutingResult(ResourceMethod.PARTIAL_UPDATE),
+        new EntityResponse<>(new DataMap(), TestRecord.class)), TestRecord.class);
+    Assert.assertNull(ResponseUtils.getEntityTemplateClass(buildRoutingResult(ResourceMethod.PARTIAL_UPDATE),
+        new EmptyRecord()));
+    Assert.assertNull(ResponseUtils.getEntityTemplateClass(buildRoutingResult(ResourceMethod.FINDER),
+        new CollectionResponse<>(TestRecord.class)));
+  }
+
+  private static RoutingResult buildRoutingResult(ResourceMethod resourceMethod) throws Exception
+  {
+    RestRequest request = new RestRequestBuilder(URI.create("/someResource1/key"))
+        .setHeader(RestConstants.HEADER_ACCEPT, ContentType.JSON.getHeaderKey())
+        .build();
+    ResourceModel model = RestLiTestHelper.buildResourceModel(SomeResource1.class);
+    // The method is irrelevant, only the type of the descriptor is used.
+    ResourceMethodDescriptor methodDescriptor = ResourceMethodDescriptor.createForRestful(resourceMethod,
+        SomeResource1.class.getMethod("getDependency1"), InterfaceType.SYNC);
+    model.addResourceMethodDescriptor(methodDescriptor);
+    ServerResourceContext context = new ResourceContextImpl(new PathKeysImpl(), request, new RequestContext());
+    RestUtils.validateRequestHeadersAndUpdateResourceContext(request.getHeaders(), Collections.emptySet(), context);
+    return new RoutingResult(context, methodDescriptor);
+  }
+
   @AfterTest
   public void afterTest()
   {
@@ -1,5 +1,6 @@
 package com.linkedin.restli.server.config;
 
+import com.linkedin.restli.internal.server.RestLiMethodInvoker;
 import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
 import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.server.PagingContext;
@@ -12,6 +13,7 @@ import java.lang.reflect.Method;
 import java.util.Collections;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static com.linkedin.restli.server.config.ResourceMethodConfigProviderImpl.DEFAULT_TIMEOUT;
 
 public class TestResourceMethodConfigProvider
@@ -59,6 +61,59 @@ public class TestResourceMethodConfigProvider
   public void testMethodConfigPriority(RestLiMethodConfigBuilder configBuilder, Long timeout) throws NoSuchMethodException {
     ResourceMethodConfigProvider provider =
             ResourceMethodConfigProvider.build(configBuilder.build());
+    ResourceMethodDescriptor methodDescriptor = createPublicTimelineFinder(ResourceMethodDescriptor.InterfaceType.SYNC);
+    ResourceMethodConfig rmc = provider.apply(methodDescriptor);
+    assertEquals(rmc.getTimeoutMs().getValue(), timeout);
+  }
+
+  @DataProvider
+  public Object[][] blockingConfigs()
+  {
+    return new Object[][]
+        {
+          {
+            new RestLiMethodConfigBuilder(), ResourceMethodDescriptor.InterfaceType.SYNC, null, true
+          }, // synchronous methods block by default
+          {
+            new RestLiMethodConfigBuilder(), ResourceMethodDescriptor.InterfaceType.TASK, null, false
+          }, // asynchronous methods do not block by default
+          {
+            new RestLiMethodConfigBuilder().addBlocking("statuses.FINDER-public_timeline", false),
+                  ResourceMethodDescriptor.InterfaceType.SYNC, false, false
+          },
+          {
+            new RestLiMethodConfigBuilder().addBlocking("*.*", false).addBlocking("statuses.FINDER-*", true),
+                  ResourceMethodDescriptor.InterfaceType.CALLBACK, true, true
+          },
+          {
+            new RestLiMethodConfigBuilder().addBlockingMap(Collections.<String, Object>singletonMap("statuses.*", "yes")),
+                  ResourceMethodDescriptor.InterfaceType.PROMISE, true, true
+          } // string value
+        };
+  }
+
+  @Test(dataProvider = "blockingConfigs")
+  public void testBlockingConfig(RestLiMethodConfigBuilder configBuilder,
+      ResourceMethodDescriptor.InterfaceType interfaceType, Boolean configuredBlocking, boolean blocking)
+      throws NoSuchMethodException
+  {
+    ResourceMethodConfigProvider provider = ResourceMethodConfigProvider.build(configBuilder.build());
+    ResourceMethodDescriptor methodDescriptor = createPublicTimelineFinder(interfaceType);
+    ResourceMethodConfig rmc = provider.apply(methodDescriptor);
+    if (configuredBlocking == null)
+    {
+      assertNull(rmc.getBlocking().getValue());
+    }
+    else
+    {
+      assertEquals(rmc.getBlocking().getValue(), configuredBlocking);
+    }
+    assertEquals(RestLiMethodInvoker.isBlocking(methodDescriptor, rmc), blocking);
+  }
+
+  private static ResourceMethodDescriptor createPublicTimelineFinder(ResourceMethodDescriptor.InterfaceType interfaceType)
+      throws NoSuchMethodException
+  {
     Method method = StatusCollectionResource.class.getMethod("getPublicTimeline", PagingContext.class);
     ResourceModel model = RestLiTestHelper.buildResourceModel(StatusCollectionResource.class);
     ResourceMethodDescriptor methodDescriptor = ResourceMethodDescriptor.createForFinder(
@@ -66,10 +121,9 @@ public class TestResourceMethodConfigProvider
             Collections.emptyList(),
             "public_timeline",
             null,
-            ResourceMethodDescriptor.InterfaceType.SYNC,
+            interfaceType,
             null);
     model.addResourceMethodDescriptor(methodDescriptor);
-    ResourceMethodConfig rmc = provider.apply(methodDescriptor);
-    assertEquals(rmc.getTimeoutMs().getValue(), timeout);
+    return methodDescriptor;
   }
 }
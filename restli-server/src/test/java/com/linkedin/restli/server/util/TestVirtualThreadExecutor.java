@@ -0,0 +1,114 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+
+public class TestVirtualThreadExecutor
+{
+  @Test
+  public void testExecute() throws Exception
+  {
+    if (!VirtualThreadExecutor.isSupported())
+    {
+      throw new SkipException("Virtual threads are not supported");
+    }
+
+    final VirtualThreadExecutor executor = new VirtualThreadExecutor("restli-test-");
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicReference<Thread> thread = new AtomicReference<>();
+    executor.execute(() ->
+    {
+      thread.set(Thread.currentThread());
+      started.countDown();
+      try
+      {
+        release.await();
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+    Assert.assertEquals(executor.getStartedCount(), 1);
+    Assert.assertEquals(executor.getActiveCount(), 1);
+    Assert.assertEquals(thread.get().getName(), "restli-test-0");
+    Assert.assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread.get()));
+
+    release.countDown();
+    thread.get().join(10000);
+    Assert.assertEquals(executor.getActiveCount(), 0);
+    Assert.assertEquals(executor.getPinnedCount(), 0);
+    executor.close();
+  }
+
+  @Test
+  public void testJmx() throws Exception
+  {
+    if (!VirtualThreadExecutor.isSupported())
+    {
+      throw new SkipException("Virtual threads are not supported");
+    }
+
+    final VirtualThreadExecutor executor = new VirtualThreadExecutor("restli-test-");
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    final ObjectName name = new ObjectName("com.linkedin.restli.server:type=VirtualThreadExecutor,name=test");
+    server.registerMBean(executor, name);
+    try
+    {
+      Assert.assertEquals(server.getAttribute(name, "StartedCount"), 0L);
+      Assert.assertEquals(server.getAttribute(name, "PinnedCount"), 0L);
+      Assert.assertEquals(server.getAttribute(name, "PinnedDurationMs"), 0L);
+    }
+    finally
+    {
+      server.unregisterMBean(name);
+      executor.close();
+    }
+  }
+
+  @Test
+  public void testNotSupported()
+  {
+    if (VirtualThreadExecutor.isSupported())
+    {
+      throw new SkipException("Virtual threads are supported");
+    }
+
+    try
+    {
+      new VirtualThreadExecutor("restli-test-");
+      Assert.fail("Should not create virtual threads on Java " + System.getProperty("java.version"));
+    }
+    catch (UnsupportedOperationException e)
+    {
+      Assert.assertNotNull(e.getCause());
+    }
+  }
+}
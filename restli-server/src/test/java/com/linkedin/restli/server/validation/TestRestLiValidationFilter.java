@@ -16,10 +16,16 @@
 
 package com.linkedin.restli.server.validation;
 
+import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.entitystream.JacksonStreamDataCodec;
+import com.linkedin.data.codec.entitystream.StreamDecodingOptions;
 import com.linkedin.data.schema.PathSpec;
 import com.linkedin.data.transform.filter.request.MaskCreator;
 import com.linkedin.data.transform.filter.request.MaskTree;
+import com.linkedin.entitystream.EntityStreams;
+import com.linkedin.entitystream.SingletonWriter;
 import com.linkedin.restli.common.CreateIdEntityStatus;
 import com.linkedin.restli.common.EmptyRecord;
 import com.linkedin.restli.common.HttpStatus;
@@ -29,6 +35,7 @@ import com.linkedin.restli.common.ResourceMethod;
 import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.common.UpdateEntityStatus;
 import com.linkedin.restli.internal.common.AllProtocolVersions;
+import com.linkedin.restli.internal.server.ServerResourceContext;
 import com.linkedin.restli.internal.server.filter.FilterResourceModelImpl;
 import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.internal.server.model.RestLiAnnotationReader;
@@ -97,6 +104,11 @@ public class TestRestLiValidationFilter
   {
   }
 
+  @RestLiCollection(name = "fooValidationCollection")
+  private static class ValidationCollectionResource extends CollectionResourceTemplate<Long, TestRecordWithValidation>
+  {
+  }
+
   @RestLiSimpleResource(name = "fooSimple")
   private static class SimpleResource extends SimpleResourceTemplate<TestRecord>
   {
@@ -250,6 +262,47 @@ public class TestRestLiValidationFilter
     validationFilter.onResponse(filterRequestContext, filterResponseContext);
   }
 
+  @Test
+  public void testEntityValidatedWhileDecoding() throws Exception
+  {
+    when(filterRequestContext.getMethodType()).thenReturn(CREATE);
+    when(filterRequestContext.getFilterResourceModel()).thenReturn(
+        new FilterResourceModelImpl(RestLiAnnotationReader.processResource(ValidationCollectionResource.class)));
+
+    RestLiValidationFilter validationFilter = new RestLiValidationFilter();
+    StreamDecodingOptions decodingOptions = validationFilter.getRequestEntityDecodingOptions(filterRequestContext);
+    Assert.assertNotNull(decodingOptions);
+    ByteString entity =
+        ByteString.unsafeWrap(new JacksonDataCodec().mapToBytes(makeTestRecordWithValidation("aaaaaaaaaaaaaaaa").data()));
+    new JacksonStreamDataCodec(1024).decodeMap(EntityStreams.newEntityStream(new SingletonWriter<>(entity)), decodingOptions)
+        .toCompletableFuture().get();
+    Assert.assertFalse(decodingOptions.getValidationResult().isValid());
+
+    // The result of the validation while decoding is used instead of validating the request entity again.
+    when(filterRequestContext.getRequestContextLocalAttrs()).thenReturn(
+        Collections.singletonMap(ServerResourceContext.CONTEXT_REQUEST_ENTITY_DECODING_OPTIONS_KEY, decodingOptions));
+    when(filterRequestContext.getRequestData()).thenReturn(
+        new RestLiRequestDataImpl.Builder().entity(makeTestRecordWithValidation("aaaaa")).build());
+    try
+    {
+      validationFilter.onRequest(filterRequestContext);
+      Assert.fail("Expected an error to be thrown on request in the validation filter, but none was thrown.");
+    }
+    catch (RestLiServiceException e)
+    {
+      Assert.assertEquals(e.getStatus(), HttpStatus.S_422_UNPROCESSABLE_ENTITY);
+    }
+  }
+
+  @Test
+  public void testPatchNotValidatedWhileDecoding()
+  {
+    when(filterRequestContext.getMethodType()).thenReturn(PARTIAL_UPDATE);
+    when(filterRequestContext.getFilterResourceModel()).thenReturn(
+        new FilterResourceModelImpl(RestLiAnnotationReader.processResource(ValidationCollectionResource.class)));
+    Assert.assertNull(new RestLiValidationFilter().getRequestEntityDecodingOptions(filterRequestContext));
+  }
+
   @DataProvider(name = "validateWithProjectionData")
   public Object[][] validateWithProjectionData()
   {
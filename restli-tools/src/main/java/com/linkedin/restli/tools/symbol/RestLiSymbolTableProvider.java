@@ -22,10 +22,12 @@ import com.linkedin.d2.balancer.util.LoadBalancerUtil;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.codec.symbol.EmptySymbolTable;
 import com.linkedin.data.codec.symbol.InMemorySymbolTable;
+import com.linkedin.data.codec.symbol.ProfilingSymbolTable;
 import com.linkedin.data.codec.symbol.SymbolTable;
 import com.linkedin.data.codec.symbol.SymbolTableMetadata;
 import com.linkedin.data.codec.symbol.SymbolTableProvider;
 import com.linkedin.data.codec.symbol.SymbolTableSerializer;
+import com.linkedin.data.codec.symbol.SymbolUsageProfiler;
 import com.linkedin.data.schema.DataSchema;
 import com.linkedin.r2.message.rest.RestRequestBuilder;
 import com.linkedin.r2.message.rest.RestResponse;
@@ -39,14 +41,18 @@ import com.linkedin.restli.server.symbol.RestLiSymbolTableRequestHandler;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,6 +83,14 @@ import org.slf4j.LoggerFactory;
  * <p>The symbol table name used by this provider is prefixed with the root URI of the service on which
  * the symbol table is hosted. For remote symbol tables, this prefix is renamed to the prefix of the current service
  * before it is cached. The final symbol table name is in the form of ServiceURI|Prefix-SymbolListHashCode</p>
+ *
+ * <br>
+ * <p>Optionally, the response symbol table can be extended at runtime with frequently encoded strings that it misses,
+ * see {@link #enableSymbolLearning(SymbolUsageProfiler, ScheduledExecutorService, long, TimeUnit, int, int)}, which
+ * publishes learned symbols periodically until {@link #disableSymbolLearning()} is invoked, or
+ * {@link #enableSymbolLearning(SymbolUsageProfiler)} and {@link #publishLearnedSymbols(int, int)}. Learned versions
+ * are specific to the host that published them, so clients fetching the symbol table of a service to encode requests
+ * always get the base version, which is the same on all the hosts of the service.</p>
  */
 public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceDefinitionListener
 {
@@ -95,6 +109,15 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
   private final Cache<String, SymbolTable> _symbolTableNameToSymbolTableCache;
   private volatile SymbolTable _defaultResponseSymbolTable = null;
   private volatile String _defaultResponseSymbolTableName = null;
+  // The response symbol table before any learned symbol, served to clients fetching the table of the service.
+  private volatile SymbolTable _baseResponseSymbolTable = null;
+  // Number of symbols of each published version of the response symbol table by name. Each version is a prefix of
+  // the next one, so all of them can be rebuilt from the current version and are never lost.
+  private final Map<String, Integer> _responseSymbolTableSizes = new ConcurrentHashMap<>();
+  private volatile SymbolUsageProfiler _symbolUsageProfiler = null;
+  private volatile SymbolTable _profilingResponseSymbolTable = null;
+  private volatile int _responseSymbolTableVersion = 0;
+  private ScheduledFuture<?> _learnedSymbolsPublisher = null;
 
   /**
    * Constructor
@@ -187,6 +210,7 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
       String symbolTableName = _symbolTableNameHandler.generateName(overriddenSymbols);
       _defaultResponseSymbolTable = new InMemorySymbolTable(symbolTableName, overriddenSymbols);
       _defaultResponseSymbolTableName = _symbolTableNameHandler.extractMetadata(symbolTableName).getSymbolTableName();
+      _baseResponseSymbolTable = _defaultResponseSymbolTable;
     }
   }
 
@@ -219,6 +243,7 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
     {
       _defaultResponseSymbolTable = responseSymbolTable;
       _defaultResponseSymbolTableName = responseSymbolTable.getName();
+      _baseResponseSymbolTable = responseSymbolTable;
     }
   }
 
@@ -238,6 +263,14 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
         return _defaultResponseSymbolTable;
       }
 
+      // Previous versions of the response symbol table are rebuilt if they were evicted from the cache.
+      Integer responseSymbolTableSize = _responseSymbolTableSizes.get(tableName);
+      if (responseSymbolTableSize != null)
+      {
+        return _symbolTableNameToSymbolTableCache.get(tableName,
+            name -> buildResponseSymbolTableVersion(responseSymbolTableSize));
+      }
+
       // First check the cache.
       SymbolTable symbolTable = _symbolTableNameToSymbolTableCache.getIfPresent(tableName);
       if (symbolTable != null)
@@ -270,6 +303,13 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
     throw new IllegalStateException("Unable to fetch symbol table with name: " + symbolTableName);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The table is fetched from the symbol table endpoint of the service, which serves the base version of the
+   * response symbol table, the same on all the hosts of the service, so it can be cached per service whatever host
+   * the requests are routed to.</p>
+   */
   @Override
   public SymbolTable getRequestSymbolTable(URI requestUri)
   {
@@ -327,10 +367,165 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
     return null;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Requests fetching the symbol table of the service get the base version of the response symbol table, since
+   * learned versions are specific to this host.</p>
+   */
   @Override
   public SymbolTable getResponseSymbolTable(URI requestUri, Map<String, String> requestHeaders)
   {
-    return _defaultResponseSymbolTable;
+    if (requestHeaders.containsKey(RestConstants.HEADER_FETCH_SYMBOL_TABLE))
+    {
+      return _baseResponseSymbolTable;
+    }
+    SymbolTable profilingResponseSymbolTable = _profilingResponseSymbolTable;
+    return profilingResponseSymbolTable != null ? profilingResponseSymbolTable : _defaultResponseSymbolTable;
+  }
+
+  /**
+   * Enables learning response symbols at runtime. Lookups made while encoding responses with the response symbol
+   * table are recorded on the given profiler, and {@link #publishLearnedSymbols(int, int)} publishes a new version of
+   * the response symbol table with the strings that were frequently missing from it, e.g. the keys of map fields.
+   *
+   * <p>The profiler also measures the symbol hit rate and the bytes saved by the response symbol table.</p>
+   *
+   * @param profiler The profiler to record lookups on. It implements {@link com.linkedin.data.codec.symbol.SymbolUsageProfilerMBean}
+   *                 and can be registered on an MBean server to monitor them.
+   */
+  public void enableSymbolLearning(SymbolUsageProfiler profiler)
+  {
+    _symbolUsageProfiler = profiler;
+    SymbolTable responseSymbolTable = _defaultResponseSymbolTable;
+    _profilingResponseSymbolTable =
+        responseSymbolTable == null ? null : new ProfilingSymbolTable(responseSymbolTable, profiler);
+  }
+
+  /**
+   * Enables learning response symbols at runtime like {@link #enableSymbolLearning(SymbolUsageProfiler)}, and
+   * publishes the learned symbols with {@link #publishLearnedSymbols(int, int)} at a fixed delay on the given executor,
+   * until {@link #disableSymbolLearning()} is invoked. A publisher started by a previous invocation is stopped.
+   *
+   * @param profiler        The profiler to record lookups on.
+   * @param executor        The executor to publish learned symbols on.
+   * @param publishInterval The delay between the end of a publication and the start of the next one.
+   * @param unit            The unit of the publish interval.
+   * @param minOccurrences  The minimum number of times a string was missing to add it to the table.
+   * @param maxNewSymbols   The maximum number of symbols to add to the table in each publication.
+   */
+  public synchronized void enableSymbolLearning(SymbolUsageProfiler profiler, ScheduledExecutorService executor,
+      long publishInterval, TimeUnit unit, int minOccurrences, int maxNewSymbols)
+  {
+    stopLearnedSymbolsPublisher();
+    enableSymbolLearning(profiler);
+    _learnedSymbolsPublisher = executor.scheduleWithFixedDelay(
+        () -> publishLearnedSymbolsQuietly(minOccurrences, maxNewSymbols), publishInterval, publishInterval, unit);
+  }
+
+  /**
+   * Stops learning response symbols and publishing them. The versions published so far remain in use and are still
+   * served by name.
+   */
+  public synchronized void disableSymbolLearning()
+  {
+    stopLearnedSymbolsPublisher();
+    _symbolUsageProfiler = null;
+    _profilingResponseSymbolTable = null;
+  }
+
+  /**
+   * @return The profiler of response symbol lookups, or null if symbol learning is not enabled.
+   */
+  public SymbolUsageProfiler getSymbolUsageProfiler()
+  {
+    return _symbolUsageProfiler;
+  }
+
+  /**
+   * @return The number of response symbol table versions published by {@link #publishLearnedSymbols(int, int)}.
+   */
+  public int getResponseSymbolTableVersion()
+  {
+    return _responseSymbolTableVersion;
+  }
+
+  /**
+   * Publishes a new version of the response symbol table, made of the symbols of the current version followed by
+   * the strings most frequently missing from it since the last publication. Since the symbols of the current version
+   * keep their IDs, each version is a prefix of the next one, and all the versions published by this provider remain
+   * available from the symbol table endpoint by name. Versions are named after the hash of their symbols like other
+   * symbol tables. Clients fetch the new version by name from this host when they decode a response encoded with it.
+   *
+   * @param minOccurrences The minimum number of times a string was missing to add it to the table.
+   * @param maxNewSymbols  The maximum number of symbols to add to the table.
+   *
+   * @return true if a new version was published, false if symbol learning is not enabled, the response symbol
+   * table is not initialized, or no string was frequent enough.
+   */
+  public synchronized boolean publishLearnedSymbols(int minOccurrences, int maxNewSymbols)
+  {
+    SymbolUsageProfiler profiler = _symbolUsageProfiler;
+    SymbolTable current = _defaultResponseSymbolTable;
+    if (profiler == null || current == null || _serverNodeUri == null)
+    {
+      return false;
+    }
+
+    List<String> symbols = new ArrayList<>(current.size() + maxNewSymbols);
+    for (int i = 0; i < current.size(); i++)
+    {
+      symbols.add(current.getSymbolName(i));
+    }
+    for (String learned : profiler.takeFrequentSymbols(minOccurrences, maxNewSymbols))
+    {
+      // Lookups racing with a previous publication may report symbols of the current version as missing.
+      if (current.getSymbolId(learned) == SymbolTable.UNKNOWN_SYMBOL_ID)
+      {
+        symbols.add(learned);
+      }
+    }
+    if (symbols.size() == current.size())
+    {
+      return false;
+    }
+
+    SymbolTable next = new InMemorySymbolTable(_symbolTableNameHandler.generateName(symbols), symbols);
+    String nextName = _symbolTableNameHandler.extractMetadata(next.getName()).getSymbolTableName();
+
+    // Record both versions first, so that lookups racing with the switch below find either of them.
+    _responseSymbolTableSizes.put(_defaultResponseSymbolTableName, current.size());
+    _responseSymbolTableSizes.put(nextName, next.size());
+    _defaultResponseSymbolTable = next;
+    _defaultResponseSymbolTableName = nextName;
+    _profilingResponseSymbolTable = new ProfilingSymbolTable(next, profiler);
+    _responseSymbolTableVersion++;
+
+    LOGGER.info("Published response symbol table " + next.getName() + " with " + (symbols.size() - current.size())
+        + " learned symbols, symbol hit rate: " + profiler.getHitRate() + ", bytes saved: " + profiler.getBytesSaved());
+    return true;
+  }
+
+  private void publishLearnedSymbolsQuietly(int minOccurrences, int maxNewSymbols)
+  {
+    // An exception escaping a periodic task would cancel all the later publications.
+    try
+    {
+      publishLearnedSymbols(minOccurrences, maxNewSymbols);
+    }
+    catch (RuntimeException e)
+    {
+      LOGGER.error("Failed to publish learned response symbols", e);
+    }
+  }
+
+  private void stopLearnedSymbolsPublisher()
+  {
+    if (_learnedSymbolsPublisher != null)
+    {
+      _learnedSymbolsPublisher.cancel(false);
+      _learnedSymbolsPublisher = null;
+    }
   }
 
   @Override
@@ -348,6 +543,27 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
     _defaultResponseSymbolTable = RuntimeSymbolTableGenerator.generate(_symbolTableNameHandler, schemas);
     _defaultResponseSymbolTableName =
         _symbolTableNameHandler.extractMetadata(_defaultResponseSymbolTable.getName()).getSymbolTableName();
+    _baseResponseSymbolTable = _defaultResponseSymbolTable;
+    _responseSymbolTableSizes.clear();
+    SymbolUsageProfiler profiler = _symbolUsageProfiler;
+    if (profiler != null)
+    {
+      _profilingResponseSymbolTable = new ProfilingSymbolTable(_defaultResponseSymbolTable, profiler);
+    }
+  }
+
+  /**
+   * Rebuilds a published version of the response symbol table from the first symbols of the current version.
+   */
+  private SymbolTable buildResponseSymbolTableVersion(int size)
+  {
+    SymbolTable current = _defaultResponseSymbolTable;
+    List<String> symbols = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+    {
+      symbols.add(current.getSymbolName(i));
+    }
+    return new InMemorySymbolTable(_symbolTableNameHandler.generateName(symbols), symbols);
   }
 
   SymbolTable fetchRemoteSymbolTable(URI symbolTableUri, Map<String, String> requestHeaders, boolean returnEmptyOn404)
@@ -17,8 +17,10 @@
 package com.linkedin.restli.tools.symbol;
 
 import com.linkedin.data.codec.symbol.InMemorySymbolTable;
+import com.linkedin.data.codec.symbol.ProfilingSymbolTable;
 import com.linkedin.data.codec.symbol.SymbolTable;
 import com.linkedin.data.codec.symbol.SymbolTableSerializer;
+import com.linkedin.data.codec.symbol.SymbolUsageProfiler;
 import com.linkedin.data.schema.DataSchema;
 import com.linkedin.data.schema.EnumDataSchema;
 import com.linkedin.data.schema.Name;
@@ -31,10 +33,15 @@ import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.server.ResourceDefinition;
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -113,6 +120,141 @@ public class TestRestLiSymbolTableProvider
     _provider.getSymbolTable("https://Host:100/service|Blah-100");
   }
 
+  @Test
+  public void testPublishLearnedSymbols()
+  {
+    SymbolUsageProfiler profiler = new SymbolUsageProfiler();
+    _provider.enableSymbolLearning(profiler);
+    _provider.onInitialized(Collections.unmodifiableMap(Collections.singletonMap("TestResourceName", _resourceDefinition)));
+    URI uri = URI.create("https://Host:100/service/symbolTable");
+
+    SymbolTable initial = _provider.getResponseSymbolTable(uri, Collections.emptyMap());
+    Assert.assertTrue(initial instanceof ProfilingSymbolTable);
+    Assert.assertEquals(initial.getName(), "https://Host:100/service|Test--332004310");
+    int symbol1Id = initial.getSymbolId("Symbol1");
+    for (int i = 0; i < 3; i++)
+    {
+      Assert.assertEquals(initial.getSymbolId("dynamicKey"), SymbolTable.UNKNOWN_SYMBOL_ID);
+    }
+    initial.getSymbolId("rareKey");
+    Assert.assertEquals(profiler.getLookupCount(), 5);
+    Assert.assertEquals(profiler.getHitCount(), 1);
+    Assert.assertTrue(profiler.getBytesSaved() > 0);
+
+    Assert.assertTrue(_provider.publishLearnedSymbols(2, 10));
+    Assert.assertEquals(_provider.getResponseSymbolTableVersion(), 1);
+
+    SymbolTable next = _provider.getResponseSymbolTable(uri, Collections.emptyMap());
+    Assert.assertNotEquals(next.getName(), initial.getName());
+    Assert.assertEquals(next.size(), initial.size() + 1);
+    Assert.assertEquals(next.getSymbolId("Symbol1"), symbol1Id);
+    Assert.assertEquals(next.getSymbolId("dynamicKey"), initial.size());
+    Assert.assertEquals(next.getSymbolId("rareKey"), SymbolTable.UNKNOWN_SYMBOL_ID);
+
+    // Both versions are served by name.
+    Assert.assertEquals(_provider.getSymbolTable(initial.getName()).size(), initial.size());
+    Assert.assertEquals(_provider.getSymbolTable(next.getName()).size(), next.size());
+
+    // Nothing new to learn.
+    Assert.assertFalse(_provider.publishLearnedSymbols(2, 10));
+  }
+
+  @Test
+  public void testPublishedVersionsSurviveEviction()
+  {
+    RestLiSymbolTableProvider provider = new RestLiSymbolTableProvider(_client, "d2://", 1, "Test", "https://Host:100/service");
+    SymbolUsageProfiler profiler = new SymbolUsageProfiler();
+    provider.enableSymbolLearning(profiler);
+    provider.onInitialized(Collections.unmodifiableMap(Collections.singletonMap("TestResourceName", _resourceDefinition)));
+    URI uri = URI.create("https://Host:100/service/symbolTable");
+
+    List<SymbolTable> versions = new ArrayList<>();
+    for (int i = 0; i < 5; i++)
+    {
+      SymbolTable current = provider.getResponseSymbolTable(uri, Collections.emptyMap());
+      versions.add(current);
+      current.getSymbolId("learned" + i);
+      Assert.assertTrue(provider.publishLearnedSymbols(1, 10));
+    }
+
+    // The cache holds a single table, yet every version is still served by name with its own symbols.
+    for (SymbolTable version : versions)
+    {
+      SymbolTable served = provider.getSymbolTable(version.getName());
+      Assert.assertEquals(served.getName(), version.getName());
+      Assert.assertEquals(served.size(), version.size());
+      Assert.assertEquals(served.getSymbolName(served.size() - 1), version.getSymbolName(version.size() - 1));
+    }
+  }
+
+  @Test
+  public void testFetchedSymbolTableIsBaseVersion()
+  {
+    RestLiSymbolTableProvider otherHostProvider =
+        new RestLiSymbolTableProvider(_client, "d2://", 10, "Test", "https://OtherHost:100/service");
+    otherHostProvider.onInitialized(Collections.unmodifiableMap(Collections.singletonMap("TestResourceName", _resourceDefinition)));
+    _provider.enableSymbolLearning(new SymbolUsageProfiler());
+    _provider.onInitialized(Collections.unmodifiableMap(Collections.singletonMap("TestResourceName", _resourceDefinition)));
+    URI uri = URI.create("https://Host:100/service/symbolTable");
+    Map<String, String> fetchHeaders = Collections.singletonMap(RestConstants.HEADER_FETCH_SYMBOL_TABLE, Boolean.TRUE.toString());
+
+    SymbolTable base = _provider.getResponseSymbolTable(uri, fetchHeaders);
+    _provider.getResponseSymbolTable(uri, Collections.emptyMap()).getSymbolId("dynamicKey");
+    Assert.assertTrue(_provider.publishLearnedSymbols(1, 10));
+
+    // Clients keep getting the base version, which has the same symbols as on the other hosts of the service.
+    Assert.assertSame(_provider.getResponseSymbolTable(uri, fetchHeaders), base);
+    Assert.assertNotEquals(_provider.getResponseSymbolTable(uri, Collections.emptyMap()).getName(), base.getName());
+    SymbolTable otherHostBase = otherHostProvider.getResponseSymbolTable(uri, fetchHeaders);
+    Assert.assertEquals(otherHostBase.getName().substring(otherHostBase.getName().indexOf('|')),
+        base.getName().substring(base.getName().indexOf('|')));
+    Assert.assertEquals(_provider.getSymbolTable(base.getName()).size(), base.size());
+  }
+
+  @Test
+  public void testPublishLearnedSymbolsPeriodically() throws Exception
+  {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+    executor.setRemoveOnCancelPolicy(true);
+    try
+    {
+      SymbolUsageProfiler profiler = new SymbolUsageProfiler();
+      _provider.enableSymbolLearning(profiler, executor, 10, TimeUnit.MILLISECONDS, 1, 10);
+      _provider.onInitialized(Collections.unmodifiableMap(Collections.singletonMap("TestResourceName", _resourceDefinition)));
+      URI uri = URI.create("https://Host:100/service/symbolTable");
+      _provider.getResponseSymbolTable(uri, Collections.emptyMap()).getSymbolId("dynamicKey");
+
+      long deadline = System.currentTimeMillis() + 5000;
+      while (_provider.getResponseSymbolTableVersion() == 0 && System.currentTimeMillis() < deadline)
+      {
+        Thread.sleep(10);
+      }
+      Assert.assertEquals(_provider.getResponseSymbolTableVersion(), 1);
+      SymbolTable published = _provider.getResponseSymbolTable(uri, Collections.emptyMap());
+      Assert.assertNotEquals(published.getSymbolId("dynamicKey"), SymbolTable.UNKNOWN_SYMBOL_ID);
+
+      _provider.disableSymbolLearning();
+      Assert.assertTrue(executor.getQueue().isEmpty());
+      Assert.assertNull(_provider.getSymbolUsageProfiler());
+      SymbolTable afterDisable = _provider.getResponseSymbolTable(uri, Collections.emptyMap());
+      Assert.assertFalse(afterDisable instanceof ProfilingSymbolTable);
+      Assert.assertEquals(afterDisable.getName(), published.getName());
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testPublishLearnedSymbolsDisabled()
+  {
+    _provider.onInitialized(Collections.unmodifiableMap(Collections.singletonMap("TestResourceName", _resourceDefinition)));
+    Assert.assertFalse(_provider.publishLearnedSymbols(1, 10));
+    Assert.assertFalse(_provider.getResponseSymbolTable(URI.create("https://Host:100/service/symbolTable"),
+        Collections.emptyMap()) instanceof ProfilingSymbolTable);
+  }
+
   @Test
   public void testGetRemoteSymbolTableFetchSuccess() throws IOException
   {